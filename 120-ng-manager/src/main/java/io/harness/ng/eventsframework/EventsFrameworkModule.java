@@ -145,9 +145,10 @@ public class EventsFrameworkModule extends AbstractModule {
               redisConfig.getEnvNamespace()));
       bind(Consumer.class)
           .annotatedWith(Names.named(EventsFrameworkConstants.ENTITY_CRUD))
-          .toInstance(RedisConsumer.of(EventsFrameworkConstants.ENTITY_CRUD, NG_MANAGER.getServiceId(), redissonClient,
-              EventsFrameworkConstants.ENTITY_CRUD_MAX_PROCESSING_TIME,
-              EventsFrameworkConstants.ENTITY_CRUD_READ_BATCH_SIZE, redisConfig.getEnvNamespace()));
+          .toInstance(RedisConsumer.withPendingSweep(EventsFrameworkConstants.ENTITY_CRUD, NG_MANAGER.getServiceId(),
+              redissonClient, EventsFrameworkConstants.ENTITY_CRUD_MAX_PROCESSING_TIME,
+              EventsFrameworkConstants.ENTITY_CRUD_READ_BATCH_SIZE, redisConfig.getEnvNamespace(),
+              EventsFrameworkConstants.ENTITY_CRUD_PENDING_SWEEP_INTERVAL));
       bind(Consumer.class)
           .annotatedWith(Names.named(EventsFrameworkConstants.NG_ACCOUNT_SETUP))
           .toInstance(RedisConsumer.of(EventsFrameworkConstants.ENTITY_CRUD, "NG_ACCOUNT_SETUP_GROUP", redissonClient,
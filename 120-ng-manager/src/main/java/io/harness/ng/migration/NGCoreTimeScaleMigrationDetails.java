@@ -15,6 +15,7 @@ import io.harness.ng.core.migration.timescale.AddDeletedAtColumns;
 import io.harness.ng.core.migration.timescale.AddIndexToServiceInfraInfoTable;
 import io.harness.ng.core.migration.timescale.AddModuleTypeSpecificColumnsToModuleLicensesTable;
 import io.harness.ng.core.migration.timescale.AddRollbackDurationToServiceInfraInfoTable;
+import io.harness.ng.core.migration.timescale.CreateCDDashboardRollups;
 import io.harness.ng.core.migration.timescale.CreateCDStageHelmManifestTable;
 import io.harness.ng.core.migration.timescale.CreateCDStageTable;
 import io.harness.ng.core.migration.timescale.CreateConnectorsTable;
@@ -63,6 +64,7 @@ public class NGCoreTimeScaleMigrationDetails implements MigrationDetails {
         .add(Pair.of(16, CreateServiceInstancesLicenseDailyReport.class))
         .add(Pair.of(17, CreateServicesLicenseDailyReport.class))
         .add(Pair.of(18, CreateCDStageHelmManifestTable.class))
+        .add(Pair.of(19, CreateCDDashboardRollups.class))
         .build();
   }
 }
@@ -20,4 +20,10 @@ import lombok.Value;
 public class TimeAndStatusDeployment {
   private List<Long> time;
   private List<String> status;
+  // number of executions for each time and status, when not set every entry stands for a single execution
+  private List<Integer> count;
+
+  public int getCountAt(int index) {
+    return count == null ? 1 : count.get(index);
+  }
 }
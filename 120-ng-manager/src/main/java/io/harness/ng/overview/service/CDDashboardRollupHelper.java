@@ -0,0 +1,187 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ng.overview.service;
+
+import static io.harness.NGDateUtils.DAY_IN_MS;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ng.overview.dto.TimeAndStatusDeployment;
+import io.harness.timescaledb.DBUtils;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Reads the daily rollups of CD executions and service deployments, see create_cd_dashboard_rollups.sql. The rollups
+ * only answer for whole UTC days that their refresh job has covered already, dashboards read the raw tables for the
+ * rest of the interval.
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Singleton
+@Slf4j
+public class CDDashboardRollupHelper {
+  private static final String PIPELINE_EXECUTION_ROLLUP = "pipeline_execution_summary_cd_day";
+  private static final String SERVICE_DEPLOYMENT_ROLLUP = "service_infra_info_day";
+  // the refresh job leaves out the last day, see end_offset of the refresh policies
+  private static final long REFRESH_END_OFFSET = DAY_IN_MS;
+  private static final long REFRESHED_UNTIL_EXPIRY_MINUTES = 5;
+  private static final int MAX_RETRY_COUNT = 5;
+
+  // the refresh policy of the continuous aggregate, and the job refreshing the materialized view of deployments
+  private static final String REFRESHED_AT_QUERY =
+      "select count(js.last_successful_finish) as refreshed, min(extract(epoch from js.last_successful_finish) * 1000) "
+      + "as refreshed_at from timescaledb_information.jobs j "
+      + "join timescaledb_information.job_stats js on js.job_id = j.job_id "
+      + "left join timescaledb_information.continuous_aggregates ca "
+      + "on j.hypertable_schema = ca.materialization_hypertable_schema "
+      + "and j.hypertable_name = ca.materialization_hypertable_name "
+      + "where ca.view_name = '" + PIPELINE_EXECUTION_ROLLUP + "' or j.proc_name = 'refresh_" + SERVICE_DEPLOYMENT_ROLLUP
+      + "';";
+
+  @Inject TimeScaleDBService timeScaleDBService;
+
+  private final Supplier<Long> refreshedUntil =
+      Suppliers.memoizeWithExpiration(this::queryRefreshedUntil, REFRESHED_UNTIL_EXPIRY_MINUTES, TimeUnit.MINUTES);
+
+  /**
+   * Returns the whole days within the interval that the rollups have, or null if they have none of them.
+   */
+  public Pair<Long, Long> getRollupInterval(long startInterval, long endInterval) {
+    long rollupStart = startInterval + Math.floorMod(-startInterval, DAY_IN_MS);
+    long rollupEnd = Math.min(endInterval - Math.floorMod(endInterval, DAY_IN_MS), refreshedUntil.get());
+    return rollupStart < rollupEnd ? Pair.of(rollupStart, rollupEnd) : null;
+  }
+
+  /**
+   * Returns the number of executions per day and status between the given days, or null if the rollup could not be
+   * read.
+   */
+  public TimeAndStatusDeployment getPipelineExecutionCounts(
+      String accountId, String orgId, String projectId, long startDay, long endDay) {
+    StringBuilder query = new StringBuilder(200)
+                              .append("select day as time_entity, status, sum(executions) as count from ")
+                              .append(PIPELINE_EXECUTION_ROLLUP)
+                              .append(" where ");
+    List<Object> parameters = new ArrayList<>();
+    appendScope(query, parameters, accountId, orgId, projectId);
+    query.append("day>=? and day<? group by day, status;");
+    parameters.add(startDay);
+    parameters.add(endDay);
+    return queryCounts(query.toString(), parameters);
+  }
+
+  /**
+   * Returns the number of deployments of the service per bucket of the given size and status between the given days,
+   * or null if the rollup could not be read.
+   */
+  public TimeAndStatusDeployment getServiceDeploymentCounts(String accountId, String orgId, String projectId,
+      String serviceId, long startDay, long endDay, long bucketSizeInMS) {
+    StringBuilder query = new StringBuilder(250)
+                              .append("select time_bucket(?::bigint, day) as time_entity, service_status as status, ")
+                              .append("sum(deployments) as count from ")
+                              .append(SERVICE_DEPLOYMENT_ROLLUP)
+                              .append(" where ");
+    List<Object> parameters = new ArrayList<>();
+    parameters.add(bucketSizeInMS);
+    appendScope(query, parameters, accountId, orgId, projectId);
+    if (serviceId != null) {
+      query.append("service_id=? and ");
+      parameters.add(serviceId);
+    } else {
+      query.append("service_id is not null and ");
+    }
+    query.append("service_status != '' and day>=? and day<? group by time_entity, service_status;");
+    parameters.add(startDay);
+    parameters.add(endDay);
+    return queryCounts(query.toString(), parameters);
+  }
+
+  private void appendScope(
+      StringBuilder query, List<Object> parameters, String accountId, String orgId, String projectId) {
+    if (accountId != null) {
+      query.append("accountid=? and ");
+      parameters.add(accountId);
+    }
+    if (orgId != null) {
+      query.append("orgidentifier=? and ");
+      parameters.add(orgId);
+    }
+    if (projectId != null) {
+      query.append("projectidentifier=? and ");
+      parameters.add(projectId);
+    }
+  }
+
+  private TimeAndStatusDeployment queryCounts(String query, List<Object> parameters) {
+    int totalTries = 0;
+    while (totalTries <= MAX_RETRY_COUNT) {
+      List<Long> time = new ArrayList<>();
+      List<String> status = new ArrayList<>();
+      List<Integer> count = new ArrayList<>();
+      ResultSet resultSet = null;
+      try (Connection connection = timeScaleDBService.getDBConnection();
+           PreparedStatement statement = connection.prepareStatement(query)) {
+        for (int i = 0; i < parameters.size(); i++) {
+          statement.setObject(i + 1, parameters.get(i));
+        }
+        resultSet = statement.executeQuery();
+        while (resultSet.next()) {
+          time.add(resultSet.getLong("time_entity"));
+          status.add(resultSet.getString("status"));
+          count.add(resultSet.getInt("count"));
+        }
+        return TimeAndStatusDeployment.builder().time(time).status(status).count(count).build();
+      } catch (SQLException ex) {
+        log.warn("Failed to read dashboard rollup, total tries = {}", totalTries, ex);
+        totalTries++;
+      } finally {
+        DBUtils.close(resultSet);
+      }
+    }
+    return null;
+  }
+
+  @VisibleForTesting
+  long queryRefreshedUntil() {
+    if (!timeScaleDBService.isValid()) {
+      return 0;
+    }
+    ResultSet resultSet = null;
+    try (Connection connection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = connection.prepareStatement(REFRESHED_AT_QUERY)) {
+      resultSet = statement.executeQuery();
+      // both rollups need to be refreshed, until then the dashboards only read the raw tables
+      if (resultSet.next() && resultSet.getInt("refreshed") == 2) {
+        long refreshedAt = resultSet.getLong("refreshed_at");
+        // a refresh covers the days before the day it started, leave out one more day for the refreshes that started
+        // before midnight and finished after
+        long refreshedUntil = refreshedAt - REFRESH_END_OFFSET;
+        return refreshedUntil - Math.floorMod(refreshedUntil, DAY_IN_MS) - DAY_IN_MS;
+      }
+    } catch (SQLException ex) {
+      log.warn("Failed to read the refresh state of the dashboard rollups", ex);
+    } finally {
+      DBUtils.close(resultSet);
+    }
+    return 0;
+  }
+}
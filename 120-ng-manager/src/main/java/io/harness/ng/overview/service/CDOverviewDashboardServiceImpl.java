@@ -186,6 +186,7 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
   @Inject ServiceSequenceService serviceSequenceService;
   @Inject TemplateResourceClient templateResourceClient;
   @Inject CustomDeploymentYamlHelper customDeploymentYamlHelper;
+  @Inject CDDashboardRollupHelper cdDashboardRollupHelper;
 
   private String tableNameCD = "pipeline_execution_summary_cd";
   private String EMPTY_ARTIFACT = "";
@@ -582,6 +583,50 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
     return TimeAndStatusDeployment.builder().status(status).time(time).build();
   }
 
+  /**
+   * Returns status and start time of the executions in the interval. Whole days come from the daily rollup when the
+   * days of the dashboard, starting at dayStart, line up with the UTC days of the rollup.
+   */
+  private TimeAndStatusDeployment getTimeAndStatusDeployment(
+      String accountId, String orgId, String projectId, long startInterval, long endInterval, long dayStart) {
+    Pair<Long, Long> rollupInterval = dayStart % DAY_IN_MS == 0
+        ? cdDashboardRollupHelper.getRollupInterval(startInterval, endInterval)
+        : null;
+    TimeAndStatusDeployment rollup = rollupInterval == null
+        ? null
+        : cdDashboardRollupHelper.getPipelineExecutionCounts(
+            accountId, orgId, projectId, rollupInterval.getLeft(), rollupInterval.getRight());
+    if (rollup == null) {
+      return queryCalculatorTimeAndStatus(
+          queryBuilderSelectStatusTime(accountId, orgId, projectId, startInterval, endInterval));
+    }
+
+    List<Long> time = new ArrayList<>();
+    List<String> status = new ArrayList<>();
+    List<Integer> count = new ArrayList<>();
+    addTimeAndStatus(rollup, time, status, count);
+    if (startInterval < rollupInterval.getLeft()) {
+      addTimeAndStatus(queryCalculatorTimeAndStatus(queryBuilderSelectStatusTime(
+                           accountId, orgId, projectId, startInterval, rollupInterval.getLeft())),
+          time, status, count);
+    }
+    if (rollupInterval.getRight() < endInterval) {
+      addTimeAndStatus(queryCalculatorTimeAndStatus(queryBuilderSelectStatusTime(
+                           accountId, orgId, projectId, rollupInterval.getRight(), endInterval)),
+          time, status, count);
+    }
+    return TimeAndStatusDeployment.builder().time(time).status(status).count(count).build();
+  }
+
+  private void addTimeAndStatus(
+      TimeAndStatusDeployment timeAndStatusDeployment, List<Long> time, List<String> status, List<Integer> count) {
+    for (int i = 0; i < timeAndStatusDeployment.getTime().size(); i++) {
+      time.add(timeAndStatusDeployment.getTime().get(i));
+      status.add(timeAndStatusDeployment.getStatus().get(i));
+      count.add(timeAndStatusDeployment.getCountAt(i));
+    }
+  }
+
   public List<String> queryCalculatorEnvType(String queryEnvironmentType) {
     List<String> envType = new ArrayList<>();
 
@@ -684,13 +729,12 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
   public HealthDeploymentDetails healthDeploymentDashboardHelper(String accountId, String orgId, String projectId,
       long startInterval, long endInterval, long previousStartInterval) {
-    String query = queryBuilderSelectStatusTime(accountId, orgId, projectId, previousStartInterval, endInterval);
-
     List<Long> time = new ArrayList<>();
     List<String> status = new ArrayList<>();
     List<String> envType = new ArrayList<>();
 
-    TimeAndStatusDeployment timeAndStatusDeployment = queryCalculatorTimeAndStatus(query);
+    TimeAndStatusDeployment timeAndStatusDeployment = getTimeAndStatusDeployment(
+        accountId, orgId, projectId, previousStartInterval, endInterval, startInterval);
     time = timeAndStatusDeployment.getTime();
     status = timeAndStatusDeployment.getStatus();
 
@@ -722,28 +766,29 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
     for (int i = 0; i < time.size(); i++) {
       long currentTimeEpoch = time.get(i);
+      int count = timeAndStatusDeployment.getCountAt(i);
       if (currentTimeEpoch >= startInterval && currentTimeEpoch < endInterval) {
         currentTimeEpoch = getStartingDateEpochValue(currentTimeEpoch, startInterval);
-        total++;
-        totalCountMap.put(currentTimeEpoch, totalCountMap.get(currentTimeEpoch) + 1);
+        total += count;
+        totalCountMap.put(currentTimeEpoch, totalCountMap.get(currentTimeEpoch) + count);
         if (CDDashboardServiceHelper.successStatusList.contains(status.get(i))) {
-          currentSuccess++;
-          successCountMap.put(currentTimeEpoch, successCountMap.get(currentTimeEpoch) + 1);
+          currentSuccess += count;
+          successCountMap.put(currentTimeEpoch, successCountMap.get(currentTimeEpoch) + count);
         } else if (activeStatusList.contains(status.get(i)) || pendingStatusList.contains(status.get(i))) {
-          currentActive++;
-          activeCountMap.put(currentTimeEpoch, activeCountMap.get(currentTimeEpoch) + 1);
+          currentActive += count;
+          activeCountMap.put(currentTimeEpoch, activeCountMap.get(currentTimeEpoch) + count);
         } else {
-          currentFailed++;
-          failedCountMap.put(currentTimeEpoch, failedCountMap.get(currentTimeEpoch) + 1);
+          currentFailed += count;
+          failedCountMap.put(currentTimeEpoch, failedCountMap.get(currentTimeEpoch) + count);
         }
       } else {
-        previousDeployment++;
+        previousDeployment += count;
         if (CDDashboardServiceHelper.successStatusList.contains(status.get(i))) {
-          previousSuccess++;
+          previousSuccess += count;
         } else if (activeStatusList.contains(status.get(i)) || pendingStatusList.contains(status.get(i))) {
-          previousActive++;
+          previousActive += count;
         } else {
-          previousFailed++;
+          previousFailed += count;
         }
       }
     }
@@ -892,8 +937,6 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
   @Override
   public io.harness.ng.overview.dto.ExecutionDeploymentInfo getExecutionDeploymentDashboard(
       String accountId, String orgId, String projectId, long startInterval, long endInterval) {
-    String query = queryBuilderSelectStatusTime(accountId, orgId, projectId, startInterval, endInterval);
-
     HashMap<Long, Integer> totalCountMap = new HashMap<>();
     HashMap<Long, Integer> successCountMap = new HashMap<>();
     HashMap<Long, Integer> failedCountMap = new HashMap<>();
@@ -909,7 +952,8 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
       startDateCopy = startDateCopy + timeUnitPerDay;
     }
 
-    TimeAndStatusDeployment timeAndStatusDeployment = queryCalculatorTimeAndStatus(query);
+    TimeAndStatusDeployment timeAndStatusDeployment =
+        getTimeAndStatusDeployment(accountId, orgId, projectId, startInterval, endInterval, startInterval);
     List<Long> time = timeAndStatusDeployment.getTime();
     List<String> status = timeAndStatusDeployment.getStatus();
 
@@ -917,12 +961,13 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
     for (int i = 0; i < time.size(); i++) {
       long currentTimeEpoch = time.get(i);
+      int count = timeAndStatusDeployment.getCountAt(i);
       currentTimeEpoch = getStartingDateEpochValue(currentTimeEpoch, startInterval);
-      totalCountMap.put(currentTimeEpoch, totalCountMap.get(currentTimeEpoch) + 1);
+      totalCountMap.put(currentTimeEpoch, totalCountMap.get(currentTimeEpoch) + count);
       if (CDDashboardServiceHelper.successStatusList.contains(status.get(i))) {
-        successCountMap.put(currentTimeEpoch, successCountMap.get(currentTimeEpoch) + 1);
+        successCountMap.put(currentTimeEpoch, successCountMap.get(currentTimeEpoch) + count);
       } else if (CDDashboardServiceHelper.failedStatusList.contains(status.get(i))) {
-        failedCountMap.put(currentTimeEpoch, failedCountMap.get(currentTimeEpoch) + 1);
+        failedCountMap.put(currentTimeEpoch, failedCountMap.get(currentTimeEpoch) + count);
       }
     }
 
@@ -1795,8 +1840,6 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
       String projectIdentifier, long startTime, long endTime, String serviceIdentifier, long bucketSizeInDays) {
     String serviceRef = IdentifierRefHelper.getRefFromIdentifierOrRef(
         accountIdentifier, orgIdentifier, projectIdentifier, serviceIdentifier);
-    String query = queryBuilderServiceDeployments(
-        accountIdentifier, orgIdentifier, projectIdentifier, startTime, endTime, bucketSizeInDays, serviceRef);
 
     /**
      * Map that stores service deployment data for a bucket time - starting time of a
@@ -1807,32 +1850,19 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
     initializeResultMap(resultMap, startTimeCopy, endTime, bucketSizeInDays);
 
-    int totalTries = 0;
-    boolean successfulOperation = false;
-    while (!successfulOperation && totalTries <= MAX_RETRY_COUNT) {
-      ResultSet resultSet = null;
-      try (Connection connection = timeScaleDBService.getDBConnection();
-           PreparedStatement statement = connection.prepareStatement(query)) {
-        resultSet = statement.executeQuery();
-        while (resultSet != null && resultSet.next()) {
-          String status = resultSet.getString(NGServiceConstants.STATUS);
-          long bucketTime = Long.parseLong(resultSet.getString(NGServiceConstants.TIME_ENTITY));
-          long numberOfRecords = resultSet.getLong(NGServiceConstants.NUMBER_OF_RECORDS);
-          io.harness.ng.overview.dto.ServiceDeployment serviceDeployment = resultMap.get(bucketTime);
-          io.harness.ng.overview.dto.DeploymentCount deployments = serviceDeployment.getDeployments();
-          deployments.setTotal(deployments.getTotal() + numberOfRecords);
-          if (CDDashboardServiceHelper.successStatusList.contains(status)) {
-            deployments.setSuccess(deployments.getSuccess() + numberOfRecords);
-          } else if (CDDashboardServiceHelper.failedStatusList.contains(status)) {
-            deployments.setFailure(deployments.getFailure() + numberOfRecords);
-          }
-        }
-        successfulOperation = true;
-      } catch (SQLException ex) {
-        log.error("%s after total tries = %s", ex, totalTries);
-        totalTries++;
-      } finally {
-        DBUtils.close(resultSet);
+    TimeAndStatusDeployment serviceDeployments = getServiceDeploymentCounts(
+        accountIdentifier, orgIdentifier, projectIdentifier, startTime, endTime, bucketSizeInDays, serviceRef);
+    for (int i = 0; i < serviceDeployments.getTime().size(); i++) {
+      String status = serviceDeployments.getStatus().get(i);
+      long bucketTime = serviceDeployments.getTime().get(i);
+      long numberOfRecords = serviceDeployments.getCountAt(i);
+      io.harness.ng.overview.dto.ServiceDeployment serviceDeployment = resultMap.get(bucketTime);
+      io.harness.ng.overview.dto.DeploymentCount deployments = serviceDeployment.getDeployments();
+      deployments.setTotal(deployments.getTotal() + numberOfRecords);
+      if (CDDashboardServiceHelper.successStatusList.contains(status)) {
+        deployments.setSuccess(deployments.getSuccess() + numberOfRecords);
+      } else if (CDDashboardServiceHelper.failedStatusList.contains(status)) {
+        deployments.setFailure(deployments.getFailure() + numberOfRecords);
       }
     }
     List<io.harness.ng.overview.dto.ServiceDeployment> serviceDeploymentList =
@@ -1845,8 +1875,6 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
       String projectIdentifier, long startTime, long endTime, String serviceIdentifier, long bucketSizeInDays) {
     String serviceRef = IdentifierRefHelper.getRefFromIdentifierOrRef(
         accountIdentifier, orgIdentifier, projectIdentifier, serviceIdentifier);
-    String query = queryBuilderServiceDeployments(
-        accountIdentifier, orgIdentifier, projectIdentifier, startTime, endTime, bucketSizeInDays, serviceRef);
 
     /**
      * Map that stores service deployment data for a bucket time - starting time of a
@@ -1857,32 +1885,19 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
     initializeResultMapV2(resultMap, startTimeCopy, endTime, bucketSizeInDays);
 
-    int totalTries = 0;
-    boolean successfulOperation = false;
-    while (!successfulOperation && totalTries <= MAX_RETRY_COUNT) {
-      ResultSet resultSet = null;
-      try (Connection connection = timeScaleDBService.getDBConnection();
-           PreparedStatement statement = connection.prepareStatement(query)) {
-        resultSet = statement.executeQuery();
-        while (resultSet != null && resultSet.next()) {
-          String status = resultSet.getString(NGServiceConstants.STATUS);
-          long bucketTime = Long.parseLong(resultSet.getString(NGServiceConstants.TIME_ENTITY));
-          long numberOfRecords = resultSet.getLong(NGServiceConstants.NUMBER_OF_RECORDS);
-          ServiceDeploymentV2 serviceDeployment = resultMap.get(bucketTime);
-          DeploymentCount deployments = serviceDeployment.getDeployments();
-          deployments.setTotal(deployments.getTotal() + numberOfRecords);
-          if (CDDashboardServiceHelper.successStatusList.contains(status)) {
-            deployments.setSuccess(deployments.getSuccess() + numberOfRecords);
-          } else if (CDDashboardServiceHelper.failedStatusList.contains(status)) {
-            deployments.setFailure(deployments.getFailure() + numberOfRecords);
-          }
-        }
-        successfulOperation = true;
-      } catch (SQLException ex) {
-        log.error("%s after total tries = %s", ex, totalTries);
-        totalTries++;
-      } finally {
-        DBUtils.close(resultSet);
+    TimeAndStatusDeployment serviceDeployments = getServiceDeploymentCounts(
+        accountIdentifier, orgIdentifier, projectIdentifier, startTime, endTime, bucketSizeInDays, serviceRef);
+    for (int i = 0; i < serviceDeployments.getTime().size(); i++) {
+      String status = serviceDeployments.getStatus().get(i);
+      long bucketTime = serviceDeployments.getTime().get(i);
+      long numberOfRecords = serviceDeployments.getCountAt(i);
+      ServiceDeploymentV2 serviceDeployment = resultMap.get(bucketTime);
+      DeploymentCount deployments = serviceDeployment.getDeployments();
+      deployments.setTotal(deployments.getTotal() + numberOfRecords);
+      if (CDDashboardServiceHelper.successStatusList.contains(status)) {
+        deployments.setSuccess(deployments.getSuccess() + numberOfRecords);
+      } else if (CDDashboardServiceHelper.failedStatusList.contains(status)) {
+        deployments.setFailure(deployments.getFailure() + numberOfRecords);
       }
     }
     List<ServiceDeploymentV2> serviceDeploymentList = resultMap.values().stream().collect(Collectors.toList());
@@ -1926,6 +1941,72 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
     }
   }
 
+  /**
+   * Returns the number of deployments of the service per bucket and status. Whole days come from the daily rollup,
+   * since every day of it falls into a single bucket.
+   */
+  private TimeAndStatusDeployment getServiceDeploymentCounts(String accountIdentifier, String orgIdentifier,
+      String projectIdentifier, long startTime, long endTime, long bucketSizeInDays, String serviceRef) {
+    Pair<Long, Long> rollupInterval = cdDashboardRollupHelper.getRollupInterval(startTime, endTime);
+    TimeAndStatusDeployment rollup = rollupInterval == null
+        ? null
+        : cdDashboardRollupHelper.getServiceDeploymentCounts(accountIdentifier, orgIdentifier, projectIdentifier,
+            serviceRef, rollupInterval.getLeft(), rollupInterval.getRight(), bucketSizeInDays * DAY_IN_MS);
+    if (rollup == null) {
+      return queryCalculatorServiceDeploymentCounts(queryBuilderServiceDeployments(
+          accountIdentifier, orgIdentifier, projectIdentifier, startTime, endTime, bucketSizeInDays, serviceRef));
+    }
+
+    List<Long> time = new ArrayList<>();
+    List<String> status = new ArrayList<>();
+    List<Integer> count = new ArrayList<>();
+    addTimeAndStatus(rollup, time, status, count);
+    if (startTime < rollupInterval.getLeft()) {
+      addTimeAndStatus(queryCalculatorServiceDeploymentCounts(
+                           queryBuilderServiceDeployments(accountIdentifier, orgIdentifier, projectIdentifier,
+                               startTime, rollupInterval.getLeft(), bucketSizeInDays, serviceRef)),
+          time, status, count);
+    }
+    if (rollupInterval.getRight() < endTime) {
+      addTimeAndStatus(queryCalculatorServiceDeploymentCounts(
+                           queryBuilderServiceDeployments(accountIdentifier, orgIdentifier, projectIdentifier,
+                               rollupInterval.getRight(), endTime, bucketSizeInDays, serviceRef)),
+          time, status, count);
+    }
+    return TimeAndStatusDeployment.builder().time(time).status(status).count(count).build();
+  }
+
+  private TimeAndStatusDeployment queryCalculatorServiceDeploymentCounts(String query) {
+    List<Long> time = new ArrayList<>();
+    List<String> status = new ArrayList<>();
+    List<Integer> count = new ArrayList<>();
+
+    int totalTries = 0;
+    boolean successfulOperation = false;
+    while (!successfulOperation && totalTries <= MAX_RETRY_COUNT) {
+      ResultSet resultSet = null;
+      try (Connection connection = timeScaleDBService.getDBConnection();
+           PreparedStatement statement = connection.prepareStatement(query)) {
+        resultSet = statement.executeQuery();
+        while (resultSet != null && resultSet.next()) {
+          status.add(resultSet.getString(NGServiceConstants.STATUS));
+          time.add(Long.parseLong(resultSet.getString(NGServiceConstants.TIME_ENTITY)));
+          count.add(resultSet.getInt(NGServiceConstants.NUMBER_OF_RECORDS));
+        }
+        successfulOperation = true;
+      } catch (SQLException ex) {
+        log.error("%s after total tries = %s", ex, totalTries);
+        time.clear();
+        status.clear();
+        count.clear();
+        totalTries++;
+      } finally {
+        DBUtils.close(resultSet);
+      }
+    }
+    return TimeAndStatusDeployment.builder().time(time).status(status).count(count).build();
+  }
+
   /**
    * select status, time_entity, count(*) as records from (
    *    select service_status as status, service_startts as
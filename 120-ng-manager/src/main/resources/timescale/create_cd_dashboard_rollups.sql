@@ -0,0 +1,61 @@
+-- Copyright 2023 Harness Inc. All rights reserved.
+-- Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+-- that can be found in the licenses directory at the root of this repository, also available at
+-- https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+
+-- Daily rollups of CD executions and service deployments for the overview dashboards. They are refreshed by TimescaleDB
+-- jobs every hour for everything older than a day, so status changes of older executions are picked up as well.
+-- Dashboards read the raw tables for the days that are not refreshed yet.
+
+CREATE OR REPLACE FUNCTION epoch_millis_now() RETURNS BIGINT LANGUAGE SQL STABLE AS $$ SELECT (EXTRACT(EPOCH FROM NOW()) * 1000)::BIGINT $$;
+
+SELECT SET_INTEGER_NOW_FUNC('pipeline_execution_summary_cd', 'epoch_millis_now', replace_if_exists => TRUE);
+SELECT SET_INTEGER_NOW_FUNC('service_infra_info', 'epoch_millis_now', replace_if_exists => TRUE);
+
+---------- PIPELINE EXECUTION SUMMARY CD DAY START ------------
+CREATE MATERIALIZED VIEW IF NOT EXISTS pipeline_execution_summary_cd_day
+WITH (timescaledb.continuous, timescaledb.materialized_only = TRUE) AS
+SELECT TIME_BUCKET(86400000::BIGINT, startts) AS day,
+       accountid,
+       orgidentifier,
+       projectidentifier,
+       status,
+       COUNT(*) AS executions,
+       COUNT(endts) AS ended_executions,
+       SUM(endts - startts) AS duration
+FROM pipeline_execution_summary_cd
+GROUP BY day, accountid, orgidentifier, projectidentifier, status
+WITH NO DATA;
+
+CREATE INDEX IF NOT EXISTS pipeline_execution_summary_cd_day_scope_idx ON pipeline_execution_summary_cd_day (accountid, orgidentifier, projectidentifier, day DESC);
+
+SELECT ADD_CONTINUOUS_AGGREGATE_POLICY('pipeline_execution_summary_cd_day', start_offset => NULL, end_offset => 86400000::BIGINT, schedule_interval => INTERVAL '1 hour', if_not_exists => TRUE);
+---------- PIPELINE EXECUTION SUMMARY CD DAY END ------------
+
+---------- SERVICE INFRA INFO DAY START ------------
+-- Counts the deployments the way the raw service deployment query does: joined with their pipeline execution, scoped
+-- by its account, org and project. Continuous aggregates cannot join two hypertables, so this is a materialized view
+-- which the job below refreshes as a whole every hour.
+CREATE MATERIALIZED VIEW IF NOT EXISTS service_infra_info_day AS
+SELECT TIME_BUCKET(86400000::BIGINT, sii.service_startts) AS day,
+       pesi.accountid,
+       pesi.orgidentifier,
+       pesi.projectidentifier,
+       sii.service_id,
+       sii.service_status,
+       COUNT(*) AS deployments,
+       COUNT(sii.service_endts) AS ended_deployments,
+       SUM(sii.service_endts - sii.service_startts) AS duration
+FROM service_infra_info AS sii
+INNER JOIN pipeline_execution_summary_cd AS pesi ON pesi.id = sii.pipeline_execution_summary_cd_id
+WHERE sii.service_id IS NOT NULL AND sii.service_status != ''
+GROUP BY day, pesi.accountid, pesi.orgidentifier, pesi.projectidentifier, sii.service_id, sii.service_status;
+
+-- also the unique index that REFRESH MATERIALIZED VIEW CONCURRENTLY needs
+CREATE UNIQUE INDEX IF NOT EXISTS service_infra_info_day_scope_idx ON service_infra_info_day (accountid, orgidentifier, projectidentifier, service_id, day DESC, service_status);
+
+-- a concurrent refresh keeps the view readable while it runs
+CREATE OR REPLACE PROCEDURE refresh_service_infra_info_day(job_id INT, config JSONB) LANGUAGE SQL AS $$ REFRESH MATERIALIZED VIEW CONCURRENTLY service_infra_info_day $$;
+
+SELECT ADD_JOB('refresh_service_infra_info_day', INTERVAL '1 hour') WHERE NOT EXISTS (SELECT 1 FROM timescaledb_information.jobs WHERE proc_name = 'refresh_service_infra_info_day');
+---------- SERVICE INFRA INFO DAY END ------------
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.HarnessTeam;
@@ -49,6 +50,7 @@ import io.harness.ng.overview.dto.TotalDeploymentInfo;
 import io.harness.ng.overview.dto.WorkloadCountInfo;
 import io.harness.ng.overview.dto.WorkloadDateCountInfo;
 import io.harness.ng.overview.dto.WorkloadDeploymentInfo;
+import io.harness.ng.overview.service.CDDashboardRollupHelper;
 import io.harness.ng.overview.service.CDOverviewDashboardServiceImpl;
 import io.harness.pms.execution.ExecutionStatus;
 import io.harness.rule.Owner;
@@ -75,6 +77,7 @@ import org.mockito.Spy;
 @OwnedBy(HarnessTeam.CDC)
 public class CDDashboardApisTest extends CategoryTest {
   @Mock TimeScaleDBService timeScaleDBService;
+  @Mock CDDashboardRollupHelper cdDashboardRollupHelper;
   @InjectMocks @Spy private CDOverviewDashboardServiceImpl cdOverviewDashboardServiceImpl;
 
   private List<String> failedStatusList = CDDashboardServiceHelper.failedStatusList;
@@ -307,6 +310,54 @@ public class CDDashboardApisTest extends CategoryTest {
     assertThat(expectedExecutionDeploymentInfo).isEqualTo(executionDeploymentInfo);
   }
 
+  @Test
+  @Owner(developers = PRASHANTSHARMA)
+  @Category(UnitTests.class)
+  public void testGetExecutionDeploymentDashboardFromRollup() {
+    long startInterval = 1619136000000L;
+    long rollupEnd = 1619308800000L;
+    long endInterval = 1619395140000L;
+
+    TimeAndStatusDeployment rollup =
+        TimeAndStatusDeployment.builder()
+            .time(Arrays.asList(1619136000000L, 1619136000000L, 1619222400000L))
+            .status(Arrays.asList(
+                ExecutionStatus.SUCCESS.name(), ExecutionStatus.FAILED.name(), ExecutionStatus.SUCCESS.name()))
+            .count(Arrays.asList(4, 2, 3))
+            .build();
+    TimeAndStatusDeployment raw =
+        TimeAndStatusDeployment.builder()
+            .time(Arrays.asList(1619310000000L, 1619320000000L))
+            .status(Arrays.asList(ExecutionStatus.SUCCESS.name(), ExecutionStatus.RUNNING.name()))
+            .build();
+
+    doReturn(Pair.of(startInterval, rollupEnd))
+        .when(cdDashboardRollupHelper)
+        .getRollupInterval(startInterval, endInterval);
+    doReturn(rollup)
+        .when(cdDashboardRollupHelper)
+        .getPipelineExecutionCounts("acc", "oro", "pro", startInterval, rollupEnd);
+    doReturn(raw).when(cdOverviewDashboardServiceImpl).queryCalculatorTimeAndStatus(anyString());
+
+    ExecutionDeploymentInfo executionDeploymentInfo =
+        cdOverviewDashboardServiceImpl.getExecutionDeploymentDashboard("acc", "oro", "pro", startInterval, endInterval);
+
+    verify(cdOverviewDashboardServiceImpl).queryBuilderSelectStatusTime("acc", "oro", "pro", rollupEnd, endInterval);
+    assertThat(executionDeploymentInfo.getExecutionDeploymentList())
+        .containsExactly(ExecutionDeployment.builder()
+                             .time(1619136000000L)
+                             .deployments(DeploymentCount.builder().total(6).success(4).failure(2).build())
+                             .build(),
+            ExecutionDeployment.builder()
+                .time(1619222400000L)
+                .deployments(DeploymentCount.builder().total(3).success(3).failure(0).build())
+                .build(),
+            ExecutionDeployment.builder()
+                .time(1619308800000L)
+                .deployments(DeploymentCount.builder().total(2).success(1).failure(0).build())
+                .build());
+  }
+
   @Test
   @Owner(developers = PRASHANTSHARMA)
   @Category(UnitTests.class)
@@ -102,6 +102,7 @@ public class CDOverviewDashboardServiceImplTest extends NgManagerTestBase {
   @Mock private TemplateResourceClient templateResourceClient;
   @Mock private EnvironmentGroupServiceImpl environmentGroupService;
   @Mock private ServiceSequenceService serviceSequenceService;
+  @Mock private CDDashboardRollupHelper cdDashboardRollupHelper;
 
   private final String ENVIRONMENT_1 = "env1";
   private final String ENVIRONMENT_2 = "env2";
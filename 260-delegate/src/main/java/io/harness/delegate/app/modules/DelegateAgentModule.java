@@ -68,7 +68,7 @@ public class DelegateAgentModule extends AbstractModule {
 
     install(new LogStreamingModule(configuration.getLogStreamingServiceBaseUrl(),
         configuration.getClientCertificateFilePath(), configuration.getClientCertificateKeyFilePath(),
-        configuration.isTrustAllCertificates()));
+        configuration.isTrustAllCertificates(), configuration.isLogStreamingCompressionEnabled()));
     install(new DelegateManagerGrpcClientModule(configuration));
 
     configureCcmEventPublishing();
@@ -24,7 +24,12 @@ public enum DelegateMetric {
       DELEGATE_NAME_LABEL, TASK_TYPE_LABEL),
   DELEGATE_CONNECTED("delegate_connected", "Delegate connected", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
   RESOURCE_CONSUMPTION_ABOVE_THRESHOLD("delegate_resource_consumption_above_threshold",
-      "Delegate resource consumption reached more than threshold", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL);
+      "Delegate resource consumption reached more than threshold", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  LOG_STREAMING_LINES_DROPPED("log_streaming_lines_dropped",
+      "Number of log lines dropped because the log service did not keep up", DelegateMetricType.GAUGE,
+      DELEGATE_NAME_LABEL),
+  LOG_STREAMING_LINES_BUFFERED("log_streaming_lines_buffered", "Number of log lines waiting to be sent",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL);
 
   private final String metricName;
   private final String description;
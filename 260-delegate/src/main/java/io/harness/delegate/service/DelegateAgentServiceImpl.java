@@ -48,6 +48,8 @@ import static io.harness.delegate.message.MessageConstants.WATCHER_VERSION;
 import static io.harness.delegate.message.MessengerType.DELEGATE;
 import static io.harness.delegate.message.MessengerType.WATCHER;
 import static io.harness.delegate.metrics.DelegateMetric.DELEGATE_CONNECTED;
+import static io.harness.delegate.metrics.DelegateMetric.LOG_STREAMING_LINES_BUFFERED;
+import static io.harness.delegate.metrics.DelegateMetric.LOG_STREAMING_LINES_DROPPED;
 import static io.harness.delegate.metrics.DelegateMetric.RESOURCE_CONSUMPTION_ABOVE_THRESHOLD;
 import static io.harness.delegate.metrics.DelegateMetric.TASKS_CURRENTLY_EXECUTING;
 import static io.harness.delegate.metrics.DelegateMetric.TASK_COMPLETED;
@@ -149,6 +151,7 @@ import io.harness.filesystem.FileIo;
 import io.harness.grpc.util.RestartableServiceManager;
 import io.harness.logging.AutoLogContext;
 import io.harness.logstreaming.LogStreamingClient;
+import io.harness.logstreaming.LogStreamingDispatcher;
 import io.harness.logstreaming.LogStreamingHelper;
 import io.harness.logstreaming.LogStreamingSanitizer;
 import io.harness.logstreaming.LogStreamingTaskClient;
@@ -226,7 +229,9 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -269,6 +274,7 @@ import org.zeroturnaround.exec.StartedProcess;
 import org.zeroturnaround.exec.stream.LogOutputStream;
 import org.zeroturnaround.exec.stream.slf4j.Slf4jStream;
 import retrofit2.Call;
+import retrofit2.Callback;
 import retrofit2.Response;
 
 @Singleton
@@ -276,6 +282,8 @@ import retrofit2.Response;
 @OwnedBy(HarnessTeam.DEL)
 public class DelegateAgentServiceImpl implements DelegateAgentService {
   private static final int POLL_INTERVAL_SECONDS = 3;
+  private static final long TASK_EVENTS_WAIT_SECONDS = 20;
+  private static final long MAX_LONG_POLL_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(60);
   private static final long UPGRADE_TIMEOUT = TimeUnit.HOURS.toMillis(2);
   private static final long HEARTBEAT_TIMEOUT = TimeUnit.MINUTES.toMillis(15);
   private static final long HEARTBEAT_SOCKET_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
@@ -346,6 +354,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   @Inject @Named("inputExecutor") private ScheduledExecutorService inputExecutor;
   @Inject @Named("backgroundExecutor") private ExecutorService backgroundExecutor;
   @Inject @Named("taskPollExecutor") private ScheduledExecutorService taskPollExecutor;
+  private final AtomicInteger longPollFailures = new AtomicInteger();
   @Inject @Named("taskExecutor") private ThreadPoolExecutor taskExecutor;
   @Inject @Named("timeoutExecutor") private ThreadPoolExecutor timeoutEnforcement;
   @Inject @Named("grpcServiceExecutor") private ExecutorService grpcServiceExecutor;
@@ -1461,10 +1470,108 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   }
 
   private void startTaskPolling() {
+    if (delegateConfiguration.isLongPollForTasks()) {
+      log.info("Long polling for task events");
+      scheduleLongPollForTask(0);
+    } else {
+      startFixedRateTaskPolling();
+    }
+  }
+
+  private void startFixedRateTaskPolling() {
     taskPollExecutor.scheduleAtFixedRate(
         new Schedulable("Failed to poll for task", () -> pollForTask()), 0, POLL_INTERVAL_SECONDS, TimeUnit.SECONDS);
   }
 
+  private void scheduleLongPollForTask(long delayMillis) {
+    try {
+      taskPollExecutor.schedule(
+          new Schedulable("Failed to long poll for task", this::longPollForTask), delayMillis, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      log.info("Task poll executor is shut down, stopped long polling for task events");
+    }
+  }
+
+  /**
+   * Asks the manager to hold the request until task events show up or the wait time passes. The request runs
+   * asynchronously, so no task poll thread waits on it; the answer is handled on the task poll executor, which then
+   * schedules the next request. An answer without events which came back early is not repeated before the regular poll
+   * interval, failures back off exponentially.
+   */
+  private void longPollForTask() {
+    if (!shouldContactManager()) {
+      scheduleLongPollForTask(TimeUnit.SECONDS.toMillis(POLL_INTERVAL_SECONDS));
+      return;
+    }
+    long startedAt = System.currentTimeMillis();
+    Call<DelegateTaskEventsResponse> call =
+        delegateAgentManagerClient.waitForTaskEvents(delegateId, accountId, TASK_EVENTS_WAIT_SECONDS);
+    Future<?> timeout = taskPollExecutor.schedule(call::cancel, TASK_EVENTS_WAIT_SECONDS + 15, TimeUnit.SECONDS);
+    call.enqueue(new Callback<DelegateTaskEventsResponse>() {
+      @Override
+      public void onResponse(Call<DelegateTaskEventsResponse> call, Response<DelegateTaskEventsResponse> response) {
+        timeout.cancel(false);
+        try {
+          taskPollExecutor.execute(new Schedulable(
+              "Failed to process long polled task events", () -> handleLongPollResponse(response, startedAt)));
+        } catch (RejectedExecutionException e) {
+          log.info("Task poll executor is shut down, stopped long polling for task events");
+        }
+      }
+
+      @Override
+      public void onFailure(Call<DelegateTaskEventsResponse> call, Throwable t) {
+        timeout.cancel(false);
+        if (call.isCanceled()) {
+          log.warn("Timed out waiting for delegate task events");
+        } else {
+          log.error("Exception while waiting for delegate task events", t);
+        }
+        scheduleLongPollForTask(nextLongPollBackoffMillis());
+      }
+    });
+  }
+
+  private void handleLongPollResponse(Response<DelegateTaskEventsResponse> response, long startedAt) {
+    try {
+      if (response.code() == 404) {
+        if (response.errorBody() != null) {
+          response.errorBody().close();
+        }
+        log.warn("Manager does not support long polling for task events, falling back to polling every {} seconds",
+            POLL_INTERVAL_SECONDS);
+        startFixedRateTaskPolling();
+        return;
+      }
+      if (!response.isSuccessful()) {
+        handleErrorResponse(response);
+        scheduleLongPollForTask(nextLongPollBackoffMillis());
+        return;
+      }
+      longPollFailures.set(0);
+      DelegateTaskEventsResponse taskEventsResponse = response.body();
+      if (shouldProcessDelegateTaskEvents(taskEventsResponse)) {
+        List<DelegateTaskEvent> taskEvents = taskEventsResponse.getDelegateTaskEvents();
+        log.info("Processing DelegateTaskEvents {}", taskEvents);
+        processDelegateTaskEventsInBlockingLoop(taskEvents);
+        scheduleLongPollForTask(0);
+      } else {
+        long elapsedMillis = System.currentTimeMillis() - startedAt;
+        scheduleLongPollForTask(Math.max(0, TimeUnit.SECONDS.toMillis(POLL_INTERVAL_SECONDS) - elapsedMillis));
+      }
+    } catch (Exception e) {
+      log.error("Exception while processing delegate task events", e);
+      scheduleLongPollForTask(nextLongPollBackoffMillis());
+    }
+  }
+
+  private long nextLongPollBackoffMillis() {
+    int failures = Math.min(longPollFailures.getAndIncrement(), 6);
+    long backoffMillis = Math.min(MAX_LONG_POLL_BACKOFF_MILLIS, TimeUnit.SECONDS.toMillis(1) << failures);
+    // jitter, so delegates do not come back all at once after a manager restart
+    return backoffMillis / 2 + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+  }
+
   private void startChroniqleQueueMonitor() {
     if (chronicleEventTailer != null) {
       chronicleEventTailer.setAccountId(accountId);
@@ -2822,6 +2929,11 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     long tasksExecutionCount = taskExecutor.getActiveCount();
     metricRegistry.recordGaugeValue(
         TASKS_CURRENTLY_EXECUTING.getMetricName(), new String[] {DELEGATE_NAME}, tasksExecutionCount);
+    LogStreamingDispatcher logStreamingDispatcher = LogStreamingDispatcher.getInstance();
+    metricRegistry.recordGaugeValue(LOG_STREAMING_LINES_DROPPED.getMetricName(), new String[] {DELEGATE_NAME},
+        logStreamingDispatcher.getDroppedLines());
+    metricRegistry.recordGaugeValue(LOG_STREAMING_LINES_BUFFERED.getMetricName(), new String[] {DELEGATE_NAME},
+        logStreamingDispatcher.getBufferedLines());
   }
 
   public void sendTaskResponse(final String taskId, final DelegateTaskResponse taskResponse) {
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.logging.LogLevel;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Bounded buffer of the log lines of one log key. Writers never block: lines are appended without locking and dropped
+ * (and counted) once the buffer is full, which only happens when the log service does not keep up. Sending is
+ * serialized per key by a lock only the senders take, so lines of a key reach the log service in order.
+ *
+ * A buffer is retired once it is empty and not needed anymore, after which it refuses further lines and the writer
+ * has to use a new one.
+ */
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+class LogLineBuffer {
+  private static final int RETIRED = -1;
+
+  private final String logKey;
+  private final int capacity;
+  private final Consumer<List<LogLine>> sender;
+  private final Queue<LogLine> lines = new ConcurrentLinkedQueue<>();
+  // number of lines in the queue, or RETIRED
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+  private final Lock sendLock = new ReentrantLock();
+  private volatile long lastWriteAt = currentTimeMillis();
+
+  LogLineBuffer(String logKey, int capacity, Consumer<List<LogLine>> sender) {
+    this.logKey = logKey;
+    this.capacity = capacity;
+    this.sender = sender;
+  }
+
+  String getLogKey() {
+    return logKey;
+  }
+
+  /**
+   * Returns false if the buffer is retired, true if the line was appended or dropped because the buffer is full.
+   */
+  boolean add(LogLine logLine) {
+    int current;
+    do {
+      current = size.get();
+      if (current == RETIRED) {
+        return false;
+      }
+      if (current >= capacity) {
+        dropped.incrementAndGet();
+        return true;
+      }
+    } while (!size.compareAndSet(current, current + 1));
+    lines.offer(logLine);
+    lastWriteAt = currentTimeMillis();
+    return true;
+  }
+
+  boolean hasPending() {
+    return size.get() > 0 || dropped.get() > 0;
+  }
+
+  boolean isRetired() {
+    return size.get() == RETIRED;
+  }
+
+  int getSize() {
+    return Math.max(size.get(), 0);
+  }
+
+  /**
+   * Retires the buffer if it is empty and nothing was written since the given time.
+   */
+  boolean retireIfIdleSince(long time) {
+    return lastWriteAt < time && dropped.get() == 0 && size.compareAndSet(0, RETIRED);
+  }
+
+  /**
+   * Retires the buffer whether it is empty or not, once a send in flight finished, so nothing is sent for the key
+   * afterwards. Returns the number of lines discarded.
+   */
+  long retire() {
+    sendLock.lock();
+    try {
+      int pending = size.getAndSet(RETIRED);
+      lines.clear();
+      return Math.max(pending, 0) + dropped.getAndSet(0);
+    } finally {
+      sendLock.unlock();
+    }
+  }
+
+  boolean scheduleDispatch() {
+    return dispatchScheduled.compareAndSet(false, true);
+  }
+
+  /**
+   * Sends the pending lines in batches of at most the given size. Returns the number of lines dropped since the last
+   * send, which are reported to the log stream as a warning line.
+   */
+  long flush(int maxBatchSize) {
+    sendLock.lock();
+    try {
+      return send(maxBatchSize);
+    } finally {
+      sendLock.unlock();
+    }
+  }
+
+  /**
+   * Like {@link #flush} if no other thread is sending lines of this key, does nothing otherwise.
+   */
+  long tryFlush(int maxBatchSize) {
+    try {
+      if (!sendLock.tryLock()) {
+        return 0;
+      }
+      try {
+        return send(maxBatchSize);
+      } finally {
+        sendLock.unlock();
+      }
+    } finally {
+      dispatchScheduled.set(false);
+    }
+  }
+
+  private long send(int maxBatchSize) {
+    long droppedLines = dropped.getAndSet(0);
+    if (droppedLines > 0) {
+      sender.accept(Collections.singletonList(LogLine.builder()
+                                .level(LogLevel.WARN)
+                                .message(droppedLines
+                                    + " log lines were dropped because the log service could not keep up")
+                                .timestamp(Instant.now())
+                                .build()));
+    }
+    List<LogLine> batch;
+    while (!(batch = drain(maxBatchSize)).isEmpty()) {
+      sender.accept(batch);
+    }
+    return droppedLines;
+  }
+
+  private List<LogLine> drain(int maxBatchSize) {
+    List<LogLine> batch = new ArrayList<>(Math.min(Math.max(size.get(), 0), maxBatchSize));
+    LogLine logLine;
+    // a writer may have counted a line it did not append yet, it is picked up by the next send
+    while (batch.size() < maxBatchSize && (logLine = lines.poll()) != null) {
+      batch.add(logLine);
+    }
+    if (!batch.isEmpty()) {
+      size.addAndGet(-batch.size());
+    }
+    return batch;
+  }
+}
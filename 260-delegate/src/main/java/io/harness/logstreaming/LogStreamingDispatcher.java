@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ships the log lines of all log streams of the delegate. A single thread looks at every registered buffer each tick
+ * and hands the ones with pending lines to a bounded pool of senders, at most one send per log key at a time. Lines
+ * written while a send is in flight are batched into the next one, so a slow log service results in fewer, bigger
+ * requests, and only once a buffer is full lines get dropped. Batches never span keys, since the log service takes the
+ * lines of one key per request.
+ */
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+public class LogStreamingDispatcher {
+  static final int BUFFER_CAPACITY = 20000;
+  static final int MAX_BATCH_SIZE = 2000;
+  private static final long TICK_MILLIS = 100;
+  private static final long IDLE_BUFFER_RETIRE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+  private static final int SENDER_THREADS = 10;
+
+  private static final LogStreamingDispatcher INSTANCE = new LogStreamingDispatcher();
+
+  private final Set<LogLineBuffer> buffers = ConcurrentHashMap.newKeySet();
+  private final ScheduledExecutorService dispatcher;
+  private final ExecutorService senders;
+
+  private final AtomicLong droppedLines = new AtomicLong();
+
+  public static LogStreamingDispatcher getInstance() {
+    return INSTANCE;
+  }
+
+  private LogStreamingDispatcher() {
+    dispatcher = new ScheduledThreadPoolExecutor(
+        1, new ThreadFactoryBuilder().setNameFormat("log-streaming-dispatcher").setDaemon(true).build());
+    senders = new ThreadPoolExecutor(SENDER_THREADS, SENDER_THREADS, 0L, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(),
+        new ThreadFactoryBuilder().setNameFormat("log-streaming-client-%d").setPriority(Thread.NORM_PRIORITY).build());
+    dispatcher.scheduleWithFixedDelay(this::dispatch, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  void register(LogLineBuffer buffer) {
+    buffers.add(buffer);
+  }
+
+  void unregister(LogLineBuffer buffer) {
+    buffers.remove(buffer);
+  }
+
+  /**
+   * Runs off the dispatcher thread, for work which may wait on the log service, like closing a stream.
+   */
+  void submit(Runnable runnable) {
+    senders.submit(runnable);
+  }
+
+  void recordDropped(LogLineBuffer buffer, long count) {
+    if (count > 0) {
+      droppedLines.addAndGet(count);
+      log.warn("Dropped {} log lines for key {}, the log service is not keeping up", count, buffer.getLogKey());
+    }
+  }
+
+  /**
+   * Lines dropped since the delegate started because the log service did not keep up.
+   */
+  public long getDroppedLines() {
+    return droppedLines.get();
+  }
+
+  /**
+   * Lines written but not sent yet.
+   */
+  public long getBufferedLines() {
+    return buffers.stream().mapToLong(LogLineBuffer::getSize).sum();
+  }
+
+  private void dispatch() {
+    try {
+      long idleSince = currentTimeMillis() - IDLE_BUFFER_RETIRE_MILLIS;
+      for (LogLineBuffer buffer : buffers) {
+        if (buffer.hasPending()) {
+          if (buffer.scheduleDispatch()) {
+            send(buffer);
+          }
+        } else if (buffer.isRetired() || buffer.retireIfIdleSince(idleSince)) {
+          buffers.remove(buffer);
+        }
+      }
+    } catch (Exception e) {
+      log.error("Unexpected error dispatching log lines", e);
+    }
+  }
+
+  private void send(LogLineBuffer buffer) {
+    senders.execute(() -> recordDropped(buffer, buffer.tryFlush(MAX_BATCH_SIZE)));
+  }
+}
@@ -29,16 +29,10 @@ import io.harness.network.SafeHttpCall;
 import software.wings.beans.command.ExecutionLogCallback;
 import software.wings.delegatetasks.DelegateLogService;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import lombok.Builder;
 import lombok.Builder.Default;
@@ -65,14 +59,12 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   private final String token;
   private final String accountId;
   private final String baseLogKey;
-  private static ScheduledExecutorService scheduledExecutorService = new ScheduledThreadPoolExecutor(10,
-      new ThreadFactoryBuilder().setNameFormat("log-streaming-client-%d").setPriority(Thread.NORM_PRIORITY).build());
+  private static final LogStreamingDispatcher dispatcher = LogStreamingDispatcher.getInstance();
   @Deprecated private final String appId;
   @Deprecated private final String activityId;
-  private ScheduledFuture scheduledFuture;
   private final ITaskProgressClient taskProgressClient;
 
-  @Default private final Map<String, List<LogLine>> logCache = new HashMap<>();
+  @Default private final Map<String, LogLineBuffer> logBuffers = new ConcurrentHashMap<>();
 
   @Override
   public void openStream(String baseLogKeySuffix) {
@@ -83,46 +75,40 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     } catch (Exception ex) {
       log.error("Unable to open log stream for account {} and key {}", accountId, logKey, ex);
     }
-    scheduledFuture = scheduledExecutorService.scheduleAtFixedRate(this::dispatchLogs, 0, 100, TimeUnit.MILLISECONDS);
+    getLogBuffer(logKey);
   }
 
   @Override
   public void closeStream(String baseLogKeySuffix) {
     String logKey = getLogKey(baseLogKeySuffix);
 
-    synchronized (logCache) {
-      // We can mark this task to be completed. Log upload can happen asynchronously.
-      scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
-    }
+    // We can mark this task to be completed. Log upload can happen asynchronously.
+    dispatcher.submit(() -> closeStreamAsync(logKey));
   }
 
   private void closeStreamAsync(String logKey) {
-    // Waiting for finite time allow log upload to finish.
-    long startTime = currentTimeMillis();
-    synchronized (logCache) {
-      while (logCache.containsKey(logKey) && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5)) {
-        log.debug("For {} the logs are not drained yet. sleeping...", logKey);
-        try {
-          logCache.wait(100);
-        } catch (InterruptedException e) {
-          log.warn("Log upload didn't completed successfully for {} ", logKey);
-        }
+    LogLineBuffer logBuffer = logBuffers.get(logKey);
+    if (logBuffer != null) {
+      // Waiting for finite time allow log upload to finish.
+      long startTime = currentTimeMillis();
+      do {
+        dispatcher.recordDropped(logBuffer, logBuffer.flush(LogStreamingDispatcher.MAX_BATCH_SIZE));
+      } while (logBuffer.hasPending() && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5));
+
+      logBuffers.remove(logKey, logBuffer);
+      // nothing may be pushed to the stream once it is closed, lines not sent by now are lost
+      long discarded = logBuffer.retire();
+      dispatcher.unregister(logBuffer);
+      if (discarded > 0) {
+        dispatcher.recordDropped(logBuffer, discarded);
+        log.error("log buffer was not drained for {}. num of keys in map {}. This will result in missing logs", logKey,
+            logBuffers.size());
       }
     }
-    if (logCache.containsKey(logKey)) {
-      log.error("log cache was not drained for {}. num of keys in map {}. This will result in missing logs", logKey,
-          logCache.size());
-    }
     try {
       SafeHttpCall.executeWithExceptions(logStreamingClient.closeLogStream(token, accountId, logKey, true));
     } catch (Exception ex) {
       log.error("Unable to close log stream for account {} and key {}", accountId, logKey, ex);
-    } finally {
-      if (scheduledFuture != null) {
-        scheduledFuture.cancel(false);
-      } else {
-        log.error("Scheduled future is missing for logkey {}", logKey);
-      }
     }
   }
 
@@ -137,28 +123,39 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     logStreamingSanitizer.sanitizeLogMessage(logLine);
     colorLog(logLine);
 
-    synchronized (logCache) {
-      if (!logCache.containsKey(logKey)) {
-        logCache.put(logKey, new ArrayList<>());
-      }
-      logCache.get(logKey).add(logLine);
+    LogLineBuffer logBuffer = getLogBuffer(logKey);
+    while (!logBuffer.add(logLine)) {
+      // the buffer was retired after being idle, continue with a new one
+      logBuffers.remove(logKey, logBuffer);
+      logBuffer = getLogBuffer(logKey);
     }
   }
 
+  /**
+   * Sends everything written so far, on the calling thread. Lines are sent in the background anyway, this is only
+   * needed when the caller has to be sure they reached the log service.
+   */
   @Override
   public void dispatchLogs() {
-    synchronized (logCache) {
-      for (Iterator<Map.Entry<String, List<LogLine>>> iterator = logCache.entrySet().iterator(); iterator.hasNext();) {
-        Map.Entry<String, List<LogLine>> next = iterator.next();
-        try {
-          SafeHttpCall.executeWithExceptions(
-              logStreamingClient.pushMessage(token, accountId, next.getKey(), next.getValue()));
-        } catch (Exception ex) {
-          log.error("Unable to push message to log stream for account {} and key {}", accountId, next.getKey(), ex);
-        }
-        iterator.remove();
-      }
-      logCache.notifyAll();
+    for (LogLineBuffer logBuffer : logBuffers.values()) {
+      dispatcher.recordDropped(logBuffer, logBuffer.flush(LogStreamingDispatcher.MAX_BATCH_SIZE));
+    }
+  }
+
+  private LogLineBuffer getLogBuffer(String logKey) {
+    return logBuffers.computeIfAbsent(logKey, key -> {
+      LogLineBuffer logBuffer =
+          new LogLineBuffer(key, LogStreamingDispatcher.BUFFER_CAPACITY, logLines -> pushMessage(key, logLines));
+      dispatcher.register(logBuffer);
+      return logBuffer;
+    });
+  }
+
+  private void pushMessage(String logKey, List<LogLine> logLines) {
+    try {
+      SafeHttpCall.executeWithExceptions(logStreamingClient.pushMessage(token, accountId, logKey, logLines));
+    } catch (Exception ex) {
+      log.error("Unable to push message to log stream for account {} and key {}", accountId, logKey, ex);
     }
   }
 
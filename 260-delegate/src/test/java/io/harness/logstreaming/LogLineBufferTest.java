@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.logging.LogLevel;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class LogLineBufferTest extends CategoryTest {
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotSendAnythingOnceRetired() {
+    List<LogLine> sent = new ArrayList<>();
+    LogLineBuffer buffer = new LogLineBuffer("key", 2, sent::addAll);
+    for (int i = 0; i < 3; i++) {
+      buffer.add(LogLine.builder().level(LogLevel.INFO).message("line " + i).build());
+    }
+
+    // two pending lines and one dropped
+    assertThat(buffer.retire()).isEqualTo(3);
+    assertThat(buffer.hasPending()).isFalse();
+    assertThat(buffer.add(LogLine.builder().level(LogLevel.INFO).message("late").build())).isFalse();
+    assertThat(buffer.flush(LogStreamingDispatcher.MAX_BATCH_SIZE)).isZero();
+    assertThat(sent).isEmpty();
+  }
+}
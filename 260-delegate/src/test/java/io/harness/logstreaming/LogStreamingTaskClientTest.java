@@ -16,9 +16,13 @@ import static software.wings.beans.LogHelper.COMMAND_UNIT_PLACEHOLDER;
 import static java.time.Duration.ofMillis;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.category.element.UnitTests;
@@ -31,9 +35,12 @@ import software.wings.beans.command.ExecutionLogCallback;
 import software.wings.delegatetasks.DelegateLogService;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.ArgumentCaptor;
+import retrofit2.Call;
+import retrofit2.Response;
 
 public class LogStreamingTaskClientTest extends CategoryTest {
   private final DelegateLogService logServiceMock = mock(DelegateLogService.class);
@@ -141,6 +148,47 @@ public class LogStreamingTaskClientTest extends CategoryTest {
     assertThat(logLines).containsExactly(logLine);
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotBlockWritersWhileLogServiceIsSlow() throws Exception {
+    CountDownLatch logServiceResponding = new CountDownLatch(1);
+    Call<Void> slowCall = mock(Call.class);
+    when(slowCall.execute()).thenAnswer(invocation -> {
+      logServiceResponding.await();
+      return Response.success(null);
+    });
+    when(logStreamingClientMock.pushMessage(any(), any(), any(), anyList())).thenReturn(slowCall);
+
+    int linesWritten = LogStreamingDispatcher.BUFFER_CAPACITY + 5000;
+    completeLogStreamingTaskClient.openStream(null);
+    for (int i = 0; i < linesWritten; i++) {
+      completeLogStreamingTaskClient.writeLogLine(
+          LogLine.builder().level(LogLevel.INFO).message("line " + i).build(), null);
+    }
+    // all lines written while the log service did not answer, now let it catch up
+    logServiceResponding.countDown();
+    completeLogStreamingTaskClient.dispatchLogs();
+
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClientMock, atLeastOnce())
+        .pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), captor.capture());
+    long linesSent = 0;
+    long linesDropped = 0;
+    for (List<LogLine> logLines : captor.getAllValues()) {
+      for (LogLine logLine : logLines) {
+        if (logLine.getLevel() == LogLevel.WARN) {
+          linesDropped += Long.parseLong(logLine.getMessage().split(" ")[0]);
+        } else {
+          linesSent++;
+        }
+      }
+      assertThat(logLines.size()).isLessThanOrEqualTo(LogStreamingDispatcher.MAX_BATCH_SIZE);
+    }
+    assertThat(linesDropped).isGreaterThan(0);
+    assertThat(linesSent + linesDropped).isEqualTo(linesWritten);
+  }
+
   @Test
   @Owner(developers = MARKO)
   @Category(UnitTests.class)
@@ -1271,11 +1271,14 @@ public class WingsApplication extends Application<MainConfiguration> {
     queueListenerController.register(
         injector.getInstance(InstanceEventListener.class), listenerConfig.getInstanceEventListenerCount());
     queueListenerController.register(injector.getInstance(DeploymentTimeSeriesEventListener.class),
-        listenerConfig.getDeploymentTimeSeriesEventListenerCount());
+        listenerConfig.getDeploymentTimeSeriesEventListenerCount(),
+        listenerConfig.getTimeSeriesEventListenerBatchSize());
     queueListenerController.register(injector.getInstance(DeploymentStepTimeSeriesEventListener.class),
-        listenerConfig.getDeploymentStepTimeSeriesEventListenerCount());
+        listenerConfig.getDeploymentStepTimeSeriesEventListenerCount(),
+        listenerConfig.getTimeSeriesEventListenerBatchSize());
     queueListenerController.register(injector.getInstance(ExecutionInterruptTimeSeriesEventListener.class),
-        listenerConfig.getExecutionInterruptTimeSeriesEventListenerCount());
+        listenerConfig.getExecutionInterruptTimeSeriesEventListenerCount(),
+        listenerConfig.getTimeSeriesEventListenerBatchSize());
     queueListenerController.register(injector.getInstance(EmailNotificationListener.class), 1);
     queueListenerController.register(
         injector.getInstance(ExecutionEventListener.class), listenerConfig.getExecutionEventListenerCount());
@@ -24,6 +24,7 @@ import software.wings.beans.DelegateTaskBroadcast;
 import software.wings.beans.PerpetualTaskBroadcastEvent;
 import software.wings.beans.ScheduleTaskBroadcast;
 import software.wings.logcontext.WebsocketLogContext;
+import software.wings.service.impl.DelegateTaskEventsLongPollService;
 import software.wings.service.intfc.DelegateService;
 import software.wings.service.intfc.DelegateTaskServiceClassic;
 
@@ -40,6 +41,22 @@ import org.jetbrains.annotations.NotNull;
 public class DelegateEventFilter extends BroadcastFilterAdapter {
   @Inject private DelegateService delegateService;
   @Inject private DelegateTaskServiceClassic delegateTaskServiceClassic;
+  @Inject private DelegateTaskEventsLongPollService delegateTaskEventsLongPollService;
+
+  /**
+   * Runs once per message on every manager that receives it from the cluster, so delegates long polling this manager
+   * are woken up for tasks broadcast by any manager.
+   */
+  @Override
+  public BroadcastAction filter(String broadcasterId, Object originalMessage, Object message) {
+    if (message instanceof DelegateTaskBroadcast) {
+      DelegateTaskBroadcast broadcast = (DelegateTaskBroadcast) message;
+      delegateTaskEventsLongPollService.wakeUp(broadcast.getAccountId(), broadcast.getBroadcastToDelegatesIds());
+    } else if (message instanceof DelegateTaskAbortEvent) {
+      delegateTaskEventsLongPollService.wakeUp(((DelegateTaskAbortEvent) message).getAccountId());
+    }
+    return continueWith(message);
+  }
 
   @Override
   public BroadcastAction filter(String broadcasterId, AtmosphereResource r, Object originalMessage, Object message) {
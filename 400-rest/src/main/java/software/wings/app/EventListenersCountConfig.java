@@ -23,6 +23,8 @@ public class EventListenersCountConfig {
   int deploymentTimeSeriesEventListenerCount;
   int executionInterruptTimeSeriesEventListenerCount;
   int deploymentStepTimeSeriesEventListenerCount;
+  // messages each time series listener thread takes per get
+  int timeSeriesEventListenerBatchSize;
   int executionEventListenerCount;
   int generalNotifyEventListenerCount;
   int orchestrationNotifyEventListenerCount;
@@ -30,6 +30,9 @@ public class ManagerExecutorModule extends AbstractModule {
     bind(ScheduledExecutorService.class)
         .annotatedWith(Names.named("delegateTaskNotifier"))
         .toInstance(new ManagedScheduledExecutorService("DelegateTaskNotifier"));
+    bind(ScheduledExecutorService.class)
+        .annotatedWith(Names.named("delegateTaskEventsLongPoll"))
+        .toInstance(new ManagedScheduledExecutorService("DelegateTaskEventsLongPoll"));
     bind(ScheduledExecutorService.class)
         .annotatedWith(Names.named("gitChangeSet"))
         .toInstance(new ManagedScheduledExecutorService("GitChangeSet"));
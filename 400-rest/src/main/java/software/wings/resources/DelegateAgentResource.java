@@ -77,6 +77,7 @@ import software.wings.delegatetasks.manifest.ManifestCollectionExecutionResponse
 import software.wings.delegatetasks.validation.core.DelegateConnectionResult;
 import software.wings.helpers.ext.url.SubdomainUrlHelperIntfc;
 import software.wings.security.annotations.Scope;
+import software.wings.service.impl.DelegateTaskEventsLongPollService;
 import software.wings.service.impl.instance.InstanceHelper;
 import software.wings.service.intfc.AccountService;
 import software.wings.service.intfc.DelegateService;
@@ -102,6 +103,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.MediaType;
@@ -135,6 +138,7 @@ public class DelegateAgentResource {
   private PollingResourceClient pollingResourceClient;
   private DelegatePollingHeartbeatService delegatePollingHeartbeatService;
   private DelegateCapacityManagementService delegateCapacityManagementService;
+  private DelegateTaskEventsLongPollService delegateTaskEventsLongPollService;
 
   @Inject
   public DelegateAgentResource(DelegateService delegateService, AccountService accountService, HPersistence persistence,
@@ -145,7 +149,8 @@ public class DelegateAgentResource {
       DelegateTaskServiceClassic delegateTaskServiceClassic, PollingResourceClient pollingResourceClient,
       InstanceSyncResponsePublisher instanceSyncResponsePublisher,
       DelegatePollingHeartbeatService delegatePollingHeartbeatService,
-      DelegateCapacityManagementService delegateCapacityManagementService) {
+      DelegateCapacityManagementService delegateCapacityManagementService,
+      DelegateTaskEventsLongPollService delegateTaskEventsLongPollService) {
     this.instanceHelper = instanceHelper;
     this.delegateService = delegateService;
     this.accountService = accountService;
@@ -162,6 +167,7 @@ public class DelegateAgentResource {
     this.instanceSyncResponsePublisher = instanceSyncResponsePublisher;
     this.delegatePollingHeartbeatService = delegatePollingHeartbeatService;
     this.delegateCapacityManagementService = delegateCapacityManagementService;
+    this.delegateTaskEventsLongPollService = delegateTaskEventsLongPollService;
   }
 
   @DelegateAuth
@@ -442,6 +448,20 @@ public class DelegateAgentResource {
     }
   }
 
+  @DelegateAuth
+  @GET
+  @Path("{delegateId}/task-events/long-poll")
+  @Timed
+  @ExceptionMetered
+  public void waitForDelegateTaskEvents(@PathParam("delegateId") @NotEmpty String delegateId,
+      @QueryParam("accountId") @NotEmpty String accountId, @QueryParam("syncOnly") boolean syncOnly,
+      @QueryParam("waitSeconds") long waitSeconds, @Suspended AsyncResponse asyncResponse) {
+    try (AutoLogContext ignore1 = new AccountLogContext(accountId, OVERRIDE_ERROR);
+         AutoLogContext ignore2 = new DelegateLogContext(delegateId, OVERRIDE_ERROR)) {
+      delegateTaskEventsLongPollService.poll(accountId, delegateId, syncOnly, waitSeconds, asyncResponse);
+    }
+  }
+
   @DelegateAuth
   @POST
   @Path("heartbeat-with-polling")
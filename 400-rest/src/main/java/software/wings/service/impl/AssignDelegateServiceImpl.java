@@ -41,6 +41,7 @@ import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.Cd1SetupFields;
 import io.harness.beans.DelegateTask;
 import io.harness.beans.DelegateTask.DelegateTaskKeys;
+import io.harness.beans.FeatureName;
 import io.harness.delegate.beans.Delegate;
 import io.harness.delegate.beans.Delegate.DelegateKeys;
 import io.harness.delegate.beans.DelegateActivity;
@@ -84,6 +85,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
@@ -94,6 +96,7 @@ import io.dropwizard.util.Lists;
 import java.nio.channels.Selector;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -204,6 +207,23 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
             }
           });
 
+  private final LoadingCache<String, DelegateEligibilityIndex> delegateEligibilityIndexCache =
+      CacheBuilder.newBuilder()
+          .maximumSize(1000)
+          .expireAfterWrite(30, TimeUnit.SECONDS)
+          .build(new CacheLoader<String, DelegateEligibilityIndex>() {
+            @Override
+            public DelegateEligibilityIndex load(String accountId) {
+              List<Delegate> delegates = getAccountDelegates(accountId)
+                                             .stream()
+                                             .map(delegate -> delegateCache.get(accountId, delegate.getUuid()))
+                                             .filter(Objects::nonNull)
+                                             .collect(toList());
+              return new DelegateEligibilityIndex(
+                  delegates, delegate -> delegateService.retrieveDelegateSelectors(delegate, true));
+            }
+          });
+
   @Override
   public boolean canAssign(String delegateId, DelegateTask task) {
     Delegate delegate = delegateCache.get(task.getAccountId(), delegateId);
@@ -1045,6 +1065,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         delegateTaskServiceClassic.addToTaskActivityLog(task, CAN_NOT_ASSIGN_OWNER);
         return eligibleDelegateIds;
       }
+      delegates = filterByEligibilityIndex(task, delegates, task.getData().getTaskType(), false);
 
       eligibleDelegateIds =
           delegates.stream()
@@ -1091,6 +1112,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         delegateTaskServiceClassic.addToTaskActivityLog(task, CAN_NOT_ASSIGN_OWNER);
         return List.of();
       }
+      delegates = filterByEligibilityIndex(task, delegates, task.getTaskDataV2().getTaskType(), true);
 
       eligibleDelegateIds = delegates.stream()
                                 .filter(delegate
@@ -1113,6 +1135,63 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return eligibleDelegateIds;
   }
 
+  /**
+   * Drops the delegates which can not take the task because of its task type or selectors, using the eligibility index
+   * of the account, and records why they were dropped the same way canAssignTask does. Delegates which are not in the
+   * index yet are kept and go through the regular checks.
+   */
+  private List<Delegate> filterByEligibilityIndex(
+      DelegateTask task, List<Delegate> delegates, String taskType, boolean taskDataV2) {
+    if (!featureFlagService.isEnabled(FeatureName.DEL_DELEGATE_ELIGIBILITY_INDEX, task.getAccountId())) {
+      return delegates;
+    }
+    DelegateEligibilityIndex eligibilityIndex;
+    try {
+      eligibilityIndex = delegateEligibilityIndexCache.get(task.getAccountId());
+    } catch (ExecutionException | UncheckedExecutionException ex) {
+      log.warn("Unable to build delegate eligibility index, falling back to per delegate checks", ex);
+      return delegates;
+    }
+
+    BitSet supportingTaskType = eligibilityIndex.getDelegatesSupportingTaskType(taskType);
+    List<SelectorCapability> selectorCapabilities = isEmpty(task.getExecutionCapabilities())
+        ? emptyList()
+        : delegateTaskServiceClassic.fetchTaskSelectorCapabilities(task.getExecutionCapabilities());
+    Set<String> selectors = selectorCapabilities.stream()
+                                .map(SelectorCapability::getSelectors)
+                                .flatMap(Collection::stream)
+                                .collect(Collectors.toSet());
+    BitSet matchingSelectors = null;
+    if (isNotEmpty(selectorCapabilities)) {
+      matchingSelectors = eligibilityIndex.getDelegatesMatchingSelectors(selectors);
+    }
+
+    List<Delegate> candidates = new ArrayList<>();
+    for (Delegate delegate : delegates) {
+      if (!eligibilityIndex.contains(delegate.getUuid())) {
+        candidates.add(delegate);
+        continue;
+      }
+      int position = eligibilityIndex.getPosition(delegate.getUuid());
+      String nonAssignableReason = null;
+      if (!supportingTaskType.get(position)) {
+        nonAssignableReason = taskDataV2 ? String.format("%s %s", taskType, CAN_NOT_ASSIGN_TASK_GROUP)
+                                         : CAN_NOT_ASSIGN_TASK_GROUP + " {" + taskType + "} ";
+      } else if (matchingSelectors != null && !matchingSelectors.get(position)) {
+        nonAssignableReason =
+            taskDataV2 ? CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP + " " + selectors : CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP;
+      }
+
+      if (nonAssignableReason == null) {
+        candidates.add(delegate);
+      } else {
+        task.getNonAssignableDelegates().putIfAbsent(nonAssignableReason, new ArrayList<>());
+        task.getNonAssignableDelegates().get(nonAssignableReason).add(eligibilityIndex.getDelegateName(position));
+      }
+    }
+    return candidates;
+  }
+
   @Override
   public List<String> getConnectedDelegateList(List<String> delegates, DelegateTask delegateTask) {
     if (isEmpty(delegates)) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.data.structure.CollectionUtils.trimmedLowercaseSet;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.Delegate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable per account snapshot of which delegates support which task type and carry which selector, with one bit
+ * per delegate. It answers the task type and selector part of delegate eligibility with bitset intersections, so the
+ * remaining per delegate checks (scopes, profile scopes) only run for delegates which can actually take the task.
+ */
+@OwnedBy(HarnessTeam.DEL)
+public class DelegateEligibilityIndex {
+  private final Map<String, Integer> positions = new HashMap<>();
+  private final List<String> delegateNames = new ArrayList<>();
+  private final Map<String, BitSet> delegatesByTaskType = new HashMap<>();
+  private final Map<String, BitSet> delegatesBySelector = new HashMap<>();
+  private final BitSet delegatesWithSelectors = new BitSet();
+
+  public DelegateEligibilityIndex(List<Delegate> delegates, Function<Delegate, Set<String>> selectorsProvider) {
+    for (Delegate delegate : delegates) {
+      int position = delegateNames.size();
+      positions.put(delegate.getUuid(), position);
+      delegateNames.add(isNotEmpty(delegate.getHostName()) ? delegate.getHostName() : delegate.getUuid());
+      if (delegate.getSupportedTaskTypes() != null) {
+        delegate.getSupportedTaskTypes().forEach(
+            taskType -> delegatesByTaskType.computeIfAbsent(taskType, key -> new BitSet()).set(position));
+      }
+      Set<String> selectors = trimmedLowercaseSet(selectorsProvider.apply(delegate));
+      if (isNotEmpty(selectors)) {
+        delegatesWithSelectors.set(position);
+        selectors.forEach(
+            selector -> delegatesBySelector.computeIfAbsent(selector, key -> new BitSet()).set(position));
+      }
+    }
+  }
+
+  public boolean contains(String delegateId) {
+    return positions.containsKey(delegateId);
+  }
+
+  public int size() {
+    return delegateNames.size();
+  }
+
+  public int getPosition(String delegateId) {
+    return positions.get(delegateId);
+  }
+
+  public String getDelegateName(int position) {
+    return delegateNames.get(position);
+  }
+
+  public BitSet getDelegatesSupportingTaskType(String taskType) {
+    BitSet delegates = taskType == null ? null : delegatesByTaskType.get(taskType);
+    return delegates == null ? new BitSet() : (BitSet) delegates.clone();
+  }
+
+  /**
+   * Delegates having selectors and carrying every one of the given selectors. Matching is done on trimmed lowercase
+   * selectors, the same way as in {@link AssignDelegateServiceImpl#canAssignSelectors}.
+   */
+  public BitSet getDelegatesMatchingSelectors(Collection<String> selectors) {
+    BitSet delegates = (BitSet) delegatesWithSelectors.clone();
+    for (String selector : trimmedLowercaseSet(selectors)) {
+      BitSet delegatesWithSelector = delegatesBySelector.get(selector);
+      if (delegatesWithSelector == null) {
+        return new BitSet();
+      }
+      delegates.and(delegatesWithSelector);
+    }
+    return delegates;
+  }
+}
@@ -8,12 +8,15 @@
 package software.wings.service.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.DEL;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_BROADCAST;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_BROADCAST_FAN_OUT;
 
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.DelegateTask;
 import io.harness.ff.FeatureFlagService;
+import io.harness.metrics.intfc.DelegateMetricsService;
 import io.harness.persistence.HPersistence;
 
 import software.wings.beans.DelegateTaskBroadcast;
@@ -37,6 +40,8 @@ public class DelegateTaskBroadcastHelper {
   @Inject private HPersistence persistence;
   @Inject private ExecutorService executorService;
   @Inject private FeatureFlagService featureFlagService;
+  @Inject private DelegateMetricsService delegateMetricsService;
+  @Inject private DelegateTaskEventsLongPollService delegateTaskEventsLongPollService;
 
   public void broadcastNewDelegateTaskAsync(DelegateTask task) {
     executorService.submit(() -> {
@@ -74,6 +79,8 @@ public class DelegateTaskBroadcastHelper {
 
     Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + delegateTask.getAccountId(), true);
     broadcaster.broadcast(delegateTaskBroadcast);
+    recordBroadcastMetrics(delegateTask);
+    delegateTaskEventsLongPollService.wakeUp(delegateTask.getAccountId(), delegateTask.getBroadcastToDelegateIds());
   }
 
   public void rebroadcastDelegateTaskV2(DelegateTask delegateTask) {
@@ -92,5 +99,13 @@ public class DelegateTaskBroadcastHelper {
 
     Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + delegateTask.getAccountId(), true);
     broadcaster.broadcast(delegateTaskBroadcast);
+    recordBroadcastMetrics(delegateTask);
+    delegateTaskEventsLongPollService.wakeUp(delegateTask.getAccountId(), delegateTask.getBroadcastToDelegateIds());
+  }
+
+  private void recordBroadcastMetrics(DelegateTask delegateTask) {
+    delegateMetricsService.recordDelegateTaskMetrics(delegateTask.getAccountId(), DELEGATE_TASK_BROADCAST);
+    delegateMetricsService.recordDelegateTaskMetrics(delegateTask.getAccountId(), DELEGATE_TASK_BROADCAST_FAN_OUT,
+        delegateTask.getBroadcastToDelegateIds() == null ? 0 : delegateTask.getBroadcastToDelegateIds().size());
   }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.DelegateTaskEventsResponse;
+import io.harness.delegate.beans.DelegateTaskEvent;
+
+import software.wings.service.intfc.DelegateTaskServiceClassic;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.AsyncResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds task event requests of polling delegates until there is something for them, instead of answering right away
+ * with nothing. A waiting request is checked again when a task broadcast to its delegate or an abort for its account
+ * reaches this manager, see {@link io.harness.stream.DelegateEventFilter}. Managers that have no websocket delegates of
+ * the account are not subscribed to its broadcasts, so waiting requests are also rechecked every
+ * {@link #RECHECK_INTERVAL_MILLIS}.
+ */
+@Singleton
+@Slf4j
+@OwnedBy(DEL)
+public class DelegateTaskEventsLongPollService {
+  @VisibleForTesting static final long MAX_WAIT_SECONDS = 30;
+  @VisibleForTesting static final long RECHECK_INTERVAL_MILLIS = 3000;
+
+  @Inject private Provider<DelegateTaskServiceClassic> delegateTaskServiceClassic;
+  @Inject private ExecutorService executorService;
+  @Inject @Named("delegateTaskEventsLongPoll") private ScheduledExecutorService delegateTaskEventsLongPoll;
+
+  private final ConcurrentMap<String, Set<Waiter>> waitersByAccount = new ConcurrentHashMap<>();
+
+  /**
+   * Resumes the response with the task events of the delegate as soon as there are some, or with no events once the
+   * wait time has passed.
+   */
+  public void poll(String accountId, String delegateId, boolean syncOnly, long waitSeconds, AsyncResponse response) {
+    long waitMillis = TimeUnit.SECONDS.toMillis(Math.max(0, Math.min(waitSeconds, MAX_WAIT_SECONDS)));
+    Waiter waiter = new Waiter(accountId, delegateId, syncOnly, System.currentTimeMillis() + waitMillis, response);
+    waitersByAccount.compute(accountId, (key, waiters) -> {
+      if (waiters == null) {
+        waiters = ConcurrentHashMap.newKeySet();
+      }
+      waiters.add(waiter);
+      return waiters;
+    });
+    waiter.wakeUp();
+  }
+
+  /**
+   * Lets every request waiting for the account look for its task events again.
+   */
+  public void wakeUp(String accountId) {
+    Set<Waiter> waiters = waitersByAccount.get(accountId);
+    if (isNotEmpty(waiters)) {
+      waiters.forEach(Waiter::wakeUp);
+    }
+  }
+
+  /**
+   * Lets the requests of the given delegates of the account look for their task events again.
+   */
+  public void wakeUp(String accountId, Collection<String> delegateIds) {
+    Set<Waiter> waiters = waitersByAccount.get(accountId);
+    if (isNotEmpty(waiters) && isNotEmpty(delegateIds)) {
+      waiters.stream().filter(waiter -> delegateIds.contains(waiter.delegateId)).forEach(Waiter::wakeUp);
+    }
+  }
+
+  @VisibleForTesting
+  int getWaitingCount(String accountId) {
+    Set<Waiter> waiters = waitersByAccount.get(accountId);
+    return waiters == null ? 0 : waiters.size();
+  }
+
+  private void remove(Waiter waiter) {
+    waitersByAccount.computeIfPresent(waiter.accountId, (key, waiters) -> {
+      waiters.remove(waiter);
+      return waiters.isEmpty() ? null : waiters;
+    });
+  }
+
+  private class Waiter {
+    private final String accountId;
+    private final String delegateId;
+    private final boolean syncOnly;
+    private final long deadline;
+    private final AsyncResponse response;
+
+    private boolean checking;
+    private boolean wakeUpPending;
+    private boolean done;
+    private ScheduledFuture<?> recheck;
+
+    Waiter(String accountId, String delegateId, boolean syncOnly, long deadline, AsyncResponse response) {
+      this.accountId = accountId;
+      this.delegateId = delegateId;
+      this.syncOnly = syncOnly;
+      this.deadline = deadline;
+      this.response = response;
+    }
+
+    void wakeUp() {
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+        // a check is already running, it will run once more instead of running twice at the same time
+        if (checking) {
+          wakeUpPending = true;
+          return;
+        }
+        checking = true;
+        if (recheck != null) {
+          recheck.cancel(false);
+          recheck = null;
+        }
+      }
+      executorService.submit(this::check);
+    }
+
+    private void check() {
+      List<DelegateTaskEvent> events;
+      try {
+        events = delegateTaskServiceClassic.get().getDelegateTaskEvents(accountId, delegateId, syncOnly);
+      } catch (Exception e) {
+        log.error("Failed to get task events for delegate {}", delegateId, e);
+        finish();
+        response.resume(e);
+        return;
+      }
+
+      long remaining = deadline - System.currentTimeMillis();
+      if (isNotEmpty(events) || remaining <= 0 || response.isDone()) {
+        finish();
+        response.resume(DelegateTaskEventsResponse.builder().delegateTaskEvents(events).build());
+        return;
+      }
+
+      boolean checkAgain;
+      synchronized (this) {
+        checking = false;
+        checkAgain = wakeUpPending;
+        wakeUpPending = false;
+        if (!checkAgain) {
+          recheck = delegateTaskEventsLongPoll.schedule(
+              this::wakeUp, Math.min(RECHECK_INTERVAL_MILLIS, remaining), TimeUnit.MILLISECONDS);
+        }
+      }
+      if (checkAgain) {
+        wakeUp();
+      }
+    }
+
+    private void finish() {
+      synchronized (this) {
+        done = true;
+        checking = false;
+      }
+      remove(this);
+    }
+  }
+}
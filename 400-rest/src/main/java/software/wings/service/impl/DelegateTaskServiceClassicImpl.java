@@ -29,6 +29,7 @@ import static io.harness.govern.Switch.noop;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_NESTS;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE_COLLISION;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE_FAILED;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_CREATION;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_EXPIRED;
@@ -267,6 +268,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   @Inject private ArtifactCollectionUtils artifactCollectionUtils;
   @Inject private PersistentLocker persistentLocker;
   @Inject private DelegateTaskBroadcastHelper broadcastHelper;
+  @Inject private DelegateTaskEventsLongPollService delegateTaskEventsLongPollService;
   @Inject private AuditServiceHelper auditServiceHelper;
   @Inject private SubdomainUrlHelperIntfc subdomainUrlHelper;
   @Inject private ConfigurationController configurationController;
@@ -1013,6 +1015,8 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
       log.debug("Acquiring delegate task");
       DelegateTask delegateTask = getUnassignedDelegateTask(accountId, taskId, delegateInstanceId);
       if (delegateTask == null) {
+        // already taken by another delegate, or no longer there
+        delegateMetricsService.recordDelegateTaskMetrics(accountId, DELEGATE_TASK_ACQUIRE_COLLISION);
         return DelegateTaskPackage.builder().build();
       }
 
@@ -1549,6 +1553,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
                .get();
     if (task == null) {
       log.debug("Task no longer available for delegate");
+      delegateMetricsService.recordDelegateTaskMetrics(delegateTask.getAccountId(), DELEGATE_TASK_ACQUIRE_COLLISION);
       return null;
     }
 
@@ -1647,6 +1652,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
       failDelegateTaskIteratorHelper.logValidationFailedErrorsInSelectionLog(oldTask);
       broadcasterFactory.lookup(STREAM_DELEGATE + accountId, true)
           .broadcast(aDelegateTaskAbortEvent().withAccountId(accountId).withDelegateTaskId(delegateTaskId).build());
+      delegateTaskEventsLongPollService.wakeUp(accountId);
     }
     return oldTask;
   }
@@ -88,6 +88,7 @@ import software.wings.delegatetasks.validation.core.DelegateConnectionResult;
 import software.wings.dl.WingsPersistence;
 import software.wings.exception.WingsExceptionMapper;
 import software.wings.helpers.ext.url.SubdomainUrlHelperIntfc;
+import software.wings.service.impl.DelegateTaskEventsLongPollService;
 import software.wings.service.impl.instance.InstanceHelper;
 import software.wings.service.intfc.AccountService;
 import software.wings.service.intfc.DelegateService;
@@ -152,6 +153,8 @@ public class DelegateAgentResourceTest extends CategoryTest {
   private static final PollingResourceClient pollResourceClient = mock(PollingResourceClient.class);
   private static final DelegatePollingHeartbeatService delegatePollingHeartbeatService =
       mock(DelegatePollingHeartbeatService.class);
+  private static final DelegateTaskEventsLongPollService delegateTaskEventsLongPollService =
+      mock(DelegateTaskEventsLongPollService.class);
 
   @Parameter public String apiUrl;
 
@@ -167,7 +170,7 @@ public class DelegateAgentResourceTest extends CategoryTest {
               artifactCollectionResponseHandler, instanceSyncResponseHandler, manifestCollectionResponseHandler,
               connectorHearbeatPublisher, kryoSerializer, configurationController, featureFlagService,
               delegateTaskServiceClassic, pollResourceClient, instanceSyncResponsePublisher,
-              delegatePollingHeartbeatService, delegateCapacityManagementService))
+              delegatePollingHeartbeatService, delegateCapacityManagementService, delegateTaskEventsLongPollService))
           .instance(new AbstractBinder() {
             @Override
             protected void configure() {
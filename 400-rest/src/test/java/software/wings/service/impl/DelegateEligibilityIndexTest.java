@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.Delegate;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class DelegateEligibilityIndexTest extends CategoryTest {
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testTaskTypeAndSelectorMatching() {
+    Delegate first = Delegate.builder()
+                         .uuid("d1")
+                         .hostName("host1")
+                         .supportedTaskTypes(Arrays.asList("HTTP", "SHELL_SCRIPT_TASK_NG"))
+                         .build();
+    Delegate second = Delegate.builder().uuid("d2").supportedTaskTypes(Collections.singletonList("HTTP")).build();
+    Delegate third = Delegate.builder().uuid("d3").build();
+    Map<String, Set<String>> selectors =
+        ImmutableMap.of("d1", ImmutableSet.of(" K8s ", "prod"), "d2", ImmutableSet.of("k8s"), "d3", ImmutableSet.of());
+
+    DelegateEligibilityIndex index = new DelegateEligibilityIndex(
+        Arrays.asList(first, second, third), delegate -> selectors.get(delegate.getUuid()));
+
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.contains("d4")).isFalse();
+    assertThat(index.getDelegateName(index.getPosition("d1"))).isEqualTo("host1");
+    assertThat(index.getDelegateName(index.getPosition("d2"))).isEqualTo("d2");
+
+    assertThat(positions(index.getDelegatesSupportingTaskType("HTTP"))).containsExactly(0, 1);
+    assertThat(positions(index.getDelegatesSupportingTaskType("SHELL_SCRIPT_TASK_NG"))).containsExactly(0);
+    assertThat(index.getDelegatesSupportingTaskType("UNKNOWN").isEmpty()).isTrue();
+    assertThat(index.getDelegatesSupportingTaskType(null).isEmpty()).isTrue();
+
+    assertThat(positions(index.getDelegatesMatchingSelectors(ImmutableSet.of("K8S")))).containsExactly(0, 1);
+    assertThat(positions(index.getDelegatesMatchingSelectors(ImmutableSet.of("k8s", "prod")))).containsExactly(0);
+    assertThat(index.getDelegatesMatchingSelectors(ImmutableSet.of("k8s", "dev")).isEmpty()).isTrue();
+    // a selector requirement with nothing in it still needs a delegate with selectors, like canAssignSelectors
+    assertThat(positions(index.getDelegatesMatchingSelectors(ImmutableSet.of()))).containsExactly(0, 1);
+  }
+
+  private static int[] positions(BitSet bitSet) {
+    return bitSet.stream().toArray();
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.delegate.beans.DelegateTaskEvent.DelegateTaskEventBuilder.aDelegateTaskEvent;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.beans.DelegateTaskEventsResponse;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.DelegateTaskEvent;
+import io.harness.rule.Owner;
+import io.harness.stream.DelegateEventFilter;
+
+import software.wings.beans.DelegateTaskBroadcast;
+import software.wings.service.intfc.DelegateTaskServiceClassic;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.inject.Provider;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.AsyncResponse;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class DelegateTaskEventsLongPollServiceTest extends CategoryTest {
+  private static final String ACCOUNT_ID = generateUuid();
+  private static final String DELEGATE_ID = generateUuid();
+
+  private final DelegateTaskServiceClassic delegateTaskServiceClassic = mock(DelegateTaskServiceClassic.class);
+  private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+  private final ScheduledFuture<?> recheck = mock(ScheduledFuture.class);
+  private final DelegateTaskEventsLongPollService longPollService = new DelegateTaskEventsLongPollService();
+
+  @Before
+  public void setUp() throws IllegalAccessException {
+    Provider<DelegateTaskServiceClassic> provider = () -> delegateTaskServiceClassic;
+    FieldUtils.writeField(longPollService, "delegateTaskServiceClassic", provider, true);
+    FieldUtils.writeField(longPollService, "executorService", MoreExecutors.newDirectExecutorService(), true);
+    FieldUtils.writeField(longPollService, "delegateTaskEventsLongPoll", scheduler, true);
+    doReturn(recheck).when(scheduler).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAnswerRightAwayWhenThereAreEvents() {
+    List<DelegateTaskEvent> events = Collections.singletonList(taskEvent());
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false)).thenReturn(events);
+    AsyncResponse response = mock(AsyncResponse.class);
+
+    longPollService.poll(ACCOUNT_ID, DELEGATE_ID, false, 20, response);
+
+    assertThat(resumedEvents(response)).isEqualTo(events);
+    assertThat(longPollService.getWaitingCount(ACCOUNT_ID)).isZero();
+    verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAnswerOnWakeUpOnceEventsShowUp() {
+    List<DelegateTaskEvent> events = Collections.singletonList(taskEvent());
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(Collections.emptyList())
+        .thenReturn(events);
+    AsyncResponse response = mock(AsyncResponse.class);
+
+    longPollService.poll(ACCOUNT_ID, DELEGATE_ID, false, 20, response);
+
+    verify(response, never()).resume(any(Object.class));
+    verify(scheduler).schedule(any(Runnable.class),
+        eq(DelegateTaskEventsLongPollService.RECHECK_INTERVAL_MILLIS), eq(TimeUnit.MILLISECONDS));
+    assertThat(longPollService.getWaitingCount(ACCOUNT_ID)).isEqualTo(1);
+
+    longPollService.wakeUp(generateUuid());
+    longPollService.wakeUp(ACCOUNT_ID, Collections.singletonList(generateUuid()));
+    verify(response, never()).resume(any(Object.class));
+
+    longPollService.wakeUp(ACCOUNT_ID, Collections.singletonList(DELEGATE_ID));
+    verify(recheck).cancel(false);
+    assertThat(resumedEvents(response)).isEqualTo(events);
+    assertThat(longPollService.getWaitingCount(ACCOUNT_ID)).isZero();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAnswerOnAccountWakeUp() {
+    List<DelegateTaskEvent> events = Collections.singletonList(taskEvent());
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(Collections.emptyList())
+        .thenReturn(events);
+    AsyncResponse response = mock(AsyncResponse.class);
+
+    longPollService.poll(ACCOUNT_ID, DELEGATE_ID, false, 20, response);
+    longPollService.wakeUp(ACCOUNT_ID);
+
+    assertThat(resumedEvents(response)).isEqualTo(events);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAnswerOnBroadcastReceivedFromAnotherManager() throws IllegalAccessException {
+    List<DelegateTaskEvent> events = Collections.singletonList(taskEvent());
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(Collections.emptyList())
+        .thenReturn(events);
+    AsyncResponse response = mock(AsyncResponse.class);
+    DelegateEventFilter delegateEventFilter = new DelegateEventFilter();
+    FieldUtils.writeField(delegateEventFilter, "delegateTaskEventsLongPollService", longPollService, true);
+    DelegateTaskBroadcast broadcast = DelegateTaskBroadcast.builder()
+                                          .accountId(ACCOUNT_ID)
+                                          .taskId(generateUuid())
+                                          .broadcastToDelegatesIds(Collections.singletonList(DELEGATE_ID))
+                                          .build();
+
+    longPollService.poll(ACCOUNT_ID, DELEGATE_ID, false, 20, response);
+    verify(response, never()).resume(any(Object.class));
+
+    delegateEventFilter.filter(ACCOUNT_ID, broadcast, broadcast);
+
+    assertThat(resumedEvents(response)).isEqualTo(events);
+    assertThat(longPollService.getWaitingCount(ACCOUNT_ID)).isZero();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldRecheckUntilDeadline() {
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, true))
+        .thenReturn(Collections.emptyList());
+    AsyncResponse response = mock(AsyncResponse.class);
+
+    longPollService.poll(ACCOUNT_ID, DELEGATE_ID, true, 20, response);
+
+    ArgumentCaptor<Runnable> recheckCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(recheckCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    recheckCaptor.getValue().run();
+    verify(delegateTaskServiceClassic, times(2)).getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, true);
+    verify(response, never()).resume(any(Object.class));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAnswerWithoutEventsWhenNotWaiting() {
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(Collections.emptyList());
+    AsyncResponse response = mock(AsyncResponse.class);
+
+    longPollService.poll(ACCOUNT_ID, DELEGATE_ID, false, 0, response);
+
+    assertThat(resumedEvents(response)).isEmpty();
+    assertThat(longPollService.getWaitingCount(ACCOUNT_ID)).isZero();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldResumeWithFailure() {
+    RuntimeException failure = new RuntimeException("mongo is down");
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false)).thenThrow(failure);
+    AsyncResponse response = mock(AsyncResponse.class);
+
+    longPollService.poll(ACCOUNT_ID, DELEGATE_ID, false, 20, response);
+
+    verify(response).resume(failure);
+    assertThat(longPollService.getWaitingCount(ACCOUNT_ID)).isZero();
+  }
+
+  private static DelegateTaskEvent taskEvent() {
+    return aDelegateTaskEvent().withAccountId(ACCOUNT_ID).withDelegateTaskId(generateUuid()).build();
+  }
+
+  private static List<DelegateTaskEvent> resumedEvents(AsyncResponse response) {
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    verify(response).resume(captor.capture());
+    assertThat(captor.getValue()).isInstanceOf(DelegateTaskEventsResponse.class);
+    return ((DelegateTaskEventsResponse) captor.getValue()).getDelegateTaskEvents();
+  }
+}
@@ -134,6 +134,10 @@ public interface DelegateAgentManagerClient {
   Call<DelegateTaskEventsResponse> pollTaskEvents(
       @Path("delegateId") String delegateId, @Query("accountId") String accountId);
 
+  @GET("agent/delegates/{delegateId}/task-events/long-poll")
+  Call<DelegateTaskEventsResponse> waitForTaskEvents(@Path("delegateId") String delegateId,
+      @Query("accountId") String accountId, @Query("waitSeconds") long waitSeconds);
+
   @POST("instancesync/instance-sync/{perpetualTaskId}")
   Call<RestResponse<Boolean>> publishInstanceSyncResult(@Path("perpetualTaskId") String perpetualTaskId,
       @Query("accountId") String accountId, @Body DelegateResponseData responseData);
@@ -37,6 +37,9 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
   public static final String DELEGATE_TASK_EXPIRED = "delegate_task_expired";
   public static final String DELEGATE_TASK_ACQUIRE_LIMIT_EXCEEDED = "delegate_task_acquire_limit_exceeded";
   public static final String DELEGATE_TASK_REBROADCAST = "delegate_task_rebroadcast";
+  public static final String DELEGATE_TASK_BROADCAST = "delegate_task_broadcast";
+  public static final String DELEGATE_TASK_BROADCAST_FAN_OUT = "delegate_task_broadcast_fan_out";
+  public static final String DELEGATE_TASK_ACQUIRE_COLLISION = "delegate_task_acquire_collision";
   public static final String DELEGATE_TASK_VALIDATION = "delegate_task_validation";
   public static final String DELEGATE_TASK_NO_FIRST_WHITELISTED = "delegate_task_no_first_whitelisted";
   public static final String DELEGATE_REGISTRATION_FAILED = "delegate_registration_failed";
@@ -97,6 +100,13 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
     }
   }
 
+  @Override
+  public void recordDelegateTaskMetrics(String accountId, String metricName, double value) {
+    try (DelegateAccountMetricContext ignore = new DelegateAccountMetricContext(accountId)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+
   @Override
   public void recordDelegateTaskResponseMetrics(
       DelegateTask delegateTask, DelegateTaskResponse response, String metricName) {
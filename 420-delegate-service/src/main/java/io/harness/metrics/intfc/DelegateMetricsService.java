@@ -16,6 +16,8 @@ public interface DelegateMetricsService {
 
   void recordDelegateTaskMetrics(String accountId, String metricName);
 
+  void recordDelegateTaskMetrics(String accountId, String metricName, double value);
+
   void recordDelegateTaskResponseMetrics(DelegateTask delegateTask, DelegateTaskResponse response, String metricName);
 
   void recordDelegateMetrics(Delegate delegate, String metricName);
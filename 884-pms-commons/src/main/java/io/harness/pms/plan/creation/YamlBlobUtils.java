@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.plan.creation;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.data.structure.EmptyPredicate;
+import io.harness.pms.contracts.plan.Dependencies;
+
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Yaml of plan and filter creation requests can be referred to by its hash, so that the sdk services which already
+ * got it do not receive the whole pipeline again with every batch of dependencies.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@UtilityClass
+public class YamlBlobUtils {
+  public String hash(String yaml) {
+    return Hashing.sha256().hashString(yaml, StandardCharsets.UTF_8).toString();
+  }
+
+  public boolean isReferencedByHash(Dependencies dependencies) {
+    return dependencies != null && EmptyPredicate.isNotEmpty(dependencies.getYamlHash());
+  }
+
+  public Dependencies withYamlHash(Dependencies dependencies, String yamlHash) {
+    return dependencies.toBuilder().setYamlHash(yamlHash).build();
+  }
+
+  public Dependencies withoutYaml(Dependencies dependencies, String yamlHash) {
+    return dependencies.toBuilder().clearYaml().setYamlHash(yamlHash).build();
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import java.io.IOException;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+/**
+ * Gzip encodes request bodies big enough for it to pay off, i.e. the log lines pushed to the log service.
+ */
+class GzipRequestInterceptor implements Interceptor {
+  private static final long MIN_COMPRESSED_SIZE = 1024;
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    RequestBody body = request.body();
+    if (body == null || request.header("Content-Encoding") != null) {
+      return chain.proceed(request);
+    }
+
+    Buffer uncompressed = new Buffer();
+    body.writeTo(uncompressed);
+    if (uncompressed.size() < MIN_COMPRESSED_SIZE) {
+      return chain.proceed(request);
+    }
+
+    Buffer compressed = new Buffer();
+    try (BufferedSink gzipSink = Okio.buffer(new GzipSink(compressed))) {
+      gzipSink.writeAll(uncompressed);
+    }
+    RequestBody compressedBody = RequestBody.create(body.contentType(), compressed.readByteString());
+    return chain.proceed(
+        request.newBuilder().header("Content-Encoding", "gzip").method(request.method(), compressedBody).build());
+  }
+}
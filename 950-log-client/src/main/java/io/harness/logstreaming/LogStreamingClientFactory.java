@@ -42,13 +42,21 @@ public class LogStreamingClientFactory implements Provider<LogStreamingClient> {
   private final String clientCertificateFilePath;
   private final String clientCertificateKeyFilePath;
   private final boolean trustAllCertificates;
+  private final boolean compressionEnabled;
 
   public LogStreamingClientFactory(String logStreamingServiceBaseUrl, String clientCertificateFilePath,
       String clientCertificateKeyFilePath, boolean trustAllCertificates) {
+    this(logStreamingServiceBaseUrl, clientCertificateFilePath, clientCertificateKeyFilePath, trustAllCertificates,
+        false);
+  }
+
+  public LogStreamingClientFactory(String logStreamingServiceBaseUrl, String clientCertificateFilePath,
+      String clientCertificateKeyFilePath, boolean trustAllCertificates, boolean compressionEnabled) {
     this.logStreamingServiceBaseUrl = logStreamingServiceBaseUrl;
     this.clientCertificateFilePath = clientCertificateFilePath;
     this.clientCertificateKeyFilePath = clientCertificateKeyFilePath;
     this.trustAllCertificates = trustAllCertificates;
+    this.compressionEnabled = compressionEnabled;
     if (StringUtils.isEmpty(logStreamingServiceBaseUrl)) {
       log.warn("The property logStreamingServiceBaseUrl is missing or empty");
     }
@@ -112,12 +120,15 @@ public class LogStreamingClientFactory implements Provider<LogStreamingClient> {
 
     SSLContext sslContext = sslContextBuilder.build();
 
-    return Http.getOkHttpClientWithProxyAuthSetup()
-        .connectionPool(new ConnectionPool())
-        .connectTimeout(5, TimeUnit.SECONDS)
-        .readTimeout(10, TimeUnit.SECONDS)
-        .retryOnConnectionFailure(true)
-        .sslSocketFactory(sslContext.getSocketFactory(), trustManager)
-        .build();
+    OkHttpClient.Builder builder = Http.getOkHttpClientWithProxyAuthSetup()
+                                       .connectionPool(new ConnectionPool())
+                                       .connectTimeout(5, TimeUnit.SECONDS)
+                                       .readTimeout(10, TimeUnit.SECONDS)
+                                       .retryOnConnectionFailure(true)
+                                       .sslSocketFactory(sslContext.getSocketFactory(), trustManager);
+    if (compressionEnabled) {
+      builder.addInterceptor(new GzipRequestInterceptor());
+    }
+    return builder.build();
   }
 }
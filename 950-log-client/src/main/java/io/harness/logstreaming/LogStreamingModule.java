@@ -15,20 +15,29 @@ public class LogStreamingModule extends AbstractModule {
   private final String clientCertificateFilePath;
   private final String clientCertificateKeyFilePath;
   private final boolean trustAllCertificates;
+  private final boolean compressionEnabled;
 
   public LogStreamingModule(String logStreamingServiceBaseUrl) {
     this.logStreamingServiceBaseUrl = logStreamingServiceBaseUrl;
     this.clientCertificateFilePath = null;
     this.clientCertificateKeyFilePath = null;
     this.trustAllCertificates = false;
+    this.compressionEnabled = false;
   }
 
   public LogStreamingModule(String logStreamingServiceBaseUrl, String clientCertificateFilePath,
       String clientCertificateKeyFilePath, boolean trustAllCertificates) {
+    this(logStreamingServiceBaseUrl, clientCertificateFilePath, clientCertificateKeyFilePath, trustAllCertificates,
+        false);
+  }
+
+  public LogStreamingModule(String logStreamingServiceBaseUrl, String clientCertificateFilePath,
+      String clientCertificateKeyFilePath, boolean trustAllCertificates, boolean compressionEnabled) {
     this.logStreamingServiceBaseUrl = logStreamingServiceBaseUrl;
     this.clientCertificateFilePath = clientCertificateFilePath;
     this.clientCertificateKeyFilePath = clientCertificateKeyFilePath;
     this.trustAllCertificates = trustAllCertificates;
+    this.compressionEnabled = compressionEnabled;
   }
 
   @Override
@@ -36,6 +45,6 @@ public class LogStreamingModule extends AbstractModule {
   protected void configure() {
     bind(LogStreamingClient.class)
         .toProvider(new LogStreamingClientFactory(this.logStreamingServiceBaseUrl, this.clientCertificateFilePath,
-            this.clientCertificateKeyFilePath, this.trustAllCertificates));
+            this.clientCertificateKeyFilePath, this.trustAllCertificates, this.compressionEnabled));
   }
 }
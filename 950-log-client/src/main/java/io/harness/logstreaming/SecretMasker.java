@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Replaces every occurrence of any of a set of secrets with a mask, in a single pass over the text regardless of the
+ * number of secrets (Aho-Corasick automaton built once for the set).
+ *
+ * Occurrences are replaced left to right without overlapping, like {@link
+ * org.apache.commons.lang3.StringUtils#replaceEach}. When several secrets start at the same position the longest one
+ * is replaced.
+ */
+class SecretMasker {
+  private final Node root = new Node(0);
+  private final String mask;
+  private final boolean empty;
+
+  SecretMasker(Collection<String> secrets, String mask) {
+    this.mask = mask;
+    boolean anySecret = false;
+    if (secrets != null) {
+      for (String secret : secrets) {
+        if (!isEmpty(secret)) {
+          add(secret);
+          anySecret = true;
+        }
+      }
+    }
+    this.empty = !anySecret;
+    build();
+  }
+
+  boolean hasSecrets() {
+    return !empty;
+  }
+
+  String mask(String text) {
+    if (empty || isEmpty(text)) {
+      return text;
+    }
+    StringBuilder masked = null;
+    int copied = 0;
+    int matchStart = -1;
+    int matchEnd = -1;
+    Node state = root;
+    int index = 0;
+    while (index < text.length() || matchStart >= 0) {
+      if (index < text.length()) {
+        state = next(state, text.charAt(index++));
+        // the longest secret ending here is the one starting first
+        Node match = state.terminal ? state : state.dictionary;
+        if (match != null && (matchStart < 0 || index - match.depth <= matchStart)) {
+          matchStart = index - match.depth;
+          matchEnd = index;
+        }
+        // a longer secret starting at or before the match start may still come
+        if (matchStart < 0 || index - state.depth <= matchStart) {
+          continue;
+        }
+      }
+      if (masked == null) {
+        masked = new StringBuilder(text.length());
+      }
+      masked.append(text, copied, matchStart).append(mask);
+      copied = matchEnd;
+      // secrets overlapping the masked one are skipped, look again from its end
+      index = matchEnd;
+      matchStart = -1;
+      state = root;
+    }
+    return masked == null ? text : masked.append(text, copied, text.length()).toString();
+  }
+
+  private Node next(Node state, char c) {
+    for (Node node = state; node != null; node = node.fail) {
+      Node child = node.child(c);
+      if (child != null) {
+        return child;
+      }
+    }
+    return root;
+  }
+
+  private void add(String secret) {
+    Node node = root;
+    for (int i = 0; i < secret.length(); i++) {
+      int depth = i + 1;
+      node = node.building.computeIfAbsent(secret.charAt(i), key -> new Node(depth));
+    }
+    node.terminal = true;
+  }
+
+  private void build() {
+    Deque<Node> queue = new ArrayDeque<>();
+    root.freeze();
+    for (Node child : root.children) {
+      child.fail = root;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      Node node = queue.poll();
+      node.freeze();
+      for (int i = 0; i < node.keys.length; i++) {
+        Node child = node.children[i];
+        child.fail = next(node.fail, node.keys[i]);
+        child.dictionary = child.fail.terminal ? child.fail : child.fail.dictionary;
+        queue.add(child);
+      }
+    }
+  }
+
+  private static class Node {
+    private final int depth;
+    private Map<Character, Node> building = new TreeMap<>();
+    private char[] keys;
+    private Node[] children;
+    private boolean terminal;
+    // longest proper suffix which is a trie node
+    private Node fail;
+    // longest proper suffix which is a secret
+    private Node dictionary;
+
+    Node(int depth) {
+      this.depth = depth;
+    }
+
+    void freeze() {
+      keys = new char[building.size()];
+      children = new Node[building.size()];
+      int i = 0;
+      for (Map.Entry<Character, Node> entry : building.entrySet()) {
+        keys[i] = entry.getKey();
+        children[i++] = entry.getValue();
+      }
+      building = null;
+    }
+
+    Node child(char c) {
+      int index = Arrays.binarySearch(keys, c);
+      return index < 0 ? null : children[index];
+    }
+  }
+}
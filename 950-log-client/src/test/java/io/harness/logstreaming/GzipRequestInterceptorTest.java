@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.io.IOException;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.GzipSource;
+import okio.Okio;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class GzipRequestInterceptorTest extends CategoryTest {
+  private static final MediaType JSON = MediaType.parse("application/json");
+
+  private final GzipRequestInterceptor interceptor = new GzipRequestInterceptor();
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldCompressBigBodies() throws IOException {
+    String content = StringUtils.repeat("{\"message\":\"log line\"}", 200);
+
+    Request proceeded = intercept(request(content));
+
+    assertThat(proceeded.header("Content-Encoding")).isEqualTo("gzip");
+    assertThat(proceeded.body().contentType()).isEqualTo(JSON);
+    assertThat(proceeded.body().contentLength()).isLessThan(content.length());
+    Buffer compressed = new Buffer();
+    proceeded.body().writeTo(compressed);
+    assertThat(Okio.buffer(new GzipSource(compressed)).readUtf8()).isEqualTo(content);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldLeaveSmallAndEncodedBodiesAlone() throws IOException {
+    Request small = request("{\"message\":\"log line\"}");
+    assertThat(intercept(small)).isSameAs(small);
+
+    Request encoded = request(StringUtils.repeat("x", 2000)).newBuilder().header("Content-Encoding", "br").build();
+    assertThat(intercept(encoded)).isSameAs(encoded);
+
+    Request withoutBody = new Request.Builder().url("http://localhost/stream").build();
+    assertThat(intercept(withoutBody)).isSameAs(withoutBody);
+  }
+
+  private Request intercept(Request request) throws IOException {
+    Interceptor.Chain chain = mock(Interceptor.Chain.class);
+    when(chain.request()).thenReturn(request);
+    interceptor.intercept(chain);
+    ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+    verify(chain).proceed(captor.capture());
+    return captor.getValue();
+  }
+
+  private static Request request(String content) {
+    return new Request.Builder().url("http://localhost/stream").post(RequestBody.create(JSON, content)).build();
+  }
+}
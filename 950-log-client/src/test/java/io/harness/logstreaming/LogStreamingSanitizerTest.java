@@ -12,18 +12,31 @@ import static io.harness.rule.OwnerRule.GAURAV;
 import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.TEJAS;
 
+import static org.apache.commons.lang3.StringUtils.replaceEach;
+
 import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
 import io.harness.category.element.UnitTests;
+import io.harness.logging.LogSanitizerHelper;
 import io.harness.rule.Owner;
 
 import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Assertions;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+@Slf4j
 public class LogStreamingSanitizerTest extends CategoryTest {
+  private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789\"'-_ ";
+
   @Test
   @Owner(developers = MARKO)
   @Category(UnitTests.class)
@@ -112,4 +125,129 @@ public class LogStreamingSanitizerTest extends CategoryTest {
     logSanitizer.sanitizeLogMessage(logLine);
     Assertions.assertThat(logLine.getMessage()).isNull();
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldMaskLikeReplaceEach() {
+    Random random = new Random(42);
+    for (int secretCount : new int[] {1, 10, 100, 1000}) {
+      Set<String> secrets = randomSecrets(random, secretCount);
+      LogStreamingSanitizer logSanitizer = LogStreamingSanitizer.builder().secrets(secrets).build();
+      for (int i = 0; i < 200; i++) {
+        String message = randomMessage(random, new ArrayList<>(secrets));
+        LogLine logLine = LogLine.builder().message(message).build();
+        logSanitizer.sanitizeLogMessage(logLine);
+        Assertions.assertThat(logLine.getMessage()).isEqualTo(replaceEachSanitize(message, secrets));
+      }
+    }
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldMaskLongestSecretStartingAtSamePosition() {
+    Set<String> secrets = ImmutableSet.of("pass", "password", "word123", "ord");
+    LogStreamingSanitizer logSanitizer = LogStreamingSanitizer.builder().secrets(secrets).build();
+
+    LogLine logLine = LogLine.builder().message("password123 pass passwor word123").build();
+    logSanitizer.sanitizeLogMessage(logLine);
+
+    Assertions.assertThat(logLine.getMessage())
+        .isEqualTo(SECRET_MASK + "123 " + SECRET_MASK + " " + SECRET_MASK + "wor " + SECRET_MASK);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldMaskSecretsWithQuotesRemoved() {
+    Set<String> secrets = ImmutableSet.of("my\"secret\"", "it's");
+    LogStreamingSanitizer logSanitizer = LogStreamingSanitizer.builder().secrets(secrets).build();
+
+    LogLine logLine = LogLine.builder().message("my\"secret\" mysecret it's its").build();
+    logSanitizer.sanitizeLogMessage(logLine);
+
+    Assertions.assertThat(logLine.getMessage())
+        .isEqualTo(SECRET_MASK + " " + SECRET_MASK + " " + SECRET_MASK + " " + SECRET_MASK);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("Bench Test")
+  public void benchSanitize() {
+    Random random = new Random(42);
+    for (int secretCount : new int[] {10, 100, 1000}) {
+      Set<String> secrets = randomSecrets(random, secretCount);
+      List<String> messages = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        messages.add(randomMessage(random, new ArrayList<>(secrets)));
+      }
+      LogStreamingSanitizer logSanitizer = LogStreamingSanitizer.builder().secrets(secrets).build();
+      for (int iteration = 0; iteration < 5; iteration++) {
+        long start = System.nanoTime();
+        for (String message : messages) {
+          logSanitizer.sanitizeLogMessage(LogLine.builder().message(message).build());
+        }
+        long automatonNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (String message : messages) {
+          replaceEachSanitize(message, secrets);
+        }
+        long replaceEachNanos = System.nanoTime() - start;
+        log.info("{} secrets: automaton {} ns/line, replaceEach {} ns/line", secretCount,
+            automatonNanos / messages.size(), replaceEachNanos / messages.size());
+      }
+    }
+  }
+
+  // the masking as done before the automaton, every secret and its variants through StringUtils.replaceEach
+  private static String replaceEachSanitize(String message, Set<String> secrets) {
+    List<String> secretValues = new ArrayList<>();
+    for (String secret : secrets) {
+      secretValues.add(secret);
+      String secretWithDoubleQuoteRemoved = secret.replaceAll("\"", "");
+      if (!secretWithDoubleQuoteRemoved.equals(secret)) {
+        secretValues.add(secretWithDoubleQuoteRemoved);
+      }
+      String secretWithSingleQuoteRemoved = secret.replaceAll("\'", "");
+      if (!secretWithSingleQuoteRemoved.equals(secret)) {
+        secretValues.add(secretWithSingleQuoteRemoved);
+      }
+    }
+    String[] secretMasks = new String[secretValues.size()];
+    Arrays.fill(secretMasks, SECRET_MASK);
+    return LogSanitizerHelper.sanitizeJWT(replaceEach(message, secretValues.toArray(new String[] {}), secretMasks));
+  }
+
+  // long enough that no secret is the prefix of another one, where replaceEach depends on the set order
+  private static Set<String> randomSecrets(Random random, int count) {
+    Set<String> secrets = new HashSet<>();
+    while (secrets.size() < count) {
+      secrets.add(randomString(random, 16 + random.nextInt(16)));
+    }
+    return secrets;
+  }
+
+  private static String randomMessage(Random random, List<String> secrets) {
+    StringBuilder message = new StringBuilder();
+    int parts = 1 + random.nextInt(10);
+    for (int i = 0; i < parts; i++) {
+      message.append(randomString(random, random.nextInt(40)));
+      if (random.nextBoolean()) {
+        String secret = secrets.get(random.nextInt(secrets.size()));
+        // sometimes only a part of a secret, which must stay as is
+        message.append(random.nextInt(4) == 0 ? secret.substring(0, secret.length() / 2) : secret);
+      }
+    }
+    return message.toString();
+  }
+
+  private static String randomString(Random random, int length) {
+    StringBuilder string = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      string.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return string.toString();
+  }
 }
@@ -13,6 +13,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.exception.UnsupportedOperationException;
 import io.harness.logging.AutoLogContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.tasks.ErrorResponseData;
 import io.harness.tasks.ResponseData;
 import io.harness.waiter.persistence.PersistenceWrapper;
@@ -20,6 +21,7 @@ import io.harness.waiter.persistence.PersistenceWrapper;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -29,9 +31,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @OwnedBy(HarnessTeam.PIPELINE)
 public class NotifyEventListenerHelper {
+  public static final String WAIT_NOTIFY_LATENCY = "wait_notify_latency";
+
   @Inject private Injector injector;
   @Inject private PersistenceWrapper persistenceWrapper;
   @Inject private WaitInstanceService waitInstanceService;
+  @Inject private MetricService metricService;
 
   public void onMessage(String waitInstanceId) {
     try (AutoLogContext ignore = new WaitInstanceLogContext(waitInstanceId, OVERRIDE_ERROR)) {
@@ -44,6 +49,7 @@ public class NotifyEventListenerHelper {
       }
 
       ProcessedMessageResponse response = persistenceWrapper.processMessage(waitInstance);
+      recordLatency(waitInstance, response, now);
 
       NotifyCallback callback = waitInstance.getCallback();
       if (callback != null) {
@@ -57,6 +63,15 @@ public class NotifyEventListenerHelper {
     }
   }
 
+  private void recordLatency(WaitInstance waitInstance, ProcessedMessageResponse response, long now) {
+    if (response.getLastResponseAt() <= 0) {
+      return;
+    }
+    try (WaitNotifyMetricContext ignore = new WaitNotifyMetricContext(waitInstance.getPublisher())) {
+      metricService.recordDuration(WAIT_NOTIFY_LATENCY, Duration.ofMillis(now - response.getLastResponseAt()));
+    }
+  }
+
   private void processCallback(NotifyCallback notifyCallback, Map<String, ResponseData> responseMap, boolean isError) {
     try {
       if (notifyCallback instanceof OldNotifyCallback) {
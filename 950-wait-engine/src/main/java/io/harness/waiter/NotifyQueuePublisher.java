@@ -7,6 +7,15 @@
 
 package io.harness.waiter;
 
+import java.util.List;
+
 public interface NotifyQueuePublisher {
   void send(NotifyEvent payload);
+
+  /**
+   * Publishes all the events, implementations able to do it in fewer round trips should override this.
+   */
+  default void sendAll(List<NotifyEvent> payloads) {
+    payloads.forEach(this::send);
+  }
 }
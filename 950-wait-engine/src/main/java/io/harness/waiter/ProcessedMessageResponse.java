@@ -21,4 +21,6 @@ import lombok.Value;
 public class ProcessedMessageResponse {
   boolean isError;
   Map<String, ResponseData> responseDataMap;
+  // createdAt of the newest response, the time at which the wait instance was done waiting
+  long lastResponseAt;
 }
@@ -10,10 +10,16 @@ package io.harness.waiter;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Producer;
+import io.harness.eventsframework.api.ProducerBatchResult;
 import io.harness.eventsframework.producer.Message;
 import io.harness.waiter.notify.NotifyEventProto;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
 @OwnedBy(HarnessTeam.PIPELINE)
+@Slf4j
 public abstract class RedisNotifyQueuePublisher implements NotifyQueuePublisher {
   private final Producer producer;
 
@@ -23,7 +29,22 @@ public abstract class RedisNotifyQueuePublisher implements NotifyQueuePublisher
 
   @Override
   public void send(NotifyEvent payload) {
-    producer.send(Message.newBuilder().setData(toProto(payload).toByteString()).build());
+    producer.send(toMessage(payload));
+  }
+
+  @Override
+  public void sendAll(List<NotifyEvent> payloads) {
+    ProducerBatchResult result =
+        producer.sendBatch(payloads.stream().map(this::toMessage).collect(Collectors.toList()));
+    if (result.hasFailures()) {
+      log.warn("Publishing {} of {} notify events in a batch failed, sending them one by one",
+          result.getFailures().size(), payloads.size());
+      result.getFailures().keySet().forEach(index -> send(payloads.get(index)));
+    }
+  }
+
+  private Message toMessage(NotifyEvent event) {
+    return Message.newBuilder().setData(toProto(event).toByteString()).build();
   }
 
   public NotifyEventProto toProto(NotifyEvent event) {
@@ -15,6 +15,7 @@ import static io.harness.waiter.NotifyEvent.Builder.aNotifyEvent;
 
 import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import io.harness.annotations.dev.HarnessTeam;
@@ -28,6 +29,7 @@ import io.harness.waiter.persistence.PersistenceWrapper;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -36,8 +38,10 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
@@ -52,6 +56,7 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.DEL)
 public class WaitNotifyEngine {
   public static final int MIN_WAIT_INSTANCE_TIMEOUT = 3;
+  private static final int DONE_WITH_ALL_BATCH_SIZE = 500;
 
   @Inject private PersistenceWrapper persistenceWrapper;
   @Inject private KryoSerializer kryoSerializer;
@@ -178,6 +183,38 @@ public class WaitNotifyEngine {
     return null;
   }
 
+  /**
+   * Same as {@link #doneWith} for every entry, with the responses stored in bulk, the wait instances updated with one
+   * update per batch and the notifications published together. Responses which are already stored are skipped.
+   */
+  public void doneWithAll(Map<String, ResponseData> responses) {
+    if (isEmpty(responses)) {
+      return;
+    }
+    responses.keySet().forEach(
+        correlationId -> Preconditions.checkArgument(isNotBlank(correlationId), "correlationId is null or empty"));
+
+    for (List<String> correlationIds : Lists.partition(new ArrayList<>(responses.keySet()), DONE_WITH_ALL_BATCH_SIZE)) {
+      try {
+        final long createdAt = currentTimeMillis();
+        persistenceWrapper.saveNotifyResponses(
+            correlationIds.stream()
+                .map(correlationId
+                    -> NotifyResponse.builder()
+                           .uuid(correlationId)
+                           .createdAt(createdAt)
+                           .usingKryoWithoutReference(true)
+                           .responseData(referenceFalseKryoSerializer.asDeflatedBytes(responses.get(correlationId)))
+                           .error(responses.get(correlationId) instanceof ErrorResponseData)
+                           .build())
+                .collect(toList()));
+        handleNotifyResponses(correlationIds);
+      } catch (Exception exception) {
+        log.error("Failed to notify for {} responses", correlationIds.size(), exception);
+      }
+    }
+  }
+
   public void sendNotification(WaitInstance waitInstance) {
     try (WaitInstanceLogContext ignore = new WaitInstanceLogContext(waitInstance.getUuid(), OVERRIDE_NESTS)) {
       String publisher = waitInstance.getPublisher();
@@ -204,6 +241,22 @@ public class WaitNotifyEngine {
     }
   }
 
+  public void handleNotifyResponses(List<String> correlationIds) {
+    Map<String, List<NotifyEvent>> eventsByPublisher = new HashMap<>();
+    for (WaitInstance waitInstance : persistenceWrapper.modifyAndFetchWaitInstances(correlationIds)) {
+      eventsByPublisher.computeIfAbsent(waitInstance.getPublisher(), publisher -> new ArrayList<>())
+          .add(aNotifyEvent().waitInstanceId(waitInstance.getUuid()).build());
+    }
+    eventsByPublisher.forEach((publisher, events) -> {
+      final NotifyQueuePublisher notifyQueuePublisher = publisherRegister.obtain(publisher);
+      if (notifyQueuePublisher == null) {
+        log.error("Unknown publisher {}", publisher);
+        return;
+      }
+      notifyQueuePublisher.sendAll(events);
+    });
+  }
+
   public boolean doneWithWithoutCallback(@NonNull String correlationId) {
     try {
       WaitInstance waitInstance;
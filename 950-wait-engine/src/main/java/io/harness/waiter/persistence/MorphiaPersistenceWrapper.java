@@ -40,6 +40,7 @@ import dev.morphia.query.Sort;
 import dev.morphia.query.UpdateOperations;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -77,6 +78,7 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
   @Override
   public ProcessedMessageResponse processMessage(WaitInstance waitInstance) {
     boolean isError = false;
+    long lastResponseAt = 0;
     Map<String, ResponseData> responseMap = new HashMap<>();
 
     Query<NotifyResponse> query = hPersistence.createQuery(NotifyResponse.class, excludeAuthority)
@@ -89,6 +91,7 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
 
     try (HIterator<NotifyResponse> notifyResponses = new HIterator(query.fetch())) {
       for (NotifyResponse notifyResponse : notifyResponses) {
+        lastResponseAt = Math.max(lastResponseAt, notifyResponse.getCreatedAt());
         if (notifyResponse.isError()) {
           log.info("Failed notification response {}", notifyResponse.getUuid());
           isError = true;
@@ -102,7 +105,11 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
       }
     }
 
-    return ProcessedMessageResponse.builder().isError(isError).responseDataMap(responseMap).build();
+    return ProcessedMessageResponse.builder()
+        .isError(isError)
+        .responseDataMap(responseMap)
+        .lastResponseAt(lastResponseAt)
+        .build();
   }
 
   @Override
@@ -201,6 +208,41 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
   }
 
+  @Override
+  public void saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    hPersistence.saveIgnoringDuplicateKeys(new ArrayList<>(notifyResponses));
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds) {
+    final List<String> waitInstanceIds = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                             .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                             .in(waitingOnCorrelationIds)
+                                             .asKeyList()
+                                             .stream()
+                                             .map(key -> (String) key.getId())
+                                             .collect(toList());
+    if (isEmpty(waitInstanceIds)) {
+      return Collections.emptyList();
+    }
+
+    // Only the wait instances found above are updated. The ones saved since then look for the stored responses
+    // themselves in modifyAndFetchWaitInstanceForExistingResponse, and would not be notified if updated here.
+    hPersistence.update(
+        hPersistence.createQuery(WaitInstance.class, excludeAuthority).field(WaitInstanceKeys.uuid).in(waitInstanceIds),
+        hPersistence.createUpdateOperations(WaitInstance.class)
+            .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds));
+
+    return hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+        .field(WaitInstanceKeys.uuid)
+        .in(waitInstanceIds)
+        .field(WaitInstanceKeys.waitingOnCorrelationIds)
+        .sizeEq(0)
+        .project(WaitInstanceKeys.uuid, true)
+        .project(WaitInstanceKeys.publisher, true)
+        .asList();
+  }
+
   @Override
   public String saveWithTimeout(WaitInstance waitInstance, Duration timeout) {
     if (!timeout.isZero()) {
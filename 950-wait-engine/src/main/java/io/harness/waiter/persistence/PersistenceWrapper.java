@@ -9,6 +9,7 @@ package io.harness.waiter.persistence;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.waiter.NotifyResponse;
 import io.harness.waiter.ProcessedMessageResponse;
 import io.harness.waiter.ProgressUpdate;
 import io.harness.waiter.WaitEngineEntity;
@@ -28,6 +29,17 @@ public interface PersistenceWrapper {
 
   WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId);
 
+  /**
+   * Inserts the responses in one bulk write, responses which are already stored are skipped.
+   */
+  void saveNotifyResponses(List<NotifyResponse> notifyResponses);
+
+  /**
+   * Removes the correlation ids from the wait instances waiting on any of them, with a single update, and returns the
+   * ones left waiting on nothing. Only uuid and publisher of the returned wait instances are loaded.
+   */
+  List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds);
+
   WaitInstance modifyAndFetchWaitInstanceForExistingResponse(String waitInstanceId, List<String> notifyResponseIds);
 
   WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now);
@@ -16,6 +16,7 @@ import static io.harness.waiter.WaitNotifyEngine.MIN_WAIT_INSTANCE_TIMEOUT;
 import static java.util.stream.Collectors.toList;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
+import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -44,6 +45,7 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.mongodb.client.result.DeleteResult;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +56,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -168,6 +172,7 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
   @Override
   public ProcessedMessageResponse processMessage(WaitInstance waitInstance) {
     boolean isError = false;
+    long lastResponseAt = 0;
     Map<String, ResponseData> responseMap = new HashMap<>();
 
     Query query = query(where(NotifyResponseKeys.uuid).in(waitInstance.getCorrelationIds()));
@@ -177,6 +182,7 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
 
     List<NotifyResponse> notifyResponses = mongoTemplate.find(query, NotifyResponse.class);
     for (NotifyResponse notifyResponse : notifyResponses) {
+      lastResponseAt = Math.max(lastResponseAt, notifyResponse.getCreatedAt());
       if (notifyResponse.isError()) {
         log.info("Failed notification response {}", notifyResponse.getUuid());
         isError = true;
@@ -188,7 +194,11 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
                 : (ResponseData) kryoSerializer.asInflatedObject(notifyResponse.getResponseData()));
       }
     }
-    return ProcessedMessageResponse.builder().isError(isError).responseDataMap(responseMap).build();
+    return ProcessedMessageResponse.builder()
+        .isError(isError)
+        .responseDataMap(responseMap)
+        .lastResponseAt(lastResponseAt)
+        .build();
   }
 
   @Override
@@ -204,6 +214,43 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
   }
 
+  @Override
+  public void saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return;
+    }
+    try {
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, NotifyResponse.class).insert(notifyResponses).execute();
+    } catch (BulkOperationException ex) {
+      if (!ex.getErrors().stream().allMatch(bulkWriteError -> isDuplicateKeyCode(bulkWriteError.getCode()))) {
+        throw ex;
+      }
+      log.warn("Skipped {} already stored notify responses", ex.getErrors().size());
+    }
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds) {
+    Query query = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds));
+    query.fields().include(WaitInstanceKeys.uuid);
+    List<String> waitInstanceIds =
+        mongoTemplate.find(query, WaitInstance.class).stream().map(WaitInstance::getUuid).collect(toList());
+    if (isEmpty(waitInstanceIds)) {
+      return Collections.emptyList();
+    }
+
+    // Only the wait instances found above are updated. The ones saved since then look for the stored responses
+    // themselves in modifyAndFetchWaitInstanceForExistingResponse, and would not be notified if updated here.
+    mongoTemplate.updateMulti(query(where(WaitInstanceKeys.uuid).in(waitInstanceIds)),
+        new Update().pullAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds.toArray(new String[0])),
+        WaitInstance.class);
+
+    Query doneQuery = query(where(WaitInstanceKeys.uuid).in(waitInstanceIds))
+                          .addCriteria(where(WaitInstanceKeys.waitingOnCorrelationIds).size(0));
+    doneQuery.fields().include(WaitInstanceKeys.uuid).include(WaitInstanceKeys.publisher);
+    return mongoTemplate.find(doneQuery, WaitInstance.class);
+  }
+
   @Override
   public WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now) {
     final Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
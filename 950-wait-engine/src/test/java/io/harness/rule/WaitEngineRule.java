@@ -20,6 +20,7 @@ import io.harness.factory.ClosingFactoryModule;
 import io.harness.govern.ProviderModule;
 import io.harness.govern.ServersModule;
 import io.harness.metrics.MetricRegistryModule;
+import io.harness.metrics.modules.MetricsModule;
 import io.harness.mongo.MongoConfig;
 import io.harness.mongo.MongoPersistence;
 import io.harness.mongo.queue.QueueFactory;
@@ -188,6 +189,7 @@ public class WaitEngineRule implements MethodRule, InjectorRuleMixin, MongoRuleM
       }
     });
     modules.add(new MetricRegistryModule(new MetricRegistry()));
+    modules.add(new MetricsModule());
     return modules;
   }
 
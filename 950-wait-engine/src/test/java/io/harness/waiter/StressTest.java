@@ -16,6 +16,7 @@ import io.harness.category.element.StressTests;
 import io.harness.maintenance.MaintenanceGuard;
 import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
+import io.harness.tasks.ResponseData;
 import io.harness.threading.Concurrent;
 import io.harness.threading.Morpheus;
 
@@ -24,7 +25,9 @@ import java.io.IOException;
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -98,4 +101,47 @@ public class StressTest extends WaitEngineTestBase {
       }
     }
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(StressTests.class)
+  @Ignore("Ignore this stress test to make it easy to run only unit tests")
+  public void stressDoneWithAll() throws IOException {
+    persistence.ensureIndexForTesting(NotifyEvent.class);
+    persistence.ensureIndexForTesting(WaitInstance.class);
+    persistence.ensureIndexForTesting(NotifyResponse.class);
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      // 1000 correlation ids answered at once, spread over wait instances of 1 to 5 ids
+      for (int round = 0; round < 10; round++) {
+        List<String> single = registerWaitInstances(1000);
+        long time = System.currentTimeMillis();
+        single.forEach(correlationId -> waitNotifyEngine.doneWith(correlationId, null));
+        long singleTime = System.currentTimeMillis() - time;
+
+        Map<String, ResponseData> responses = new HashMap<>();
+        registerWaitInstances(1000).forEach(correlationId -> responses.put(correlationId, null));
+        time = System.currentTimeMillis();
+        waitNotifyEngine.doneWithAll(responses);
+        long batchTime = System.currentTimeMillis() - time;
+
+        log.info("round {}: doneWith: {} ms, doneWithAll: {} ms, events: {}", round, singleTime, batchTime,
+            persistence.createQuery(NotifyEvent.class).count());
+      }
+    }
+  }
+
+  private List<String> registerWaitInstances(int count) {
+    List<String> correlationIds = new ArrayList<>();
+    while (correlationIds.size() < count) {
+      final int ids = Math.min(random.nextInt(5) + 1, count - correlationIds.size());
+      final String[] waitingOn = new String[ids];
+      for (int id = 0; id < ids; id++) {
+        waitingOn[id] = generateUuid();
+        correlationIds.add(waitingOn[id]);
+      }
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, null, waitingOn);
+    }
+    return correlationIds;
+  }
 }
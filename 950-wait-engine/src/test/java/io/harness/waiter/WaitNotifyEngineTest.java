@@ -241,6 +241,49 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyFanOutWithDoneWithAll() throws IOException {
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      assertDoneWithAllNotifiesFanOut();
+    }
+  }
+
+  @Test
+  @SpringWaiter
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyFanOutWithDoneWithAllSpring() throws IOException {
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      assertDoneWithAllNotifiesFanOut();
+    }
+  }
+
+  private void assertDoneWithAllNotifiesFanOut() {
+    // 10 wait instances with 100 correlation ids each, like a matrix step with 1000 children
+    Map<String, ResponseData> responses = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      String[] correlationIds = new String[100];
+      for (int j = 0; j < correlationIds.length; j++) {
+        correlationIds[j] = generateUuid();
+        responses.put(
+            correlationIds[j], StringNotifyResponseData.builder().data("response-" + correlationIds[j]).build());
+      }
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), correlationIds);
+    }
+
+    // a response which is already stored is skipped
+    String doneCorrelationId = responses.keySet().iterator().next();
+    waitNotifyEngine.doneWith(doneCorrelationId, responses.get(doneCorrelationId));
+
+    waitNotifyEngine.doneWithAll(responses);
+
+    Poller.pollFor(Duration.ofSeconds(30), ofMillis(100), () -> callCount.get() == 10);
+    assertThat(responseMap).hasSize(1000).containsAllEntriesOf(responses);
+    assertThat(callCount.get()).isEqualTo(10);
+  }
+
   @Test
   @SpringWaiter
   @Owner(developers = PRASHANT, intermittent = true)
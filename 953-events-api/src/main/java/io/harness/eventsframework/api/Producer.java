@@ -9,7 +9,31 @@ package io.harness.eventsframework.api;
 
 import io.harness.eventsframework.producer.Message;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface Producer {
   String send(Message message);
+
+  /**
+   * Publishes the messages in the given order. Implementations backed by a pipelining client should override this
+   * to send the whole batch in a single round-trip; the default falls back to one {@link #send(Message)} per message.
+   */
+  default ProducerBatchResult sendBatch(List<Message> messages) {
+    List<String> messageIds = new ArrayList<>(messages.size());
+    Map<Integer, String> failures = new HashMap<>();
+    for (int i = 0; i < messages.size(); i++) {
+      try {
+        messageIds.add(send(messages.get(i)));
+      } catch (Exception ex) {
+        messageIds.add(null);
+        failures.put(i, ex.getMessage());
+      }
+    }
+    return ProducerBatchResult.builder().messageIds(messageIds).failures(failures).build();
+  }
+
   void shutdown();
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.api;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of {@link Producer#sendBatch(List)}. {@code messageIds} is aligned with the input list and holds
+ * {@code null} for every message that could not be published; the reason is kept in {@code failures} keyed by the
+ * index of the message in the input list.
+ */
+@OwnedBy(PL)
+@Value
+@Builder
+public class ProducerBatchResult {
+  List<String> messageIds;
+  Map<Integer, String> failures;
+
+  public boolean hasFailures() {
+    return failures != null && !failures.isEmpty();
+  }
+}
@@ -16,6 +16,8 @@ import io.harness.eventsframework.consumer.Message;
 import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTOMapper;
 import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
@@ -29,9 +31,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.PendingEntry;
 import org.redisson.api.RStream;
@@ -44,6 +48,11 @@ import org.redisson.client.RedisException;
 @Slf4j
 public abstract class RedisAbstractConsumer extends AbstractConsumer {
   private static final String REDIS_CONSUMER_EVENT_METRIC = "redis_consumer_event_metric";
+  private static final String REDIS_CONSUMER_CLAIMED_MESSAGES_METRIC = "redis_consumer_claimed_messages";
+  private static final String REDIS_CONSUMER_FRESH_MESSAGES_METRIC = "redis_consumer_fresh_messages";
+  private static final String REDIS_CONSUMER_PENDING_SWEEPS_METRIC = "redis_consumer_pending_sweeps";
+  private static final String REDIS_CONSUMER_IN_FLIGHT_MESSAGES_METRIC = "redis_consumer_in_flight_messages";
+  private static final long MAX_IN_FLIGHT_MESSAGES_TRACKED = 10000;
   protected RStream<String, String> stream;
   protected RStream<String, String> deadLetterQueue;
   protected RedissonClient redissonClient;
@@ -53,6 +62,16 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
   private Retry retry;
   @Inject RedisEventMetricPublisher redisEventMetricPublisher;
 
+  // When set, XPENDING/XCLAIM is only issued once per interval instead of before every XREADGROUP
+  private Duration pendingSweepInterval;
+  private volatile long nextPendingSweepTimeMillis;
+  // read but not yet acked by this consumer. Once an entry is older than maxProcessingTime any consumer may claim it,
+  // so it stops counting as in flight here
+  private Cache<String, Boolean> inFlightMessageIds;
+  @Getter private final AtomicLong claimedMessagesCount = new AtomicLong();
+  @Getter private final AtomicLong freshMessagesCount = new AtomicLong();
+  @Getter private final AtomicLong pendingSweepsCount = new AtomicLong();
+
   public RedisAbstractConsumer(String topicName, String groupName, @NotNull RedissonClient redissonClient,
       Duration maxProcessingTime, int batchSize, String envNamespace) {
     super(topicName, groupName);
@@ -89,6 +108,27 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     createConsumerGroup();
   }
 
+  /**
+   * Switches the consumer to periodic pending sweeps: regular polls only block on XREADGROUP and the pending
+   * entries of the group are listed and claimed once every {@code pendingSweepInterval}.
+   */
+  protected void enablePeriodicPendingSweep(Duration pendingSweepInterval) {
+    this.pendingSweepInterval = pendingSweepInterval;
+    this.nextPendingSweepTimeMillis = 0;
+    this.inFlightMessageIds = CacheBuilder.newBuilder()
+                                  .maximumSize(MAX_IN_FLIGHT_MESSAGES_TRACKED)
+                                  .expireAfterWrite(maxProcessingTime.toMillis(), TimeUnit.MILLISECONDS)
+                                  .build();
+  }
+
+  public long getInFlightMessagesCount() {
+    if (inFlightMessageIds == null) {
+      return 0;
+    }
+    inFlightMessageIds.cleanUp();
+    return inFlightMessageIds.size();
+  }
+
   private void createConsumerGroup() {
     String groupName = getGroupName();
     try {
@@ -219,24 +259,63 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
   }
 
   protected List<Message> getMessages(boolean processUnackedMessagesBeforeNewMessages, Duration maxWaitTime) {
+    if (pendingSweepInterval != null && System.currentTimeMillis() < nextPendingSweepTimeMillis) {
+      return trackFreshMessages(getNewMessages(maxWaitTime));
+    }
+    if (pendingSweepInterval != null) {
+      nextPendingSweepTimeMillis = System.currentTimeMillis() + pendingSweepInterval.toMillis();
+      pendingSweepsCount.incrementAndGet();
+      recordSweepMetric(REDIS_CONSUMER_PENDING_SWEEPS_METRIC, 1);
+      recordSweepMetric(REDIS_CONSUMER_IN_FLIGHT_MESSAGES_METRIC, getInFlightMessagesCount());
+    }
+
     // Find all the pending entries on the consumer group
     List<PendingEntry> pendingEntries = getPendingEntries();
 
     // If no entry is pending then we request for new messages
     if (pendingEntries.isEmpty()) {
-      return getNewMessages(maxWaitTime);
+      return trackFreshMessages(getNewMessages(maxWaitTime));
     }
 
     // If pending entries are not empty then claim the pending entries
     List<Message> claimedMessages = claimEntries(pendingEntries);
     if (!claimedMessages.isEmpty()) {
+      claimedMessagesCount.addAndGet(claimedMessages.size());
+      recordSweepMetric(REDIS_CONSUMER_CLAIMED_MESSAGES_METRIC, claimedMessages.size());
+      trackInFlight(claimedMessages);
       return claimedMessages;
     }
 
     if (processUnackedMessagesBeforeNewMessages) {
       return Collections.emptyList();
     } else {
-      return getNewMessages(maxWaitTime);
+      return trackFreshMessages(getNewMessages(maxWaitTime));
+    }
+  }
+
+  private List<Message> trackFreshMessages(List<Message> messages) {
+    freshMessagesCount.addAndGet(messages.size());
+    if (!messages.isEmpty()) {
+      recordSweepMetric(REDIS_CONSUMER_FRESH_MESSAGES_METRIC, messages.size());
+    }
+    trackInFlight(messages);
+    return messages;
+  }
+
+  private void trackInFlight(List<Message> messages) {
+    if (inFlightMessageIds != null) {
+      messages.forEach(message -> inFlightMessageIds.put(message.getId(), Boolean.TRUE));
+    }
+  }
+
+  private void recordSweepMetric(String metricName, long value) {
+    if (pendingSweepInterval == null || redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      redisEventMetricPublisher.sendMetricWithStreamContext(getTopicName(), metricName, value);
+    } catch (Exception ex) {
+      log.warn("Error while sending pending sweep metrics for redis consumer :", ex);
     }
   }
 
@@ -259,6 +338,9 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
 
   private void acknowledgeInternal(String messageId) {
     stream.ack(getGroupName(), RedisUtils.getStreamId(messageId));
+    if (inFlightMessageIds != null) {
+      inFlightMessageIds.invalidate(messageId);
+    }
   }
 
   private void createConsumerGroupIfNotPresent(Throwable e) {
@@ -33,6 +33,19 @@ public class RedisConsumer extends RedisAbstractConsumer {
     super(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace, redisEventMetricPublisher);
   }
 
+  public RedisConsumer(String topicName, String groupName, @NotNull RedissonClient redissonClient,
+      Duration maxProcessingTime, int batchSize, String envNamespace, Duration pendingSweepInterval) {
+    super(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace);
+    enablePeriodicPendingSweep(pendingSweepInterval);
+  }
+
+  public RedisConsumer(String topicName, String groupName, @NotNull RedissonClient redissonClient,
+      Duration maxProcessingTime, int batchSize, String envNamespace, Duration pendingSweepInterval,
+      RedisEventMetricPublisher redisEventMetricPublisher) {
+    super(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace, redisEventMetricPublisher);
+    enablePeriodicPendingSweep(pendingSweepInterval);
+  }
+
   @Override
   public List<Message> read(Duration maxWaitTime) {
     return getMessages(false, maxWaitTime);
@@ -43,6 +56,24 @@ public class RedisConsumer extends RedisAbstractConsumer {
     return new RedisConsumer(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace);
   }
 
+  /**
+   * Creates a consumer that only sweeps pending entries once every {@code pendingSweepInterval}, saving the XPENDING
+   * round-trip on every other poll. Unacked messages are therefore redelivered up to one interval later.
+   */
+  public static RedisConsumer withPendingSweep(String topicName, String groupName,
+      @NotNull RedissonClient redissonClient, Duration maxProcessingTime, int batchSize, String envNamespace,
+      Duration pendingSweepInterval) {
+    return new RedisConsumer(
+        topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace, pendingSweepInterval);
+  }
+
+  public static RedisConsumer withPendingSweep(String topicName, String groupName,
+      @NotNull RedissonClient redissonClient, Duration maxProcessingTime, int batchSize, String envNamespace,
+      Duration pendingSweepInterval, RedisEventMetricPublisher redisEventMetricPublisher) {
+    return new RedisConsumer(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace,
+        pendingSweepInterval, redisEventMetricPublisher);
+  }
+
   public static RedisConsumer of(String topicName, String groupName, @NotNull RedissonClient redissonClient,
       Duration maxProcessingTime, int batchSize, String envNamespace,
       RedisEventMetricPublisher redisEventMetricPublisher) {
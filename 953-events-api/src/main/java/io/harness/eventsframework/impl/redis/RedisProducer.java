@@ -8,31 +8,43 @@
 package io.harness.eventsframework.impl.redis;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_TRACE_ID_KEY;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.AbstractProducer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.api.ProducerBatchResult;
 import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTOMapper;
 import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 import io.harness.eventsframework.producer.Message;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.opentelemetry.api.trace.Span;
 import io.vavr.control.Try;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
 import org.slf4j.MDC;
 
 @OwnedBy(PL)
@@ -40,7 +52,9 @@ import org.slf4j.MDC;
 public class RedisProducer extends AbstractProducer {
   private static final String PRODUCER = "producer";
   private static final String REDIS_PRODUCER_EVENT_METRIC = "redis_producer_event_metric";
+  @VisibleForTesting static final int MAX_BATCH_SIZE = 1000;
   private RStream<String, String> stream;
+  private String streamName;
   private RedissonClient redissonClient;
   @Inject private RedisEventMetricPublisher redisEventMetricPublisher;
   // This is used when the consumer for the event are no longer accepting due to some failure and
@@ -69,6 +83,7 @@ public class RedisProducer extends AbstractProducer {
     this.maxTopicSize = maxTopicSize;
     this.redissonClient = redissonClient;
     this.stream = RedisUtils.getStream(topicName, redissonClient, envNamespace);
+    this.streamName = RedisUtils.getStreamName(envNamespace, topicName);
     RetryConfig retryConfig =
         RetryConfig.custom().intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5)).maxAttempts(6).build();
 
@@ -80,12 +95,73 @@ public class RedisProducer extends AbstractProducer {
     return handleMessage(message);
   }
 
+  /**
+   * Publishes the messages in pipelined round-trips of at most {@link #MAX_BATCH_SIZE} messages each, so a very large
+   * batch neither builds one huge pipeline nor blocks the connection for long. Messages are appended in list order,
+   * so ordering within the topic is preserved, and the stream is trimmed to {@code maxTopicSize} once after the last
+   * append instead of on every XADD. The batch is not retried as a whole because a partially applied pipeline would
+   * then produce duplicates; callers get the failed indexes back in the result and decide whether to resend them.
+   */
+  @Override
+  public ProducerBatchResult sendBatch(List<Message> messages) {
+    if (isEmpty(messages)) {
+      return ProducerBatchResult.builder()
+          .messageIds(Collections.emptyList())
+          .failures(Collections.emptyMap())
+          .build();
+    }
+
+    List<String> messageIds = new ArrayList<>(messages.size());
+    Map<Integer, String> failures = new HashMap<>();
+    List<List<Message>> chunks = Lists.partition(messages, MAX_BATCH_SIZE);
+    for (int chunk = 0; chunk < chunks.size(); chunk++) {
+      sendChunk(chunks.get(chunk), chunk == chunks.size() - 1, messageIds, failures);
+    }
+    log.info("Events framework batch inserted - {} messages, {} failures in the topic: {}", messages.size(),
+        failures.size(), this.getTopicName());
+    return ProducerBatchResult.builder().messageIds(messageIds).failures(failures).build();
+  }
+
+  private void sendChunk(List<Message> chunk, boolean trim, List<String> messageIds, Map<Integer, String> failures) {
+    RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+    RStreamAsync<String, String> batchStream = batch.getStream(streamName, new StringCodec("UTF-8"));
+    List<RFuture<StreamMessageId>> futures = new ArrayList<>(chunk.size());
+    for (Message message : chunk) {
+      futures.add(batchStream.addAllAsync(prepareRedisData(message)));
+    }
+    if (trim) {
+      batchStream.trimNonStrictAsync(maxTopicSize);
+    }
+
+    try {
+      batch.execute();
+    } catch (Exception ex) {
+      log.warn("Exception occurred while executing batch of {} messages in the topic: {}", chunk.size(),
+          this.getTopicName(), ex);
+    }
+
+    for (RFuture<StreamMessageId> future : futures) {
+      if (future.isSuccess() && future.getNow() != null) {
+        messageIds.add(future.getNow().toString());
+      } else {
+        failures.put(messageIds.size(),
+            future.cause() == null ? "Message was not acknowledged by redis" : future.cause().getMessage());
+        messageIds.add(null);
+      }
+    }
+  }
+
+  private Map<String, String> prepareRedisData(Message message) {
+    Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
+    addTraceId(redisData);
+    redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
+    populateOtherProducerSpecificData(redisData);
+    return redisData;
+  }
+
   private String sendInternal(Message message) {
     try {
-      Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
-      addTraceId(redisData);
-      redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
-      populateOtherProducerSpecificData(redisData);
+      Map<String, String> redisData = prepareRedisData(message);
 
       StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
       redisData.remove(REDIS_STREAM_INTERNAL_KEY);
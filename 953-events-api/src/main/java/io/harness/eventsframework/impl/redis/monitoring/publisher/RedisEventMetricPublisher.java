@@ -28,4 +28,11 @@ public class RedisEventMetricPublisher {
       metricService.incCounter(metricName);
     }
   }
+
+  public void sendMetricWithStreamContext(String streamName, String metricName, double value) {
+    try (RedisEventMetricContext context =
+             new RedisEventMetricContext(RedisEventMetricDTO.builder().streamName(streamName).build())) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.ANKIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.Codec;
+
+@OwnedBy(PL)
+public class RedisConsumerTest extends CategoryTest {
+  private static final String TOPIC = "topic";
+  private static final String GROUP = "group";
+  private static final StreamMessageId MESSAGE_ID = new StreamMessageId(1000, 0);
+
+  private RedissonClient redissonClient;
+  private RStream<String, String> stream;
+  private RedisEventMetricPublisher redisEventMetricPublisher;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    redissonClient = mock(RedissonClient.class);
+    stream = mock(RStream.class);
+    redisEventMetricPublisher = mock(RedisEventMetricPublisher.class);
+    when(redissonClient.<String, String>getStream(anyString(), any(Codec.class))).thenReturn(stream);
+  }
+
+  @Test
+  @Owner(developers = ANKIT)
+  @Category(UnitTests.class)
+  public void testPendingEntriesAreSweptOncePerInterval() {
+    when(stream.listPending(eq(GROUP), any(StreamMessageId.class), any(StreamMessageId.class), anyInt()))
+        .thenReturn(Collections.emptyList());
+    when(stream.readGroup(eq(GROUP), anyString(), anyInt(), anyLong(), any(TimeUnit.class)))
+        .thenAnswer(invocation -> messages(MESSAGE_ID));
+    RedisConsumer consumer = RedisConsumer.withPendingSweep(
+        TOPIC, GROUP, redissonClient, Duration.ofMinutes(1), 10, "", Duration.ofHours(1), redisEventMetricPublisher);
+
+    assertThat(consumer.read(Duration.ofSeconds(1))).hasSize(1);
+    assertThat(consumer.read(Duration.ofSeconds(1))).hasSize(1);
+
+    verify(stream, times(1)).listPending(eq(GROUP), any(StreamMessageId.class), any(StreamMessageId.class), anyInt());
+    verify(stream, times(2)).readGroup(eq(GROUP), anyString(), anyInt(), anyLong(), any(TimeUnit.class));
+    assertThat(consumer.getPendingSweepsCount().get()).isEqualTo(1);
+    assertThat(consumer.getFreshMessagesCount().get()).isEqualTo(2);
+    assertThat(consumer.getInFlightMessagesCount()).isEqualTo(1);
+    verify(redisEventMetricPublisher, times(2))
+        .sendMetricWithStreamContext(TOPIC, "redis_consumer_fresh_messages", 1);
+  }
+
+  @Test
+  @Owner(developers = ANKIT)
+  @Category(UnitTests.class)
+  public void testClaimedMessagesAreInFlightUntilAcked() {
+    when(stream.listPending(eq(GROUP), any(StreamMessageId.class), any(StreamMessageId.class), anyInt()))
+        .thenReturn(Collections.singletonList(new PendingEntry(MESSAGE_ID, "other", 120000, 1)));
+    when(stream.claim(eq(GROUP), anyString(), anyLong(), any(TimeUnit.class), eq(MESSAGE_ID)))
+        .thenAnswer(invocation -> messages(MESSAGE_ID));
+    RedisConsumer consumer = RedisConsumer.withPendingSweep(
+        TOPIC, GROUP, redissonClient, Duration.ofMinutes(1), 10, "", Duration.ofHours(1), redisEventMetricPublisher);
+
+    List<Message> claimedMessages = consumer.read(Duration.ofSeconds(1));
+
+    assertThat(claimedMessages).hasSize(1);
+    assertThat(consumer.getClaimedMessagesCount().get()).isEqualTo(1);
+    assertThat(consumer.getInFlightMessagesCount()).isEqualTo(1);
+    verify(redisEventMetricPublisher).sendMetricWithStreamContext(TOPIC, "redis_consumer_claimed_messages", 1);
+
+    consumer.acknowledge(claimedMessages.get(0).getId());
+
+    verify(stream).ack(GROUP, MESSAGE_ID);
+    assertThat(consumer.getInFlightMessagesCount()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = ANKIT)
+  @Category(UnitTests.class)
+  public void testUnackedMessagesStopBeingInFlightAfterMaxProcessingTime() {
+    when(stream.listPending(eq(GROUP), any(StreamMessageId.class), any(StreamMessageId.class), anyInt()))
+        .thenReturn(Collections.emptyList());
+    when(stream.readGroup(eq(GROUP), anyString(), anyInt(), anyLong(), any(TimeUnit.class)))
+        .thenAnswer(invocation -> messages(MESSAGE_ID));
+    RedisConsumer consumer = RedisConsumer.withPendingSweep(
+        TOPIC, GROUP, redissonClient, Duration.ofMillis(1), 10, "", Duration.ofHours(1), redisEventMetricPublisher);
+
+    consumer.read(Duration.ofSeconds(1));
+
+    await().atMost(5L, TimeUnit.SECONDS).until(() -> consumer.getInFlightMessagesCount() == 0);
+  }
+
+  private static Map<StreamMessageId, Map<String, String>> messages(StreamMessageId messageId) {
+    Map<String, String> messageData = new HashMap<>();
+    messageData.put(RedisUtils.REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(new byte[] {1, 2}));
+    Map<StreamMessageId, Map<String, String>> messages = new HashMap<>();
+    messages.put(messageId, messageData);
+    return messages;
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.ANKIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.ProducerBatchResult;
+import io.harness.eventsframework.producer.Message;
+import io.harness.rule.Owner;
+
+import com.google.protobuf.ByteString;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.Codec;
+
+@OwnedBy(PL)
+public class RedisProducerTest extends CategoryTest {
+  private static final String TOPIC = "topic";
+  private static final int MAX_TOPIC_SIZE = 100;
+
+  private RedissonClient redissonClient;
+  private RBatch batch;
+  private RStreamAsync<Object, Object> batchStream;
+  private RedisProducer producer;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    redissonClient = mock(RedissonClient.class);
+    batch = mock(RBatch.class);
+    batchStream = mock(RStreamAsync.class);
+    when(redissonClient.createBatch(any(BatchOptions.class))).thenReturn(batch);
+    when(batch.getStream(anyString(), any(Codec.class))).thenReturn(batchStream);
+    producer = RedisProducer.of(TOPIC, redissonClient, MAX_TOPIC_SIZE, "producer", "");
+  }
+
+  @Test
+  @Owner(developers = ANKIT)
+  @Category(UnitTests.class)
+  public void testSendBatchReturnsIdsInOrderAndReportsFailures() {
+    stubAppends(Arrays.asList(successfulFuture(new StreamMessageId(1, 0)),
+        failedFuture(new RedisException("OOM command not allowed")), successfulFuture(new StreamMessageId(1, 1))));
+
+    ProducerBatchResult result = producer.sendBatch(messages(3));
+
+    assertThat(result.getMessageIds()).containsExactly("1-0", null, "1-1");
+    assertThat(result.getFailures()).containsOnlyKeys(1);
+    assertThat(result.getFailures().get(1)).isEqualTo("OOM command not allowed");
+    verify(batch).execute();
+    verify(batchStream).trimNonStrictAsync(MAX_TOPIC_SIZE);
+  }
+
+  @Test
+  @Owner(developers = ANKIT)
+  @Category(UnitTests.class)
+  public void testSendBatchReportsUnacknowledgedMessagesWhenExecuteFails() {
+    stubAppends(Collections.singletonList(failedFuture(null)));
+    when(batch.execute()).thenThrow(new RedisException("connection reset"));
+
+    ProducerBatchResult result = producer.sendBatch(messages(1));
+
+    assertThat(result.getMessageIds()).containsExactly((String) null);
+    assertThat(result.getFailures().get(0)).isEqualTo("Message was not acknowledged by redis");
+  }
+
+  @Test
+  @Owner(developers = ANKIT)
+  @Category(UnitTests.class)
+  public void testSendBatchOfNoMessagesDoesNotGoToRedis() {
+    ProducerBatchResult result = producer.sendBatch(Collections.emptyList());
+
+    assertThat(result.getMessageIds()).isEmpty();
+    assertThat(result.hasFailures()).isFalse();
+    verify(redissonClient, never()).createBatch(any(BatchOptions.class));
+  }
+
+  @Test
+  @Owner(developers = ANKIT)
+  @Category(UnitTests.class)
+  public void testSendBatchSplitsLargeBatchesAndTrimsOnce() {
+    int messageCount = RedisProducer.MAX_BATCH_SIZE + 1;
+    List<RFuture<StreamMessageId>> futures = new ArrayList<>(messageCount);
+    for (int i = 0; i < RedisProducer.MAX_BATCH_SIZE; i++) {
+      futures.add(successfulFuture(new StreamMessageId(1, i)));
+    }
+    futures.add(failedFuture(new RedisException("OOM command not allowed")));
+    stubAppends(futures);
+
+    ProducerBatchResult result = producer.sendBatch(messages(messageCount));
+
+    assertThat(result.getMessageIds()).hasSize(messageCount);
+    assertThat(result.getMessageIds().get(RedisProducer.MAX_BATCH_SIZE - 1))
+        .isEqualTo("1-" + (RedisProducer.MAX_BATCH_SIZE - 1));
+    assertThat(result.getFailures()).containsOnlyKeys(RedisProducer.MAX_BATCH_SIZE);
+    verify(redissonClient, times(2)).createBatch(any(BatchOptions.class));
+    verify(batch, times(2)).execute();
+    verify(batchStream, times(1)).trimNonStrictAsync(MAX_TOPIC_SIZE);
+  }
+
+  private void stubAppends(List<RFuture<StreamMessageId>> futures) {
+    Iterator<RFuture<StreamMessageId>> iterator = futures.iterator();
+    when(batchStream.addAllAsync(anyMap())).thenAnswer(invocation -> iterator.next());
+  }
+
+  private static List<Message> messages(int count) {
+    List<Message> messages = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      messages.add(Message.newBuilder().setData(ByteString.copyFromUtf8("message" + i)).build());
+    }
+    return messages;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static RFuture<StreamMessageId> successfulFuture(StreamMessageId messageId) {
+    RFuture<StreamMessageId> future = mock(RFuture.class);
+    when(future.isSuccess()).thenReturn(true);
+    when(future.getNow()).thenReturn(messageId);
+    return future;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static RFuture<StreamMessageId> failedFuture(Throwable cause) {
+    RFuture<StreamMessageId> future = mock(RFuture.class);
+    when(future.isSuccess()).thenReturn(false);
+    when(future.cause()).thenReturn(cause);
+    return future;
+  }
+}
@@ -41,7 +41,10 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import io.serializer.jackson.EdgeCaseRegexModule;
 import io.serializer.jackson.NGHarnessJacksonModule;
@@ -55,6 +58,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
@@ -72,6 +76,18 @@ public class YamlUtils {
   public static final ObjectMapper NG_DEFAULT_OBJECT_MAPPER =
       configureObjectMapperForNG(new ObjectMapper(new YAMLFactory()));
 
+  // The same pipeline yaml gets parsed again and again while a request goes through validation, template merge, filter
+  // and plan creation. Parsed trees of larger yamls are kept, bounded by yaml length, and every reader gets its own
+  // copy since callers modify the trees they read. Copying a tree costs a fraction of parsing the yaml again.
+  private final int MIN_CACHED_YAML_LENGTH = 1024;
+  private final long MAX_CACHED_YAML_LENGTH = 8L * 1024 * 1024;
+  private final Cache<String, JsonNode> parsedYamlTrees =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_CACHED_YAML_LENGTH)
+          .weigher((String yaml, JsonNode tree) -> yaml.length())
+          .expireAfterAccess(5, TimeUnit.MINUTES)
+          .build();
+
   static {
     mapper = new ObjectMapper(new YAMLFactory()
                                   .enable(YAMLGenerator.Feature.MINIMIZE_QUOTES)
@@ -98,7 +114,7 @@ public class YamlUtils {
   // Takes stringified yaml as input and returns the JsonNode
   public JsonNode readAsJsonNode(String yaml) {
     try {
-      return mapper.readTree(yaml);
+      return readJsonTree(yaml);
     } catch (IOException ex) {
       throw new InvalidRequestException("Couldn't convert yaml to json node", ex);
     }
@@ -150,11 +166,31 @@ public class YamlUtils {
   }
 
   private YamlField readTreeInternal(String content, ObjectMapper objectMapper) throws IOException {
-    JsonNode rootJsonNode = objectMapper.readTree(content);
+    JsonNode rootJsonNode = objectMapper == mapper ? readJsonTree(content) : objectMapper.readTree(content);
     YamlNode rootYamlNode = new YamlNode(rootJsonNode);
     return new YamlField(rootYamlNode);
   }
 
+  private JsonNode readJsonTree(String content) throws IOException {
+    if (content == null || content.length() < MIN_CACHED_YAML_LENGTH) {
+      return mapper.readTree(content);
+    }
+    JsonNode rootJsonNode = parsedYamlTrees.getIfPresent(content);
+    if (rootJsonNode == null) {
+      rootJsonNode = mapper.readTree(content);
+      if (rootJsonNode == null) {
+        return null;
+      }
+      parsedYamlTrees.put(content, rootJsonNode);
+    }
+    return rootJsonNode.deepCopy();
+  }
+
+  @VisibleForTesting
+  long getParsedYamlTreesCount() {
+    return parsedYamlTrees.size();
+  }
+
   public YamlField readTree(Object obj, String currentFieldName, YamlNode parentNode) {
     try {
       JsonNode currentJsonNode = mapper.valueToTree(obj);
@@ -166,7 +202,7 @@ public class YamlUtils {
   }
 
   public YamlField toByteString(String content) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    JsonNode rootJsonNode = readJsonTree(content);
     YamlNode rootYamlNode = new YamlNode(rootJsonNode);
     return new YamlField(rootYamlNode);
   }
@@ -237,7 +273,7 @@ public class YamlUtils {
   }
 
   public YamlField injectUuidWithLeafUuid(String content) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    JsonNode rootJsonNode = readJsonTree(content);
     if (rootJsonNode == null) {
       return null;
     }
@@ -323,7 +359,7 @@ public class YamlUtils {
 
   // TODO (prashant) : Re-evaluate can we do better
   public String injectUuidWithType(String content, String name) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    JsonNode rootJsonNode = readJsonTree(content);
     if (rootJsonNode == null) {
       return null;
     }
@@ -340,7 +376,7 @@ public class YamlUtils {
   }
 
   public YamlField injectUuidInYamlField(String content) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    JsonNode rootJsonNode = readJsonTree(content);
     if (rootJsonNode == null) {
       return null;
     }
@@ -950,4 +950,31 @@ public class YamlUtilsTest extends CategoryTest {
     assertThat(YamlUtils.writeYamlString(Map.of("k", new TextNode("+1234.")))).isEqualTo("k: \"+1234.\"\n");
     assertThat(YamlUtils.writeYamlString(Map.of("k", new TextNode("+.12")))).isEqualTo("k: \"+.12\"\n");
   }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testReadTreeOfSameYamlGivesSeparateTrees() throws IOException {
+    ClassLoader classLoader = this.getClass().getClassLoader();
+    String yaml = Resources.toString(
+                      Objects.requireNonNull(classLoader.getResource("pipeline-extensive.yml")), StandardCharsets.UTF_8)
+        + "\n# " + System.nanoTime() + "\n";
+    long parsedYamlTreesCount = YamlUtils.getParsedYamlTreesCount();
+
+    YamlField first = YamlUtils.readTree(yaml);
+    YamlField second = YamlUtils.readTree(yaml);
+    assertThat(YamlUtils.getParsedYamlTreesCount()).isEqualTo(parsedYamlTreesCount + 1);
+    assertThat(second.getNode().getCurrJsonNode()).isEqualTo(first.getNode().getCurrJsonNode());
+    assertThat(second.getNode().getCurrJsonNode()).isNotSameAs(first.getNode().getCurrJsonNode());
+
+    // changes to a tree that was read must not show up in trees read later
+    ((ObjectNode) first.getNode().getField("pipeline").getNode().getCurrJsonNode()).put("identifier", "changed");
+    JsonNode third = YamlUtils.readAsJsonNode(yaml);
+    assertThat(third.get("pipeline").get("identifier").asText()).isNotEqualTo("changed");
+    assertThat(third).isEqualTo(second.getNode().getCurrJsonNode());
+
+    // small yamls are parsed each time
+    YamlUtils.readTree("pipeline:\n  identifier: p1\n");
+    assertThat(YamlUtils.getParsedYamlTreesCount()).isEqualTo(parsedYamlTreesCount + 1);
+  }
 }
@@ -60,6 +60,10 @@ public class OutboxEvent implements PersistentEntity {
   @CreatedDate Long createdAt;
   @Setter @Builder.Default Boolean blocked = Boolean.FALSE;
   @Setter Instant nextUnblockAttemptAt;
+  @Setter Integer failedAttempts;
+
+  // hash of the resource scope and resource, the same for all events of an entity
+  Integer partitionKey;
 
   GlobalContext globalContext;
 
@@ -76,6 +80,11 @@ public class OutboxEvent implements PersistentEntity {
                  .field(OutboxEventKeys.eventType)
                  .field(OutboxEventKeys.blocked)
                  .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("partitionKey_createdAt_outbox_Idx")
+                 .field(OutboxEventKeys.partitionKey)
+                 .field(OutboxEventKeys.createdAt)
+                 .build())
         .build();
   }
 }
@@ -20,6 +20,7 @@ import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
@@ -27,7 +28,15 @@ import io.github.resilience4j.retry.RetryConfig;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.extern.slf4j.Slf4j;
 
 @OwnedBy(PL)
@@ -38,7 +47,10 @@ public class OutboxEventPollJob implements Runnable {
   private final PersistentLocker persistentLocker;
   private final OutboxPollConfiguration outboxPollConfiguration;
   private final OutboxEventFilter outboxEventFilter;
+  private final IntervalFunction retryIntervalFunction;
   private final Retry retry;
+  private final ExecutorService partitionExecutorService;
+  private final Set<Integer> partitionsInProgress = ConcurrentHashMap.newKeySet();
   private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
   private final String outboxLockId;
 
@@ -51,24 +63,43 @@ public class OutboxEventPollJob implements Runnable {
     this.outboxPollConfiguration = outboxPollConfiguration;
     this.outboxLockId = OUTBOX_POLL_JOB_LOCK + "_" + this.outboxPollConfiguration.getLockId();
     this.outboxEventFilter = OutboxEventFilter.builder().maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED).build();
+    this.retryIntervalFunction = IntervalFunction.ofExponentialBackoff(1000, 1.5);
     RetryConfig retryConfig = RetryConfig.custom()
-                                  .intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5))
+                                  .intervalFunction(retryIntervalFunction)
                                   .maxAttempts(this.outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent())
                                   .build();
     this.retry = Retry.of("outboxEventHandleRetry", retryConfig);
+    if (this.outboxPollConfiguration.getPartitionCount() > 0) {
+      String threadName = "outbox-partition-thread-" + this.outboxPollConfiguration.getLockId() + "-%d";
+      this.partitionExecutorService =
+          Executors.newFixedThreadPool(Math.max(1, this.outboxPollConfiguration.getPartitionThreadCount()),
+              new ThreadFactoryBuilder().setNameFormat(threadName).build());
+    } else {
+      this.partitionExecutorService = null;
+    }
   }
 
   @Override
   public void run() {
     try {
       if (!getMaintenanceFlag()) {
-        pollAndHandleOutboxEvents();
+        if (partitionExecutorService == null) {
+          pollAndHandleOutboxEvents();
+        } else {
+          pollAndHandlePartitions();
+        }
       }
     } catch (Exception exception) {
       log.error("Unexpected error occurred during the execution of OutboxPollJob", exception);
     }
   }
 
+  public void stop() {
+    if (partitionExecutorService != null) {
+      partitionExecutorService.shutdownNow();
+    }
+  }
+
   private void pollAndHandleOutboxEvents() {
     try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, Duration.ofMinutes(2))) {
       if (lock == null) {
@@ -107,20 +138,134 @@ public class OutboxEventPollJob implements Runnable {
     }
   }
 
+  /**
+   * Hands every partition that is not still being handled from an earlier run to the partition threads, without
+   * waiting for them. A slow partition therefore only delays itself, the others are polled again on the next run.
+   */
+  private void pollAndHandlePartitions() {
+    List<Integer> partitions = new ArrayList<>();
+    for (int partition = 0; partition < outboxPollConfiguration.getPartitionCount(); partition++) {
+      partitions.add(partition);
+    }
+    // pods start with different partitions, so that they do not all queue up for the same locks
+    Collections.shuffle(partitions);
+    for (Integer partition : partitions) {
+      if (!partitionsInProgress.add(partition)) {
+        continue;
+      }
+      try {
+        partitionExecutorService.execute(() -> {
+          try {
+            pollAndHandleOutboxEvents(partition);
+          } catch (Exception exception) {
+            log.error(
+                String.format("Unexpected error occurred while polling outbox partition %d", partition), exception);
+          } finally {
+            partitionsInProgress.remove(partition);
+          }
+        });
+      } catch (RejectedExecutionException exception) {
+        partitionsInProgress.remove(partition);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Handles the events of one partition in the order they were created. An event that fails is retried in a later
+   * poll after a backoff, and until then the later events of its entity are held back and not polled. The handled
+   * events are deleted together at the end.
+   */
+  private void pollAndHandleOutboxEvents(int partition) {
+    String partitionLockId = outboxLockId + "_" + partition;
+    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(partitionLockId, Duration.ofMinutes(2))) {
+      if (lock == null) {
+        log.debug("Could not acquire lock for outbox partition {}", partition);
+        return;
+      }
+      OutboxEventFilter partitionFilter = OutboxEventFilter.builder()
+                                              .maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED)
+                                              .partitionCount(outboxPollConfiguration.getPartitionCount())
+                                              .partition(partition)
+                                              .build();
+      List<OutboxEvent> outboxEvents;
+      Set<Integer> heldPartitionKeys;
+      try {
+        heldPartitionKeys = new HashSet<>(outboxService.listBlockedPartitionKeys(partitionFilter));
+        // the events of held entities are left out of the page, so they cannot fill it up
+        partitionFilter.setExcludedPartitionKeys(new ArrayList<>(heldPartitionKeys));
+        outboxEvents = outboxService.list(partitionFilter);
+      } catch (InstantiationError error) {
+        log.error("InstantiationError occurred while fetching entries from the outbox", error);
+        return;
+      }
+
+      List<String> handledOutboxEventIds = new ArrayList<>();
+      for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
+        OutboxEvent outbox = outboxEvents.get(i);
+        Integer partitionKey = outbox.getPartitionKey();
+        if (heldPartitionKeys.contains(partitionKey)) {
+          continue;
+        }
+        long startTime = System.currentTimeMillis();
+        boolean success = handleWithoutRetry(outbox);
+        log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
+            System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
+        if (success) {
+          handledOutboxEventIds.add(outbox.getId());
+          continue;
+        }
+        heldPartitionKeys.add(partitionKey);
+        try {
+          int failedAttempts = outbox.getFailedAttempts() == null ? 1 : outbox.getFailedAttempts() + 1;
+          outbox.setFailedAttempts(failedAttempts);
+          outbox.setBlocked(true);
+          outbox.setNextUnblockAttemptAt(getNextUnblockAttemptAt(failedAttempts));
+          outboxService.update(outbox);
+        } catch (Exception exception) {
+          log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
+                        outbox.getId(), outbox.getEventType()),
+              exception);
+        }
+      }
+
+      if (!handledOutboxEventIds.isEmpty()) {
+        try {
+          outboxService.deleteAll(handledOutboxEventIds);
+        } catch (Exception exception) {
+          log.error(String.format("Error occurred while deleting %d handled outbox events of partition %d",
+                        handledOutboxEventIds.size(), partition),
+              exception);
+        }
+      }
+    }
+  }
+
+  private Instant getNextUnblockAttemptAt(int failedAttempts) {
+    if (failedAttempts < outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent()) {
+      return Instant.now().plusMillis(retryIntervalFunction.apply(failedAttempts));
+    }
+    return Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES);
+  }
+
   private boolean handle(OutboxEvent outboxEvent) {
-    boolean success = false;
+    boolean success = handleWithoutRetry(outboxEvent);
+    if (!success && !Boolean.TRUE.equals(outboxEvent.getBlocked())) {
+      log.error("Retrying this outbox event with exponential backoff now...");
+      success = handleWithExponentialBackOff(outboxEvent);
+    }
+    return success;
+  }
+
+  private boolean handleWithoutRetry(OutboxEvent outboxEvent) {
     try {
-      success = outboxEventHandler.handle(outboxEvent);
+      return outboxEventHandler.handle(outboxEvent);
     } catch (Exception exception) {
       log.error(String.format("Error occurred while handling outbox event with id %s and type %s", outboxEvent.getId(),
                     outboxEvent.getEventType()),
           exception);
+      return false;
     }
-    if (!success && !Boolean.TRUE.equals(outboxEvent.getBlocked())) {
-      log.error("Retrying this outbox event with exponential backoff now...");
-      success = handleWithExponentialBackOff(outboxEvent);
-    }
-    return success;
   }
 
   private boolean handleWithExponentialBackOff(OutboxEvent outboxEvent) {
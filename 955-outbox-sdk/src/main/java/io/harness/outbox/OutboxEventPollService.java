@@ -47,5 +47,6 @@ public class OutboxEventPollService implements Managed {
   public void stop() {
     outboxPollJobFuture.cancel(false);
     executorService.shutdownNow();
+    outboxEventPollJob.stop();
   }
 }
@@ -27,4 +27,8 @@ public class OutboxPollConfiguration {
   int pollingIntervalInSeconds;
   int maximumRetryAttemptsForAnEvent;
   String lockId;
+  // number of partitions the events are split into by entity, each polled under its own lock so that pods and threads
+  // handle them in parallel while the events of an entity stay in order. 0 polls all events under a single lock
+  int partitionCount;
+  int partitionThreadCount;
 }
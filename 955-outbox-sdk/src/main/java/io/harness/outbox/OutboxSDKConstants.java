@@ -45,5 +45,9 @@ public class OutboxSDKConstants {
 
   public static final String OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME = "outbox_blocked_queue_size";
 
+  public static final String OUTBOX_PARTITION_QUEUE_SIZE_METRIC_NAME = "outbox_partition_queue_size";
+
+  public static final String OUTBOX_PARTITION_LAG_METRIC_NAME = "outbox_partition_lag";
+
   public static final String ALL_EVENT_TYPES = "AllEventTypes";
 }
@@ -12,6 +12,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.outbox.OutboxEvent;
 import io.harness.outbox.filter.OutboxEventFilter;
+import io.harness.outbox.filter.OutboxEventsPerPartitionCount;
 import io.harness.outbox.filter.OutboxMetricsFilter;
 
 import java.util.List;
@@ -27,5 +28,11 @@ public interface OutboxDao {
 
   Map<String, Long> countPerEventType(OutboxMetricsFilter outboxMetricsFilter);
 
+  List<OutboxEventsPerPartitionCount> countPerPartition(int partitionCount);
+
+  List<Integer> listBlockedPartitionKeys(OutboxEventFilter outboxEventFilter);
+
   boolean delete(String outboxEventId);
+
+  boolean deleteAll(List<String> outboxEventIds);
 }
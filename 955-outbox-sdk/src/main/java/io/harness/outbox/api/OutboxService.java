@@ -24,5 +24,9 @@ public interface OutboxService {
 
   List<OutboxEvent> list(OutboxEventFilter outboxEventFilter);
 
+  List<Integer> listBlockedPartitionKeys(OutboxEventFilter outboxEventFilter);
+
   boolean delete(String outboxEventId);
+
+  boolean deleteAll(List<String> outboxEventIds);
 }
@@ -9,6 +9,7 @@ package io.harness.outbox.api.impl;
 
 import static io.harness.NGCommonEntityConstants.MONGODB_ID;
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_CREATED_AT_ASC_SORT_ORDER;
 import static io.harness.utils.PageUtils.getPageRequest;
 
@@ -25,16 +26,21 @@ import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.outbox.filter.OutboxEventsPerEventTypeCount;
 import io.harness.outbox.filter.OutboxEventsPerEventTypeCount.OutboxEventsPerEventTypeCountKeys;
+import io.harness.outbox.filter.OutboxEventsPerPartitionCount;
+import io.harness.outbox.filter.OutboxEventsPerPartitionCount.OutboxEventsPerPartitionCountKeys;
 import io.harness.outbox.filter.OutboxMetricsFilter;
 import io.harness.repositories.outbox.OutboxEventRepository;
 
 import com.google.inject.Inject;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators.Mod;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
 import org.springframework.data.mongodb.core.aggregation.GroupOperation;
 import org.springframework.data.mongodb.core.aggregation.MatchOperation;
 import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
@@ -98,6 +104,53 @@ public class OutboxDaoImpl implements OutboxDao {
     return result;
   }
 
+  @Override
+  public List<OutboxEventsPerPartitionCount> countPerPartition(int partitionCount) {
+    ProjectionOperation partitionStage =
+        project(OutboxEventKeys.createdAt)
+            .and(Mod.valueOf(ConditionalOperators.ifNull(OutboxEventKeys.partitionKey).then(0)).mod(partitionCount))
+            .as(OutboxEventsPerPartitionCountKeys.partition);
+    GroupOperation groupByPartitionStage = group(OutboxEventsPerPartitionCountKeys.partition)
+                                               .count()
+                                               .as(OutboxEventsPerPartitionCountKeys.count)
+                                               .min(OutboxEventKeys.createdAt)
+                                               .as(OutboxEventsPerPartitionCountKeys.oldestCreatedAt);
+    ProjectionOperation projectionStage = project()
+                                              .and(MONGODB_ID)
+                                              .as(OutboxEventsPerPartitionCountKeys.partition)
+                                              .andInclude(OutboxEventsPerPartitionCountKeys.count,
+                                                  OutboxEventsPerPartitionCountKeys.oldestCreatedAt);
+    return outboxRepository
+        .aggregate(newAggregation(partitionStage, groupByPartitionStage, projectionStage),
+            OutboxEventsPerPartitionCount.class)
+        .getMappedResults();
+  }
+
+  @Override
+  public List<Integer> listBlockedPartitionKeys(OutboxEventFilter outboxEventFilter) {
+    Assert.notNull(outboxEventFilter, "OutboxEventFilter must not be null!");
+    Assert.notNull(outboxEventFilter.getPartition(), "Partition must not be null!");
+    Instant now = Instant.now();
+    Criteria criteria = new Criteria().andOperator(getHeldCriteria(now), getPartitionCriteria(outboxEventFilter));
+    List<Integer> blockedPartitionKeys =
+        new ArrayList<>(outboxRepository.findDistinct(criteria, OutboxEventKeys.partitionKey, Integer.class));
+    // distinct leaves out events saved before partitioning, which have no partition key. They are held back all
+    // together while one of them is blocked, since there is no entity to order them by.
+    if (outboxEventFilter.getPartition() == 0 && !blockedPartitionKeys.contains(null)
+        && outboxRepository.count(getHeldWithoutPartitionKeyCriteria(now)) > 0) {
+      blockedPartitionKeys.add(null);
+    }
+    return blockedPartitionKeys;
+  }
+
+  private Criteria getHeldWithoutPartitionKeyCriteria(Instant now) {
+    return new Criteria().andOperator(getHeldCriteria(now), Criteria.where(OutboxEventKeys.partitionKey).is(null));
+  }
+
+  private Criteria getHeldCriteria(Instant now) {
+    return Criteria.where(OutboxEventKeys.blocked).is(Boolean.TRUE).and(OutboxEventKeys.nextUnblockAttemptAt).gte(now);
+  }
+
   private Criteria getCriteria(OutboxEventFilter outboxEventFilter) {
     Criteria criteria = new Criteria();
     Criteria blockedNotTrueCriteria = Criteria.where(OutboxEventKeys.blocked).ne(Boolean.TRUE);
@@ -105,13 +158,38 @@ public class OutboxDaoImpl implements OutboxDao {
                                        .is(Boolean.TRUE)
                                        .and(OutboxEventKeys.nextUnblockAttemptAt)
                                        .lt(Instant.now());
-    criteria.orOperator(blockedNotTrueCriteria, blockedTrueCriteria);
+    if (outboxEventFilter.getPartition() == null) {
+      criteria.orOperator(blockedNotTrueCriteria, blockedTrueCriteria);
+    } else if (isEmpty(outboxEventFilter.getExcludedPartitionKeys())) {
+      criteria.andOperator(new Criteria().orOperator(blockedNotTrueCriteria, blockedTrueCriteria),
+          getPartitionCriteria(outboxEventFilter));
+    } else {
+      criteria.andOperator(new Criteria().orOperator(blockedNotTrueCriteria, blockedTrueCriteria),
+          getPartitionCriteria(outboxEventFilter),
+          Criteria.where(OutboxEventKeys.partitionKey).nin(outboxEventFilter.getExcludedPartitionKeys()));
+    }
     return criteria;
   }
 
+  private Criteria getPartitionCriteria(OutboxEventFilter outboxEventFilter) {
+    Criteria partitionCriteria = Criteria.where(OutboxEventKeys.partitionKey)
+                                     .mod(outboxEventFilter.getPartitionCount(), outboxEventFilter.getPartition());
+    if (outboxEventFilter.getPartition() != 0) {
+      return partitionCriteria;
+    }
+    // events saved before partitioning have no partition key, they all go to the first partition
+    return new Criteria().orOperator(partitionCriteria, Criteria.where(OutboxEventKeys.partitionKey).is(null));
+  }
+
   @Override
   public boolean delete(String outboxEventId) {
     outboxRepository.deleteById(outboxEventId);
     return true;
   }
+
+  @Override
+  public boolean deleteAll(List<String> outboxEventIds) {
+    outboxRepository.deleteAllById(outboxEventIds);
+    return true;
+  }
 }
@@ -13,9 +13,11 @@ import static io.harness.outbox.OutboxSDKConstants.DEFAULT_OUTBOX_EVENT_FILTER;
 import static io.serializer.HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.Scope;
 import io.harness.event.Event;
 import io.harness.exception.UnexpectedException;
 import io.harness.manage.GlobalContextManager;
+import io.harness.ng.core.mapper.ResourceScopeMapper;
 import io.harness.outbox.OutboxEvent;
 import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.api.OutboxService;
@@ -23,7 +25,9 @@ import io.harness.outbox.filter.OutboxEventFilter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
 import com.google.inject.Inject;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import javax.annotation.Nullable;
 
@@ -53,6 +57,7 @@ public class OutboxServiceImpl implements OutboxService {
                                   .eventData(eventData)
                                   .eventType(event.getEventType())
                                   .globalContext(GlobalContextManager.obtainGlobalContext())
+                                  .partitionKey(getPartitionKey(event))
                                   .build();
     return outboxDao.save(outboxEvent);
   }
@@ -70,9 +75,30 @@ public class OutboxServiceImpl implements OutboxService {
     return outboxDao.list(outboxEventFilter);
   }
 
+  @Override
+  public List<Integer> listBlockedPartitionKeys(OutboxEventFilter outboxEventFilter) {
+    return outboxDao.listBlockedPartitionKeys(outboxEventFilter);
+  }
+
   @Override
   public boolean delete(String outboxEventId) {
     outboxDao.delete(outboxEventId);
     return true;
   }
+
+  @Override
+  public boolean deleteAll(List<String> outboxEventIds) {
+    outboxDao.deleteAll(outboxEventIds);
+    return true;
+  }
+
+  private static Integer getPartitionKey(Event event) {
+    if (event.getResourceScope() == null || event.getResource() == null) {
+      return null;
+    }
+    Scope scope = ResourceScopeMapper.getScopeFromResourceScope(event.getResourceScope());
+    String entityKey = String.join("/", scope.getAccountIdentifier(), scope.getOrgIdentifier(),
+        scope.getProjectIdentifier(), event.getResource().getType(), event.getResource().getIdentifier());
+    return Hashing.murmur3_128().hashString(entityKey, StandardCharsets.UTF_8).asInt() & Integer.MAX_VALUE;
+  }
 }
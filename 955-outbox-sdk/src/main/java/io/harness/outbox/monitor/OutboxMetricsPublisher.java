@@ -10,18 +10,24 @@ package io.harness.outbox.monitor;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.outbox.OutboxSDKConstants.ALL_EVENT_TYPES;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_PARTITION_LAG_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_PARTITION_QUEUE_SIZE_METRIC_NAME;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_QUEUE_SIZE_METRIC_NAME;
 import static io.harness.outbox.TransactionOutboxModule.SERVICE_ID_FOR_OUTBOX;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
+import io.harness.outbox.OutboxPollConfiguration;
 import io.harness.outbox.api.OutboxDao;
+import io.harness.outbox.filter.OutboxEventsPerPartitionCount;
 import io.harness.outbox.filter.OutboxMetricsFilter;
 import io.harness.outbox.monitor.context.OutboxContext;
+import io.harness.outbox.monitor.context.OutboxPartitionContext;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import java.util.HashMap;
 import java.util.Map;
 
 @OwnedBy(PL)
@@ -32,13 +38,15 @@ public class OutboxMetricsPublisher implements MetricsPublisher {
   private final OutboxDao outboxDao;
   private final MetricService metricService;
   private final String serviceId;
+  private final OutboxPollConfiguration outboxPollConfiguration;
 
   @Inject
-  public OutboxMetricsPublisher(
-      OutboxDao outboxDao, MetricService metricService, @Named(SERVICE_ID_FOR_OUTBOX) String serviceId) {
+  public OutboxMetricsPublisher(OutboxDao outboxDao, MetricService metricService,
+      @Named(SERVICE_ID_FOR_OUTBOX) String serviceId, OutboxPollConfiguration outboxPollConfiguration) {
     this.outboxDao = outboxDao;
     this.metricService = metricService;
     this.serviceId = serviceId;
+    this.outboxPollConfiguration = outboxPollConfiguration;
   }
 
   @Override
@@ -61,5 +69,28 @@ public class OutboxMetricsPublisher implements MetricsPublisher {
         metricService.recordMetric(OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME, count);
       }
     });
+
+    if (outboxPollConfiguration.getPartitionCount() > 0) {
+      recordPartitionMetrics(outboxPollConfiguration.getPartitionCount());
+    }
+  }
+
+  private void recordPartitionMetrics(int partitionCount) {
+    Map<Integer, OutboxEventsPerPartitionCount> countPerPartition = new HashMap<>();
+    outboxDao.countPerPartition(partitionCount)
+        .forEach(partitionCountInfo -> countPerPartition.put(partitionCountInfo.getPartition(), partitionCountInfo));
+    long now = System.currentTimeMillis();
+    // empty partitions are recorded as well, so that their lag goes back to 0
+    for (int partition = 0; partition < partitionCount; partition++) {
+      OutboxEventsPerPartitionCount partitionCountInfo = countPerPartition.get(partition);
+      long count = partitionCountInfo == null ? 0 : partitionCountInfo.getCount();
+      long lag = partitionCountInfo == null || partitionCountInfo.getOldestCreatedAt() == null
+          ? 0
+          : Math.max(0, now - partitionCountInfo.getOldestCreatedAt());
+      try (OutboxPartitionContext ignored = new OutboxPartitionContext(serviceId, partition)) {
+        metricService.recordMetric(OUTBOX_PARTITION_QUEUE_SIZE_METRIC_NAME, count);
+        metricService.recordMetric(OUTBOX_PARTITION_LAG_METRIC_NAME, lag);
+      }
+    }
   }
 }
@@ -43,4 +43,9 @@ public class OutboxEventCustomRepositoryImpl implements OutboxEventCustomReposit
   public <T> AggregationResults<T> aggregate(Aggregation aggregation, Class<T> classToFillResultIn) {
     return mongoTemplate.aggregate(aggregation, OutboxEvent.class, classToFillResultIn);
   }
+
+  @Override
+  public <T> List<T> findDistinct(Criteria criteria, String field, Class<T> resultClass) {
+    return mongoTemplate.findDistinct(new Query(criteria), field, OutboxEvent.class, resultClass);
+  }
 }
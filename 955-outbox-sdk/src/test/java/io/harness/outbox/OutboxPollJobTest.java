@@ -18,6 +18,8 @@ import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -30,8 +32,10 @@ import io.harness.lock.PersistentLocker;
 import io.harness.maintenance.MaintenanceController;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
+import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.rule.Owner;
 
+import java.util.Arrays;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -97,4 +101,77 @@ public class OutboxPollJobTest extends CategoryTest {
     assertTrue(updateOutboxEvent.getBlocked());
     assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPartitionedHandlingKeepsEntityOrder() {
+    OutboxEventPollJob partitionedOutboxEventPollJob =
+        new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
+            OutboxPollConfiguration.builder()
+                .maximumRetryAttemptsForAnEvent(2)
+                .lockId("LOCK_ID")
+                .partitionCount(1)
+                .partitionThreadCount(1)
+                .build());
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_0"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    OutboxEvent failing = OutboxEvent.builder().eventType("emptyEvent").id("failing").partitionKey(1).build();
+    OutboxEvent afterFailing = OutboxEvent.builder().eventType("emptyEvent").id("afterFailing").partitionKey(1).build();
+    OutboxEvent other = OutboxEvent.builder().eventType("emptyEvent").id("other").partitionKey(2).build();
+    OutboxEvent afterBlocked = OutboxEvent.builder().eventType("emptyEvent").id("afterBlocked").partitionKey(3).build();
+    when(outboxService.list(any())).thenReturn(Arrays.asList(failing, afterFailing, other, afterBlocked));
+    when(outboxService.listBlockedPartitionKeys(any())).thenReturn(singletonList(3));
+    when(outboxEventHandler.handle(failing)).thenReturn(false);
+    when(outboxEventHandler.handle(other)).thenReturn(true);
+
+    partitionedOutboxEventPollJob.run();
+    // the partition is handled on the partition threads, the handled events are deleted last
+    verify(outboxService, timeout(5000)).deleteAll(singletonList("other"));
+    partitionedOutboxEventPollJob.stop();
+
+    final ArgumentCaptor<OutboxEventFilter> filterArgumentCaptor = ArgumentCaptor.forClass(OutboxEventFilter.class);
+    verify(outboxService, times(1)).list(filterArgumentCaptor.capture());
+    assertEquals(singletonList(3), filterArgumentCaptor.getValue().getExcludedPartitionKeys());
+    verify(outboxEventHandler, times(2)).handle(any());
+    final ArgumentCaptor<OutboxEvent> outboxEventArgumentCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxService, times(1)).update(outboxEventArgumentCaptor.capture());
+    OutboxEvent updateOutboxEvent = outboxEventArgumentCaptor.getValue();
+    assertEquals("failing", updateOutboxEvent.getId());
+    assertTrue(updateOutboxEvent.getBlocked());
+    assertEquals(Integer.valueOf(1), updateOutboxEvent.getFailedAttempts());
+    assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPartitionedHandlingHoldsEventsWithoutPartitionKey() {
+    OutboxEventPollJob partitionedOutboxEventPollJob =
+        new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
+            OutboxPollConfiguration.builder()
+                .maximumRetryAttemptsForAnEvent(2)
+                .lockId("LOCK_ID")
+                .partitionCount(1)
+                .partitionThreadCount(1)
+                .build());
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_0"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    // saved before partitioning, an earlier one of them is blocked
+    OutboxEvent legacy = OutboxEvent.builder().eventType("emptyEvent").id("legacy").build();
+    OutboxEvent keyed = OutboxEvent.builder().eventType("emptyEvent").id("keyed").partitionKey(2).build();
+    when(outboxService.list(any())).thenReturn(Arrays.asList(legacy, keyed));
+    when(outboxService.listBlockedPartitionKeys(any())).thenReturn(singletonList(null));
+    when(outboxEventHandler.handle(keyed)).thenReturn(true);
+
+    partitionedOutboxEventPollJob.run();
+    verify(outboxService, timeout(5000)).deleteAll(singletonList("keyed"));
+    partitionedOutboxEventPollJob.stop();
+
+    final ArgumentCaptor<OutboxEventFilter> filterArgumentCaptor = ArgumentCaptor.forClass(OutboxEventFilter.class);
+    verify(outboxService, times(1)).list(filterArgumentCaptor.capture());
+    assertEquals(singletonList(null), filterArgumentCaptor.getValue().getExcludedPartitionKeys());
+    verify(outboxEventHandler, times(1)).handle(any());
+    verify(outboxEventHandler, never()).handle(legacy);
+  }
 }
@@ -11,10 +11,12 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.rule.OwnerRule.KARAN;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -29,6 +31,7 @@ import io.harness.repositories.outbox.OutboxEventRepository;
 import io.harness.rule.Owner;
 
 import com.mongodb.BasicDBList;
+import java.util.Arrays;
 import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
@@ -82,4 +85,65 @@ public class OutboxDaoImplTest extends CategoryTest {
     Sort sort = Sort.by(OutboxEventKeys.createdAt);
     assertEquals(sort, pageable.getSort());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListPartition() {
+    OutboxEventFilter outboxEventFilter =
+        OutboxEventFilter.builder().maximumEventsPolled(50).partitionCount(4).partition(3).build();
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+    outboxDao.list(outboxEventFilter);
+    verify(outboxEventRepository, times(1)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+    Document criteriaObject = criteriaArgumentCaptor.getValue().getCriteriaObject();
+    BasicDBList andList = (BasicDBList) criteriaObject.get("$and");
+    assertNotNull(andList);
+    assertEquals(2, andList.size());
+
+    BasicDBList orList = (BasicDBList) ((Document) andList.get(0)).get("$or");
+    assertEquals(2, orList.size());
+
+    Document partitionKey = (Document) ((Document) andList.get(1)).get(OutboxEventKeys.partitionKey);
+    assertEquals(Arrays.asList(4, 3), partitionKey.get("$mod"));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListPartitionExcludingPartitionKeys() {
+    OutboxEventFilter outboxEventFilter = OutboxEventFilter.builder()
+                                              .maximumEventsPolled(50)
+                                              .partitionCount(4)
+                                              .partition(3)
+                                              .excludedPartitionKeys(Arrays.asList(7, 11))
+                                              .build();
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+    outboxDao.list(outboxEventFilter);
+    verify(outboxEventRepository, times(1)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+    BasicDBList andList = (BasicDBList) criteriaArgumentCaptor.getValue().getCriteriaObject().get("$and");
+    assertEquals(3, andList.size());
+
+    Document partitionKey = (Document) ((Document) andList.get(2)).get(OutboxEventKeys.partitionKey);
+    assertEquals(Arrays.asList(7, 11), partitionKey.get("$nin"));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListBlockedPartitionKeysReportsEventsWithoutPartitionKey() {
+    OutboxEventFilter outboxEventFilter =
+        OutboxEventFilter.builder().maximumEventsPolled(50).partitionCount(4).partition(0).build();
+    when(outboxEventRepository.findDistinct(any(Criteria.class), eq(OutboxEventKeys.partitionKey), eq(Integer.class)))
+        .thenReturn(singletonList(8));
+    when(outboxEventRepository.count(any(Criteria.class))).thenReturn(1L);
+
+    assertEquals(Arrays.asList(8, null), outboxDao.listBlockedPartitionKeys(outboxEventFilter));
+
+    // events without a partition key are only polled by the first partition
+    outboxEventFilter.setPartition(1);
+    assertEquals(singletonList(8), outboxDao.listBlockedPartitionKeys(outboxEventFilter));
+    verify(outboxEventRepository, times(1)).count(any(Criteria.class));
+  }
 }
@@ -13,6 +13,7 @@ import static io.harness.rule.OwnerRule.KARAN;
 import static java.util.Collections.emptyList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
+import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -81,6 +82,31 @@ public class OutboxServiceImplTest extends CategoryTest {
     assertEquals(accountIdentifier, ((AccountScope) outboxEvent.getResourceScope()).getAccountIdentifier());
   }
 
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testSaveSetsSamePartitionKeyForEntity() {
+    String accountIdentifier = randomAlphabetic(10);
+    ArgumentCaptor<OutboxEvent> outboxEventArgumentCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+    when(outboxDao.save(any(OutboxEvent.class))).thenReturn(null);
+
+    outboxService.save(SampleEvent.builder()
+                           .resourceScope(new AccountScope(accountIdentifier))
+                           .resource(Resource.builder().type("CONNECTOR").identifier("connector1").build())
+                           .eventType("ConnectorCreated")
+                           .build());
+    outboxService.save(SampleEvent.builder()
+                           .resourceScope(new AccountScope(accountIdentifier))
+                           .resource(Resource.builder().type("CONNECTOR").identifier("connector1").build())
+                           .eventType("ConnectorUpdated")
+                           .build());
+    verify(outboxDao, times(2)).save(outboxEventArgumentCaptor.capture());
+    Integer partitionKey = outboxEventArgumentCaptor.getAllValues().get(0).getPartitionKey();
+    assertNotNull(partitionKey);
+    assertTrue(partitionKey >= 0);
+    assertEquals(partitionKey, outboxEventArgumentCaptor.getAllValues().get(1).getPartitionKey());
+  }
+
   @Test
   @Owner(developers = KARAN)
   @Category(UnitTests.class)
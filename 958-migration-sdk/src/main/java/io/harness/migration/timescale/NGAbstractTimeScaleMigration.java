@@ -37,6 +37,7 @@ public abstract class NGAbstractTimeScaleMigration implements NGMigration {
     ScriptRunner scriptRunner = new ScriptRunner(connection);
     scriptRunner.setStopOnError(true);
     scriptRunner.setSendFullScript(executeFullScript());
+    scriptRunner.setAutoCommit(autoCommit());
     scriptRunner.runScript(inputStreamReader);
   }
 
@@ -46,6 +47,11 @@ public abstract class NGAbstractTimeScaleMigration implements NGMigration {
     return false;
   }
 
+  // Statements that cannot run inside a transaction block, like creating continuous aggregates, need auto commit
+  public boolean autoCommit() {
+    return false;
+  }
+
   @Override
   public void migrate() {
     if (timeScaleDBService.isValid()) {
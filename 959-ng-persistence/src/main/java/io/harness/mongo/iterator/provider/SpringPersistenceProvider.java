@@ -15,6 +15,7 @@ import static java.lang.System.currentTimeMillis;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.BulkWriteOpsResults;
+import io.harness.mongo.iterator.IteratorShard;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
 import io.harness.mongo.iterator.filter.SpringFilterExpander;
 
@@ -67,6 +68,39 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
     return query;
   }
 
+  /**
+   * Same as {@link #createQuery(long, String, SpringFilterExpander, boolean)} but the due criteria and the shard
+   * criteria are combined in one {@code $and}, so the shard range never clashes with an {@code _id} filter already
+   * set by the filter expander.
+   */
+  private Query createQuery(long now, String fieldName, SpringFilterExpander filterExpander, Criteria shardCriteria) {
+    if (shardCriteria == null) {
+      return createQuery(now, fieldName, filterExpander, false);
+    }
+    Query query = createQuery(fieldName, filterExpander, false);
+    query.addCriteria(new Criteria().andOperator(
+        new Criteria().orOperator(Criteria.where(fieldName).lt(now), Criteria.where(fieldName).exists(false)),
+        shardCriteria));
+    return query;
+  }
+
+  /**
+   * Mirrors {@link IteratorShard#applyTo} for spring queries. The result has to be nested in an {@code $and} by the
+   * caller, a top level {@code _id} criteria would conflict with filters that already constrain {@code _id}.
+   */
+  static Criteria createShardCriteria(IteratorShard shard) {
+    if (shard.getLowerBound() == null && shard.getUpperBound() == null) {
+      return null;
+    }
+    if (shard.getLowerBound() == null) {
+      return Criteria.where("_id").lt(shard.getUpperBound());
+    }
+    if (shard.getUpperBound() == null) {
+      return Criteria.where("_id").not().lt(shard.getLowerBound());
+    }
+    return Criteria.where("_id").gte(shard.getLowerBound()).lt(shard.getUpperBound());
+  }
+
   @Override
   public void updateEntityField(T entity, List<Long> nextIterations, Class<T> clazz, String fieldName) {
     Update update = new Update();
@@ -126,6 +160,18 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
     return docs.iterator();
   }
 
+  @Override
+  public Iterator<T> obtainNextInstances(
+      Class<T> clazz, String fieldName, SpringFilterExpander filterExpander, int limit, IteratorShard shard) {
+    long now = currentTimeMillis();
+    Query query = createQuery(now, fieldName, filterExpander, createShardCriteria(shard));
+    query.limit(limit);
+
+    List<T> docs = persistence.find(query, clazz);
+
+    return docs.iterator();
+  }
+
   @Override
   public BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval) {
@@ -15,6 +15,7 @@ import static java.lang.System.currentTimeMillis;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.BulkWriteOpsResults;
+import io.harness.mongo.iterator.IteratorShard;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
 import io.harness.mongo.iterator.filter.SpringFilterExpander;
 
@@ -66,6 +67,15 @@ public class SpringPersistenceRequiredProvider<T extends PersistentIterable>
     return query;
   }
 
+  private Query createQuery(long now, String fieldName, SpringFilterExpander filterExpander, Criteria shardCriteria) {
+    if (shardCriteria == null) {
+      return createQuery(now, fieldName, filterExpander, false);
+    }
+    Query query = createQuery(fieldName, filterExpander, false);
+    query.addCriteria(new Criteria().andOperator(Criteria.where(fieldName).lt(now), shardCriteria));
+    return query;
+  }
+
   @Override
   public void updateEntityField(T entity, List<Long> nextIterations, Class<T> clazz, String fieldName) {
     Update update = new Update();
@@ -125,6 +135,18 @@ public class SpringPersistenceRequiredProvider<T extends PersistentIterable>
     return docs.iterator();
   }
 
+  @Override
+  public Iterator<T> obtainNextInstances(
+      Class<T> clazz, String fieldName, SpringFilterExpander filterExpander, int limit, IteratorShard shard) {
+    long now = currentTimeMillis();
+    Query query = createQuery(now, fieldName, filterExpander, SpringPersistenceProvider.createShardCriteria(shard));
+    query.limit(limit);
+
+    List<T> docs = persistence.find(query, clazz);
+
+    return docs.iterator();
+  }
+
   @Override
   public BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval) {
@@ -15,6 +15,9 @@ import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.
 
 import static java.lang.String.format;
 import static java.time.Duration.ofSeconds;
+import static java.util.stream.Collectors.toList;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.data.structure.EmptyPredicate;
@@ -39,23 +42,33 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
+import io.dropwizard.lifecycle.Managed;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 @OwnedBy(CDC)
 @Singleton
 @Slf4j
-public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<TimeoutInstance> {
+public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<TimeoutInstance>, Managed {
   private static final Duration MAX_CALLBACK_PROCESSING_TIME = Duration.ofMinutes(1);
   private static final Integer MAX_BATCH_SIZE = 500;
+  @VisibleForTesting static final int MAX_CLAIM_BATCHES_PER_ROUND = 20;
+  public static final String TIMING_WHEEL_MODE = "TIMING_WHEEL";
 
   @Inject private TimeoutInstanceRepository timeoutInstanceRepository;
   @Inject private PersistenceIteratorFactory persistenceIteratorFactory;
@@ -63,6 +76,14 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
   @Inject private Injector injector;
   @Inject private TimeoutRegistry timeoutRegistry;
 
+  // Timing wheel mode, see startTimingWheel. The wheel and the claims are guarded by timingWheelLock.
+  private final Object timingWheelLock = new Object();
+  private TimingWheel timingWheel;
+  private final Map<String, String> timingWheelClaims = new HashMap<>();
+  private volatile TimingWheelConfig timingWheelConfig;
+  private ScheduledExecutorService timingWheelScheduler;
+  private ExecutorService timingWheelHandlerExecutor;
+
   public TimeoutInstance registerTimeout(@NotNull Dimension dimension, @NotNull TimeoutParameters timeoutParameters,
       @NotNull TimeoutCallback timeoutCallback) {
     TimeoutTrackerFactory timeoutTrackerFactory = timeoutRegistry.obtain(dimension);
@@ -80,10 +101,14 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     TimeoutInstance timeoutInstance =
         TimeoutInstance.builder().uuid(generateUuid()).tracker(timeoutTracker).callback(timeoutCallback).build();
     timeoutInstance.resetNextIteration();
+    long expiryTime = timeoutInstance.getNextIteration();
+    boolean claimed = claimForTimingWheel(timeoutInstance);
     TimeoutInstance savedTimeoutInstance = timeoutInstanceRepository.save(timeoutInstance);
     log.info(format("Registered timeout with uuid: %s, currentTime: %d, expiryTime: %d, diff: %d",
-        timeoutInstance.getUuid(), System.currentTimeMillis(), timeoutInstance.getNextIteration(),
-        timeoutInstance.getNextIteration() - System.currentTimeMillis()));
+        timeoutInstance.getUuid(), System.currentTimeMillis(), expiryTime, expiryTime - System.currentTimeMillis()));
+    if (claimed) {
+      scheduleOnTimingWheel(timeoutInstance.getUuid(), expiryTime, timeoutInstance.getClaimId());
+    }
     if (iterator != null) {
       iterator.wakeup();
     }
@@ -113,7 +138,14 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     for (TimeoutInstance timeoutInstance : timeoutInstanceRepository.findAllById(timeoutInstanceIds)) {
       if (timeoutInstance.tracker.onEvent(event)) {
         timeoutInstance.resetNextIteration();
+        boolean claimed = claimForTimingWheel(timeoutInstance);
         timeoutInstanceRepository.save(timeoutInstance);
+        if (claimed) {
+          scheduleOnTimingWheel(
+              timeoutInstance.getUuid(), timeoutInstance.getNextIteration(), timeoutInstance.getClaimId());
+        } else {
+          removeFromTimingWheel(timeoutInstance.getUuid());
+        }
         if (iterator != null) {
           iterator.wakeup();
         }
@@ -163,6 +195,215 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     executor.submit(() -> iterator.process());
   }
 
+  /**
+   * Alternative to the iterators with sub second precision. Every pod claims the timeouts expiring within the next
+   * window from mongo and fires them from an in memory {@link TimingWheel}. A claim sets claimedUntil past the window
+   * by the lease and a claimId, nextIteration stays the expiry time. Claimed timeouts are not claimed by other pods,
+   * and timeouts of a pod which went away are claimed again by any pod once the lease ran out. Mongo stays the source
+   * of truth: before firing, the timeout is read again and skipped if it was deleted or updated since it was claimed.
+   */
+  public void startTimingWheel(TimingWheelConfig config) {
+    if (config.getLeaseInSeconds() <= config.getWindowInSeconds()) {
+      throw new IllegalArgumentException("Timing wheel lease has to be longer than its window");
+    }
+    synchronized (timingWheelLock) {
+      timingWheel = new TimingWheel(config.getTickMillis(), config.getWheelSize(), System.currentTimeMillis());
+    }
+    timingWheelHandlerExecutor = ThreadPool.create(config.getThreadPoolCount(), config.getThreadPoolCount(), 30,
+        TimeUnit.SECONDS, new ThreadFactoryBuilder().setNameFormat("TimeoutEngineWheelHandler-%d").build());
+    timingWheelConfig = config;
+
+    ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+        2, new ThreadFactoryBuilder().setNameFormat("timeout-engine-timing-wheel-%d").build());
+    timingWheelScheduler = scheduler;
+    // claim twice per window, so timeouts registered on other pods are claimed at least half a window before expiry
+    long claimIntervalMillis = Math.max(TimeUnit.SECONDS.toMillis(config.getWindowInSeconds()) / 2, 1);
+    scheduler.scheduleWithFixedDelay(() -> {
+      try {
+        claimDueTimeouts();
+      } catch (Exception ex) {
+        log.error("Claiming due timeouts for the timing wheel failed", ex);
+      }
+    }, 0, claimIntervalMillis, TimeUnit.MILLISECONDS);
+    scheduler.scheduleAtFixedRate(() -> {
+      try {
+        fireDueTimeouts();
+      } catch (Exception ex) {
+        log.error("Firing due timeouts of the timing wheel failed", ex);
+      }
+    }, config.getTickMillis(), config.getTickMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Claims the due timeouts in batches of claimBatchSize, as long as full batches come back and at most
+   * MAX_CLAIM_BATCHES_PER_ROUND batches per round, so a backlog is not left for the next round half a window later.
+   */
+  @VisibleForTesting
+  void claimDueTimeouts() {
+    TimingWheelConfig config = timingWheelConfig;
+    for (int batch = 0; batch < MAX_CLAIM_BATCHES_PER_ROUND; batch++) {
+      if (claimDueTimeoutsBatch(config) < config.getClaimBatchSize()) {
+        return;
+      }
+    }
+    log.warn("Claimed {} batches of due timeouts in one round, the rest is claimed in the next round",
+        MAX_CLAIM_BATCHES_PER_ROUND);
+  }
+
+  /**
+   * Claims up to claimBatchSize timeouts with three round trips: read the claimable ones, claim the ones still
+   * claimable with a claimId of this batch, and read back which of them carry it. Timeouts claimed by another pod in
+   * between are skipped.
+   *
+   * @return the number of claimable timeouts read
+   */
+  private int claimDueTimeoutsBatch(TimingWheelConfig config) {
+    long now = System.currentTimeMillis();
+    Query candidatesQuery = query(claimable(config, now))
+                                .with(Sort.by(Sort.Direction.ASC, TimeoutInstanceKeys.nextIteration))
+                                .limit(config.getClaimBatchSize());
+    candidatesQuery.fields().include(TimeoutInstanceKeys.uuid);
+    List<String> candidateIds = mongoTemplate.find(candidatesQuery, TimeoutInstance.class)
+                                    .stream()
+                                    .map(TimeoutInstance::getUuid)
+                                    .collect(toList());
+    if (candidateIds.isEmpty()) {
+      return 0;
+    }
+
+    String claimId = generateUuid();
+    mongoTemplate.updateMulti(query(claimable(config, now).and(TimeoutInstanceKeys.uuid).in(candidateIds)),
+        new Update()
+            .set(TimeoutInstanceKeys.claimedUntil, getClaimedUntil(config, now))
+            .set(TimeoutInstanceKeys.claimId, claimId),
+        TimeoutInstance.class);
+
+    Query claimedQuery =
+        query(where(TimeoutInstanceKeys.uuid).in(candidateIds).and(TimeoutInstanceKeys.claimId).is(claimId));
+    claimedQuery.fields().include(TimeoutInstanceKeys.nextIteration);
+    List<TimeoutInstance> claimed = mongoTemplate.find(claimedQuery, TimeoutInstance.class);
+    for (TimeoutInstance timeoutInstance : claimed) {
+      scheduleOnTimingWheel(timeoutInstance.getUuid(), timeoutInstance.getNextIteration(), claimId);
+    }
+    if (!claimed.isEmpty()) {
+      log.info("Claimed {} timeouts for the timing wheel", claimed.size());
+    }
+    return candidateIds.size();
+  }
+
+  @VisibleForTesting
+  void fireDueTimeouts() {
+    Map<String, String> due = new HashMap<>();
+    synchronized (timingWheelLock) {
+      for (String timeoutInstanceId : timingWheel.advance(System.currentTimeMillis())) {
+        due.put(timeoutInstanceId, timingWheelClaims.remove(timeoutInstanceId));
+      }
+    }
+    due.forEach((timeoutInstanceId, claimId)
+                    -> timingWheelHandlerExecutor.submit(() -> fireTimeout(timeoutInstanceId, claimId)));
+  }
+
+  @VisibleForTesting
+  void fireTimeout(String timeoutInstanceId, String claimId) {
+    TimeoutInstance timeoutInstance = timeoutInstanceRepository.findById(timeoutInstanceId).orElse(null);
+    if (timeoutInstance == null || !claimId.equals(timeoutInstance.getClaimId())) {
+      // deleted, updated by an event or claimed by another pod after the lease ran out
+      return;
+    }
+    Long expiryTime = timeoutInstance.getTracker().getExpiryTime();
+    if (expiryTime != null && expiryTime <= System.currentTimeMillis()) {
+      handle(timeoutInstance);
+      return;
+    }
+    // the tracker no longer expires now, give the claim back
+    timeoutInstance.resetNextIteration();
+    mongoTemplate.updateFirst(
+        query(where(TimeoutInstanceKeys.uuid).is(timeoutInstanceId).and(TimeoutInstanceKeys.claimId).is(claimId)),
+        new Update()
+            .set(TimeoutInstanceKeys.nextIteration, timeoutInstance.getNextIteration())
+            .unset(TimeoutInstanceKeys.claimedUntil)
+            .unset(TimeoutInstanceKeys.claimId),
+        TimeoutInstance.class);
+  }
+
+  /**
+   * Stops claiming and firing timeouts. Timeouts claimed but not fired yet are claimed again by other pods once their
+   * lease ran out.
+   */
+  @Override
+  public void stop() throws InterruptedException {
+    if (timingWheelScheduler == null) {
+      return;
+    }
+    timingWheelConfig = null;
+    timingWheelScheduler.shutdownNow();
+    timingWheelHandlerExecutor.shutdown();
+    if (!timingWheelHandlerExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+      timingWheelHandlerExecutor.shutdownNow();
+    }
+  }
+
+  @Override
+  public void start() {
+    // the timing wheel is started by startTimingWheel in timing wheel mode only
+  }
+
+  /**
+   * Claims the timeout for the wheel of this pod if the timing wheel is running and the timeout expires within the
+   * window, and drops any earlier claim otherwise.
+   *
+   * @return true if it was claimed
+   */
+  private boolean claimForTimingWheel(TimeoutInstance timeoutInstance) {
+    timeoutInstance.setClaimedUntil(null);
+    timeoutInstance.setClaimId(null);
+    TimingWheelConfig config = timingWheelConfig;
+    if (config == null) {
+      return false;
+    }
+    long now = System.currentTimeMillis();
+    if (timeoutInstance.getNextIteration() > now + getWindowMillis(config)) {
+      return false;
+    }
+    timeoutInstance.setClaimedUntil(getClaimedUntil(config, now));
+    timeoutInstance.setClaimId(generateUuid());
+    return true;
+  }
+
+  private void scheduleOnTimingWheel(String timeoutInstanceId, long expiryTime, String claimId) {
+    synchronized (timingWheelLock) {
+      timingWheelClaims.put(timeoutInstanceId, claimId);
+      timingWheel.schedule(timeoutInstanceId, expiryTime);
+    }
+  }
+
+  private void removeFromTimingWheel(String timeoutInstanceId) {
+    if (timingWheelConfig == null) {
+      return;
+    }
+    synchronized (timingWheelLock) {
+      timingWheelClaims.remove(timeoutInstanceId);
+      timingWheel.cancel(timeoutInstanceId);
+    }
+  }
+
+  private static Criteria claimable(TimingWheelConfig config, long now) {
+    // $not also matches timeouts which were never claimed
+    return where(TimeoutInstanceKeys.nextIteration)
+        .lte(now + getWindowMillis(config))
+        .and(TimeoutInstanceKeys.claimedUntil)
+        .not()
+        .gt(now);
+  }
+
+  private static long getWindowMillis(TimingWheelConfig config) {
+    return TimeUnit.SECONDS.toMillis(config.getWindowInSeconds());
+  }
+
+  private static long getClaimedUntil(TimingWheelConfig config, long now) {
+    return now + getWindowMillis(config) + TimeUnit.SECONDS.toMillis(config.getLeaseInSeconds());
+  }
+
   @Override
   public void registerIterator(IteratorExecutionHandler iteratorExecutionHandler) {
     iteratorName = "TimeoutEngine";
@@ -60,6 +60,11 @@ public class TimeoutInstance implements PersistentRegularIterable, UuidAccess {
   // iterator.
   @FdIndex long nextIteration;
 
+  // Timing wheel mode: the wheel of the pod which claimed the timeout holds it until claimedUntil, see TimeoutEngine.
+  // nextIteration stays the expiry time while it is claimed.
+  Long claimedUntil;
+  String claimId;
+
   public void resetNextIteration() {
     Long expiryTime = tracker.getExpiryTime();
     nextIteration = expiryTime == null ? Long.MAX_VALUE : expiryTime;
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel keyed by timeout instance id. The first level has {@code wheelSize} buckets of
+ * {@code tickMillis} each, every further level covers a whole turn of the level below with one bucket and is only
+ * created when something is scheduled that far out. Only non empty buckets are kept in a priority queue, so advancing
+ * the clock costs nothing for empty ticks.
+ *
+ * A timeout is reported by {@link #advance} at most one tick after its expiry and never before it. Buckets of the
+ * higher levels are opened at their start time and their timeouts cascade down to the finer levels.
+ *
+ * Not thread safe, callers have to synchronize.
+ */
+@OwnedBy(CDC)
+class TimingWheel {
+  private final Map<String, Entry> entries = new HashMap<>();
+  // at the same expiration terminal buckets go first, their slot may be reused by what cascades down from the others
+  private final PriorityQueue<Bucket> buckets = new PriorityQueue<>(
+      Comparator.comparingLong(Bucket::getExpiration).thenComparing(bucket -> !bucket.terminal));
+  private final Deque<Entry> expired = new ArrayDeque<>();
+  private final Level root;
+
+  TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+    if (tickMillis <= 0 || wheelSize <= 1) {
+      throw new IllegalArgumentException("Tick has to be positive and the wheel needs more than one bucket");
+    }
+    root = new Level(tickMillis, wheelSize, startMillis, true);
+  }
+
+  /**
+   * Schedules the id to be reported once the clock passes the expiry, replacing any earlier schedule of the same id.
+   */
+  void schedule(String id, long expiryMillis) {
+    cancel(id);
+    Entry entry = new Entry(id, expiryMillis);
+    entries.put(id, entry);
+    if (!root.add(entry)) {
+      expired.add(entry);
+    }
+  }
+
+  boolean cancel(String id) {
+    Entry entry = entries.remove(id);
+    if (entry == null) {
+      return false;
+    }
+    if (entry.bucket != null) {
+      entry.bucket.remove(entry);
+    }
+    return true;
+  }
+
+  boolean contains(String id) {
+    return entries.containsKey(id);
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * Moves the clock to the given time and returns the ids which expired until then, in expiry bucket order.
+   */
+  List<String> advance(long nowMillis) {
+    List<String> due = new ArrayList<>();
+    drainExpired(due);
+    Bucket bucket;
+    while ((bucket = buckets.peek()) != null && bucket.getExpiration() <= nowMillis) {
+      buckets.poll();
+      root.advanceClock(bucket.getExpiration());
+      for (Entry entry : bucket.flush()) {
+        if (bucket.terminal) {
+          entries.remove(entry.id);
+          due.add(entry.id);
+        } else if (!root.add(entry)) {
+          expired.add(entry);
+        }
+      }
+      drainExpired(due);
+    }
+    root.advanceClock(nowMillis);
+    return due;
+  }
+
+  private void drainExpired(List<String> due) {
+    Entry entry;
+    while ((entry = expired.poll()) != null) {
+      // skip entries which were cancelled or rescheduled while waiting here
+      if (entries.get(entry.id) == entry) {
+        entries.remove(entry.id);
+        due.add(entry.id);
+      }
+    }
+  }
+
+  private class Level {
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long intervalMillis;
+    private final Bucket[] slots;
+    private final boolean terminal;
+    private long currentTime;
+    private Level overflow;
+
+    Level(long tickMillis, int wheelSize, long startMillis, boolean terminal) {
+      this.tickMillis = tickMillis;
+      this.wheelSize = wheelSize;
+      this.intervalMillis = tickMillis * wheelSize;
+      this.terminal = terminal;
+      this.currentTime = startMillis - (startMillis % tickMillis);
+      this.slots = new Bucket[wheelSize];
+      for (int i = 0; i < wheelSize; i++) {
+        slots[i] = new Bucket(terminal);
+      }
+    }
+
+    /**
+     * Returns false if the entry is already in the past for this wheel.
+     */
+    boolean add(Entry entry) {
+      if (entry.expiry < currentTime) {
+        return false;
+      }
+      if (entry.expiry >= currentTime + intervalMillis) {
+        return getOverflow().add(entry);
+      }
+      long virtualId = entry.expiry / tickMillis;
+      Bucket bucket = slots[(int) (virtualId % wheelSize)];
+      bucket.add(entry);
+      // terminal buckets fire at the end of their tick so nothing is reported early, the coarser ones at the start so
+      // their entries can cascade down in time
+      long expiration = terminal ? (virtualId + 1) * tickMillis : virtualId * tickMillis;
+      if (bucket.setExpiration(expiration)) {
+        buckets.add(bucket);
+      }
+      return true;
+    }
+
+    void advanceClock(long timeMillis) {
+      if (timeMillis >= currentTime + tickMillis) {
+        currentTime = timeMillis - (timeMillis % tickMillis);
+        if (overflow != null) {
+          overflow.advanceClock(currentTime);
+        }
+      }
+    }
+
+    private Level getOverflow() {
+      if (overflow == null) {
+        overflow = new Level(intervalMillis, wheelSize, currentTime, false);
+      }
+      return overflow;
+    }
+  }
+
+  private static class Bucket {
+    private final Set<Entry> entries = new LinkedHashSet<>();
+    private final boolean terminal;
+    private long expiration = -1;
+
+    Bucket(boolean terminal) {
+      this.terminal = terminal;
+    }
+
+    long getExpiration() {
+      return expiration;
+    }
+
+    boolean setExpiration(long expiration) {
+      if (this.expiration == expiration) {
+        return false;
+      }
+      this.expiration = expiration;
+      return true;
+    }
+
+    void add(Entry entry) {
+      entries.add(entry);
+      entry.bucket = this;
+    }
+
+    void remove(Entry entry) {
+      entries.remove(entry);
+      entry.bucket = null;
+    }
+
+    List<Entry> flush() {
+      List<Entry> flushed = new ArrayList<>(entries);
+      entries.clear();
+      flushed.forEach(entry -> entry.bucket = null);
+      expiration = -1;
+      return flushed;
+    }
+  }
+
+  private static class Entry {
+    private final String id;
+    private final long expiry;
+    private Bucket bucket;
+
+    Entry(String id, long expiry) {
+      this.id = id;
+      this.expiry = expiry;
+    }
+  }
+}
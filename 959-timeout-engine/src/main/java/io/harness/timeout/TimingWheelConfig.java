@@ -0,0 +1,29 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(CDC)
+@Value
+@Builder
+public class TimingWheelConfig {
+  int threadPoolCount;
+  long tickMillis;
+  int wheelSize;
+  // timeouts expiring within the window are claimed from mongo and kept in the wheel of this pod
+  long windowInSeconds;
+  // a claim not fired within window + lease (pod died) is picked up again by any pod
+  long leaseInSeconds;
+  int claimBatchSize;
+}
@@ -86,6 +86,86 @@ public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
     verify(timeoutInstanceRepository, times(2)).deleteByUuidIn(any());
   }
 
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testTimingWheelClaimsAndFires() {
+    TimeoutInstance farInstance =
+        timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(3_600_000), new TestTimeoutCallback());
+    TimeoutInstance dueInstance = timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(0), new TestTimeoutCallback());
+
+    TimingWheelConfig config = TimingWheelConfig.builder()
+                                   .threadPoolCount(1)
+                                   .tickMillis(100)
+                                   .wheelSize(64)
+                                   .windowInSeconds(30)
+                                   .leaseInSeconds(120)
+                                   .claimBatchSize(10)
+                                   .build();
+    on(timeoutEngine).set("timingWheel", new TimingWheel(100, 64, System.currentTimeMillis()));
+    on(timeoutEngine).set("timingWheelConfig", config);
+    try {
+      timeoutEngine.claimDueTimeouts();
+
+      TimeoutInstance claimed = hPersistence.get(TimeoutInstance.class, dueInstance.getUuid());
+      assertThat(claimed.getNextIteration()).isEqualTo(dueInstance.getTracker().getExpiryTime());
+      assertThat(claimed.getClaimedUntil()).isGreaterThan(System.currentTimeMillis() + 30_000);
+      assertThat(claimed.getClaimId()).isNotNull();
+      assertThat(hPersistence.get(TimeoutInstance.class, farInstance.getUuid()).getClaimId()).isNull();
+
+      // claimed timeouts are not claimed again while the lease holds
+      timeoutEngine.claimDueTimeouts();
+      assertThat(hPersistence.get(TimeoutInstance.class, dueInstance.getUuid()).getClaimId())
+          .isEqualTo(claimed.getClaimId());
+
+      // a stale claim is skipped
+      timeoutEngine.fireTimeout(dueInstance.getUuid(), "staleClaimId");
+      assertThat(hPersistence.get(TimeoutInstance.class, dueInstance.getUuid())).isNotNull();
+
+      timeoutEngine.fireTimeout(dueInstance.getUuid(), claimed.getClaimId());
+      assertThat(hPersistence.get(TimeoutInstance.class, dueInstance.getUuid())).isNull();
+
+      // timeouts registered within the window are claimed right away
+      TimeoutInstance registered =
+          timeoutEngine.registerAbsoluteTimeout(Duration.ofSeconds(10), new TestTimeoutCallback());
+      TimeoutInstance registeredClaimed = hPersistence.get(TimeoutInstance.class, registered.getUuid());
+      assertThat(registeredClaimed.getNextIteration()).isEqualTo(registered.getTracker().getExpiryTime());
+      assertThat(registeredClaimed.getClaimedUntil()).isGreaterThan(registered.getTracker().getExpiryTime());
+    } finally {
+      on(timeoutEngine).set("timingWheelConfig", null);
+    }
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testTimingWheelClaimsMoreThanOneBatchPerRound() {
+    List<TimeoutInstance> dueInstances = new LinkedList<>();
+    for (int i = 0; i < 7; i++) {
+      dueInstances.add(timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(0), new TestTimeoutCallback()));
+    }
+
+    TimingWheelConfig config = TimingWheelConfig.builder()
+                                   .threadPoolCount(1)
+                                   .tickMillis(100)
+                                   .wheelSize(64)
+                                   .windowInSeconds(30)
+                                   .leaseInSeconds(120)
+                                   .claimBatchSize(3)
+                                   .build();
+    on(timeoutEngine).set("timingWheel", new TimingWheel(100, 64, System.currentTimeMillis()));
+    on(timeoutEngine).set("timingWheelConfig", config);
+    try {
+      timeoutEngine.claimDueTimeouts();
+
+      for (TimeoutInstance dueInstance : dueInstances) {
+        assertThat(hPersistence.get(TimeoutInstance.class, dueInstance.getUuid()).getClaimId()).isNotNull();
+      }
+    } finally {
+      on(timeoutEngine).set("timingWheelConfig", null);
+    }
+  }
+
   public static class TestTimeoutCallback implements TimeoutCallback {
     private TimeoutInstance timeoutInstance;
     public TimeoutInstance getTimeoutInstance() {
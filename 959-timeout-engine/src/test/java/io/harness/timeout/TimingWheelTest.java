@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.timeout;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class TimingWheelTest extends CategoryTest {
+  private static final long START = 1_000_050;
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFiresWithinOneTickAfterExpiry() {
+    TimingWheel timingWheel = new TimingWheel(100, 10, START);
+    timingWheel.schedule("past", START - 5000);
+    timingWheel.schedule("a", START + 250);
+    timingWheel.schedule("b", START + 5_000);
+    timingWheel.schedule("c", START + 250_000);
+    assertThat(timingWheel.size()).isEqualTo(4);
+
+    assertThat(timingWheel.advance(START)).containsExactly("past");
+    assertThat(timingWheel.advance(START + 249)).isEmpty();
+    assertThat(timingWheel.advance(START + 350)).containsExactly("a");
+    assertThat(timingWheel.advance(START + 4_999)).isEmpty();
+    assertThat(timingWheel.advance(START + 5_100)).containsExactly("b");
+    assertThat(timingWheel.advance(START + 249_999)).isEmpty();
+    assertThat(timingWheel.advance(START + 250_100)).containsExactly("c");
+    assertThat(timingWheel.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testCancelAndReschedule() {
+    TimingWheel timingWheel = new TimingWheel(100, 10, START);
+    timingWheel.schedule("a", START + 500);
+    timingWheel.schedule("b", START + 500);
+    timingWheel.schedule("c", START - 1);
+    assertThat(timingWheel.cancel("b")).isTrue();
+    assertThat(timingWheel.cancel("b")).isFalse();
+    assertThat(timingWheel.cancel("c")).isTrue();
+    timingWheel.schedule("a", START + 20_000);
+
+    assertThat(timingWheel.advance(START + 1_000)).isEmpty();
+    assertThat(timingWheel.contains("a")).isTrue();
+    assertThat(timingWheel.advance(START + 20_100)).containsExactly("a");
+    assertThat(timingWheel.contains("a")).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testRandomSchedulesNeverFireEarlyOrLate() {
+    Random random = new Random(42);
+    TimingWheel timingWheel = new TimingWheel(100, 20, START);
+    Map<String, Long> expiries = new HashMap<>();
+    for (int i = 0; i < 5000; i++) {
+      long expiry = START + random.nextInt(600_000);
+      expiries.put("id" + i, expiry);
+      timingWheel.schedule("id" + i, expiry);
+    }
+    for (int i = 0; i < 500; i++) {
+      timingWheel.cancel("id" + i);
+      expiries.remove("id" + i);
+    }
+
+    long maxStep = 250;
+    for (long now = START; now < START + 700_000; now += 1 + random.nextInt((int) maxStep)) {
+      for (String id : timingWheel.advance(now)) {
+        long expiry = expiries.remove(id);
+        assertThat(expiry).isLessThanOrEqualTo(now);
+        assertThat(now - expiry).isLessThanOrEqualTo(100 + maxStep);
+      }
+    }
+    assertThat(expiries).isEmpty();
+    assertThat(timingWheel.size()).isZero();
+  }
+}
@@ -36,6 +36,11 @@ public class DelegateConfiguration {
   private boolean doUpgrade;
   private Integer maxCachedArtifacts;
   private boolean pollForTasks;
+  /*
+   * If true, a polling delegate waits on the manager for task events instead of asking every few seconds. Falls back to
+   * the fixed rate polling when the manager does not support it.
+   */
+  private boolean longPollForTasks;
   private String description;
 
   private String managerTarget;
@@ -57,6 +62,10 @@ public class DelegateConfiguration {
   private Integer grpcServiceConnectorPort;
 
   private String logStreamingServiceBaseUrl;
+  /*
+   * If true, log lines are sent gzip compressed. Only enable once the log service accepts compressed requests.
+   */
+  private boolean logStreamingCompressionEnabled;
   private boolean clientToolsDownloadDisabled;
   private boolean installClientToolsInBackground;
   private boolean dynamicHandlingOfRequestEnabled;
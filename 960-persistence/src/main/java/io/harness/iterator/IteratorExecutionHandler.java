@@ -29,6 +29,8 @@ public interface IteratorExecutionHandler {
     String iteratorMode;
     int redisBatchSize;
     int redisLockTimeout;
+    int redisShardCount;
+    boolean redisAdaptiveBatch;
   }
 
   /**
@@ -241,6 +241,8 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
                                               .poolSize(config.getThreadPoolSize())
                                               .batchSize(redisBatchSize)
                                               .lockTimeout(redisLockTimeout)
+                                              .shardCount(config.getRedisShardCount())
+                                              .adaptiveBatch(config.isRedisAdaptiveBatch())
                                               .interval(getIntervalDuration(config.getThreadPoolIntervalInSeconds()))
                                               .build(),
             getNextIterationInterval(config));
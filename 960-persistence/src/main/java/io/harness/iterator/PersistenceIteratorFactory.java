@@ -67,6 +67,8 @@ public final class PersistenceIteratorFactory {
     private int batchSize;
     private int lockTimeout;
     private Duration interval;
+    private int shardCount;
+    private boolean adaptiveBatch;
   }
 
   private String getWorkerDisabledLog(String className) {
@@ -166,6 +168,8 @@ public final class PersistenceIteratorFactory {
             .threadPoolIntervalInSeconds(options.interval)
             .redisModeBatchSize(options.getBatchSize())
             .redisLockTimeout(options.getLockTimeout())
+            .redisModeShardCount(options.getShardCount())
+            .redisModeAdaptiveBatch(options.isAdaptiveBatch())
             .persistentLocker(injector.getInstance(Key.get(PersistentLocker.class)))
             .build();
     injector.injectMembers(iterator);
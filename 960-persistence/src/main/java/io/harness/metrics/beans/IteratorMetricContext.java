@@ -19,5 +19,7 @@ import lombok.NoArgsConstructor;
 public class IteratorMetricContext extends AutoMetricContext {
   public IteratorMetricContext(String iteratorName) {
     put("iteratorName", iteratorName);
+    // iterator metrics share the group labels with the per shard ones, unsharded recordings cover the whole collection
+    put("shard", "all");
   }
 }
@@ -10,6 +10,8 @@ package io.harness.metrics.impl;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.metrics.beans.IteratorMetricContext;
+import io.harness.metrics.beans.IteratorShardMetricContext;
+import io.harness.metrics.beans.QueueMetricContext;
 import io.harness.metrics.beans.RedisTopicContext;
 import io.harness.metrics.service.api.MetricService;
 
@@ -29,7 +31,13 @@ public class PersistenceMetricsServiceImpl {
   public static final String ITERATOR_WORKING_ON_ENTITY = "iterator_working_on_entity";
   public static final String ITERATOR_PROCESSING_TIME = "iterator_processing_time";
   public static final String ITERATOR_REDIS_LOCK_ACQUIRE_FAIL = "iterator_redis_lock_acq_fail";
+  public static final String ITERATOR_REDIS_LOCK_WAIT_TIME = "iterator_redis_lock_wait_time";
+  public static final String ITERATOR_SHARD_DOCS_PER_SECOND = "iterator_shard_docs_per_second";
+  public static final String ITERATOR_LAG = "iterator_lag";
   public static final String REDIS_SUBSCRIPTION_CNT = "redis_subscription_count";
+  public static final String QUEUE_MESSAGE_RECEIVED = "queue_message_received";
+  public static final String QUEUE_MESSAGE_DELAY = "queue_message_delay";
+  public static final String QUEUE_GET_BATCH_SIZE = "queue_get_batch_size";
 
   private final MetricService metricService;
 
@@ -44,9 +52,33 @@ public class PersistenceMetricsServiceImpl {
     }
   }
 
+  public void recordIteratorShardMetric(String iteratorName, int shard, String metricName, double value) {
+    try (IteratorShardMetricContext ignore = new IteratorShardMetricContext(iteratorName, shard)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+
   public void recordRedisMetric(final String metric, final String topicName, final double value) {
     try (RedisTopicContext ignore = new RedisTopicContext(topicName)) {
       metricService.recordMetric(metric, value);
     }
   }
+
+  public void recordQueueMetric(String queueName, String getMode, String metricName) {
+    try (QueueMetricContext ignore = new QueueMetricContext(queueName, getMode)) {
+      metricService.incCounter(metricName);
+    }
+  }
+
+  public void recordQueueMetric(String queueName, String getMode, String metricName, double value) {
+    try (QueueMetricContext ignore = new QueueMetricContext(queueName, getMode)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+
+  public void recordQueueMetricWithDuration(String queueName, String getMode, Duration duration, String metricName) {
+    try (QueueMetricContext ignore = new QueueMetricContext(queueName, getMode)) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
 }
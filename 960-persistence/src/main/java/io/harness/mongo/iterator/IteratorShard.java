@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static dev.morphia.mapping.Mapper.ID_KEY;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import dev.morphia.query.Query;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * A slice of an iterable collection used by the partitioned Redis batch mode. Documents are split by the first
+ * character of their uuid, which is uniformly distributed over the url-safe base64 alphabet. The first shard is open
+ * on the low end and the last shard is open on the high end. The last shard uses {@code $not: {$lt: lowerBound}},
+ * which also matches every document whose id is not a string (e.g. ObjectId), so the shards together always cover
+ * the whole collection without overlapping.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Value
+public class IteratorShard {
+  // The url-safe base64 alphabet used by UUIDGenerator, in ascending (lexicographical) order
+  private static final String UUID_ALPHABET = "-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz";
+  public static final int MAX_SHARD_COUNT = UUID_ALPHABET.length();
+
+  int index;
+  int count;
+  String lowerBound; // inclusive, null for the first shard
+  String upperBound; // exclusive, null for the last shard
+
+  public static List<IteratorShard> of(int count) {
+    int shardCount = Math.max(1, Math.min(count, MAX_SHARD_COUNT));
+    if (shardCount == 1) {
+      return Collections.singletonList(new IteratorShard(0, 1, null, null));
+    }
+
+    List<IteratorShard> shards = new ArrayList<>(shardCount);
+    for (int i = 0; i < shardCount; i++) {
+      String lowerBound = i == 0 ? null : boundary(i, shardCount);
+      String upperBound = i == shardCount - 1 ? null : boundary(i + 1, shardCount);
+      shards.add(new IteratorShard(i, shardCount, lowerBound, upperBound));
+    }
+    return shards;
+  }
+
+  private static String boundary(int shard, int shardCount) {
+    return String.valueOf(UUID_ALPHABET.charAt(shard * UUID_ALPHABET.length() / shardCount));
+  }
+
+  public boolean isLast() {
+    return index == count - 1;
+  }
+
+  /**
+   * Restricts the query to the documents that belong to this shard.
+   */
+  public <T> void applyTo(Query<T> query) {
+    if (upperBound != null) {
+      query.and(query.criteria(ID_KEY).lessThan(upperBound));
+    }
+    if (lowerBound == null) {
+      return;
+    }
+    if (isLast()) {
+      query.and(query.criteria(ID_KEY).not().lessThan(lowerBound));
+    } else {
+      query.and(query.criteria(ID_KEY).greaterThanOrEq(lowerBound));
+    }
+  }
+}
@@ -13,8 +13,11 @@ import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_DELAY;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_ERROR;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_LAG;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PROCESSING_TIME;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_REDIS_LOCK_ACQUIRE_FAIL;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_REDIS_LOCK_WAIT_TIME;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_SHARD_DOCS_PER_SECOND;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_WORKING_ON_ENTITY;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.IRREGULAR_SKIP_MISSED;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
@@ -52,6 +55,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -70,6 +75,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
       5; // The lockWaitTimeout is the duration to wait to acquire a lock
   private static final int BATCH_SIZE_MULTIPLY_FACTOR = 2; // The factor by how much the batchSize should be increased
   private static final int REDIS_BATCH_PAUSE_DURATION = 5; // The duration by which to pause if worker JobQ is full
+  private static final long MIN_ADAPTIVE_PAUSE_MILLIS = 100; // Lower bound of the pause in adaptive batch mode
+  private static final long DRAIN_RATE_SAMPLE_MILLIS = 1000; // How often the worker drain rate is sampled
 
   @Inject private final QueueController queueController;
   @Inject private PersistenceMetricsServiceImpl iteratorMetricsService;
@@ -89,6 +96,15 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private Duration throttleInterval;
   private int redisModeBatchSize;
   private int redisLockTimeout;
+  // Number of shards the collection is split into in Redis batch mode, each shard having its own lock.
+  // Values less than 2 keep the single global lock.
+  private int redisModeShardCount;
+  // When enabled the batch size and the pause on a full worker JobQ are derived from the measured drain rate
+  private boolean redisModeAdaptiveBatch;
+  @Builder.Default private AtomicLong processedEntitiesCount = new AtomicLong();
+  private long lastDrainSampleTimeMillis;
+  private long lastDrainSampleProcessedCount;
+  private double drainRatePerSecond;
   private Handler<T> handler;
   @Getter private ExecutorService executorService;
   @Getter private ScheduledThreadPoolExecutor workerThreadPoolExecutor;
@@ -308,6 +324,11 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
    *     batch of Mongo docs.
    */
   public void redisBatchProcess() {
+    if (redisModeShardCount > 1) {
+      partitionedRedisBatchProcess();
+      return;
+    }
+
     long movingAverage = 0;
     long previous = 0;
 
@@ -327,12 +348,14 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
       // Compute a limit value that takes into account the number of unprocessed
       // docs in the jobQ to ensure that the Q doesn't overflow.
-      int limit = Math.min(redisModeBatchSize, redisModeBatchSize - workerThreadPoolExecutor.getQueue().size());
+      sampleDrainRate();
+      int limit = computeBatchLimit();
 
       if (limit <= 0) {
         // The Queue is full, so try after sometime
-        log.warn("The worker Q for {} iterator is full, pausing for 5 seconds", iteratorName);
-        sleep(ofSeconds(REDIS_BATCH_PAUSE_DURATION));
+        Duration pause = computeWorkerQueuePause();
+        log.warn("The worker Q for {} iterator is full, pausing for {} ms", iteratorName, pause.toMillis());
+        sleep(pause);
         continue;
       }
 
@@ -348,6 +371,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
         processTime = currentTimeMillis() - startTime;
         log.debug("Redis Batch Iterator Mode - time to acquire Redis lock {}", processTime);
+        iteratorMetricsService.recordIteratorMetricsWithDuration(
+            iteratorName, ofMillis(processTime), ITERATOR_REDIS_LOCK_WAIT_TIME);
 
         startTime = currentTimeMillis();
         Iterator<T> docItr = persistenceProvider.obtainNextInstances(clazz, fieldName, filterExpander, limit);
@@ -388,6 +413,153 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  /**
+   * Process method for the partitioned Redis Batch mode iterator.
+   *
+   *  The collection is split into redisModeShardCount shards (see {@link IteratorShard}) and
+   *  every shard is guarded by its own Redis lock. Each pass walks all the shards starting from
+   *  a rotating offset and only works on the shards whose lock could be acquired without waiting,
+   *  so different pods end up working on different shards in parallel instead of queueing behind
+   *  a single lock. A pass stops early once the worker jobQ has no more room.
+   */
+  private void partitionedRedisBatchProcess() {
+    List<IteratorShard> shards = IteratorShard.of(redisModeShardCount);
+    int offset = ThreadLocalRandom.current().nextInt(shards.size());
+
+    while (true) {
+      if (!shouldProcess()) {
+        sleep(ofSeconds(1));
+        continue;
+      }
+
+      sampleDrainRate();
+      offset = (offset + 1) % shards.size();
+      boolean fetchedDocs = false;
+      for (int i = 0; i < shards.size(); i++) {
+        int limit = computeBatchLimit();
+        if (limit <= 0) {
+          break;
+        }
+        if (processShard(shards.get((offset + i) % shards.size()), limit) > 0) {
+          fetchedDocs = true;
+        }
+      }
+
+      if (computeBatchLimit() <= 0) {
+        Duration pause = computeWorkerQueuePause();
+        log.warn("The worker Q for {} iterator is full, pausing for {} ms", iteratorName, pause.toMillis());
+        sleep(pause);
+        continue;
+      }
+
+      // If none of the shards had docs available then sleep for
+      // the configured threadPool interval duration.
+      if (!fetchedDocs) {
+        synchronized (this) {
+          try {
+            wait(threadPoolIntervalInSeconds.toMillis());
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Fetches, submits and reschedules up to limit docs of a single shard while holding the shard lock.
+   * @return the number of docs that were submitted to the worker JobQ
+   */
+  private int processShard(IteratorShard shard, int limit) {
+    String lockName = getRedisLockName() + "-" + shard.getIndex();
+    long startTime = currentTimeMillis();
+    AcquiredLock acquiredLock = persistentLocker.tryToAcquireLock(lockName, ofSeconds(redisLockTimeout));
+    iteratorMetricsService.recordIteratorMetricsWithDuration(
+        iteratorName, ofMillis(currentTimeMillis() - startTime), ITERATOR_REDIS_LOCK_WAIT_TIME);
+    if (acquiredLock == null) {
+      // Some other process is working on this shard
+      iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_REDIS_LOCK_ACQUIRE_FAIL);
+      return 0;
+    }
+
+    long base = currentTimeMillis();
+    long maxLag = 0;
+    List<String> docIds = new ArrayList<>();
+    try {
+      Iterator<T> docItr = persistenceProvider.obtainNextInstances(clazz, fieldName, filterExpander, limit, shard);
+      while (docItr.hasNext()) {
+        T entity = docItr.next();
+        Long nextIteration = entity.obtainNextIteration(fieldName);
+        if (nextIteration != null && nextIteration != 0) {
+          maxLag = Math.max(maxLag, base - nextIteration);
+        }
+        submitEntityForProcessingWithoutWait(entity);
+        docIds.add(entity.getUuid());
+      }
+
+      // Update the documents next iteration field
+      updateDocumentNextIteration(docIds, base);
+    } catch (Exception ex) {
+      log.error("Received an exception in redisBatchProcess for shard {} ", shard.getIndex(), ex);
+    } finally {
+      releaseLock(acquiredLock);
+    }
+
+    long processTime = Math.max(1, currentTimeMillis() - base);
+    iteratorMetricsService.recordIteratorShardMetric(
+        iteratorName, shard.getIndex(), ITERATOR_SHARD_DOCS_PER_SECOND, docIds.size() * 1000.0 / processTime);
+    if (!docIds.isEmpty()) {
+      iteratorMetricsService.recordIteratorMetricsWithDuration(iteratorName, ofMillis(maxLag), ITERATOR_LAG);
+    }
+    return docIds.size();
+  }
+
+  /**
+   * Computes how many docs can be fetched without overflowing the worker JobQ. In adaptive mode the batch
+   * is further capped to what the workers have been draining in BATCH_SIZE_MULTIPLY_FACTOR seconds.
+   */
+  private int computeBatchLimit() {
+    int limit = Math.min(redisModeBatchSize, redisModeBatchSize - workerThreadPoolExecutor.getQueue().size());
+    if (!redisModeAdaptiveBatch || drainRatePerSecond <= 0 || limit <= 0) {
+      return limit;
+    }
+    return (int) Math.max(1, Math.min(limit, Math.ceil(drainRatePerSecond * BATCH_SIZE_MULTIPLY_FACTOR)));
+  }
+
+  /**
+   * In adaptive mode pause just long enough for the workers to drain the current JobQ,
+   * otherwise use the fixed REDIS_BATCH_PAUSE_DURATION.
+   */
+  private Duration computeWorkerQueuePause() {
+    long maxPauseMillis = ofSeconds(REDIS_BATCH_PAUSE_DURATION).toMillis();
+    if (!redisModeAdaptiveBatch || drainRatePerSecond <= 0) {
+      return ofMillis(maxPauseMillis);
+    }
+    long drainMillis = (long) (workerThreadPoolExecutor.getQueue().size() * 1000 / drainRatePerSecond);
+    return ofMillis(Math.max(MIN_ADAPTIVE_PAUSE_MILLIS, Math.min(drainMillis, maxPauseMillis)));
+  }
+
+  /**
+   * Samples the rate at which the workers complete entities, smoothed over the previous samples.
+   * Idle periods (nothing processed and nothing queued) do not reset the estimate.
+   */
+  private void sampleDrainRate() {
+    long now = currentTimeMillis();
+    long elapsed = now - lastDrainSampleTimeMillis;
+    if (!redisModeAdaptiveBatch || elapsed < DRAIN_RATE_SAMPLE_MILLIS) {
+      return;
+    }
+
+    long processed = processedEntitiesCount.get();
+    double rate = (processed - lastDrainSampleProcessedCount) * 1000.0 / elapsed;
+    if (lastDrainSampleTimeMillis != 0 && (rate > 0 || !workerThreadPoolExecutor.getQueue().isEmpty())) {
+      drainRatePerSecond = drainRatePerSecond <= 0 ? rate : (drainRatePerSecond + rate) / 2;
+    }
+    lastDrainSampleTimeMillis = now;
+    lastDrainSampleProcessedCount = processed;
+  }
+
   /**
    * Method to submit an entity to the Worker JobQ.
    * @param entity - Mongo document that worker thread should process
@@ -448,6 +620,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
       } finally {
         semaphore.release();
+        processedEntitiesCount.incrementAndGet();
 
         long processTime = currentTimeMillis() - startTime;
         log.debug("Done with entity");
@@ -458,12 +631,16 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  private String getRedisLockName() {
+    return MongoPersistenceIterator.class.getName() + "-" + iteratorName;
+  }
+
   /**
    * Method to acquire the lock and return it.
    * @return AcquiredLock
    */
   private AcquiredLock acquireLock() {
-    String lockName = MongoPersistenceIterator.class.getName() + "-" + iteratorName;
+    String lockName = getRedisLockName();
     while (true) {
       // Hardcoding the lockTimeout and waitTimeout for the lock to 5 secs.
       // Note - The Redis distributed lock framework is supposed to return Null
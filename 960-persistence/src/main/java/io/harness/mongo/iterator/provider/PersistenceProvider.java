@@ -11,6 +11,7 @@ import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
 
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.BulkWriteOpsResults;
+import io.harness.mongo.iterator.IteratorShard;
 import io.harness.mongo.iterator.filter.FilterExpander;
 
 import java.time.Duration;
@@ -24,6 +25,8 @@ public interface PersistenceProvider<T extends PersistentIterable, F extends Fil
   T findInstance(Class<T> clazz, String fieldName, F filterExpander, boolean isDelegateTaskMigrationEnabled);
   void recoverAfterPause(Class<T> clazz, String fieldName);
   Iterator<T> obtainNextInstances(Class<T> clazz, String fieldName, F filterExpander, int limit);
+  Iterator<T> obtainNextInstances(
+      Class<T> clazz, String fieldName, F filterExpander, int limit, IteratorShard shard);
   BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval);
 }
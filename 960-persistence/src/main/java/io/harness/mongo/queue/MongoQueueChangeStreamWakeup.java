@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.mongo.queue;
+
+import static io.harness.threading.Morpheus.sleep;
+
+import static java.time.Duration.ofSeconds;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import io.harness.persistence.HPersistence;
+import io.harness.queue.Queuable;
+import io.harness.queue.Queuable.QueuableKeys;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import dev.morphia.AdvancedDatastore;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonValue;
+import org.bson.Document;
+
+/**
+ * Watches the collection of a queue with a change stream and signals its {@link MongoQueueWakeup} whenever a message
+ * is inserted or rescheduled, so consumers pick up messages published by other processes without waiting for the next
+ * poll. Changes that leave a message invisible, like delayed messages, leases and heartbeats, do not signal. Change
+ * streams need a replica set, which is why this is opt in.
+ */
+@Slf4j
+public class MongoQueueChangeStreamWakeup implements Runnable {
+  private final HPersistence persistence;
+  private final Class<? extends Queuable> klass;
+  private final MongoQueueWakeup wakeup;
+
+  public MongoQueueChangeStreamWakeup(HPersistence persistence, Class<? extends Queuable> klass) {
+    this.persistence = persistence;
+    this.klass = klass;
+    this.wakeup = MongoQueueWakeup.of(klass);
+  }
+
+  @Override
+  public void run() {
+    AdvancedDatastore datastore = persistence.getDatastore(klass);
+    String collectionName = persistence.getCollection(klass).getName();
+    while (!Thread.currentThread().isInterrupted()) {
+      try (MongoCursor<ChangeStreamDocument<Document>> cursor =
+               datastore.getMongo()
+                   .getDatabase(datastore.getDB().getName())
+                   .getCollection(collectionName)
+                   .watch(singletonList(
+                       Aggregates.match(Filters.in("operationType", asList("insert", "update", "replace")))))
+                   .maxAwaitTime(1, TimeUnit.MINUTES)
+                   .iterator()) {
+        while (cursor.hasNext()) {
+          Date earliestGet = earliestGet(cursor.next());
+          if (earliestGet != null) {
+            wakeup.signalIfVisible(earliestGet);
+          }
+        }
+      } catch (MongoInterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (RuntimeException e) {
+        log.error("Change stream wakeup for queue {} failed, reopening", klass.getSimpleName(), e);
+        sleep(ofSeconds(5));
+      }
+    }
+    log.info("Change stream wakeup for queue {} stopped", klass.getSimpleName());
+  }
+
+  /**
+   * @return the earliestGet the change sets, or null if it does not touch it
+   */
+  private static Date earliestGet(ChangeStreamDocument<Document> change) {
+    if (change.getFullDocument() != null) {
+      return change.getFullDocument().getDate(QueuableKeys.earliestGet);
+    }
+    UpdateDescription updateDescription = change.getUpdateDescription();
+    if (updateDescription == null || updateDescription.getUpdatedFields() == null) {
+      return null;
+    }
+    BsonValue value = updateDescription.getUpdatedFields().get(QueuableKeys.earliestGet);
+    return value != null && value.isDateTime() ? new Date(value.asDateTime().getValue()) : null;
+  }
+}
@@ -8,6 +8,7 @@
 package io.harness.mongo.queue;
 
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.persistence.HPersistence.returnOldOptions;
 import static io.harness.persistence.HQuery.excludeAuthority;
@@ -23,15 +24,20 @@ import io.harness.queue.TopicUtils;
 
 import com.google.inject.Inject;
 import dev.morphia.AdvancedDatastore;
+import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.Sort;
 import dev.morphia.query.UpdateOperations;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,6 +48,9 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
   List<String> topics;
 
   private Semaphore semaphore = new Semaphore(1);
+  private final MongoQueueWakeup wakeup;
+  // change streams need mongo to run as a replica set
+  @Setter private boolean changeStreamWakeup;
   @Inject private HPersistence persistence;
 
   public MongoQueueConsumer(Class<T> klass, Duration heartbeat, List<List<String>> topicExpression) {
@@ -49,6 +58,7 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
     this.klass = klass;
     this.heartbeat = heartbeat;
     this.topics = TopicUtils.resolveExpressionIntoListOfTopics(topicExpression);
+    this.wakeup = MongoQueueWakeup.of(klass);
   }
 
   @Override
@@ -70,8 +80,90 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
     return null;
   }
 
+  /**
+   * Leases up to count messages with three round trips no matter the count: read the candidates, mark the ones still
+   * available with a lease token of this get, and read back which of them carry the token. Candidates taken by another
+   * consumer in between are skipped. Like {@link #get(Duration, Duration)}, the messages are returned with the
+   * earliestGet they had before they were leased.
+   */
+  @Override
+  public List<T> get(int count, Duration wait, Duration poll) {
+    if (count <= 1) {
+      return QueueConsumer.super.get(count, wait, poll);
+    }
+    long endTime = System.currentTimeMillis() + wait.toMillis();
+    boolean acquired = false;
+    try {
+      acquired = semaphore.tryAcquire(wait.toMillis(), TimeUnit.MILLISECONDS);
+      if (acquired) {
+        return getBatchUnderLock(count, endTime, poll);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (acquired) {
+        semaphore.release();
+      }
+    }
+    return Collections.emptyList();
+  }
+
+  /**
+   * Opens a change stream on the queue collection if it is enabled, so that messages published by other processes
+   * wake up the consumers of this process instead of waiting for their next poll. One stream is opened per queue.
+   */
+  @Override
+  public void wakeupOnChanges(ExecutorService executorService) {
+    if (changeStreamWakeup && wakeup.claimWatch()) {
+      executorService.submit(new MongoQueueChangeStreamWakeup(persistence, klass));
+    }
+  }
+
+  private List<T> getBatchUnderLock(int count, long endTime, Duration poll) {
+    while (true) {
+      long generation = wakeup.getGeneration();
+      final Date now = new Date();
+
+      Query<T> query = createQuery()
+                           .field(QueuableKeys.earliestGet)
+                           .lessThanOrEq(now)
+                           .order(Sort.ascending(QueuableKeys.earliestGet));
+      List<T> candidates = HPersistence.retry(() -> query.asList(new FindOptions().limit(count)));
+      if (isNotEmpty(candidates)) {
+        List<String> candidateIds = candidates.stream().map(Queuable::getId).collect(Collectors.toList());
+        String leaseToken = generateUuid();
+        persistence.update(createQuery()
+                               .field(QueuableKeys.id)
+                               .in(candidateIds)
+                               .field(QueuableKeys.earliestGet)
+                               .lessThanOrEq(now),
+            persistence.createUpdateOperations(klass)
+                .set(QueuableKeys.earliestGet, new Date(now.getTime() + heartbeat().toMillis()))
+                .set(QueuableKeys.leaseToken, leaseToken));
+
+        Query<T> leasedQuery = persistence.createQuery(klass, excludeAuthority)
+                                   .field(QueuableKeys.id)
+                                   .in(candidateIds)
+                                   .filter(QueuableKeys.leaseToken, leaseToken)
+                                   .project(QueuableKeys.id, true);
+        Set<String> leasedIds =
+            HPersistence.retry(leasedQuery::asList).stream().map(Queuable::getId).collect(Collectors.toSet());
+        if (!leasedIds.isEmpty()) {
+          return candidates.stream()
+              .filter(message -> leasedIds.contains(message.getId()))
+              .collect(Collectors.toList());
+        }
+      }
+
+      if (!awaitNextPoll(generation, endTime, poll)) {
+        return Collections.emptyList();
+      }
+    }
+  }
+
   private T getUnderLock(long endTime, Duration poll) {
     while (true) {
+      long generation = wakeup.getGeneration();
       final Date now = new Date();
 
       Query<T> query = createQuery()
@@ -87,18 +179,27 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
         return message;
       }
 
-      if (System.currentTimeMillis() >= endTime) {
+      if (!awaitNextPoll(generation, endTime, poll)) {
         return null;
       }
+    }
+  }
 
-      try {
-        Thread.sleep(poll.toMillis());
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        return null;
-      } catch (final IllegalArgumentException ex) {
-        poll = Duration.ofMillis(0);
-      }
+  /**
+   * Waits for the poll interval, or less if a message is published meanwhile.
+   *
+   * @return false if the get should give up
+   */
+  private boolean awaitNextPoll(long generation, long endTime, Duration poll) {
+    if (System.currentTimeMillis() >= endTime) {
+      return false;
+    }
+    try {
+      wakeup.await(generation, Math.max(poll.toMillis(), 0));
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
     }
   }
 
@@ -42,6 +42,7 @@ public class MongoQueuePublisher<T extends Queuable> implements QueuePublisher<T
       payload.setGlobalContext(obtainGlobalContext());
     }
     persistence.insertIgnoringDuplicateKeys(payload);
+    MongoQueueWakeup.of(payload.getClass()).signalIfVisible(payload.getEarliestGet());
   }
 
   @Override
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.mongo.queue;
+
+import io.harness.queue.Queuable;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wakes up the consumers of a queue, waiting for their next poll, as soon as a message might be available. Messages
+ * published by this process signal it directly, messages published elsewhere only if a
+ * {@link MongoQueueChangeStreamWakeup} is running for the queue. Without a signal consumers still poll as before.
+ */
+public class MongoQueueWakeup {
+  private static final Map<String, MongoQueueWakeup> wakeups = new ConcurrentHashMap<>();
+
+  private long generation;
+  private boolean watched;
+
+  public static MongoQueueWakeup of(Class<? extends Queuable> klass) {
+    return wakeups.computeIfAbsent(klass.getName(), key -> new MongoQueueWakeup());
+  }
+
+  public synchronized long getGeneration() {
+    return generation;
+  }
+
+  public synchronized void signal() {
+    generation++;
+    notifyAll();
+  }
+
+  /**
+   * Signals only if a message with the given earliestGet can be taken already. Delayed messages are left to the
+   * regular poll, waking up the consumers for them would only cost an empty read.
+   */
+  public void signalIfVisible(Date earliestGet) {
+    if (earliestGet == null || earliestGet.getTime() <= System.currentTimeMillis()) {
+      signal();
+    }
+  }
+
+  /**
+   * Claims the change stream of the queue, so that consumers of the same queue with different topics share one.
+   *
+   * @return true if no change stream was started for the queue yet
+   */
+  synchronized boolean claimWatch() {
+    if (watched) {
+      return false;
+    }
+    watched = true;
+    return true;
+  }
+
+  /**
+   * Waits until there was a signal after the given generation was read, or the timeout passed.
+   *
+   * @return true if it was woken up by a signal
+   */
+  public synchronized boolean await(long seenGeneration, long timeoutMillis) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    while (generation == seenGeneration) {
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0) {
+        return false;
+      }
+      wait(remaining);
+    }
+    return true;
+  }
+}
@@ -40,6 +40,7 @@ public class QueueFactory {
       Duration heartbeat, List<List<String>> topicExpression, PublisherConfiguration configuration) {
     if (configuration.isPublisherActive(klass)) {
       final MongoQueueConsumer mongoQueueConsumer = new MongoQueueConsumer(klass, heartbeat, topicExpression);
+      mongoQueueConsumer.setChangeStreamWakeup(configuration.isChangeStreamWakeup());
       injector.injectMembers(mongoQueueConsumer);
       return mongoQueueConsumer;
     } else {
@@ -47,6 +47,8 @@ public abstract class Queuable implements PersistentEntity {
   private Date earliestGet = new Date();
 
   @Getter @Setter private int retries;
+  // Identifies the batch get which leased the message last
+  @Getter @Setter private String leaseToken;
   @Getter @Setter private String topic;
   @Getter @Setter private GlobalContext globalContext;
 
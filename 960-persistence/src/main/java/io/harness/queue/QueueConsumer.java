@@ -8,13 +8,31 @@
 package io.harness.queue;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * The Interface Queue.
  */
 public interface QueueConsumer<T extends Queuable> extends Queue {
   T get(Duration wait, Duration poll);
+
+  /**
+   * Gets up to count messages, waiting for at least one the same way as {@link #get(Duration, Duration)}. Every
+   * returned message is leased for one heartbeat from the moment of the get.
+   */
+  default List<T> get(int count, Duration wait, Duration poll) {
+    T message = get(wait, poll);
+    return message == null ? Collections.emptyList() : Collections.singletonList(message);
+  }
+
+  /**
+   * Lets the consumer run, on the given executor, whatever wakes it up when messages are published by other processes.
+   */
+  default void wakeupOnChanges(ExecutorService executorService) {}
+
   void updateHeartbeat(T message);
 
   enum Filter { ALL, RUNNING, NOT_RUNNING }
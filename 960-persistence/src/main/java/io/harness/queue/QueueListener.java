@@ -12,6 +12,9 @@ import static io.harness.exception.WingsException.ExecutionContext.MANAGER;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.maintenance.MaintenanceController.getMaintenanceFlag;
 import static io.harness.manage.GlobalContextManager.initGlobalContextGuard;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.QUEUE_GET_BATCH_SIZE;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.QUEUE_MESSAGE_DELAY;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.QUEUE_MESSAGE_RECEIVED;
 import static io.harness.threading.Morpheus.sleep;
 
 import static java.lang.System.currentTimeMillis;
@@ -22,10 +25,12 @@ import io.harness.exception.WingsException;
 import io.harness.logging.DelayLogContext;
 import io.harness.logging.ProcessTimeLogContext;
 import io.harness.manage.GlobalContextManager.GlobalContextGuard;
+import io.harness.metrics.impl.PersistenceMetricsServiceImpl;
 import io.harness.queue.QueueConsumer.Filter;
 
 import com.google.inject.Inject;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -35,13 +40,20 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public abstract class QueueListener<T extends Queuable> implements Runnable {
+  private static final String SINGLE_GET = "single";
+  private static final String BATCH_GET = "batch";
+
   @Setter private boolean runOnce;
   private final boolean primaryOnly;
+  // Messages taken by one get, the ones not started before half of their lease passed are released back to the queue
+  @Setter private int batchSize = 1;
 
   private AtomicBoolean shouldStop = new AtomicBoolean(false);
 
   @Inject private TimerScheduledExecutorService timer;
   @Inject private QueueController queueController;
+  // optional, so that listeners keep working in services which do not bind a MetricService
+  @Inject(optional = true) private PersistenceMetricsServiceImpl persistenceMetricsService;
 
   @Getter @Setter private QueueConsumer<T> queueConsumer;
 
@@ -71,6 +83,9 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
   public boolean execute() {
     log.debug("Total event in running: [{}] and not running:[{}] - Class info [{}]",
         queueConsumer.count(Filter.RUNNING), queueConsumer.count(Filter.NOT_RUNNING), this);
+    if (batchSize > 1) {
+      return executeBatch();
+    }
     T message = null;
     try {
       log.trace("Waiting for message");
@@ -85,11 +100,58 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
 
     if (message != null) {
       log.debug("Consuming message [{}]", message);
+      recordReceived(SINGLE_GET, message);
       processMessage(message);
     }
     return true;
   }
 
+  private boolean executeBatch() {
+    List<T> messages = null;
+    long leasedAt = currentTimeMillis();
+    try {
+      log.trace("Waiting for messages");
+      messages = queueConsumer.get(batchSize, ofSeconds(3), ofSeconds(1));
+    } catch (Exception exception) {
+      if (exception.getCause() instanceof InterruptedException) {
+        log.info("Thread interrupted, shutting down for queue {}", queueConsumer.getName());
+        return false;
+      }
+      log.error("Exception happened while fetching messages from queue {}", queueConsumer.getName(), exception);
+    }
+    if (messages == null || messages.isEmpty()) {
+      return true;
+    }
+
+    if (persistenceMetricsService != null) {
+      persistenceMetricsService.recordQueueMetric(
+          queueConsumer.getName(), BATCH_GET, QUEUE_GET_BATCH_SIZE, messages.size());
+    }
+    long leaseExpiresAt = leasedAt + queueConsumer.heartbeat().toMillis();
+    for (int i = 0; i < messages.size(); i++) {
+      T message = messages.get(i);
+      if (shouldStop.get() || currentTimeMillis() > leaseExpiresAt - queueConsumer.heartbeat().toMillis() / 2) {
+        // the lease is still ours, hand the rest back right away instead of letting it expire
+        messages.subList(i, messages.size()).forEach(rest -> queueConsumer.requeue(rest.getId(), rest.getRetries()));
+        break;
+      }
+      log.debug("Consuming message [{}]", message);
+      recordReceived(BATCH_GET, message);
+      processMessage(message, leaseExpiresAt);
+    }
+    return true;
+  }
+
+  private void recordReceived(String getMode, T message) {
+    if (persistenceMetricsService == null) {
+      return;
+    }
+    String queueName = queueConsumer.getName();
+    persistenceMetricsService.recordQueueMetric(queueName, getMode, QUEUE_MESSAGE_RECEIVED);
+    persistenceMetricsService.recordQueueMetricWithDuration(queueName, getMode,
+        Duration.ofMillis(Math.max(currentTimeMillis() - message.getEarliestGet().getTime(), 0)), QUEUE_MESSAGE_DELAY);
+  }
+
   public void pumpAll() {
     while (true) {
       T message = null;
@@ -111,15 +173,21 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
     }
   }
 
-  @SuppressWarnings({"PMD", "squid:S1181"})
   private void processMessage(T message) {
+    processMessage(message, currentTimeMillis() + queueConsumer.heartbeat().toMillis());
+  }
+
+  @SuppressWarnings({"PMD", "squid:S1181"})
+  private void processMessage(T message, long leaseExpiresAt) {
     long startTime = currentTimeMillis();
 
     try (MessageLogContext ignore = new MessageLogContext(message, OVERRIDE_ERROR)) {
       long timerInterval = queueConsumer.heartbeat().toMillis() - 500;
+      // messages of a batch were leased before the previous ones were processed, so the first heartbeat comes earlier
+      long initialDelay = Math.max(Math.min(timerInterval, leaseExpiresAt - 500 - startTime), 0);
       final T finalizedMessage = message;
       ScheduledFuture<?> future = timer.scheduleAtFixedRate(
-          () -> queueConsumer.updateHeartbeat(finalizedMessage), timerInterval, timerInterval, TimeUnit.MILLISECONDS);
+          () -> queueConsumer.updateHeartbeat(finalizedMessage), initialDelay, timerInterval, TimeUnit.MILLISECONDS);
 
       try (GlobalContextGuard guard = initGlobalContextGuard(message.getGlobalContext())) {
         long delay = startTime - message.getEarliestGet().toInstant().toEpochMilli();
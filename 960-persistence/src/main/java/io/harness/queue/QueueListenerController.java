@@ -29,10 +29,19 @@ public class QueueListenerController implements Managed {
   private List<QueueListener<?>> abstractQueueListeners = new ArrayList<>();
   @Inject private WorkersConfiguration workersConfiguration;
   public void register(QueueListener<?> listener, int threads) {
+    register(listener, threads, 1);
+  }
+
+  /**
+   * Same as {@link #register(QueueListener, int)}, with every thread taking up to batchSize messages per get.
+   */
+  public void register(QueueListener<?> listener, int threads, int batchSize) {
     if (!workersConfiguration.confirmWorkerIsActive(listener.getClass())) {
       log.info("Not initializing QueueListener: [{}], worker has been configured as inactive", listener.getClass());
       return;
     }
+    listener.setBatchSize(batchSize);
+    listener.getQueueConsumer().wakeupOnChanges(executorService);
     IntStream.rangeClosed(1, threads).forEach(value -> {
       abstractQueueListeners.add(listener);
       executorService.submit(listener);
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.data.structure.UUIDGenerator;
+import io.harness.rule.Owner;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class IteratorShardTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSingleShardIsUnbounded() {
+    List<IteratorShard> shards = IteratorShard.of(1);
+    assertThat(shards).hasSize(1);
+    assertThat(shards.get(0).getLowerBound()).isNull();
+    assertThat(shards.get(0).getUpperBound()).isNull();
+    assertThat(IteratorShard.of(0)).hasSize(1);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testShardsAreContiguous() {
+    List<IteratorShard> shards = IteratorShard.of(8);
+    assertThat(shards).hasSize(8);
+    assertThat(shards.get(0).getLowerBound()).isNull();
+    assertThat(shards.get(7).getUpperBound()).isNull();
+    assertThat(shards.get(7).isLast()).isTrue();
+    for (int i = 1; i < shards.size(); i++) {
+      assertThat(shards.get(i).getLowerBound()).isEqualTo(shards.get(i - 1).getUpperBound());
+      assertThat(shards.get(i).getLowerBound().compareTo(shards.get(i - 1).getLowerBound() == null
+                         ? ""
+                         : shards.get(i - 1).getLowerBound()))
+          .isPositive();
+    }
+    assertThat(IteratorShard.of(1000)).hasSize(IteratorShard.MAX_SHARD_COUNT);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testEveryUuidFallsInExactlyOneShard() {
+    List<IteratorShard> shards = IteratorShard.of(5);
+    for (int n = 0; n < 1000; n++) {
+      String uuid = UUIDGenerator.generateUuid();
+      long matches = shards.stream()
+                         .filter(shard
+                             -> (shard.getLowerBound() == null || uuid.compareTo(shard.getLowerBound()) >= 0)
+                                 && (shard.getUpperBound() == null || uuid.compareTo(shard.getUpperBound()) < 0))
+                         .count();
+      assertThat(matches).isEqualTo(1);
+    }
+  }
+}
@@ -25,6 +25,7 @@ import io.harness.PersistenceTestBase;
 import io.harness.category.element.UnitTests;
 import io.harness.mongo.queue.MongoQueueConsumer;
 import io.harness.mongo.queue.MongoQueuePublisher;
+import io.harness.mongo.queue.MongoQueueWakeup;
 import io.harness.persistence.HPersistence;
 import io.harness.queue.Queuable.QueuableKeys;
 import io.harness.queue.QueueConsumer.Filter;
@@ -85,6 +86,53 @@ public class MongoQueueTest extends PersistenceTestBase {
     assertThat(queue.get(DEFAULT_WAIT, DEFAULT_POLL)).isEqualTo(messageThree);
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldGetBatchOfMessagesInTimeOrder() {
+    TestTopicQueuableObject messageOne = new TestTopicQueuableObject(1);
+    TestTopicQueuableObject messageTwo = new TestTopicQueuableObject(2);
+    TestTopicQueuableObject messageThree = new TestTopicQueuableObject(3);
+
+    topicProducer.send(messageOne);
+    topicProducer.send(messageTwo);
+    topicProducer.send(messageThree);
+
+    assertThat(queue.get(2, DEFAULT_WAIT, DEFAULT_POLL)).containsExactly(messageOne, messageTwo);
+    assertThat(queue.get(2, ZERO, ZERO)).containsExactly(messageThree);
+    assertThat(queue.get(2, ZERO, ZERO)).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWakeUpOnPublishBeforePollInterval() {
+    new Thread(() -> {
+      sleep(ofMillis(200));
+      topicProducer.send(new TestTopicQueuableObject(1));
+    }).start();
+
+    Date start = new Date();
+    assertThat(queue.get(ofSeconds(10), ofSeconds(5))).isNotNull();
+    assertThat(new Date().getTime() - start.getTime()).isLessThan(4000);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotWakeUpOnPublishOfDelayedMessage() {
+    MongoQueueWakeup wakeup = MongoQueueWakeup.of(TestTopicQueuableObject.class);
+    long generation = wakeup.getGeneration();
+
+    TestTopicQueuableObject delayed = new TestTopicQueuableObject(1);
+    delayed.setEarliestGet(new Date(System.currentTimeMillis() + 60000));
+    topicProducer.send(delayed);
+    assertThat(wakeup.getGeneration()).isEqualTo(generation);
+
+    topicProducer.send(new TestTopicQueuableObject(2));
+    assertThat(wakeup.getGeneration()).isGreaterThan(generation);
+  }
+
   @Test
   @Owner(developers = GEORGE)
   @Category(UnitTests.class)
@@ -31,6 +31,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -53,10 +54,12 @@ public class CastedField {
   private boolean isArray; // indicated if it is an Array
   private boolean isCollection; // indicated if the collection is a list)
   private Type genericType;
+  @Getter(AccessLevel.NONE) private FieldAccessor accessor;
 
   CastedField(final Field f, final Class<?> clazz, final Recaster recaster) {
     f.setAccessible(true);
     field = f;
+    accessor = FieldAccessor.of(f, recaster.getOptions() != null && recaster.getOptions().isReflectiveFieldAccess());
     recasterFieldName = getRecasterFieldNameFromField(f);
     persistedClass = clazz;
     realType = field.getType();
@@ -359,19 +362,19 @@ public class CastedField {
   }
 
   public Object getFieldValue(final Object instance) {
-    try {
-      return field.get(instance);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
-    }
+    return fieldAccessor().get(instance);
   }
 
   public void setFieldValue(final Object instance, final Object value) {
-    try {
-      field.set(instance, value);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
+    fieldAccessor().set(instance, value);
+  }
+
+  private FieldAccessor fieldAccessor() {
+    // ephemeral fields of type parameters are not created with an accessor, they are not expected to be read
+    if (accessor == null) {
+      accessor = FieldAccessor.of(field, true);
     }
+    return accessor;
   }
 
   public Object getRecastedMapValue(final RecasterMap recasterMap) {
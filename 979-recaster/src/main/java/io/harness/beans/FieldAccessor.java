@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static java.lang.String.format;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Reads and writes one field through method handles resolved once per {@link CastedField}, instead of going through
+ * {@link Field#get}/{@link Field#set} on every call. The handles are instance fields, so the JIT does not constant fold
+ * them like static final handles; giving every field its own static final handle needs generated classes. They still
+ * measure faster than reflection, see FieldAccessorBenchmark. Fields the handles cannot be created for (final fields
+ * for instance) keep using reflection. Failures are reported the same way {@link Field} reports them.
+ */
+public abstract class FieldAccessor {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  public abstract Object get(Object instance);
+
+  public abstract void set(Object instance, Object value);
+
+  static FieldAccessor of(Field field, boolean reflective) {
+    if (!reflective) {
+      try {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        return new MethodHandleAccessor(field, lookup.unreflectGetter(field).asType(GETTER_TYPE),
+            lookup.unreflectSetter(field).asType(SETTER_TYPE));
+      } catch (IllegalAccessException | RuntimeException e) {
+        // fall through to reflection
+      }
+    }
+    return new ReflectiveAccessor(field);
+  }
+
+  private static class ReflectiveAccessor extends FieldAccessor {
+    private final Field field;
+
+    ReflectiveAccessor(Field field) {
+      this.field = field;
+    }
+
+    @Override
+    public Object get(Object instance) {
+      try {
+        return field.get(instance);
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    @Override
+    public void set(Object instance, Object value) {
+      try {
+        field.set(instance, value);
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  private static class MethodHandleAccessor extends FieldAccessor {
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    MethodHandleAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+      this.field = field;
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    public Object get(Object instance) {
+      try {
+        return (Object) getter.invokeExact(instance);
+      } catch (ClassCastException e) {
+        throw illegalArgument("get", instance, e);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    @Override
+    public void set(Object instance, Object value) {
+      if (value == null && field.getType().isPrimitive()) {
+        throw new IllegalArgumentException(
+            format("Can not set %s field %s to null value", field.getType().getName(), fullName()));
+      }
+      try {
+        setter.invokeExact(instance, value);
+      } catch (ClassCastException e) {
+        throw illegalArgument("set", value, e);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    private IllegalArgumentException illegalArgument(String operation, Object value, ClassCastException e) {
+      String valueType = value == null ? "null value" : value.getClass().getName();
+      return new IllegalArgumentException(
+          format("Can not %s %s field %s with %s", operation, field.getType().getName(), fullName(), valueType), e);
+    }
+
+    private String fullName() {
+      return field.getDeclaringClass().getName() + "." + field.getName();
+    }
+  }
+}
@@ -16,6 +16,8 @@ public class RecasterOptions {
   boolean ignoreFinalFields;
   boolean storeNulls;
   boolean storeEmpties;
+  // read and write fields with Field.get/set instead of method handles
+  boolean reflectiveFieldAccess;
 
   // to be removed when migration to map is finished
   boolean workWithMaps;
@@ -21,6 +21,8 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -28,6 +30,8 @@ public abstract class Transformer {
   Recaster recaster;
   Map<Class<?>, RecastTransformer> converterMap = new HashMap<>();
   private final List<RecastTransformer> untypedTypeTransformers = new LinkedList<>();
+  // untyped transformer picked per class, so the canTransform checks run once per class instead of once per value
+  private final Map<Class<?>, Optional<RecastTransformer>> resolvedUntypedTransformers = new ConcurrentHashMap<>();
 
   public Transformer(Recaster recaster) {
     this.recaster = recaster;
@@ -50,6 +54,7 @@ public abstract class Transformer {
     } else {
       untypedTypeTransformers.add(recastTransformer);
     }
+    resolvedUntypedTransformers.clear();
     recastTransformer.setRecaster(recaster);
   }
 
@@ -121,13 +126,19 @@ public abstract class Transformer {
     if (recastTransformer != null) {
       return recastTransformer;
     }
+    if (c == null) {
+      return getUntypedTransformer(null);
+    }
+    return resolvedUntypedTransformers.computeIfAbsent(c, key -> Optional.ofNullable(getUntypedTransformer(key)))
+        .orElse(null);
+  }
 
+  private RecastTransformer getUntypedTransformer(final Class<?> c) {
     for (RecastTransformer rc : untypedTypeTransformers) {
       if (rc.canTransform(c)) {
         return rc;
       }
     }
-
     return null;
   }
 
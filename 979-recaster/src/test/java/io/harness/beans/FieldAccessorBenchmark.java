@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.lang.reflect.Field;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares the reflective and the method handle {@link FieldAccessor} on the same fields. JMH is not part of the build,
+ * so this warms up both accessors and times them in turns. Run its main method with the JVM options of the
+ * services when changing FieldAccessor or the JDK.
+ */
+@Slf4j
+@OwnedBy(HarnessTeam.PIPELINE)
+public class FieldAccessorBenchmark {
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 10;
+  private static final int ITERATIONS = 10_000_000;
+
+  private String name = "name";
+  private int count;
+
+  public static void main(String[] args) throws Exception {
+    Field nameField = FieldAccessorBenchmark.class.getDeclaredField("name");
+    Field countField = FieldAccessorBenchmark.class.getDeclaredField("count");
+    nameField.setAccessible(true);
+    countField.setAccessible(true);
+
+    FieldAccessor[] reflective = {FieldAccessor.of(nameField, true), FieldAccessor.of(countField, true)};
+    FieldAccessor[] methodHandles = {FieldAccessor.of(nameField, false), FieldAccessor.of(countField, false)};
+
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      run(reflective);
+      run(methodHandles);
+    }
+    long reflectiveNanos = 0;
+    long methodHandleNanos = 0;
+    for (int round = 0; round < MEASURED_ROUNDS; round++) {
+      reflectiveNanos += run(reflective);
+      methodHandleNanos += run(methodHandles);
+    }
+    long operations = (long) MEASURED_ROUNDS * ITERATIONS * 2;
+    log.info("reflection: {} ns/op, method handles: {} ns/op", (double) reflectiveNanos / operations,
+        (double) methodHandleNanos / operations);
+  }
+
+  private static long run(FieldAccessor[] accessors) {
+    FieldAccessorBenchmark instance = new FieldAccessorBenchmark();
+    FieldAccessor nameAccessor = accessors[0];
+    FieldAccessor countAccessor = accessors[1];
+    long start = System.nanoTime();
+    int sum = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      nameAccessor.set(instance, nameAccessor.get(instance));
+      countAccessor.set(instance, (Integer) countAccessor.get(instance) + 1);
+      sum += instance.count;
+    }
+    long elapsed = System.nanoTime() - start;
+    if (sum == 0) {
+      log.info("unexpected sum");
+    }
+    return elapsed;
+  }
+}
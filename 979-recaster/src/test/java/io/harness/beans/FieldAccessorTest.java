@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.RecasterTestBase;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.core.Recaster;
+import io.harness.core.RecasterOptions;
+import io.harness.rule.Owner;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class FieldAccessorTest extends RecasterTestBase {
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldReadAndWriteFieldsLikeReflection() throws Exception {
+    for (boolean reflective : new boolean[] {false, true}) {
+      Dummy dummy = new Dummy("name", 1, Arrays.asList("a", "b"));
+      FieldAccessor name = FieldAccessor.of(accessibleField("name"), reflective);
+      FieldAccessor count = FieldAccessor.of(accessibleField("count"), reflective);
+
+      assertThat(name.get(dummy)).isEqualTo("name");
+      assertThat(count.get(dummy)).isEqualTo(1);
+      name.set(dummy, "other");
+      count.set(dummy, 5);
+      assertThat(dummy.getName()).isEqualTo("other");
+      assertThat(dummy.getCount()).isEqualTo(5);
+
+      assertThatThrownBy(() -> count.set(dummy, null)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> name.set(dummy, 5)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> name.get(null)).isInstanceOf(NullPointerException.class);
+      assertThatThrownBy(() -> name.set(null, "other")).isInstanceOf(NullPointerException.class);
+    }
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldProduceSameMapWithAndWithoutReflection() {
+    Recaster methodHandles = new Recaster(RecasterOptions.builder().workWithMaps(true).build());
+    Recaster reflection =
+        new Recaster(RecasterOptions.builder().workWithMaps(true).reflectiveFieldAccess(true).build());
+    Dummy dummy = new Dummy("name", 3, Arrays.asList("a", "b"));
+
+    Map<String, Object> map = methodHandles.toMap(dummy);
+    assertThat(map).isEqualTo(reflection.toMap(dummy));
+    assertThat(methodHandles.fromMap(map, Dummy.class)).isEqualTo(dummy);
+    assertThat(reflection.fromMap(map, Dummy.class)).isEqualTo(dummy);
+  }
+
+  private static Field accessibleField(String name) throws NoSuchFieldException {
+    Field field = Dummy.class.getDeclaredField(name);
+    field.setAccessible(true);
+    return field;
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  private static class Dummy {
+    private String name;
+    private int count;
+    private List<String> values;
+  }
+}
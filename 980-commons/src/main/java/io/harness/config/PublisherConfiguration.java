@@ -17,6 +17,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PublisherConfiguration implements ActiveConfigValidator {
   @JsonProperty("active") Map<String, Boolean> active;
+  // wake up queue consumers through mongo change streams, needs mongo to run as a replica set
+  @JsonProperty("changeStreamWakeup") boolean changeStreamWakeup;
   public boolean isPublisherActive(Class cls) {
     return isActive(cls, active);
   }
@@ -11,7 +11,6 @@ import static java.lang.String.format;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
-import io.harness.data.algorithm.IdentifierName;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.exception.EngineExpressionEvaluationException;
 import io.harness.exception.EngineFunctorException;
@@ -45,18 +44,16 @@ import javax.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.jexl3.JexlBuilder;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.hibernate.validator.constraints.NotEmpty;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 @Slf4j
 public class EngineExpressionEvaluator {
   public static final String HARNESS_INTERNAL_VARIABLE_PREFIX = "__HVAR_";
+  private static final String EVALUATED_VARIABLE_PREFIX = "__HEVAL_";
 
   private static final Pattern VALID_VARIABLE_FIELD_NAME_PATTERN = Pattern.compile("^[a-zA-Z_][a-zA-Z_0-9]*$");
   private static final Pattern ALIAS_NAME_PATTERN = Pattern.compile("^[a-zA-Z_][a-zA-Z_0-9]*$");
@@ -68,14 +65,12 @@ public class EngineExpressionEvaluator {
 
   private static final int MAX_DEPTH = 15;
 
-  private final JexlEngine engine;
   @Getter private final VariableResolverTracker variableResolverTracker;
   @Getter private final Map<String, Object> contextMap;
   @Getter private final Map<String, String> staticAliases;
   private boolean initialized;
 
   public EngineExpressionEvaluator(VariableResolverTracker variableResolverTracker) {
-    this.engine = new JexlBuilder().logger(new NoOpLog()).create();
     this.variableResolverTracker =
         variableResolverTracker == null ? new VariableResolverTracker() : variableResolverTracker;
     this.contextMap = new LateBindingMap();
@@ -575,9 +570,9 @@ public class EngineExpressionEvaluator {
 
   protected Object evaluateByCreatingExpression(@NotNull String expression, @NotNull EngineJexlContext ctx) {
     if (ctx.isFeatureFlagEnabled(PIE_EXECUTION_JSON_SUPPORT)) {
-      return engine.createScript(expression).execute(ctx);
+      return JexlScriptCache.createScript(expression).execute(ctx);
     }
-    JexlExpression jexlExpression = engine.createExpression(expression);
+    JexlExpression jexlExpression = JexlScriptCache.createExpression(expression);
     return jexlExpression.evaluate(ctx);
   }
 
@@ -597,7 +592,7 @@ public class EngineExpressionEvaluator {
 
     if (ctx.isFeatureFlagEnabled(PIE_EXECUTION_JSON_SUPPORT)) {
       try {
-        return engine.createScript(expression).execute(ctx);
+        return JexlScriptCache.createScript(expression).execute(ctx);
       } catch (Exception e) {
         if (response.isOnlyRenderedExpressions()) {
           return null;
@@ -606,7 +601,7 @@ public class EngineExpressionEvaluator {
       }
     }
     try {
-      JexlExpression jexlExpression = engine.createExpression(expression);
+      JexlExpression jexlExpression = JexlScriptCache.createExpression(expression);
       return jexlExpression.evaluate(ctx);
     } catch (Exception e) {
       if (response.isOnlyRenderedExpressions()) {
@@ -617,7 +612,7 @@ public class EngineExpressionEvaluator {
   }
 
   protected Object evaluateByCreatingScript(@NotNull String expression, @NotNull EngineJexlContext ctx) {
-    return engine.createScript(expression).execute(ctx);
+    return JexlScriptCache.createScript(expression).execute(ctx);
   }
 
   private EngineJexlContext prepareContext(Map<String, Object> ctx) {
@@ -760,8 +755,10 @@ public class EngineExpressionEvaluator {
       this.engineExpressionEvaluator = engineExpressionEvaluator;
       this.ctx = ctx;
       this.depth = depth;
-      this.prefix = IdentifierName.random();
-      this.suffix = IdentifierName.random();
+      // Names only have to be unique among the resolvers active on the same context, those always have distinct
+      // depths. Keeping them deterministic lets JexlScriptCache reuse the parsed script for the same expression.
+      this.prefix = EVALUATED_VARIABLE_PREFIX + depth + "_";
+      this.suffix = "__";
       this.expressionMode = expressionMode;
     }
 
@@ -27,12 +27,9 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.Data;
 import org.apache.commons.collections.map.SingletonMap;
-import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.apache.commons.text.StrSubstitutor;
 
 /**
@@ -55,8 +52,6 @@ public class ExpressionEvaluator {
 
   private Map<String, Object> expressionFunctorMap = new HashMap<>();
 
-  private JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
-
   public void addFunctor(String name, ExpressionFunctor functor) {
     if (functor == null) {
       throw new InvalidArgumentsException(Pair.of("functor", "null"));
@@ -91,7 +86,7 @@ public class ExpressionEvaluator {
       expression = expression.replaceAll("\n", "\\\\u000a");
     }
 
-    JexlExpression jexlExpression = engine.createExpression(expression);
+    JexlExpression jexlExpression = JexlScriptCache.createExpression(expression);
     Object ret = jexlExpression.evaluate(context);
 
     LateBindingContext lateBindingContext = (LateBindingContext) context;
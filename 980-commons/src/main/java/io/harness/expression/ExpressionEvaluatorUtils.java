@@ -36,12 +36,9 @@ import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.lang3.ClassUtils;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.apache.commons.text.StrLookup;
 import org.apache.commons.text.StrSubstitutor;
 
@@ -54,7 +51,6 @@ public class ExpressionEvaluatorUtils {
   public static final int DEPTH_LIMIT = 10;
   private static final int DEBUG_LENGTH_LIMIT = 1 * 1024 * 1024; // 1 MB
 
-  private static final JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
   private static final String REGEX = "[0-9]+";
 
   public static String substitute(
@@ -183,7 +179,7 @@ public class ExpressionEvaluatorUtils {
     }
 
     try {
-      Object retObj = engine.getProperty(obj, field);
+      Object retObj = JexlScriptCache.getEngine().getProperty(obj, field);
       return Optional.ofNullable(retObj);
     } catch (JexlException ex) {
       log.debug(format("Could not fetch field '%s'", field), ex);
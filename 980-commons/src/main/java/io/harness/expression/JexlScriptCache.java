@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.ExecutionException;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * Process wide JEXL engine together with a size bounded cache of parsed scripts and expressions. Parsed JEXL
+ * scripts/expressions are immutable and can be executed concurrently against different contexts, so the same
+ * expression text is parsed only once no matter how many evaluators use it.
+ *
+ * Keys are the expression text exactly as handed to JEXL, i.e. after the evaluator specific normalization.
+ */
+@OwnedBy(PIPELINE)
+@UtilityClass
+public class JexlScriptCache {
+  private static final int MAX_CACHED_EXPRESSIONS = 10000;
+
+  private static final JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
+
+  private static final Cache<String, JexlScript> scripts =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_EXPRESSIONS).recordStats().build();
+  private static final Cache<String, JexlExpression> expressions =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_EXPRESSIONS).recordStats().build();
+
+  public static JexlEngine getEngine() {
+    return engine;
+  }
+
+  public static JexlScript createScript(String expression) {
+    try {
+      return scripts.get(expression, () -> engine.createScript(expression));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw propagate(e);
+    }
+  }
+
+  public static JexlExpression createExpression(String expression) {
+    try {
+      return expressions.get(expression, () -> engine.createExpression(expression));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw propagate(e);
+    }
+  }
+
+  public static CacheStats stats() {
+    return scripts.stats().plus(expressions.stats());
+  }
+
+  @VisibleForTesting
+  static void invalidateAll() {
+    scripts.invalidateAll();
+    expressions.invalidateAll();
+  }
+
+  private static RuntimeException propagate(Exception e) {
+    // Parse failures are JexlExceptions; rethrow them unwrapped so callers keep handling them as before
+    if (e.getCause() instanceof RuntimeException) {
+      return (RuntimeException) e.getCause();
+    }
+    if (e.getCause() instanceof Error) {
+      throw (Error) e.getCause();
+    }
+    return new UncheckedExecutionException(e.getCause());
+  }
+}
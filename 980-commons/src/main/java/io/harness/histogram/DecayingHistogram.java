@@ -11,6 +11,7 @@ import static com.google.api.client.util.Preconditions.checkArgument;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.function.LongToDoubleFunction;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -57,6 +58,28 @@ public class DecayingHistogram implements Histogram {
     this.histogram.addSample(value, weight * decayFactor(time), time);
   }
 
+  /**
+   * Adds the samples in one pass. The decay factor is only computed again when the sample time changes, so runs of
+   * samples taken at the same time share it, and the reference time is shifted at the same samples as with addSample,
+   * so the result and its checkpoint are the same. Histograms filled separately, e.g. per cluster on different threads,
+   * can be combined afterwards with merge.
+   */
+  @Override
+  public void addSamples(double[] values, double[] weights, long[] timesMs) {
+    HistogramImpl.checkSampleArrays(values, weights, timesMs);
+    int from = 0;
+    for (int i = 0; i < timesMs.length; i++) {
+      if (timesMs[i] > maxAllowedTimestampMs()) {
+        this.histogram.addSamples(
+            values, weights, timesMs, from, i, new DecayFactors(this.referenceTimestampMs, this.halfLifeMs));
+        shiftReferenceTimestamp(timesMs[i]);
+        from = i;
+      }
+    }
+    this.histogram.addSamples(values, weights, timesMs, from, timesMs.length,
+        new DecayFactors(this.referenceTimestampMs, this.halfLifeMs));
+  }
+
   @Override
   public void subtractSample(double value, double weight, Instant time) {
     this.histogram.subtractSample(value, weight * decayFactor(time), time);
@@ -112,15 +135,48 @@ public class DecayingHistogram implements Histogram {
 
   private double decayFactor(Instant timestamp) {
     long timestampMs = timestamp.toEpochMilli();
-    // Max timestamp before the exponent grows too large.
-    long maxAllowedTimestampMs = this.referenceTimestampMs + (this.halfLifeMs * MAX_DECAY_EXPONENT);
-    if (timestampMs > maxAllowedTimestampMs) {
+    renormalizeIfNeeded(timestampMs);
+    return decayFactor(timestampMs, this.referenceTimestampMs, this.halfLifeMs);
+  }
+
+  private void renormalizeIfNeeded(long timestampMs) {
+    if (timestampMs > maxAllowedTimestampMs()) {
       // The exponent has grown too large. Renormalize the histogram by
       // shifting the referenceTimestamp to the current timestamp and rescaling
       // the weights accordingly.
       shiftReferenceTimestamp(timestampMs);
     }
-    long elapsed = timestampMs - this.referenceTimestampMs;
-    return Math.pow(2, (double) elapsed / (double) this.halfLifeMs);
+  }
+
+  // Max timestamp before the exponent grows too large.
+  private long maxAllowedTimestampMs() {
+    return this.referenceTimestampMs + (this.halfLifeMs * MAX_DECAY_EXPONENT);
+  }
+
+  private static double decayFactor(long timestampMs, long referenceTimestampMs, long halfLifeMs) {
+    long elapsed = timestampMs - referenceTimestampMs;
+    return Math.pow(2, (double) elapsed / (double) halfLifeMs);
+  }
+
+  // Decay factors for one bulk add, remembering the last one computed.
+  private static final class DecayFactors implements LongToDoubleFunction {
+    private final long referenceTimestampMs;
+    private final long halfLifeMs;
+    private long lastTimestampMs;
+    private double lastFactor = Double.NaN;
+
+    DecayFactors(long referenceTimestampMs, long halfLifeMs) {
+      this.referenceTimestampMs = referenceTimestampMs;
+      this.halfLifeMs = halfLifeMs;
+    }
+
+    @Override
+    public double applyAsDouble(long timestampMs) {
+      if (Double.isNaN(lastFactor) || timestampMs != lastTimestampMs) {
+        lastFactor = decayFactor(timestampMs, referenceTimestampMs, halfLifeMs);
+        lastTimestampMs = timestampMs;
+      }
+      return lastFactor;
+    }
   }
 }
@@ -24,6 +24,17 @@ public interface Histogram {
    */
   void subtractSample(double value, double weight, Instant time);
 
+  /**
+   * Add samples given as parallel arrays of values, weights and sample times in epoch millis. Equivalent to calling
+   * addSample for each of them in order, implementations may do it in a single pass.
+   */
+  default void addSamples(double[] values, double[] weights, long[] timesMs) {
+    HistogramImpl.checkSampleArrays(values, weights, timesMs);
+    for (int i = 0; i < values.length; i++) {
+      addSample(values[i], weights[i], Instant.ofEpochMilli(timesMs[i]));
+    }
+  }
+
   /*
    Add all samples from another histogram. Requires the histograms to be
    of the exact same type.
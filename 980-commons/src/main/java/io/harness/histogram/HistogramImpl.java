@@ -14,6 +14,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
 import java.util.Map;
+import java.util.function.LongToDoubleFunction;
 import lombok.ToString;
 
 /**
@@ -63,6 +64,62 @@ public class HistogramImpl implements Histogram {
     }
   }
 
+  @Override
+  public void addSamples(double[] values, double[] weights, long[] timesMs) {
+    checkSampleArrays(values, weights, timesMs);
+    addSamples(values, weights, timesMs, 0, values.length, null);
+  }
+
+  /**
+   * Adds the samples in [from, to) in one pass, multiplying the weight of each by weightFactor applied to its time if
+   * given. Bucket weights only grow while adding, so min and max bucket are settled once at the end. The arrays must
+   * have passed checkSampleArrays.
+   */
+  void addSamples(
+      double[] values, double[] weights, long[] timesMs, int from, int to, LongToDoubleFunction weightFactor) {
+    int lowest = Integer.MAX_VALUE;
+    int highest = -1;
+    double total = this.totalWeight;
+    for (int i = from; i < to; i++) {
+      double weight = weights[i];
+      if (weightFactor != null) {
+        weight *= weightFactor.applyAsDouble(timesMs[i]);
+      }
+      int bucket = this.options.findBucket(values[i]);
+      this.bucketWeight[bucket] += weight;
+      total += weight;
+      lowest = Math.min(lowest, bucket);
+      highest = Math.max(highest, bucket);
+    }
+    this.totalWeight = total;
+
+    double epsilon = this.options.getEpsilon();
+    for (int bucket = lowest; bucket < this.minBucket && bucket <= highest; bucket++) {
+      if (this.bucketWeight[bucket] >= epsilon) {
+        this.minBucket = bucket;
+        break;
+      }
+    }
+    for (int bucket = highest; bucket > this.maxBucket && bucket >= lowest; bucket--) {
+      if (this.bucketWeight[bucket] >= epsilon) {
+        this.maxBucket = bucket;
+        break;
+      }
+    }
+  }
+
+  static void checkSampleArrays(double[] values, double[] weights, long[] timesMs) {
+    checkNotNull(values, "values");
+    checkNotNull(weights, "weights");
+    checkNotNull(timesMs, "timesMs");
+    checkArgument(values.length == weights.length && values.length == timesMs.length,
+        "values, weights and times must have the same length");
+    // checked up front, so that a bad sample does not leave the histogram half updated
+    for (double weight : weights) {
+      checkArgument(weight >= 0.0, "sample weight must be non-negative");
+    }
+  }
+
   private double safeSubtract(double value, double sub, double epsilon) {
     value -= sub;
     if (value < epsilon) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import com.esotericsoftware.kryo.io.Output;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Per thread buffers, deflater and inflater reused by {@link KryoSerializer} across calls. A nested call on the same
+ * thread (a serializer serializing through KryoSerializer again) gets its own short lived instance instead.
+ */
+final class KryoBuffers {
+  private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+  // do not keep the buffers of an occasional huge payload around for the lifetime of the thread
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+  private static final ThreadLocal<KryoBuffers> BUFFERS = ThreadLocal.withInitial(KryoBuffers::new);
+
+  private final Output output = new Output(INITIAL_BUFFER_SIZE, -1);
+  private byte[] scratch = new byte[INITIAL_BUFFER_SIZE];
+  private Deflater deflater;
+  private Inflater inflater;
+  private boolean inUse;
+
+  static KryoBuffers acquire() {
+    KryoBuffers buffers = BUFFERS.get();
+    if (buffers.inUse) {
+      return new KryoBuffers();
+    }
+    buffers.inUse = true;
+    return buffers;
+  }
+
+  void release() {
+    if (!inUse) {
+      // a nested instance, nothing to keep
+      end();
+      return;
+    }
+    output.clear();
+    if (output.getBuffer().length > MAX_RETAINED_BUFFER_SIZE) {
+      output.setBuffer(new byte[INITIAL_BUFFER_SIZE], -1);
+    }
+    if (scratch.length > MAX_RETAINED_BUFFER_SIZE) {
+      scratch = new byte[INITIAL_BUFFER_SIZE];
+    }
+    if (deflater != null) {
+      deflater.reset();
+    }
+    if (inflater != null) {
+      inflater.reset();
+    }
+    inUse = false;
+  }
+
+  Output output() {
+    output.clear();
+    return output;
+  }
+
+  /**
+   * Returns a buffer of at least the given size, keeping the first {@code keep} bytes of the current one.
+   */
+  byte[] scratch(int size, int keep) {
+    if (scratch.length < size) {
+      byte[] grown = new byte[Math.max(size, scratch.length * 2)];
+      System.arraycopy(scratch, 0, grown, 0, keep);
+      scratch = grown;
+    }
+    return scratch;
+  }
+
+  Deflater deflater() {
+    if (deflater == null) {
+      deflater = new Deflater();
+    }
+    return deflater;
+  }
+
+  Inflater inflater() {
+    if (inflater == null) {
+      inflater = new Inflater();
+    }
+    return inflater;
+  }
+
+  private void end() {
+    if (deflater != null) {
+      deflater.end();
+    }
+    if (inflater != null) {
+      inflater.end();
+    }
+  }
+}
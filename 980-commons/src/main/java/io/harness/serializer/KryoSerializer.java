@@ -20,14 +20,10 @@ import com.google.api.client.util.Base64;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.Set;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.InflaterInputStream;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
@@ -53,6 +49,7 @@ public class KryoSerializer {
 
   private final KryoPool pool;
   private final boolean skipHarnessClassOriginRegistrarCheck;
+  private final KryoCompressionCodec compressionCodec;
 
   @Inject
   public KryoSerializer(Set<Class<? extends KryoRegistrar>> registrars) {
@@ -67,14 +64,23 @@ public class KryoSerializer {
    */
   @VisibleForTesting
   public KryoSerializer(Set<Class<? extends KryoRegistrar>> registrars, boolean skipHarnessClassOriginRegistrarCheck) {
-    this.pool = new KryoPool.Builder(() -> kryo(registrars, true)).softReferences().build();
-    this.skipHarnessClassOriginRegistrarCheck = skipHarnessClassOriginRegistrarCheck;
+    this(registrars, skipHarnessClassOriginRegistrarCheck, true);
   }
 
   public KryoSerializer(Set<Class<? extends KryoRegistrar>> registrars, boolean skipHarnessClassOriginRegistrarCheck,
       boolean shouldSetReferences) {
+    this(registrars, skipHarnessClassOriginRegistrarCheck, shouldSetReferences, KryoCompressionCodec.configured());
+  }
+
+  /**
+   * Creates a new kryo serializer.
+   * @param compressionCodec the codec {@link #asDeflatedBytes} compresses with, bytes of any codec can be read back
+   */
+  public KryoSerializer(Set<Class<? extends KryoRegistrar>> registrars, boolean skipHarnessClassOriginRegistrarCheck,
+      boolean shouldSetReferences, KryoCompressionCodec compressionCodec) {
     this.pool = new KryoPool.Builder(() -> kryo(registrars, shouldSetReferences)).softReferences().build();
     this.skipHarnessClassOriginRegistrarCheck = skipHarnessClassOriginRegistrarCheck;
+    this.compressionCodec = compressionCodec;
   }
 
   private HKryo kryo(Collection<Class<? extends KryoRegistrar>> registrars, boolean shouldSetReferences) {
@@ -104,35 +110,38 @@ public class KryoSerializer {
   }
 
   public byte[] asBytes(Object obj) {
-    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      writeToStream(obj, outputStream);
-      return outputStream.toByteArray();
+    KryoBuffers buffers = KryoBuffers.acquire();
+    try {
+      return write(obj, buffers).toBytes();
     } catch (Exception e) {
       throw new RuntimeException(e);
+    } finally {
+      buffers.release();
     }
   }
 
+  /**
+   * Serializes and compresses with the configured {@link KryoCompressionCodec}, DEFLATE unless configured otherwise.
+   */
   public byte[] asDeflatedBytes(Object obj) {
-    try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-         DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
-      writeToStream(obj, outputStream);
-      outputStream.finish();
-      return byteStream.toByteArray();
+    KryoBuffers buffers = KryoBuffers.acquire();
+    try {
+      Output output = write(obj, buffers);
+      return compressionCodec.compress(output.getBuffer(), output.position(), buffers);
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      buffers.release();
     }
   }
 
-  private void writeToStream(Object obj, OutputStream outputStream) {
-    try (Output output = new Output(outputStream)) {
-      pool.run(kryo -> {
-        kryo.writeClassAndObject(output, obj);
-        return null;
-      });
-      output.flush();
-    } catch (Exception exception) {
-      throw new RuntimeException(exception);
-    }
+  private Output write(Object obj, KryoBuffers buffers) {
+    Output output = buffers.output();
+    pool.run(kryo -> {
+      kryo.writeClassAndObject(output, obj);
+      return null;
+    });
+    return output;
   }
 
   public <T> T clone(T object) {
@@ -146,10 +155,14 @@ public class KryoSerializer {
   }
 
   public Object asInflatedObject(byte[] bytes) {
-    try (Input input = new Input(new InflaterInputStream(new Input(bytes)))) {
+    KryoBuffers buffers = KryoBuffers.acquire();
+    try {
+      Input input = KryoCompressionCodec.of(bytes).decompress(bytes, buffers);
       return pool.run(kryo -> kryo.readClassAndObject(input));
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      buffers.release();
     }
   }
 
@@ -794,6 +794,21 @@ public class EngineExpressionEvaluatorTest extends CategoryTest {
         .hasMessage("Unresolved expressions: b");
   }
 
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testParsedScriptsAreReusedAcrossEvaluators() {
+    Map<String, Object> contextMap =
+        new ImmutableMap.Builder<String, Object>().put("a", 5).put("b", 7).put("d", "<+a>").build();
+    assertThat(prepareEngineExpressionEvaluator(contextMap).evaluateExpression("<+a> + <+b> * <+d>")).isEqualTo(40);
+    long missCount = JexlScriptCache.stats().missCount();
+    long hitCount = JexlScriptCache.stats().hitCount();
+
+    assertThat(prepareEngineExpressionEvaluator(contextMap).evaluateExpression("<+a> + <+b> * <+d>")).isEqualTo(40);
+    assertThat(JexlScriptCache.stats().missCount()).isEqualTo(missCount);
+    assertThat(JexlScriptCache.stats().hitCount()).isGreaterThan(hitCount);
+  }
+
   @Test
   @Owner(developers = BRIJESH)
   @Category(UnitTests.class)
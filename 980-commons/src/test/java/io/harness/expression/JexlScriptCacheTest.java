@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.jexl3.JexlException;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.jexl3.MapContext;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class JexlScriptCacheTest extends CategoryTest {
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testParsedExpressionsAreReused() {
+    JexlScriptCache.invalidateAll();
+    JexlExpression first = JexlScriptCache.createExpression("a + b");
+    JexlExpression second = JexlScriptCache.createExpression("a + b");
+    assertThat(second).isSameAs(first);
+    assertThat(second.evaluate(new MapContext(ImmutableMap.of("a", 1, "b", 2)))).isEqualTo(3);
+    assertThat(first.evaluate(new MapContext(ImmutableMap.of("a", 5, "b", 2)))).isEqualTo(7);
+
+    JexlScript script = JexlScriptCache.createScript("a * b");
+    assertThat(JexlScriptCache.createScript("a * b")).isSameAs(script);
+    assertThat(script.execute(new MapContext(ImmutableMap.of("a", 3, "b", 2)))).isEqualTo(6);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testParseFailureIsNotWrapped() {
+    assertThatThrownBy(() -> JexlScriptCache.createExpression("a +")).isInstanceOf(JexlException.class);
+    assertThatThrownBy(() -> JexlScriptCache.createScript("a +")).isInstanceOf(JexlException.class);
+  }
+}
@@ -24,6 +24,8 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.stream.IntStream;
 import lombok.val;
 import org.joor.Reflect;
 import org.junit.Test;
@@ -140,6 +142,70 @@ public class DecayingHistogramTest extends CategoryTest {
     assertThat(h1).isEqualTo(expected);
   }
 
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testAddSamplesSameAsAddSample() throws Exception {
+    // spans more than MAX_DECAY_EXPONENT half lives, so the reference timestamp is shifted on the way
+    int count = 300;
+    double[] values = new double[count];
+    double[] weights = new double[count];
+    long[] times = new long[count];
+    val expected = new DecayingHistogram(testHistogramOptions, oneHour);
+    for (int i = 0; i < count; i++) {
+      values[i] = i % 7;
+      weights[i] = 1 + i % 3;
+      times[i] = startTime.plus(i / 2, ChronoUnit.HOURS).toEpochMilli();
+      expected.addSample(values[i], weights[i], Instant.ofEpochMilli(times[i]));
+    }
+
+    val h = new DecayingHistogram(testHistogramOptions, oneHour);
+    h.addSamples(values, weights, times);
+
+    assertThat(h).isEqualTo(expected);
+    assertThat(h.saveToCheckpoint()).isEqualTo(expected.saveToCheckpoint());
+    for (double p = 0.0; p <= 1.0; p += 0.1) {
+      assertThat(h.getPercentile(p)).isEqualTo(expected.getPercentile(p));
+    }
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testAddSamplesMergedAcrossThreads() throws Exception {
+    int count = 1000;
+    double[] values = new double[count];
+    double[] weights = new double[count];
+    long[] times = new long[count];
+    for (int i = 0; i < count; i++) {
+      values[i] = i % 9;
+      weights[i] = 1;
+      times[i] = startTime.plus(i % 24, ChronoUnit.HOURS).toEpochMilli();
+    }
+    val expected = new DecayingHistogram(testHistogramOptions, oneHour);
+    expected.addSamples(values, weights, times);
+
+    val merged = IntStream.range(0, 4)
+                     .parallel()
+                     .mapToObj(part -> {
+                       int from = part * count / 4;
+                       int to = (part + 1) * count / 4;
+                       DecayingHistogram h = new DecayingHistogram(testHistogramOptions, oneHour);
+                       h.addSamples(Arrays.copyOfRange(values, from, to), Arrays.copyOfRange(weights, from, to),
+                           Arrays.copyOfRange(times, from, to));
+                       return h;
+                     })
+                     .reduce((h1, h2) -> {
+                       h1.merge(h2);
+                       return h1;
+                     })
+                     .get();
+
+    for (double p = 0.0; p <= 1.0; p += 0.1) {
+      assertThat(merged.getPercentile(p)).isCloseTo(expected.getPercentile(p), within(valueEpsilon));
+    }
+  }
+
   @Test
   @Owner(developers = AVMOHAN)
   @Category(UnitTests.class)
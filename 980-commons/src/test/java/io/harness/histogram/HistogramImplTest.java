@@ -118,6 +118,44 @@ public class HistogramImplTest extends CategoryTest {
     assertThat(h.isEmpty()).isFalse();
   }
 
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testAddSamplesSameAsAddSample() throws Exception {
+    double[] values = {9.9, 0.1, 999.9, 3.5, 3.6, -1.0};
+    double[] weights = {weightEpsilon * 3, weightEpsilon * 0.3, weightEpsilon * 0.3, 2.0, 0.5, 1.0};
+    long[] times = new long[values.length];
+
+    val expected = new HistogramImpl(testHistogramOptions);
+    expected.addSample(5.0, 1.0, anyTime);
+    for (int i = 0; i < values.length; i++) {
+      expected.addSample(values[i], weights[i], anyTime);
+    }
+    val h = new HistogramImpl(testHistogramOptions);
+    h.addSample(5.0, 1.0, anyTime);
+    h.addSamples(values, weights, times);
+
+    assertThat(h).isEqualTo(expected);
+    assertThat(h.saveToCheckpoint()).isEqualTo(expected.saveToCheckpoint());
+    assertThat(Reflect.on(h).<Double>get("totalWeight")).isEqualTo(Reflect.on(expected).<Double>get("totalWeight"));
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testAddSamplesInvalidArguments() throws Exception {
+    val h = new HistogramImpl(testHistogramOptions);
+    assertThatIllegalArgumentException().isThrownBy(
+        () -> h.addSamples(new double[] {1.0}, new double[] {1.0, 2.0}, new long[] {0L}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> h.addSamples(new double[] {1.0}, new double[] {-1.0}, new long[] {0L}))
+        .withMessage("sample weight must be non-negative");
+    // nothing is added when a later sample is invalid
+    assertThatIllegalArgumentException().isThrownBy(
+        () -> h.addSamples(new double[] {1.0, 2.0}, new double[] {1.0, -1.0}, new long[] {0L, 0L}));
+    assertThat(h.isEmpty()).isTrue();
+  }
+
   @Test
   @Owner(developers = AVMOHAN)
   @Category(UnitTests.class)
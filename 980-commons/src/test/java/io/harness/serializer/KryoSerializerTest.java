@@ -0,0 +1,143 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.category.element.UnitTests;
+import io.harness.exception.FailureType;
+import io.harness.rule.Owner;
+import io.harness.serializer.kryo.CommonsKryoRegistrar;
+import io.harness.tasks.BinaryResponseData;
+import io.harness.tasks.FailureResponseData;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayOutputStream;
+import java.util.EnumSet;
+import java.util.zip.DeflaterOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Slf4j
+public class KryoSerializerTest extends CategoryTest {
+  private final KryoSerializer deflateSerializer =
+      new KryoSerializer(ImmutableSet.of(CommonsKryoRegistrar.class), true, true, KryoCompressionCodec.DEFLATE);
+  private final KryoSerializer lz4Serializer =
+      new KryoSerializer(ImmutableSet.of(CommonsKryoRegistrar.class), true, true, KryoCompressionCodec.LZ4);
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testDeflateIsBackwardCompatible() throws Exception {
+    BinaryResponseData responseData = responseData(10000);
+    byte[] bytes = deflateSerializer.asBytes(responseData);
+
+    // what asDeflatedBytes produced before codecs were introduced
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
+      outputStream.write(bytes);
+    }
+    byte[] legacyBytes = byteStream.toByteArray();
+
+    assertThat(deflateSerializer.asDeflatedBytes(responseData)).isEqualTo(legacyBytes);
+    assertThat(deflateSerializer.asInflatedObject(legacyBytes)).isEqualTo(responseData);
+    assertThat(lz4Serializer.asInflatedObject(legacyBytes)).isEqualTo(responseData);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCodecsRoundTrip() {
+    FailureResponseData failureResponseData =
+        FailureResponseData.builder().errorMessage("failed").failureTypes(EnumSet.of(FailureType.EXPIRED)).build();
+    for (int size : new int[] {0, 1, 100, 100000, 3 * 1024 * 1024}) {
+      BinaryResponseData responseData = responseData(size);
+      byte[] lz4Bytes = lz4Serializer.asDeflatedBytes(responseData);
+      byte[] deflatedBytes = deflateSerializer.asDeflatedBytes(responseData);
+
+      assertThat(KryoCompressionCodec.of(lz4Bytes)).isEqualTo(KryoCompressionCodec.LZ4);
+      assertThat(KryoCompressionCodec.of(deflatedBytes)).isEqualTo(KryoCompressionCodec.DEFLATE);
+      assertThat(deflateSerializer.asInflatedObject(lz4Bytes)).isEqualTo(responseData);
+      assertThat(lz4Serializer.asInflatedObject(deflatedBytes)).isEqualTo(responseData);
+      assertThat(lz4Serializer.asObject(lz4Serializer.asBytes(responseData))).isEqualTo(responseData);
+    }
+
+    FailureResponseData inflated =
+        (FailureResponseData) deflateSerializer.asInflatedObject(lz4Serializer.asDeflatedBytes(failureResponseData));
+    assertThat(inflated.getErrorMessage()).isEqualTo("failed");
+    assertThat(inflated.getFailureTypes()).containsExactly(FailureType.EXPIRED);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCorruptBytes() {
+    byte[] lz4Bytes = lz4Serializer.asDeflatedBytes(responseData(1000));
+    byte[] truncated = new byte[lz4Bytes.length / 2];
+    System.arraycopy(lz4Bytes, 0, truncated, 0, truncated.length);
+
+    assertThatThrownBy(() -> lz4Serializer.asInflatedObject(truncated)).isInstanceOf(RuntimeException.class);
+    assertThatThrownBy(() -> lz4Serializer.asInflatedObject(new byte[] {0x07, 0x01}))
+        .isInstanceOf(RuntimeException.class);
+    // lengths in the header beyond what the block can expand to are rejected before allocating
+    byte[] hugeLength = lz4Bytes.clone();
+    hugeLength[1] = 0x7F;
+    assertThatThrownBy(() -> lz4Serializer.asInflatedObject(hugeLength)).isInstanceOf(RuntimeException.class);
+    byte[] negativeLength = lz4Bytes.clone();
+    negativeLength[1] = (byte) 0xFF;
+    assertThatThrownBy(() -> lz4Serializer.asInflatedObject(negativeLength)).isInstanceOf(RuntimeException.class);
+    // the serializer stays usable after a failure
+    assertThat(lz4Serializer.asInflatedObject(lz4Bytes)).isEqualTo(responseData(1000));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(StressTests.class)
+  @Ignore("Bench Test")
+  public void benchCodecs() {
+    BinaryResponseData responseData = responseData(64 * 1024);
+    int iterations = 20000;
+    for (KryoSerializer serializer : new KryoSerializer[] {deflateSerializer, lz4Serializer}) {
+      for (int i = 0; i < iterations; i++) {
+        serializer.asInflatedObject(serializer.asDeflatedBytes(responseData));
+      }
+      long bytes = 0;
+      long compressNanos = 0;
+      long decompressNanos = 0;
+      for (int i = 0; i < iterations; i++) {
+        long start = System.nanoTime();
+        byte[] compressed = serializer.asDeflatedBytes(responseData);
+        long compressedAt = System.nanoTime();
+        serializer.asInflatedObject(compressed);
+        decompressNanos += System.nanoTime() - compressedAt;
+        compressNanos += compressedAt - start;
+        bytes += compressed.length;
+      }
+      int serializedLength = serializer.asBytes(responseData).length;
+      log.info("{}: compress {} ns/op, decompress {} ns/op, {} bytes/op, ratio {}",
+          KryoCompressionCodec.of(serializer.asDeflatedBytes(responseData)), compressNanos / iterations,
+          decompressNanos / iterations, bytes / iterations, (double) serializedLength * iterations / bytes);
+    }
+  }
+
+  private static BinaryResponseData responseData(int size) {
+    byte[] data = new byte[size];
+    for (int i = 0; i < size; i++) {
+      // compressible, but not trivially
+      data[i] = (byte) ((i * 31) % 97 + (i / 1024) % 7);
+    }
+    return BinaryResponseData.builder().data(data).usingKryoWithoutReference(false).build();
+  }
+}
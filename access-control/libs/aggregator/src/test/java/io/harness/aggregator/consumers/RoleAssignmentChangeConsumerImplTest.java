@@ -20,7 +20,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACL.ACLKeys;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
+import io.harness.accesscontrol.acl.persistence.ACLCacheConfig;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.acl.persistence.repositories.PrimaryACLRepositoryImpl;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
 import io.harness.accesscontrol.permissions.persistence.repositories.InMemoryPermissionRepository;
 import io.harness.accesscontrol.principals.Principal;
@@ -51,10 +55,14 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 
 @OwnedBy(PL)
 public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
@@ -64,6 +72,7 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
   private ScopeService scopeService;
   private RoleAssignmentRepository roleAssignmentRepository;
   @Inject @Named(ACL.PRIMARY_COLLECTION) private ACLRepository aclRepository;
+  @Inject @Named("mongoTemplate") private MongoTemplate mongoTemplate;
   private RoleAssignmentChangeConsumerImpl roleAssignmentChangeConsumer;
   private RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler;
 
@@ -181,6 +190,36 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
     verify(roleAssignmentCRUDEventHandler, times(1)).handleRoleAssignmentDelete(roleAssignmentDBO.getId());
   }
 
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void testRoleAssignmentDeletion_RevokesCachedACLs() {
+    ACLCacheConfig aclCacheConfig = new ACLCacheConfig();
+    aclCacheConfig.setEnabled(true);
+    ACLCache aclCache = new ACLCache(aclCacheConfig);
+    ACLRepository cachedACLRepository = new PrimaryACLRepositoryImpl(mongoTemplate, aclCache);
+    roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(cachedACLRepository, roleAssignmentRepository,
+        new ACLGeneratorServiceImpl(roleService, userGroupService, resourceGroupService, scopeService, new HashMap<>(),
+            cachedACLRepository, false, inMemoryPermissionRepository),
+        roleAssignmentCRUDEventHandler);
+    RoleAssignmentDBO roleAssignmentDBO =
+        createACLsForRoleAssignment(Principal.builder().principalIdentifier(user).principalType(USER).build());
+    io.harness.accesscontrol.acl.api.Principal principal = io.harness.accesscontrol.acl.api.Principal.of(USER, user);
+    Set<String> aclQueryStrings =
+        mongoTemplate.find(new Query(Criteria.where(ACLKeys.roleAssignmentId).is(roleAssignmentDBO.getId())), ACL.class)
+            .stream()
+            .map(ACL::getAclQueryString)
+            .collect(Collectors.toSet());
+    assertThat(aclQueryStrings).isNotEmpty();
+    long epoch = aclCache.getInvalidationEpoch();
+    aclCache.putAll(principal, aclQueryStrings, cachedACLRepository.getByAclQueryStringIn(aclQueryStrings), epoch);
+    assertThat(aclCache.getAll(principal, aclQueryStrings)).hasSize(aclQueryStrings.size());
+
+    roleAssignmentChangeConsumer.consumeDeleteEvent(roleAssignmentDBO.getId());
+
+    assertThat(aclCache.getAll(principal, aclQueryStrings)).isEmpty();
+  }
+
   private void verifyACLs(RoleAssignmentDBO assignment) {
     assertThat(new HashSet<>(aclRepository.getDistinctPermissionsInACLsForRoleAssignment(assignment.getId())))
         .isEqualTo(role.getPermissions());
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.Value;
+
+/**
+ * Node local cache of the ACLs matching an acl query string, grouped by principal. Query strings which matched no ACL
+ * are cached as well (as an empty list), so principals without any ACL are answered without going to mongo.
+ *
+ * Entries of a principal are dropped by the ACL repositories whenever ACLs of that principal are written on this node.
+ * Changes made by the aggregator of another node are only picked up after the TTL, so the TTL is the upper bound on
+ * staleness.
+ */
+@OwnedBy(PL)
+@Singleton
+public class ACLCache {
+  private static final String DELIMITER = "$";
+
+  private final boolean enabled;
+  private final int maximumQueryStringsPerPrincipal;
+  private final Cache<String, ConcurrentMap<String, CachedACLs>> aclsByPrincipal;
+  private final AtomicLong invalidationEpoch = new AtomicLong();
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong servedEntryAgeMillis = new AtomicLong();
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  @Inject
+  public ACLCache(ACLCacheConfig aclCacheConfig) {
+    this.enabled = aclCacheConfig.isEnabled();
+    this.maximumQueryStringsPerPrincipal = aclCacheConfig.getMaximumQueryStringsPerPrincipal();
+    this.aclsByPrincipal = CacheBuilder.newBuilder()
+                               .maximumSize(aclCacheConfig.getMaximumPrincipals())
+                               .expireAfterWrite(aclCacheConfig.getTtlInSeconds(), TimeUnit.SECONDS)
+                               .build();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Has to be read before querying mongo, and passed back to {@link #putAll}, so that results read concurrently with an
+   * invalidation are not cached.
+   */
+  public long getInvalidationEpoch() {
+    return invalidationEpoch.get();
+  }
+
+  public Map<String, List<ACL>> getAll(Principal principal, Collection<String> aclQueryStrings) {
+    if (!enabled) {
+      return Collections.emptyMap();
+    }
+    Map<String, CachedACLs> cachedACLs = aclsByPrincipal.getIfPresent(getPrincipalKey(principal));
+    Map<String, List<ACL>> result = new HashMap<>();
+    long currentTime = System.currentTimeMillis();
+    for (String aclQueryString : aclQueryStrings) {
+      CachedACLs cached = cachedACLs == null ? null : cachedACLs.get(aclQueryString);
+      if (cached == null) {
+        missCount.incrementAndGet();
+      } else {
+        hitCount.incrementAndGet();
+        servedEntryAgeMillis.addAndGet(currentTime - cached.getCachedAt());
+        result.put(aclQueryString, cached.getAcls());
+      }
+    }
+    return result;
+  }
+
+  public void putAll(Principal principal, Set<String> aclQueryStrings, List<ACL> aclsFound, long epoch) {
+    if (!enabled || epoch != invalidationEpoch.get()) {
+      return;
+    }
+    Map<String, List<ACL>> aclsByQueryString = new HashMap<>();
+    aclQueryStrings.forEach(aclQueryString -> aclsByQueryString.put(aclQueryString, new ArrayList<>()));
+    aclsFound.stream()
+        .filter(acl -> aclsByQueryString.containsKey(acl.getAclQueryString()))
+        .forEach(acl -> aclsByQueryString.get(acl.getAclQueryString()).add(acl));
+
+    String principalKey = getPrincipalKey(principal);
+    ConcurrentMap<String, CachedACLs> cachedACLs =
+        aclsByPrincipal.asMap().computeIfAbsent(principalKey, key -> new ConcurrentHashMap<>());
+    if (cachedACLs.size() + aclsByQueryString.size() > maximumQueryStringsPerPrincipal) {
+      cachedACLs.clear();
+    }
+    long currentTime = System.currentTimeMillis();
+    aclsByQueryString.forEach(
+        (aclQueryString, acls)
+            -> cachedACLs.put(aclQueryString, new CachedACLs(Collections.unmodifiableList(acls), currentTime)));
+    // an invalidation may have raced with the puts above, drop what was just cached in that case
+    if (epoch != invalidationEpoch.get()) {
+      aclsByPrincipal.invalidate(principalKey);
+    }
+  }
+
+  public void invalidate(PrincipalType principalType, Collection<String> principalIdentifiers) {
+    if (!enabled || principalIdentifiers == null || principalIdentifiers.isEmpty()) {
+      return;
+    }
+    invalidationEpoch.incrementAndGet();
+    invalidationCount.incrementAndGet();
+    principalIdentifiers.forEach(
+        principalIdentifier -> aclsByPrincipal.invalidate(getPrincipalKey(principalType.name(), principalIdentifier)));
+  }
+
+  /**
+   * For writes which only know the principal identifiers, drops the entries of the identifiers for every principal
+   * type.
+   */
+  public void invalidatePrincipals(Collection<String> principalIdentifiers) {
+    if (!enabled || principalIdentifiers == null || principalIdentifiers.isEmpty()) {
+      return;
+    }
+    invalidationEpoch.incrementAndGet();
+    invalidationCount.incrementAndGet();
+    for (PrincipalType principalType : PrincipalType.values()) {
+      principalIdentifiers.forEach(principalIdentifier
+          -> aclsByPrincipal.invalidate(getPrincipalKey(principalType.name(), principalIdentifier)));
+    }
+  }
+
+  public void invalidate(Collection<ACL> acls) {
+    if (!enabled || acls == null || acls.isEmpty()) {
+      return;
+    }
+    invalidationEpoch.incrementAndGet();
+    invalidationCount.incrementAndGet();
+    aclsByPrincipal.invalidateAll(acls.stream()
+                                      .map(acl -> getPrincipalKey(acl.getPrincipalType(), acl.getPrincipalIdentifier()))
+                                      .collect(Collectors.toSet()));
+  }
+
+  public void invalidateAll() {
+    if (!enabled) {
+      return;
+    }
+    invalidationEpoch.incrementAndGet();
+    invalidationCount.incrementAndGet();
+    aclsByPrincipal.invalidateAll();
+  }
+
+  public double getHitRatio() {
+    long hits = hitCount.get();
+    long requests = hits + missCount.get();
+    return requests == 0 ? 1.0D : (double) hits / requests;
+  }
+
+  public double getMeanServedEntryAgeMillis() {
+    long hits = hitCount.get();
+    return hits == 0 ? 0.0D : (double) servedEntryAgeMillis.get() / hits;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getInvalidationCount() {
+    return invalidationCount.get();
+  }
+
+  public long getCachedPrincipalsCount() {
+    return aclsByPrincipal.size();
+  }
+
+  private static String getPrincipalKey(Principal principal) {
+    return getPrincipalKey(principal.getPrincipalType().name(), principal.getPrincipalIdentifier());
+  }
+
+  private static String getPrincipalKey(String principalType, String principalIdentifier) {
+    return principalType + DELIMITER + principalIdentifier;
+  }
+
+  @Value
+  private static class CachedACLs {
+    List<ACL> acls;
+    long cachedAt;
+  }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Data;
+
+@OwnedBy(HarnessTeam.PL)
+@Data
+public class ACLCacheConfig {
+  private boolean enabled;
+  private long ttlInSeconds = 30;
+  private long maximumPrincipals = 10000;
+  private int maximumQueryStringsPerPrincipal = 5000;
+}
@@ -40,14 +40,16 @@ public class ACLDAOImpl implements ACLDAO {
   private final ACLRepository aclRepository;
   private final Set<String> scopeResourceTypes;
   private final boolean disableRedundantACLs;
+  private final ACLCache aclCache;
 
   @Inject
   public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels,
-      @Named("disableRedundantACLs") boolean disableRedundantACLs) {
+      @Named("disableRedundantACLs") boolean disableRedundantACLs, ACLCache aclCache) {
     this.aclRepository = aclRepository;
     this.scopeResourceTypes =
         scopeLevels.values().stream().map(ScopeLevel::getResourceType).collect(Collectors.toSet());
     this.disableRedundantACLs = disableRedundantACLs;
+    this.aclCache = aclCache;
   }
 
   private String getResourceSelector(String resourceType, String resourceIdentifier) {
@@ -157,9 +159,7 @@ public class ACLDAOImpl implements ACLDAO {
       aclQueryStrings.addAll(queryStrings);
     });
 
-    List<ACL> aclsPresentInDB = disableRedundantACLs
-        ? aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true)
-        : aclRepository.getByAclQueryStringIn(aclQueryStrings);
+    List<ACL> aclsPresentInDB = getACLs(principal, aclQueryStrings);
     return aclQueryStringsPerPermission.stream()
         .map(queryStringsForPermission
             -> aclsPresentInDB.stream()
@@ -167,4 +167,29 @@ public class ACLDAOImpl implements ACLDAO {
                    .collect(Collectors.toList()))
         .collect(Collectors.toList());
   }
+
+  private List<ACL> getACLs(Principal principal, Set<String> aclQueryStrings) {
+    if (!aclCache.isEnabled()) {
+      return getACLsFromDB(aclQueryStrings);
+    }
+    long epoch = aclCache.getInvalidationEpoch();
+    Map<String, List<ACL>> cachedACLs = aclCache.getAll(principal, aclQueryStrings);
+    List<ACL> acls = new ArrayList<>();
+    cachedACLs.values().forEach(acls::addAll);
+    if (cachedACLs.size() == aclQueryStrings.size()) {
+      return acls;
+    }
+
+    Set<String> missingQueryStrings = new HashSet<>(aclQueryStrings);
+    missingQueryStrings.removeAll(cachedACLs.keySet());
+    List<ACL> aclsFromDB = getACLsFromDB(missingQueryStrings);
+    aclCache.putAll(principal, missingQueryStrings, aclsFromDB, epoch);
+    acls.addAll(aclsFromDB);
+    return acls;
+  }
+
+  private List<ACL> getACLsFromDB(Set<String> aclQueryStrings) {
+    return disableRedundantACLs ? aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true)
+                                : aclRepository.getByAclQueryStringIn(aclQueryStrings);
+  }
 }
@@ -18,6 +18,7 @@ import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicat
 
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACL.ACLKeys;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector.ResourceSelectorKeys;
 import io.harness.annotations.dev.OwnedBy;
@@ -32,6 +33,7 @@ import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
 import com.mongodb.client.model.RenameCollectionOptions;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -60,14 +62,15 @@ import org.springframework.data.mongodb.core.query.Query;
 @ValidateOnExecution
 public abstract class BaseACLRepositoryImpl implements ACLRepository {
   protected final MongoTemplate mongoTemplate;
+  protected final ACLCache aclCache;
 
   protected abstract String getCollectionName();
 
   public long insertAllIgnoringDuplicates(List<ACL> acls) {
+    if (isEmpty(acls)) {
+      return 0;
+    }
     try {
-      if (isEmpty(acls)) {
-        return 0;
-      }
       return mongoTemplate.bulkOps(BulkMode.UNORDERED, ACL.class, getCollectionName())
           .insert(acls)
           .execute()
@@ -86,14 +89,20 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
         }
       }
       throw ex;
+    } finally {
+      aclCache.invalidate(acls);
     }
   }
 
   @Override
   public long deleteByRoleAssignmentId(String id) {
-    return mongoTemplate
-        .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId).is(id)), ACL.class, getCollectionName())
-        .getDeletedCount();
+    List<String> principals = getPrincipalsToInvalidate(id);
+    long deletedCount =
+        mongoTemplate
+            .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId).is(id)), ACL.class, getCollectionName())
+            .getDeletedCount();
+    aclCache.invalidatePrincipals(principals);
+    return deletedCount;
   }
 
   @Override
@@ -142,7 +151,10 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
                                                          .is(resourceSelector.getCondition()))
                                               .toArray(Criteria[] ::new);
     criteria.orOperator(resourceSelectorCriteria);
-    return mongoTemplate.remove(new Query(criteria), ACL.class, getCollectionName()).getDeletedCount();
+    List<String> principals = getPrincipalsToInvalidate(roleAssignmentId);
+    long deletedCount = mongoTemplate.remove(new Query(criteria), ACL.class, getCollectionName()).getDeletedCount();
+    aclCache.invalidatePrincipals(principals);
+    return deletedCount;
   }
 
   @Override
@@ -150,13 +162,16 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
     if (isEmpty(permissions)) {
       return 0;
     }
-    return mongoTemplate
-        .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
-                              .is(roleAssignmentId)
-                              .and(ACLKeys.permissionIdentifier)
-                              .in(permissions)),
-            ACL.class, getCollectionName())
-        .getDeletedCount();
+    List<String> principals = getPrincipalsToInvalidate(roleAssignmentId);
+    long deletedCount = mongoTemplate
+                            .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
+                                                  .is(roleAssignmentId)
+                                                  .and(ACLKeys.permissionIdentifier)
+                                                  .in(permissions)),
+                                ACL.class, getCollectionName())
+                            .getDeletedCount();
+    aclCache.invalidatePrincipals(principals);
+    return deletedCount;
   }
 
   @Override
@@ -164,24 +179,29 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
     if (isEmpty(principals)) {
       return 0;
     }
-    return mongoTemplate
-        .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
-                              .is(roleAssignmentId)
-                              .and(ACLKeys.principalIdentifier)
-                              .in(principals)),
-            ACL.class, getCollectionName())
-        .getDeletedCount();
+    long deletedCount = mongoTemplate
+                            .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
+                                                  .is(roleAssignmentId)
+                                                  .and(ACLKeys.principalIdentifier)
+                                                  .in(principals)),
+                                ACL.class, getCollectionName())
+                            .getDeletedCount();
+    aclCache.invalidatePrincipals(principals);
+    return deletedCount;
   }
 
   @Override
   public long deleteByRoleAssignmentIdAndImplicitForScope(String roleAssignmentId) {
-    return mongoTemplate
-        .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
-                              .is(roleAssignmentId)
-                              .and(ACL.IMPLICITLY_CREATED_FOR_SCOPE_ACCESS_KEY)
-                              .is(true)),
-            ACL.class, getCollectionName())
-        .getDeletedCount();
+    List<String> principals = getPrincipalsToInvalidate(roleAssignmentId);
+    long deletedCount = mongoTemplate
+                            .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
+                                                  .is(roleAssignmentId)
+                                                  .and(ACL.IMPLICITLY_CREATED_FOR_SCOPE_ACCESS_KEY)
+                                                  .is(true)),
+                                ACL.class, getCollectionName())
+                            .getDeletedCount();
+    aclCache.invalidatePrincipals(principals);
+    return deletedCount;
   }
 
   @Override
@@ -221,6 +241,7 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
     mongoTemplate.createCollection(getCollectionName());
     List<IndexModel> indexModels = ACL.mongoIndexes().stream().map(this::buildIndexModel).collect(Collectors.toList());
     mongoTemplate.getCollection(getCollectionName()).createIndexes(indexModels);
+    aclCache.invalidateAll();
   }
 
   @Override
@@ -228,6 +249,14 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
     MongoNamespace mongoNamespace = new MongoNamespace(mongoTemplate.getDb().getName(), newCollectionName);
     mongoTemplate.getCollection(getCollectionName())
         .renameCollection(mongoNamespace, new RenameCollectionOptions().dropTarget(true));
+    aclCache.invalidateAll();
+  }
+
+  private List<String> getPrincipalsToInvalidate(String roleAssignmentId) {
+    if (!aclCache.isEnabled()) {
+      return Collections.emptyList();
+    }
+    return getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentId);
   }
 
   private IndexModel buildIndexModel(MongoIndex mongoIndex) {
@@ -19,6 +19,8 @@ import static org.mockito.Mockito.verify;
 import io.harness.accesscontrol.AccessControlCoreTestBase;
 import io.harness.accesscontrol.acl.PermissionCheck;
 import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
+import io.harness.accesscontrol.acl.persistence.ACLCacheConfig;
 import io.harness.accesscontrol.acl.persistence.ACLDAOImpl;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.PrincipalType;
@@ -27,6 +29,7 @@ import io.harness.category.element.UnitTests;
 import io.harness.rule.Owner;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,7 +52,7 @@ public class ACLDAOImplTest extends AccessControlCoreTestBase {
   @Owner(developers = ASHISHSANODIA)
   @Category(UnitTests.class)
   public void testOnlyEnabledACLMatch() {
-    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels, true);
+    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels, true, new ACLCache(new ACLCacheConfig()));
     Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
     List<PermissionCheck> permissionChecks = new ArrayList<>();
     permissionChecks.add(PermissionCheck.builder().resourceType("user").permission("core_user_view").build());
@@ -62,7 +65,7 @@ public class ACLDAOImplTest extends AccessControlCoreTestBase {
   @Owner(developers = ASHISHSANODIA)
   @Category(UnitTests.class)
   public void testAllACLMatch() {
-    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels, false);
+    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels, false, new ACLCache(new ACLCacheConfig()));
     Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
     List<PermissionCheck> permissionChecks = new ArrayList<>();
     permissionChecks.add(PermissionCheck.builder().resourceType("user").permission("core_user_view").build());
@@ -70,4 +73,25 @@ public class ACLDAOImplTest extends AccessControlCoreTestBase {
 
     verify(aclRepository, times(1)).getByAclQueryStringIn(any());
   }
+
+  @Test
+  @Owner(developers = ASHISHSANODIA)
+  @Category(UnitTests.class)
+  public void testMatchingACLsServedFromCacheUntilInvalidated() {
+    ACLCacheConfig aclCacheConfig = new ACLCacheConfig();
+    aclCacheConfig.setEnabled(true);
+    ACLCache aclCache = new ACLCache(aclCacheConfig);
+    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels, false, aclCache);
+    Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
+    List<PermissionCheck> permissionChecks = new ArrayList<>();
+    permissionChecks.add(PermissionCheck.builder().resourceType("user").permission("core_user_view").build());
+
+    aclDaoImpl.getMatchingACLs(principal, permissionChecks);
+    aclDaoImpl.getMatchingACLs(principal, permissionChecks);
+    verify(aclRepository, times(1)).getByAclQueryStringIn(any());
+
+    aclCache.invalidate(PrincipalType.USER, Collections.singleton(principal.getPrincipalIdentifier()));
+    aclDaoImpl.getMatchingACLs(principal, permissionChecks);
+    verify(aclRepository, times(2)).getByAclQueryStringIn(any());
+  }
 }
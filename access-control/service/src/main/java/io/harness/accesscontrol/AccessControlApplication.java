@@ -28,6 +28,7 @@ import static com.google.common.collect.ImmutableMap.of;
 import static io.serializer.HObjectMapper.configureObjectMapperForNG;
 
 import io.harness.Microservice;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.worker.DisableRedundantACLService;
 import io.harness.accesscontrol.commons.bootstrap.AccessControlManagementJob;
 import io.harness.accesscontrol.commons.events.EntityCrudEventListenerService;
@@ -88,6 +89,7 @@ import io.harness.telemetry.filter.APIAuthTelemetryResponseFilter;
 import io.harness.telemetry.filter.TerraformTelemetryFilter;
 import io.harness.token.remote.TokenClient;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Guice;
@@ -211,6 +213,7 @@ public class AccessControlApplication extends Application<AccessControlConfigura
     registerAuthFilters(appConfig, environment, injector);
     registerAPIAuthTelemetryFilters(appConfig, environment, injector);
     registerHealthCheck(environment, injector);
+    registerACLCacheMetrics(injector);
     registerManagedBeans(appConfig, environment, injector);
     registerMigrations(injector);
     registerIterators(injector);
@@ -245,6 +248,20 @@ public class AccessControlApplication extends Application<AccessControlConfigura
     healthService.registerMonitor(injector.getInstance(HPersistence.class));
   }
 
+  private void registerACLCacheMetrics(Injector injector) {
+    ACLCache aclCache = injector.getInstance(ACLCache.class);
+    if (!aclCache.isEnabled()) {
+      return;
+    }
+    metricRegistry.register("acl_cache_hit_ratio", (Gauge<Double>) aclCache::getHitRatio);
+    metricRegistry.register("acl_cache_hit_count", (Gauge<Long>) aclCache::getHitCount);
+    metricRegistry.register("acl_cache_miss_count", (Gauge<Long>) aclCache::getMissCount);
+    metricRegistry.register("acl_cache_invalidation_count", (Gauge<Long>) aclCache::getInvalidationCount);
+    metricRegistry.register("acl_cache_principals", (Gauge<Long>) aclCache::getCachedPrincipalsCount);
+    metricRegistry.register(
+        "acl_cache_served_entry_age_mean_millis", (Gauge<Double>) aclCache::getMeanServedEntryAgeMillis);
+  }
+
   public void registerIterators(Injector injector) {
     injector.getInstance(ResourceGroupReconciliationIterator.class).registerIterators();
     injector.getInstance(UserGroupReconciliationIterator.class).registerIterators();
@@ -12,6 +12,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static java.util.stream.Collectors.toSet;
 
 import io.harness.AccessControlClientConfiguration;
+import io.harness.accesscontrol.acl.persistence.ACLCacheConfig;
 import io.harness.accesscontrol.commons.events.EventsConfig;
 import io.harness.accesscontrol.commons.iterators.AccessControlIteratorsConfig;
 import io.harness.accesscontrol.commons.notifications.NotificationConfig;
@@ -123,6 +124,7 @@ public class AccessControlConfiguration extends Configuration {
   @JsonProperty("cfClientConfig") @ConfigSecret private CfClientConfig cfClientConfig;
   @JsonProperty("featureFlagConfig") private FeatureFlagConfig featureFlagConfig;
   @JsonProperty("disableRedundantACLs") private boolean disableRedundantACLs;
+  @JsonProperty("aclCacheConfig") private ACLCacheConfig aclCacheConfig;
   @JsonProperty("enableParallelProcessingOfUserGroupUpdates")
   private boolean enableParallelProcessingOfUserGroupUpdates;
 
@@ -31,6 +31,7 @@ import io.harness.accesscontrol.acl.ResourceAttributeProvider;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.acl.api.ResourceAttributeProviderImpl;
+import io.harness.accesscontrol.acl.persistence.ACLCacheConfig;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResource;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResourceImpl;
 import io.harness.accesscontrol.aggregator.api.AggregatorResource;
@@ -419,6 +420,8 @@ public class AccessControlModule extends AbstractModule {
     bind(ProjectRoleAssignmentsApi.class).to(ProjectRoleAssignmentsApiImpl.class);
 
     bind(boolean.class).annotatedWith(Names.named("disableRedundantACLs")).toInstance(config.isDisableRedundantACLs());
+    bind(ACLCacheConfig.class)
+        .toInstance(config.getAclCacheConfig() == null ? new ACLCacheConfig() : config.getAclCacheConfig());
     bind(boolean.class)
         .annotatedWith(Names.named("enableParallelProcessingOfUserGroupUpdates"))
         .toInstance(config.isEnableParallelProcessingOfUserGroupUpdates());
@@ -20,6 +20,7 @@ import static org.springframework.data.mongodb.core.query.Update.update;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACL.ACLKeys;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.ACLOptimizationMigrationOffset;
 import io.harness.accesscontrol.acl.persistence.ACLOptimizationMigrationOffset.ACLOptimizationMigrationOffsetKey;
 import io.harness.accesscontrol.permissions.persistence.repositories.InMemoryPermissionRepository;
@@ -33,6 +34,8 @@ import io.harness.security.dto.ServicePrincipal;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.BulkOperations;
@@ -51,14 +54,16 @@ public class DisableRedundantACLJob implements Runnable {
   private final MongoTemplate mongoTemplate;
   private final PersistentLocker persistentLocker;
   private final InMemoryPermissionRepository inMemoryPermissionRepository;
+  private final ACLCache aclCache;
   private static final String LOCK_NAME = "DisableRedundantACLJob";
 
   @Inject
   public DisableRedundantACLJob(MongoTemplate mongoTemplate, PersistentLocker persistentLocker,
-      InMemoryPermissionRepository inMemoryPermissionRepository) {
+      InMemoryPermissionRepository inMemoryPermissionRepository, ACLCache aclCache) {
     this.mongoTemplate = mongoTemplate;
     this.persistentLocker = persistentLocker;
     this.inMemoryPermissionRepository = inMemoryPermissionRepository;
+    this.aclCache = aclCache;
   }
 
   @Override
@@ -94,9 +99,11 @@ public class DisableRedundantACLJob implements Runnable {
         int totalDisabled = 0;
         int totalEnabled = 0;
         BulkOperations bulkOperations = mongoTemplate.bulkOps(UNORDERED, ACL.class);
+        List<ACL> updatedACLs = new ArrayList<>();
         while (iterator.hasNext()) {
           ACL acl = iterator.next();
           offset = acl.getId();
+          updatedACLs.add(acl);
           Query query = new Query();
           query.addCriteria(where(ACLKeys.id).is(acl.getId()));
           if (!inMemoryPermissionRepository.isPermissionCompatibleWithResourceSelector(
@@ -112,6 +119,8 @@ public class DisableRedundantACLJob implements Runnable {
           if (totalUpdated >= BATCH_SIZE) {
             log.info("Updated total {} ACLs. disabled: {}, enabled: {}", bulkOperations.execute(), totalDisabled,
                 totalEnabled);
+            aclCache.invalidate(updatedACLs);
+            updatedACLs.clear();
             bulkOperations = mongoTemplate.bulkOps(UNORDERED, ACL.class);
             totalUpdated = 0;
             updateOffset(offset);
@@ -120,6 +129,7 @@ public class DisableRedundantACLJob implements Runnable {
         if (totalUpdated != 0) {
           log.info(
               "Updated total {} ACLs disabled: {}, enabled: {}", bulkOperations.execute(), totalDisabled, totalEnabled);
+          aclCache.invalidate(updatedACLs);
           updateOffset(offset);
         }
       }
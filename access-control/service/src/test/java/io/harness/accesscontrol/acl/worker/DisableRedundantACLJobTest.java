@@ -17,6 +17,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.harness.accesscontrol.AccessControlTestBase;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACL.ACLKeys;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
+import io.harness.accesscontrol.acl.persistence.ACLCacheConfig;
 import io.harness.accesscontrol.acl.persistence.ACLOptimizationMigrationOffset;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.permissions.persistence.PermissionDBO;
@@ -88,7 +90,8 @@ public class DisableRedundantACLJobTest extends AccessControlTestBase {
 
     inMemoryPermissionRepository =
         new InMemoryPermissionRepository(mongoTemplate, of("ccm_perspective_view", Set.of("CCM_FOLDER")));
-    disableRedundantACLJob = new DisableRedundantACLJob(mongoTemplate, persistentLocker, inMemoryPermissionRepository);
+    disableRedundantACLJob = new DisableRedundantACLJob(
+        mongoTemplate, persistentLocker, inMemoryPermissionRepository, new ACLCache(new ACLCacheConfig()));
   }
 
   @Test
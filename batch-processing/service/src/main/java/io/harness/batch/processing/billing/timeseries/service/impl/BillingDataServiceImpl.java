@@ -14,6 +14,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.batch.processing.billing.timeseries.data.InstanceBillingData;
 import io.harness.batch.processing.billing.timeseries.service.support.BillingDataTableNameProvider;
+import io.harness.batch.processing.billing.timeseries.service.support.TimescaleCopyWriter;
 import io.harness.batch.processing.ccm.ActualIdleCostWriterData;
 import io.harness.batch.processing.ccm.BatchJobType;
 import io.harness.batch.processing.entities.ClusterDataDetails;
@@ -27,6 +28,7 @@ import software.wings.graphql.datafetcher.ce.recommendation.entity.Cost;
 
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Singleton;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -53,11 +55,16 @@ public class BillingDataServiceImpl {
   @Autowired private TimeUtils utils;
 
   private static final int BATCH_SIZE = 500;
+  // from this size on a COPY beats batched inserts, below it the extra statements for the staging table don't pay off
+  private static final int COPY_THRESHOLD = BATCH_SIZE;
   private static final int MAX_RETRY_COUNT = 2;
   private static final int DELETE_MAX_RETRY_COUNT = 5;
   private static final int SELECT_MAX_RETRY_COUNT = 5;
+  static final String INSERT_COLUMNS =
+      "STARTTIME, ENDTIME, ACCOUNTID, INSTANCETYPE, BILLINGACCOUNTID, BILLINGAMOUNT, CPUBILLINGAMOUNT, MEMORYBILLINGAMOUNT, USAGEDURATIONSECONDS, INSTANCEID, CLUSTERNAME, CLUSTERID, SETTINGID,  SERVICEID, APPID, CLOUDPROVIDERID, ENVID, CPUUNITSECONDS, MEMORYMBSECONDS, PARENTINSTANCEID, REGION, LAUNCHTYPE, CLUSTERTYPE, CLOUDPROVIDER, WORKLOADNAME, WORKLOADTYPE, NAMESPACE, CLOUDSERVICENAME, TASKID, IDLECOST, CPUIDLECOST, MEMORYIDLECOST, MAXCPUUTILIZATION, MAXMEMORYUTILIZATION, AVGCPUUTILIZATION, AVGMEMORYUTILIZATION, SYSTEMCOST, CPUSYSTEMCOST, MEMORYSYSTEMCOST, ACTUALIDLECOST, CPUACTUALIDLECOST, MEMORYACTUALIDLECOST, UNALLOCATEDCOST, CPUUNALLOCATEDCOST, MEMORYUNALLOCATEDCOST, INSTANCENAME, CPUREQUEST, MEMORYREQUEST, CPULIMIT, MEMORYLIMIT, MAXCPUUTILIZATIONVALUE, MAXMEMORYUTILIZATIONVALUE, AVGCPUUTILIZATIONVALUE, AVGMEMORYUTILIZATIONVALUE, NETWORKCOST, PRICINGSOURCE, STORAGEACTUALIDLECOST, STORAGEUNALLOCATEDCOST, STORAGEUTILIZATIONVALUE, STORAGEREQUEST, STORAGEMBSECONDS, STORAGECOST, MAXSTORAGEUTILIZATIONVALUE, MAXSTORAGEREQUEST, ORGIDENTIFIER, PROJECTIDENTIFIER";
   static final String INSERT_STATEMENT =
-      "INSERT INTO %s (STARTTIME, ENDTIME, ACCOUNTID, INSTANCETYPE, BILLINGACCOUNTID, BILLINGAMOUNT, CPUBILLINGAMOUNT, MEMORYBILLINGAMOUNT, USAGEDURATIONSECONDS, INSTANCEID, CLUSTERNAME, CLUSTERID, SETTINGID,  SERVICEID, APPID, CLOUDPROVIDERID, ENVID, CPUUNITSECONDS, MEMORYMBSECONDS, PARENTINSTANCEID, REGION, LAUNCHTYPE, CLUSTERTYPE, CLOUDPROVIDER, WORKLOADNAME, WORKLOADTYPE, NAMESPACE, CLOUDSERVICENAME, TASKID, IDLECOST, CPUIDLECOST, MEMORYIDLECOST, MAXCPUUTILIZATION, MAXMEMORYUTILIZATION, AVGCPUUTILIZATION, AVGMEMORYUTILIZATION, SYSTEMCOST, CPUSYSTEMCOST, MEMORYSYSTEMCOST, ACTUALIDLECOST, CPUACTUALIDLECOST, MEMORYACTUALIDLECOST, UNALLOCATEDCOST, CPUUNALLOCATEDCOST, MEMORYUNALLOCATEDCOST, INSTANCENAME, CPUREQUEST, MEMORYREQUEST, CPULIMIT, MEMORYLIMIT, MAXCPUUTILIZATIONVALUE, MAXMEMORYUTILIZATIONVALUE, AVGCPUUTILIZATIONVALUE, AVGMEMORYUTILIZATIONVALUE, NETWORKCOST, PRICINGSOURCE, STORAGEACTUALIDLECOST, STORAGEUNALLOCATEDCOST, STORAGEUTILIZATIONVALUE, STORAGEREQUEST, STORAGEMBSECONDS, STORAGECOST, MAXSTORAGEUTILIZATIONVALUE, MAXSTORAGEREQUEST, ORGIDENTIFIER, PROJECTIDENTIFIER) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
+      "INSERT INTO %s (" + INSERT_COLUMNS
+      + ") VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
 
   static final String UPDATE_STATEMENT =
       "UPDATE %s SET ACTUALIDLECOST = ?, CPUACTUALIDLECOST = ?, MEMORYACTUALIDLECOST = ?, UNALLOCATEDCOST = ?, CPUUNALLOCATEDCOST = ?, MEMORYUNALLOCATEDCOST = ? WHERE ACCOUNTID = ? AND CLUSTERID = ? AND INSTANCEID = ? AND STARTTIME = ?";
@@ -89,6 +96,18 @@ public class BillingDataServiceImpl {
   private static final String READER_QUERY =
       "SELECT * FROM %s WHERE ACCOUNTID = '%s' AND STARTTIME >= '%s' AND STARTTIME < '%s' ORDER BY accountid, clusterid, instanceid OFFSET %s LIMIT %s;";
 
+  // the columns of BILLING_DATA_UNIQUE_INDEX after ACCOUNTID in index order, SETTINGID and CLUSTERID sort nulls last
+  private static final String READER_ORDER = "SETTINGID, CLUSTERID, INSTANCEID, INSTANCETYPE, STARTTIME DESC";
+
+  private static final String READER_AFTER_INSTANCE =
+      "INSTANCEID > ? OR (INSTANCEID = ? AND (INSTANCETYPE > ? OR (INSTANCETYPE = ? AND STARTTIME < ?)))";
+
+  static final String KEYSET_READER_QUERY =
+      "SELECT * FROM %s WHERE ACCOUNTID = ? AND STARTTIME >= ? AND STARTTIME < ? ORDER BY " + READER_ORDER + " LIMIT ?";
+
+  static final String KEYSET_READER_QUERY_AFTER = "SELECT * FROM %s WHERE ACCOUNTID = ? AND STARTTIME >= ? AND "
+      + "STARTTIME < ? AND (%s) ORDER BY " + READER_ORDER + " LIMIT ?";
+
   static final String ECS_SERVICE_LAST_DAY_COST =
       "SELECT SUM(CPUBILLINGAMOUNT), SUM(MEMORYBILLINGAMOUNT) FROM BILLING_DATA WHERE INSTANCETYPE IN ('ECS_TASK_FARGATE', 'ECS_TASK_EC2') AND ACCOUNTID = ? AND CLUSTERID = ? AND CLOUDSERVICENAME = ? AND STARTTIME = (SELECT MAX(STARTTIME) FROM BILLING_DATA WHERE INSTANCETYPE IN ('ECS_TASK_FARGATE', 'ECS_TASK_EC2') AND ACCOUNTID = ? AND CLUSTERID = ? AND CLOUDSERVICENAME = ? AND STARTTIME >= ?)";
 
@@ -107,6 +126,9 @@ public class BillingDataServiceImpl {
   public boolean create(List<InstanceBillingData> instanceBillingDataList, BatchJobType batchJobType) {
     boolean successfulInsert = false;
     if (timeScaleDBService.isValid() && !instanceBillingDataList.isEmpty()) {
+      if (instanceBillingDataList.size() >= COPY_THRESHOLD) {
+        return copy(instanceBillingDataList, batchJobType);
+      }
       String insertStatement = BillingDataTableNameProvider.replaceTableName(INSERT_STATEMENT, batchJobType);
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
@@ -136,6 +158,23 @@ public class BillingDataServiceImpl {
     return successfulInsert;
   }
 
+  private boolean copy(List<InstanceBillingData> instanceBillingDataList, BatchJobType batchJobType) {
+    String tableName = BillingDataTableNameProvider.getTableName(batchJobType);
+    int retryCount = 0;
+    while (retryCount < MAX_RETRY_COUNT) {
+      try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+        TimescaleCopyWriter.copyIn(
+            dbConnection, tableName, INSERT_COLUMNS, instanceBillingDataList, this::writeCopyRow);
+        return true;
+      } catch (SQLException | IOException e) {
+        log.error("Failed to copy instance data,[{}],retryCount=[{}], Exception: ", instanceBillingDataList.size(),
+            retryCount, e);
+        retryCount++;
+      }
+    }
+    return false;
+  }
+
   public boolean update(ActualIdleCostWriterData actualIdleCostWriterData, BatchJobType batchJobType) {
     boolean successfulUpdate = false;
     if (timeScaleDBService.isValid()) {
@@ -242,6 +281,75 @@ public class BillingDataServiceImpl {
     statement.setString(65, instanceBillingData.getOrgIdentifier());
     statement.setString(66, instanceBillingData.getProjectIdentifier());
   }
+  void writeCopyRow(InstanceBillingData instanceBillingData, TimescaleCopyWriter.CsvRow csvRow) throws IOException {
+    csvRow.addTimestamp(instanceBillingData.getStartTimestamp())
+        .addTimestamp(instanceBillingData.getEndTimestamp())
+        .add(instanceBillingData.getAccountId())
+        .add(instanceBillingData.getInstanceType())
+        .add(instanceBillingData.getBillingAccountId())
+        .add(instanceBillingData.getBillingAmount())
+        .add(instanceBillingData.getCpuBillingAmount())
+        .add(instanceBillingData.getMemoryBillingAmount())
+        .add(instanceBillingData.getUsageDurationSeconds())
+        .add(instanceBillingData.getInstanceId())
+        .add(instanceBillingData.getClusterName())
+        .add(instanceBillingData.getClusterId())
+        .add(instanceBillingData.getSettingId())
+        .add(instanceBillingData.getServiceId())
+        .add(instanceBillingData.getAppId())
+        .add(instanceBillingData.getCloudProviderId())
+        .add(instanceBillingData.getEnvId())
+        .add(instanceBillingData.getCpuUnitSeconds())
+        .add(instanceBillingData.getMemoryMbSeconds())
+        .add(instanceBillingData.getParentInstanceId())
+        .add(instanceBillingData.getRegion())
+        .add(instanceBillingData.getLaunchType())
+        .add(instanceBillingData.getClusterType())
+        .add(instanceBillingData.getCloudProvider())
+        .add(instanceBillingData.getWorkloadName())
+        .add(instanceBillingData.getWorkloadType())
+        .add(instanceBillingData.getNamespace())
+        .add(instanceBillingData.getCloudServiceName())
+        .add(instanceBillingData.getTaskId())
+        .add(instanceBillingData.getIdleCost())
+        .add(instanceBillingData.getCpuIdleCost())
+        .add(instanceBillingData.getMemoryIdleCost())
+        .add(instanceBillingData.getMaxCpuUtilization())
+        .add(instanceBillingData.getMaxMemoryUtilization())
+        .add(instanceBillingData.getAvgCpuUtilization())
+        .add(instanceBillingData.getAvgMemoryUtilization())
+        .add(instanceBillingData.getSystemCost())
+        .add(instanceBillingData.getCpuSystemCost())
+        .add(instanceBillingData.getMemorySystemCost())
+        .add(instanceBillingData.getActualIdleCost())
+        .add(instanceBillingData.getCpuActualIdleCost())
+        .add(instanceBillingData.getMemoryActualIdleCost())
+        .add(instanceBillingData.getUnallocatedCost())
+        .add(instanceBillingData.getCpuUnallocatedCost())
+        .add(instanceBillingData.getMemoryUnallocatedCost())
+        .add(instanceBillingData.getInstanceName())
+        .add(instanceBillingData.getCpuRequest())
+        .add(instanceBillingData.getMemoryRequest())
+        .add(instanceBillingData.getCpuLimit())
+        .add(instanceBillingData.getMemoryLimit())
+        .add(instanceBillingData.getMaxCpuUtilizationValue())
+        .add(instanceBillingData.getMaxMemoryUtilizationValue())
+        .add(instanceBillingData.getAvgCpuUtilizationValue())
+        .add(instanceBillingData.getAvgMemoryUtilizationValue())
+        .add(instanceBillingData.getNetworkCost())
+        .add(instanceBillingData.getPricingSource())
+        .add(instanceBillingData.getStorageActualIdleCost())
+        .add(instanceBillingData.getStorageUnallocatedCost())
+        .add(instanceBillingData.getStorageUtilizationValue())
+        .add(instanceBillingData.getStorageRequest())
+        .add(instanceBillingData.getStorageMbSeconds())
+        .add(instanceBillingData.getStorageBillingAmount())
+        .add(instanceBillingData.getMaxStorageUtilizationValue())
+        .add(instanceBillingData.getMaxStorageRequest())
+        .add(instanceBillingData.getOrgIdentifier())
+        .add(instanceBillingData.getProjectIdentifier());
+  }
+
 
   public List<InstanceBillingData> read(
       String accountId, Instant startTime, Instant endTime, int batchSize, int offset, BatchJobType batchJobType) {
@@ -265,6 +373,82 @@ public class BillingDataServiceImpl {
     }
   }
 
+  /**
+   * Reads the page following the given row, null for the first page. Unlike the offset based read every page costs the
+   * same and rows are neither skipped nor repeated, since the order is unique.
+   */
+  public List<InstanceBillingData> readAfter(String accountId, Instant startTime, Instant endTime, int batchSize,
+      InstanceBillingData lastRead, BatchJobType batchJobType) {
+    String tableName;
+    if (batchJobType.equals(BatchJobType.CLUSTER_DATA_TO_BIG_QUERY)) {
+      tableName = DAILY_BILLING_DATA_TABLE;
+    } else if (batchJobType.equals(BatchJobType.CLUSTER_DATA_HOURLY_TO_BIG_QUERY)) {
+      tableName = HOURLY_BILLING_DATA_TABLE;
+    } else {
+      return null;
+    }
+    if (!timeScaleDBService.isValid()) {
+      throw new InvalidRequestException("Cannot process request in ClusterDataToBigQueryTasklet");
+    }
+    String query = lastRead == null
+        ? String.format(KEYSET_READER_QUERY, tableName)
+        : String.format(KEYSET_READER_QUERY_AFTER, tableName,
+            readerAfterCondition(lastRead.getSettingId() == null, lastRead.getClusterId() == null));
+    log.debug("ClusterDataToBigQueryTasklet read data query : {}", query);
+    int retryCount = 0;
+    while (retryCount < SELECT_MAX_RETRY_COUNT) {
+      retryCount++;
+      ResultSet resultSet = null;
+      try (Connection connection = timeScaleDBService.getDBConnection();
+           PreparedStatement statement = connection.prepareStatement(query)) {
+        int index = 0;
+        statement.setString(++index, accountId);
+        statement.setTimestamp(++index, new Timestamp(startTime.toEpochMilli()), utils.getDefaultCalendar());
+        statement.setTimestamp(++index, new Timestamp(endTime.toEpochMilli()), utils.getDefaultCalendar());
+        if (lastRead != null) {
+          for (String nullableKey : new String[] {lastRead.getSettingId(), lastRead.getClusterId()}) {
+            if (nullableKey != null) {
+              statement.setString(++index, nullableKey);
+              statement.setString(++index, nullableKey);
+            }
+          }
+          statement.setString(++index, lastRead.getInstanceId());
+          statement.setString(++index, lastRead.getInstanceId());
+          statement.setString(++index, lastRead.getInstanceType());
+          statement.setString(++index, lastRead.getInstanceType());
+          statement.setTimestamp(++index, new Timestamp(lastRead.getStartTimestamp()), utils.getDefaultCalendar());
+        }
+        statement.setInt(++index, batchSize);
+        resultSet = statement.executeQuery();
+        List<InstanceBillingData> instanceBillingDataList = new ArrayList<>();
+        while (resultSet.next()) {
+          instanceBillingDataList.add(toInstanceBillingData(resultSet));
+        }
+        return instanceBillingDataList;
+      } catch (SQLException e) {
+        log.error("Error while fetching billing Data data : exception", e);
+      } finally {
+        DBUtils.close(resultSet);
+      }
+    }
+    throw new InvalidRequestException("Error while fetching Instance Billing data");
+  }
+
+  /**
+   * Rows after the last read one in READER_ORDER. A null key column only compares equal to null, and a non null one is
+   * followed by the greater values and then by null.
+   */
+  static String readerAfterCondition(boolean nullSettingId, boolean nullClusterId) {
+    return afterNullable("SETTINGID", nullSettingId, afterNullable("CLUSTERID", nullClusterId, READER_AFTER_INSTANCE));
+  }
+
+  private static String afterNullable(String column, boolean lastReadNull, String afterRemainingColumns) {
+    if (lastReadNull) {
+      return column + " IS NULL AND (" + afterRemainingColumns + ")";
+    }
+    return column + " > ? OR " + column + " IS NULL OR (" + column + " = ? AND (" + afterRemainingColumns + "))";
+  }
+
   private List<InstanceBillingData> getUtilizationDataFromTimescaleDB(String query) {
     if (query.equals("")) {
       return null;
@@ -279,75 +463,7 @@ public class BillingDataServiceImpl {
            Statement statement = connection.createStatement()) {
         resultSet = statement.executeQuery(query);
         while (resultSet.next()) {
-          instanceBillingDataList.add(
-              InstanceBillingData.builder()
-                  .endTimestamp(resultSet.getTimestamp("ENDTIME").toInstant().toEpochMilli())
-                  .startTimestamp(resultSet.getTimestamp("STARTTIME").toInstant().toEpochMilli())
-                  .accountId(resultSet.getString("ACCOUNTID"))
-                  .instanceType(resultSet.getString("INSTANCETYPE"))
-                  .billingAccountId(resultSet.getString("BILLINGACCOUNTID"))
-                  .billingAmount(resultSet.getBigDecimal("BILLINGAMOUNT"))
-                  .cpuBillingAmount(resultSet.getBigDecimal("CPUBILLINGAMOUNT"))
-                  .memoryBillingAmount(resultSet.getBigDecimal("MEMORYBILLINGAMOUNT"))
-                  .usageDurationSeconds(resultSet.getDouble("USAGEDURATIONSECONDS"))
-                  .instanceId(resultSet.getString("INSTANCEID"))
-                  .clusterName(resultSet.getString("CLUSTERNAME"))
-                  .clusterId(resultSet.getString("CLUSTERID"))
-                  .settingId(resultSet.getString("SETTINGID"))
-                  .serviceId(resultSet.getString("SERVICEID"))
-                  .appId(resultSet.getString("APPID"))
-                  .cloudProviderId(resultSet.getString("CLOUDPROVIDERID"))
-                  .envId(resultSet.getString("ENVID"))
-                  .cpuUnitSeconds(resultSet.getDouble("CPUUNITSECONDS"))
-                  .memoryMbSeconds(resultSet.getDouble("MEMORYMBSECONDS"))
-                  .parentInstanceId(resultSet.getString("PARENTINSTANCEID"))
-                  .region(resultSet.getString("REGION"))
-                  .launchType(resultSet.getString("LAUNCHTYPE"))
-                  .clusterType(resultSet.getString("CLUSTERTYPE"))
-                  .cloudProvider(resultSet.getString("CLOUDPROVIDER"))
-                  .workloadName(resultSet.getString("WORKLOADNAME"))
-                  .workloadType(resultSet.getString("WORKLOADTYPE"))
-                  .namespace(resultSet.getString("NAMESPACE"))
-                  .cloudServiceName(resultSet.getString("CLOUDSERVICENAME"))
-                  .taskId(resultSet.getString("TASKID"))
-                  .idleCost(resultSet.getBigDecimal("IDLECOST"))
-                  .cpuIdleCost(resultSet.getBigDecimal("CPUIDLECOST"))
-                  .memoryIdleCost(resultSet.getBigDecimal("MEMORYIDLECOST"))
-                  .maxCpuUtilization(resultSet.getDouble("MAXCPUUTILIZATION"))
-                  .maxMemoryUtilization(resultSet.getDouble("MAXMEMORYUTILIZATION"))
-                  .avgCpuUtilization(resultSet.getDouble("AVGCPUUTILIZATION"))
-                  .avgMemoryUtilization(resultSet.getDouble("AVGMEMORYUTILIZATION"))
-                  .systemCost(resultSet.getBigDecimal("SYSTEMCOST"))
-                  .cpuSystemCost(resultSet.getBigDecimal("CPUSYSTEMCOST"))
-                  .memorySystemCost(resultSet.getBigDecimal("MEMORYSYSTEMCOST"))
-                  .actualIdleCost(resultSet.getBigDecimal("ACTUALIDLECOST"))
-                  .cpuActualIdleCost(resultSet.getBigDecimal("CPUACTUALIDLECOST"))
-                  .memoryActualIdleCost(resultSet.getBigDecimal("MEMORYACTUALIDLECOST"))
-                  .unallocatedCost(resultSet.getBigDecimal("UNALLOCATEDCOST"))
-                  .cpuUnallocatedCost(resultSet.getBigDecimal("CPUUNALLOCATEDCOST"))
-                  .memoryUnallocatedCost(resultSet.getBigDecimal("MEMORYUNALLOCATEDCOST"))
-                  .instanceName(resultSet.getString("INSTANCENAME"))
-                  .cpuRequest(resultSet.getDouble("CPUREQUEST"))
-                  .memoryRequest(resultSet.getDouble("MEMORYREQUEST"))
-                  .cpuLimit(resultSet.getDouble("CPULIMIT"))
-                  .memoryLimit(resultSet.getDouble("MEMORYLIMIT"))
-                  .maxCpuUtilizationValue(resultSet.getDouble("MAXCPUUTILIZATIONVALUE"))
-                  .maxMemoryUtilizationValue(resultSet.getDouble("MAXMEMORYUTILIZATIONVALUE"))
-                  .avgCpuUtilizationValue(resultSet.getDouble("AVGCPUUTILIZATIONVALUE"))
-                  .avgMemoryUtilizationValue(resultSet.getDouble("AVGMEMORYUTILIZATIONVALUE"))
-                  .networkCost(resultSet.getDouble("NETWORKCOST"))
-                  .pricingSource(resultSet.getString("PRICINGSOURCE"))
-                  .storageRequest(resultSet.getDouble("STORAGEREQUEST"))
-                  .storageUtilizationValue(resultSet.getDouble("STORAGEUTILIZATIONVALUE"))
-                  .storageMbSeconds(resultSet.getDouble("STORAGEMBSECONDS"))
-                  .storageBillingAmount(resultSet.getBigDecimal("STORAGECOST"))
-                  .storageActualIdleCost(resultSet.getBigDecimal("STORAGEACTUALIDLECOST"))
-                  .storageUnallocatedCost(resultSet.getBigDecimal("STORAGEUNALLOCATEDCOST"))
-                  .maxStorageUtilizationValue(resultSet.getDouble("MAXSTORAGEUTILIZATIONVALUE"))
-                  .maxStorageRequest(resultSet.getDouble("MAXSTORAGEREQUEST"))
-                  .orgIdentifier(resultSet.getString("ORGIDENTIFIER"))
-                  .projectIdentifier(resultSet.getString("PROJECTIDENTIFIER"))
-                  .build());
+          instanceBillingDataList.add(toInstanceBillingData(resultSet));
         }
         return instanceBillingDataList;
       } catch (SQLException e) {
@@ -359,6 +475,77 @@ public class BillingDataServiceImpl {
     return null;
   }
 
+  private InstanceBillingData toInstanceBillingData(ResultSet resultSet) throws SQLException {
+    return InstanceBillingData.builder()
+        .endTimestamp(resultSet.getTimestamp("ENDTIME").toInstant().toEpochMilli())
+        .startTimestamp(resultSet.getTimestamp("STARTTIME").toInstant().toEpochMilli())
+        .accountId(resultSet.getString("ACCOUNTID"))
+        .instanceType(resultSet.getString("INSTANCETYPE"))
+        .billingAccountId(resultSet.getString("BILLINGACCOUNTID"))
+        .billingAmount(resultSet.getBigDecimal("BILLINGAMOUNT"))
+        .cpuBillingAmount(resultSet.getBigDecimal("CPUBILLINGAMOUNT"))
+        .memoryBillingAmount(resultSet.getBigDecimal("MEMORYBILLINGAMOUNT"))
+        .usageDurationSeconds(resultSet.getDouble("USAGEDURATIONSECONDS"))
+        .instanceId(resultSet.getString("INSTANCEID"))
+        .clusterName(resultSet.getString("CLUSTERNAME"))
+        .clusterId(resultSet.getString("CLUSTERID"))
+        .settingId(resultSet.getString("SETTINGID"))
+        .serviceId(resultSet.getString("SERVICEID"))
+        .appId(resultSet.getString("APPID"))
+        .cloudProviderId(resultSet.getString("CLOUDPROVIDERID"))
+        .envId(resultSet.getString("ENVID"))
+        .cpuUnitSeconds(resultSet.getDouble("CPUUNITSECONDS"))
+        .memoryMbSeconds(resultSet.getDouble("MEMORYMBSECONDS"))
+        .parentInstanceId(resultSet.getString("PARENTINSTANCEID"))
+        .region(resultSet.getString("REGION"))
+        .launchType(resultSet.getString("LAUNCHTYPE"))
+        .clusterType(resultSet.getString("CLUSTERTYPE"))
+        .cloudProvider(resultSet.getString("CLOUDPROVIDER"))
+        .workloadName(resultSet.getString("WORKLOADNAME"))
+        .workloadType(resultSet.getString("WORKLOADTYPE"))
+        .namespace(resultSet.getString("NAMESPACE"))
+        .cloudServiceName(resultSet.getString("CLOUDSERVICENAME"))
+        .taskId(resultSet.getString("TASKID"))
+        .idleCost(resultSet.getBigDecimal("IDLECOST"))
+        .cpuIdleCost(resultSet.getBigDecimal("CPUIDLECOST"))
+        .memoryIdleCost(resultSet.getBigDecimal("MEMORYIDLECOST"))
+        .maxCpuUtilization(resultSet.getDouble("MAXCPUUTILIZATION"))
+        .maxMemoryUtilization(resultSet.getDouble("MAXMEMORYUTILIZATION"))
+        .avgCpuUtilization(resultSet.getDouble("AVGCPUUTILIZATION"))
+        .avgMemoryUtilization(resultSet.getDouble("AVGMEMORYUTILIZATION"))
+        .systemCost(resultSet.getBigDecimal("SYSTEMCOST"))
+        .cpuSystemCost(resultSet.getBigDecimal("CPUSYSTEMCOST"))
+        .memorySystemCost(resultSet.getBigDecimal("MEMORYSYSTEMCOST"))
+        .actualIdleCost(resultSet.getBigDecimal("ACTUALIDLECOST"))
+        .cpuActualIdleCost(resultSet.getBigDecimal("CPUACTUALIDLECOST"))
+        .memoryActualIdleCost(resultSet.getBigDecimal("MEMORYACTUALIDLECOST"))
+        .unallocatedCost(resultSet.getBigDecimal("UNALLOCATEDCOST"))
+        .cpuUnallocatedCost(resultSet.getBigDecimal("CPUUNALLOCATEDCOST"))
+        .memoryUnallocatedCost(resultSet.getBigDecimal("MEMORYUNALLOCATEDCOST"))
+        .instanceName(resultSet.getString("INSTANCENAME"))
+        .cpuRequest(resultSet.getDouble("CPUREQUEST"))
+        .memoryRequest(resultSet.getDouble("MEMORYREQUEST"))
+        .cpuLimit(resultSet.getDouble("CPULIMIT"))
+        .memoryLimit(resultSet.getDouble("MEMORYLIMIT"))
+        .maxCpuUtilizationValue(resultSet.getDouble("MAXCPUUTILIZATIONVALUE"))
+        .maxMemoryUtilizationValue(resultSet.getDouble("MAXMEMORYUTILIZATIONVALUE"))
+        .avgCpuUtilizationValue(resultSet.getDouble("AVGCPUUTILIZATIONVALUE"))
+        .avgMemoryUtilizationValue(resultSet.getDouble("AVGMEMORYUTILIZATIONVALUE"))
+        .networkCost(resultSet.getDouble("NETWORKCOST"))
+        .pricingSource(resultSet.getString("PRICINGSOURCE"))
+        .storageRequest(resultSet.getDouble("STORAGEREQUEST"))
+        .storageUtilizationValue(resultSet.getDouble("STORAGEUTILIZATIONVALUE"))
+        .storageMbSeconds(resultSet.getDouble("STORAGEMBSECONDS"))
+        .storageBillingAmount(resultSet.getBigDecimal("STORAGECOST"))
+        .storageActualIdleCost(resultSet.getBigDecimal("STORAGEACTUALIDLECOST"))
+        .storageUnallocatedCost(resultSet.getBigDecimal("STORAGEUNALLOCATEDCOST"))
+        .maxStorageUtilizationValue(resultSet.getDouble("MAXSTORAGEUTILIZATIONVALUE"))
+        .maxStorageRequest(resultSet.getDouble("MAXSTORAGEREQUEST"))
+        .orgIdentifier(resultSet.getString("ORGIDENTIFIER"))
+        .projectIdentifier(resultSet.getString("PROJECTIDENTIFIER"))
+        .build();
+  }
+
   public ClusterDataDetails getTimeScaleClusterData(String accountId, Instant startTime) {
     ResultSet resultSet = null;
     int retryCount = 0;
@@ -11,6 +11,7 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
 import io.harness.batch.processing.billing.service.UtilizationData;
 import io.harness.batch.processing.billing.timeseries.data.InstanceUtilizationData;
+import io.harness.batch.processing.billing.timeseries.service.support.TimescaleCopyWriter;
 import io.harness.batch.processing.cloudevents.aws.ecs.service.util.ClusterIdAndServiceArn;
 import io.harness.batch.processing.cloudevents.aws.ecs.service.util.ECSUtilizationData;
 import io.harness.ccm.commons.beans.InstanceType;
@@ -22,6 +23,7 @@ import io.harness.timescaledb.DBUtils;
 import io.harness.timescaledb.TimeScaleDBService;
 
 import com.google.inject.Singleton;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -48,9 +50,13 @@ public class UtilizationDataServiceImpl {
   private static final int MAX_RETRY_COUNT = 2;
   private static final int SELECT_MAX_RETRY_COUNT = 5;
   private static final int BATCH_SIZE = 500;
+  private static final int COPY_THRESHOLD = BATCH_SIZE;
 
-  static final String INSERT_STATEMENT =
-      "INSERT INTO UTILIZATION_DATA (STARTTIME, ENDTIME, ACCOUNTID, MAXCPU, MAXMEMORY, AVGCPU, AVGMEMORY, INSTANCEID, INSTANCETYPE, CLUSTERID, SETTINGID, MAXCPUVALUE, MAXMEMORYVALUE, AVGCPUVALUE, AVGMEMORYVALUE, AVGSTORAGECAPACITYVALUE, AVGSTORAGEUSAGEVALUE, AVGSTORAGEREQUESTVALUE, MAXSTORAGEUSAGEVALUE, MAXSTORAGEREQUESTVALUE) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
+  private static final String UTILIZATION_DATA_TABLE = "UTILIZATION_DATA";
+  static final String INSERT_COLUMNS =
+      "STARTTIME, ENDTIME, ACCOUNTID, MAXCPU, MAXMEMORY, AVGCPU, AVGMEMORY, INSTANCEID, INSTANCETYPE, CLUSTERID, SETTINGID, MAXCPUVALUE, MAXMEMORYVALUE, AVGCPUVALUE, AVGMEMORYVALUE, AVGSTORAGECAPACITYVALUE, AVGSTORAGEUSAGEVALUE, AVGSTORAGEREQUESTVALUE, MAXSTORAGEUSAGEVALUE, MAXSTORAGEREQUESTVALUE";
+  static final String INSERT_STATEMENT = "INSERT INTO " + UTILIZATION_DATA_TABLE + " (" + INSERT_COLUMNS
+      + ") VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
   private static final String UTILIZATION_DATA_QUERY =
       "SELECT MAX(MAXCPU) as MAXCPUUTILIZATION, MAX(MAXMEMORY) as MAXMEMORYUTILIZATION, AVG(AVGCPU) as AVGCPUUTILIZATION, AVG(AVGMEMORY) as AVGMEMORYUTILIZATION, MAX(MAXCPUVALUE) as MAXCPUVALUE, MAX(MAXMEMORYVALUE) as MAXMEMORYVALUE, AVG(AVGCPUVALUE) as AVGCPUVALUE, AVG(AVGMEMORYVALUE) as AVGMEMORYVALUE, AVG(AVGSTORAGECAPACITYVALUE) as AVGSTORAGECAPACITYVALUE ,AVG(AVGSTORAGEUSAGEVALUE) as AVGSTORAGEUSAGEVALUE, AVG(AVGSTORAGEREQUESTVALUE) as AVGSTORAGEREQUESTVALUE ,MAX(MAXSTORAGEUSAGEVALUE) as MAXSTORAGEUSAGEVALUE, MAX(MAXSTORAGEREQUESTVALUE) as MAXSTORAGEREQUESTVALUE, INSTANCEID FROM UTILIZATION_DATA WHERE ACCOUNTID = '%s' AND SETTINGID = '%s' AND CLUSTERID = '%s' AND INSTANCEID IN ('%s') AND STARTTIME >= '%s' AND STARTTIME < '%s' GROUP BY INSTANCEID;";
   private static final String UTILIZATION_DATA_QUERY_BY_CLUSTER_IDS =
@@ -62,6 +68,9 @@ public class UtilizationDataServiceImpl {
     boolean successfulInsert = false;
     if (timeScaleDBService.isValid() && isNotEmpty(instanceUtilizationDataList)) {
       log.info("Util data size {}", instanceUtilizationDataList.size());
+      if (instanceUtilizationDataList.size() >= COPY_THRESHOLD) {
+        return copy(instanceUtilizationDataList);
+      }
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
         try (Connection dbConnection = timeScaleDBService.getDBConnection();
@@ -112,6 +121,45 @@ public class UtilizationDataServiceImpl {
     statement.setDouble(19, instanceUtilizationData.getStorageUsageMaxValue());
     statement.setDouble(20, instanceUtilizationData.getStorageRequestMaxValue());
   }
+  private boolean copy(List<InstanceUtilizationData> instanceUtilizationDataList) {
+    int retryCount = 0;
+    while (retryCount < MAX_RETRY_COUNT) {
+      try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+        TimescaleCopyWriter.copyIn(
+            dbConnection, UTILIZATION_DATA_TABLE, INSERT_COLUMNS, instanceUtilizationDataList, this::writeCopyRow);
+        return true;
+      } catch (SQLException | IOException e) {
+        log.error("Failed to copy instance Utilization data,[{}],retryCount=[{}], Exception: ",
+            instanceUtilizationDataList.size(), retryCount, e);
+        retryCount++;
+      }
+    }
+    return false;
+  }
+
+  private void writeCopyRow(InstanceUtilizationData instanceUtilizationData, TimescaleCopyWriter.CsvRow csvRow)
+      throws IOException {
+    csvRow.addTimestamp(instanceUtilizationData.getStartTimestamp())
+        .addTimestamp(instanceUtilizationData.getEndTimestamp())
+        .add(instanceUtilizationData.getAccountId())
+        .add(instanceUtilizationData.getCpuUtilizationMax())
+        .add(instanceUtilizationData.getMemoryUtilizationMax())
+        .add(instanceUtilizationData.getCpuUtilizationAvg())
+        .add(instanceUtilizationData.getMemoryUtilizationAvg())
+        .add(instanceUtilizationData.getInstanceId())
+        .add(instanceUtilizationData.getInstanceType())
+        .add(instanceUtilizationData.getClusterId())
+        .add(instanceUtilizationData.getSettingId())
+        .add(instanceUtilizationData.getCpuUtilizationMaxValue())
+        .add(instanceUtilizationData.getMemoryUtilizationMaxValue())
+        .add(instanceUtilizationData.getCpuUtilizationAvgValue())
+        .add(instanceUtilizationData.getMemoryUtilizationAvgValue())
+        .add(instanceUtilizationData.getStorageCapacityAvgValue())
+        .add(instanceUtilizationData.getStorageUsageAvgValue())
+        .add(instanceUtilizationData.getStorageRequestAvgValue())
+        .add(instanceUtilizationData.getStorageUsageMaxValue())
+        .add(instanceUtilizationData.getStorageRequestMaxValue());
+  }
 
   public Map<String, UtilizationData> getUtilizationDataForInstances(List<? extends InstanceData> instanceDataList,
       String startTime, String endTime, String accountId, String settingId, String clusterId) {
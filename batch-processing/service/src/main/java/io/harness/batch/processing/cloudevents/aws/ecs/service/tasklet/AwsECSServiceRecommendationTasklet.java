@@ -115,6 +115,10 @@ public class AwsECSServiceRecommendationTasklet implements Tasklet {
       Map<String, ECSService> ecsServiceMap = ecsServiceDao.fetchServices(
           accountId, utilMap.keySet().stream().map(ClusterIdAndServiceArn::getServiceArn).collect(Collectors.toList()));
 
+      // Create Partial Histograms for a day for all services in this batch
+      Map<ClusterIdAndServiceArn, ECSPartialRecommendationHistogram> partialRecommendationHistograms =
+          getPartialRecommendations(accountId, ceClusters, ecsServiceMap, utilMap, startTime);
+
       for (ClusterIdAndServiceArn clusterIdAndServiceArn : utilMap.keySet()) {
         String clusterId = clusterIdAndServiceArn.getClusterId();
         String clusterName = ceClusters.get(clusterId).getClusterName();
@@ -131,18 +135,15 @@ public class AwsECSServiceRecommendationTasklet implements Tasklet {
           awsAccountId = ceClusters.get(clusterId).getInfraAccountId();
         }
         LaunchType launchType = ecsService.getLaunchType();
-        Resource resource = ecsService.getResource();
-        if (resource.getCpuUnits().equals(0.0) || resource.getMemoryMb().equals(0.0)) {
+        if (!hasResource(ecsService)) {
           log.debug("Skipping ECS recommendation as resource value is zero for accountId : {}, service arn: {}",
               accountId, serviceArn);
           continue;
         }
-        long cpuMilliUnits = resource.getCpuUnits().longValue() * 1024L;
-        long memoryBytes = resource.getMemoryMb().longValue() * 1024L * 1024L;
-        List<ECSUtilizationData> utilData = utilMap.get(clusterIdAndServiceArn);
-        // Create Partial Histogram for a day for this service
-        ECSPartialRecommendationHistogram partialRecommendationHistogram = getPartialRecommendation(accountId,
-            clusterId, clusterName, serviceArn, serviceName, startTime, utilData, cpuMilliUnits, memoryBytes);
+        long cpuMilliUnits = cpuMilliUnits(ecsService.getResource());
+        long memoryBytes = memoryBytes(ecsService.getResource());
+        ECSPartialRecommendationHistogram partialRecommendationHistogram =
+            partialRecommendationHistograms.get(clusterIdAndServiceArn);
         ecsRecommendationDAO.savePartialRecommendation(partialRecommendationHistogram);
 
         // Get Partial recommendations for last 7 days
@@ -208,6 +209,39 @@ public class AwsECSServiceRecommendationTasklet implements Tasklet {
     return null;
   }
 
+  /**
+   * Builds the partial histograms of all services with utilization data in parallel on the common fork join pool. The
+   * histograms only depend on the utilization data, the reads and writes per service stay sequential.
+   */
+  Map<ClusterIdAndServiceArn, ECSPartialRecommendationHistogram> getPartialRecommendations(String accountId,
+      Map<String, CECluster> ceClusters, Map<String, ECSService> ecsServiceMap,
+      Map<ClusterIdAndServiceArn, List<ECSUtilizationData>> utilMap, Instant startTime) {
+    return utilMap.entrySet()
+        .parallelStream()
+        .filter(entry -> hasResource(ecsServiceMap.get(entry.getKey().getServiceArn())))
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> {
+          String clusterId = entry.getKey().getClusterId();
+          String serviceArn = entry.getKey().getServiceArn();
+          Resource resource = ecsServiceMap.get(serviceArn).getResource();
+          return getPartialRecommendation(accountId, clusterId, ceClusters.get(clusterId).getClusterName(), serviceArn,
+              serviceNameFromServiceArn(serviceArn), startTime, entry.getValue(), cpuMilliUnits(resource),
+              memoryBytes(resource));
+        }));
+  }
+
+  private static boolean hasResource(ECSService ecsService) {
+    return ecsService != null && !ecsService.getResource().getCpuUnits().equals(0.0)
+        && !ecsService.getResource().getMemoryMb().equals(0.0);
+  }
+
+  private static long cpuMilliUnits(Resource resource) {
+    return resource.getCpuUnits().longValue() * 1024L;
+  }
+
+  private static long memoryBytes(Resource resource) {
+    return resource.getMemoryMb().longValue() * 1024L * 1024L;
+  }
+
   ECSPartialRecommendationHistogram getPartialRecommendation(String accountId, String clusterId, String clusterName,
       String serviceArn, String serviceName, Instant startTime, List<ECSUtilizationData> utilData, long cpuMilliUnits,
       long memoryBytes) {
@@ -354,18 +388,23 @@ public class AwsECSServiceRecommendationTasklet implements Tasklet {
   private Histogram histogramFromUtilData(
       List<ECSUtilizationData> utilizationForDay, long maxUnits, String resourceType) {
     Histogram histogram = newHistogram(maxUnits);
-    // utilization data is in percentage
-    if (resourceType.equals(CPU)) {
-      for (ECSUtilizationData utilizationForHour : utilizationForDay) {
-        histogram.addSample(utilizationForHour.getMaxCpuUtilization() * maxUnits, MAX_UTILIZATION_WEIGHT,
-            utilizationForHour.getStartTime());
-      }
-    } else if (resourceType.equals(MEMORY)) {
-      for (ECSUtilizationData utilizationForHour : utilizationForDay) {
-        histogram.addSample(utilizationForHour.getMaxMemoryUtilization() * maxUnits, MAX_UTILIZATION_WEIGHT,
-            utilizationForHour.getStartTime());
-      }
+    if (!resourceType.equals(CPU) && !resourceType.equals(MEMORY)) {
+      return histogram;
+    }
+    int count = utilizationForDay.size();
+    double[] values = new double[count];
+    double[] weights = new double[count];
+    long[] times = new long[count];
+    for (int i = 0; i < count; i++) {
+      ECSUtilizationData utilizationForHour = utilizationForDay.get(i);
+      // utilization data is in percentage
+      double utilization = resourceType.equals(CPU) ? utilizationForHour.getMaxCpuUtilization()
+                                                    : utilizationForHour.getMaxMemoryUtilization();
+      values[i] = utilization * maxUnits;
+      weights[i] = MAX_UTILIZATION_WEIGHT;
+      times[i] = utilizationForHour.getStartTime().toEpochMilli();
     }
+    histogram.addSamples(values, weights, times);
     return histogram;
   }
 
@@ -12,10 +12,13 @@ import static io.harness.rule.OwnerRule.ROHIT;
 import static io.harness.rule.OwnerRule.SHUBHANSHU;
 import static io.harness.rule.OwnerRule.UTSAV;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
@@ -37,9 +40,14 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 import jersey.repackaged.com.google.common.collect.ImmutableList;
 import org.junit.Before;
 import org.junit.Test;
@@ -172,6 +180,80 @@ public class BillingDataServiceImplTest extends CategoryTest {
     assertThat(instanceBillingData.size()).isEqualTo(1);
   }
 
+  @Test
+  @Owner(developers = ROHIT)
+  @Category(UnitTests.class)
+  public void readBillingDataAfterLastRow() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    when(timeScaleDBService.getDBConnection()).thenReturn(mockConnection);
+    String query = String.format(billingDataService.KEYSET_READER_QUERY_AFTER,
+        BillingDataServiceImpl.DAILY_BILLING_DATA_TABLE, BillingDataServiceImpl.readerAfterCondition(true, false));
+    when(mockConnection.prepareStatement(query)).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    mockResultSet();
+    InstanceBillingData lastRead = InstanceBillingData.builder()
+                                       .startTimestamp(START_TIME_MILLIS)
+                                       .accountId(ACCOUNT_ID)
+                                       .instanceId("instanceId")
+                                       .instanceType(InstanceType.K8S_POD.name())
+                                       .clusterId(CLUSTER_ID)
+                                       .build();
+
+    List<InstanceBillingData> instanceBillingData =
+        billingDataService.readAfter(ACCOUNT_ID, Instant.ofEpochMilli(START_TIME_MILLIS),
+            Instant.ofEpochMilli(END_TIME_MILLIS), 500, lastRead, BatchJobType.CLUSTER_DATA_TO_BIG_QUERY);
+    assertThat(instanceBillingData.size()).isEqualTo(1);
+    verify(statement).setString(1, ACCOUNT_ID);
+    // the null setting id is matched with IS NULL in the query and takes no parameters
+    verify(statement).setString(4, CLUSTER_ID);
+    verify(statement).setString(5, CLUSTER_ID);
+    verify(statement).setString(6, "instanceId");
+    verify(statement).setString(7, "instanceId");
+    verify(statement).setString(8, InstanceType.K8S_POD.name());
+    verify(statement).setString(9, InstanceType.K8S_POD.name());
+    verify(statement).setTimestamp(10, new Timestamp(START_TIME_MILLIS), utils.getDefaultCalendar());
+    verify(statement).setInt(11, 500);
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testReaderAfterCondition() {
+    assertThat(BillingDataServiceImpl.readerAfterCondition(true, false))
+        .isEqualTo("SETTINGID IS NULL AND (CLUSTERID > ? OR CLUSTERID IS NULL OR (CLUSTERID = ? AND (INSTANCEID > ? OR "
+            + "(INSTANCEID = ? AND (INSTANCETYPE > ? OR (INSTANCETYPE = ? AND STARTTIME < ?))))))");
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void readBillingDataPagesThroughNullKeys() throws SQLException {
+    // in the order Postgres returns them: SETTINGID and CLUSTERID sort nulls last, STARTTIME descending
+    List<InstanceBillingData> rows = ImmutableList.of(keyedRow("s1", "c1", "i1", 2), keyedRow("s1", "c1", "i1", 1),
+        keyedRow("s1", null, "i1", 1), keyedRow("s1", null, "i2", 1), keyedRow(null, "c1", "i1", 1),
+        keyedRow(null, null, "i1", 2), keyedRow(null, null, "i1", 1));
+    Connection mockConnection = mock(Connection.class);
+    when(timeScaleDBService.getDBConnection()).thenReturn(mockConnection);
+    when(mockConnection.prepareStatement(anyString()))
+        .thenAnswer(invocation -> new KeysetTable(rows).prepareStatement(invocation.getArgument(0)));
+
+    for (int batchSize = 1; batchSize <= rows.size(); batchSize++) {
+      List<InstanceBillingData> read = new ArrayList<>();
+      InstanceBillingData lastRead = null;
+      List<InstanceBillingData> page;
+      do {
+        page = billingDataService.readAfter(ACCOUNT_ID, Instant.ofEpochMilli(START_TIME_MILLIS),
+            Instant.ofEpochMilli(END_TIME_MILLIS), batchSize, lastRead, BatchJobType.CLUSTER_DATA_TO_BIG_QUERY);
+        read.addAll(page);
+        lastRead = page.isEmpty() ? lastRead : page.get(page.size() - 1);
+      } while (page.size() == batchSize);
+
+      assertThat(read).extracting(BillingDataServiceImplTest::readerKey)
+          .as("batch size %s", batchSize)
+          .containsExactlyElementsOf(rows.stream().map(BillingDataServiceImplTest::readerKey).collect(toList()));
+    }
+  }
+
   @Test
   @Owner(developers = UTSAV)
   @Category(UnitTests.class)
@@ -214,6 +296,180 @@ public class BillingDataServiceImplTest extends CategoryTest {
     assertThat(result).isTrue();
   }
 
+  private InstanceBillingData keyedRow(String settingId, String clusterId, String instanceId, int minutesAfterStart) {
+    return InstanceBillingData.builder()
+        .accountId(ACCOUNT_ID)
+        .settingId(settingId)
+        .clusterId(clusterId)
+        .instanceId(instanceId)
+        .instanceType(InstanceType.K8S_POD.name())
+        .startTimestamp(START_TIME_MILLIS + TimeUnit.MINUTES.toMillis(minutesAfterStart))
+        .build();
+  }
+
+  private static String readerKey(InstanceBillingData row) {
+    return String.join("/", String.valueOf(row.getSettingId()), String.valueOf(row.getClusterId()),
+        row.getInstanceId(), row.getInstanceType(), String.valueOf(row.getStartTimestamp()));
+  }
+
+  /**
+   * Answers the keyset reader queries from rows given in READER_ORDER, evaluating the keyset condition the way
+   * Postgres does: a comparison with null is never true, and no row passes a condition only because of a null.
+   */
+  private static class KeysetTable {
+    private static final String CONDITION_START = "STARTTIME < ? AND (";
+    private static final String CONDITION_END = ") ORDER BY ";
+    // ACCOUNTID and the STARTTIME range come first
+    private static final int FIRST_CONDITION_PARAMETER = 4;
+
+    private final List<InstanceBillingData> rows;
+    private final Map<Integer, Object> parameters = new HashMap<>();
+    private List<String> tokens;
+    private int position;
+    private int parameterIndex;
+
+    KeysetTable(List<InstanceBillingData> rows) {
+      this.rows = rows;
+    }
+
+    PreparedStatement prepareStatement(String query) {
+      int conditionStart = query.indexOf(CONDITION_START);
+      String condition = conditionStart < 0
+          ? null
+          : query.substring(conditionStart + CONDITION_START.length(), query.lastIndexOf(CONDITION_END));
+      return mock(PreparedStatement.class, invocation -> {
+        switch (invocation.getMethod().getName()) {
+          case "setString":
+          case "setTimestamp":
+          case "setInt":
+            parameters.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+          case "executeQuery":
+            // LIMIT is the last parameter
+            int limit = (int) parameters.get(parameters.keySet().stream().max(Integer::compare).get());
+            return resultSetOf(rows.stream()
+                                   .filter(row -> condition == null || matches(condition, row))
+                                   .limit(limit)
+                                   .collect(toList()));
+          default:
+            return RETURNS_DEFAULTS.answer(invocation);
+        }
+      });
+    }
+
+    private boolean matches(String condition, InstanceBillingData row) {
+      tokens = Arrays.asList(condition.replace("(", " ( ").replace(")", " ) ").trim().split("\\s+"));
+      position = 0;
+      parameterIndex = FIRST_CONDITION_PARAMETER;
+      boolean matches = or(row);
+      assertThat(position).isEqualTo(tokens.size());
+      return matches;
+    }
+
+    private boolean or(InstanceBillingData row) {
+      boolean result = and(row);
+      while (position < tokens.size() && tokens.get(position).equals("OR")) {
+        position++;
+        result = and(row) || result;
+      }
+      return result;
+    }
+
+    private boolean and(InstanceBillingData row) {
+      boolean result = comparison(row);
+      while (position < tokens.size() && tokens.get(position).equals("AND")) {
+        position++;
+        result = comparison(row) && result;
+      }
+      return result;
+    }
+
+    private boolean comparison(InstanceBillingData row) {
+      String token = tokens.get(position++);
+      if (token.equals("(")) {
+        boolean result = or(row);
+        assertThat(tokens.get(position++)).isEqualTo(")");
+        return result;
+      }
+      Comparable<Object> value = column(token, row);
+      String operator = tokens.get(position++);
+      if (operator.equals("IS")) {
+        assertThat(tokens.get(position++)).isEqualTo("NULL");
+        return value == null;
+      }
+      assertThat(tokens.get(position++)).isEqualTo("?");
+      Object parameter = parameters.get(parameterIndex++);
+      if (parameter instanceof Timestamp) {
+        parameter = ((Timestamp) parameter).getTime();
+      }
+      if (value == null) {
+        return false;
+      }
+      int compared = value.compareTo(parameter);
+      switch (operator) {
+        case ">":
+          return compared > 0;
+        case "<":
+          return compared < 0;
+        case "=":
+          return compared == 0;
+        default:
+          throw new IllegalArgumentException("Unexpected operator " + operator);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> column(String column, InstanceBillingData row) {
+      switch (column) {
+        case "SETTINGID":
+          return (Comparable) row.getSettingId();
+        case "CLUSTERID":
+          return (Comparable) row.getClusterId();
+        case "INSTANCEID":
+          return (Comparable) row.getInstanceId();
+        case "INSTANCETYPE":
+          return (Comparable) row.getInstanceType();
+        case "STARTTIME":
+          return (Comparable) Long.valueOf(row.getStartTimestamp());
+        default:
+          throw new IllegalArgumentException("Unexpected column " + column);
+      }
+    }
+
+    private static ResultSet resultSetOf(List<InstanceBillingData> matching) {
+      int[] cursor = {-1};
+      return mock(ResultSet.class, invocation -> {
+        switch (invocation.getMethod().getName()) {
+          case "next":
+            return ++cursor[0] < matching.size();
+          case "getTimestamp":
+            return new Timestamp(matching.get(cursor[0]).getStartTimestamp());
+          case "getString":
+            return getString(matching.get(cursor[0]), invocation.getArgument(0));
+          default:
+            return RETURNS_DEFAULTS.answer(invocation);
+        }
+      });
+    }
+
+    private static String getString(InstanceBillingData row, String column) {
+      switch (column) {
+        case "ACCOUNTID":
+          return row.getAccountId();
+        case "SETTINGID":
+          return row.getSettingId();
+        case "CLUSTERID":
+          return row.getClusterId();
+        case "INSTANCEID":
+          return row.getInstanceId();
+        case "INSTANCETYPE":
+          return row.getInstanceType();
+        default:
+          return "stringValue";
+      }
+    }
+  }
+
   private void mockResultSet() throws SQLException {
     when(resultSet.getDouble(anyString())).thenAnswer((Answer<Double>) invocation -> Double.valueOf(10));
     when(resultSet.getString(anyString())).thenAnswer((Answer<String>) invocation -> "stringValue");
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.billing.timeseries.service.support;
+
+import static io.harness.rule.OwnerRule.HITESH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InOrder;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+public class TimescaleCopyWriterTest extends CategoryTest {
+  private static final String COLUMNS = "STARTTIME, INSTANCEID, BILLINGAMOUNT";
+
+  private final Connection connection = mock(Connection.class);
+  private final Statement statement = mock(Statement.class);
+  private final CopyIn copyIn = mock(CopyIn.class);
+  private final ByteArrayOutputStream copied = new ByteArrayOutputStream();
+
+  @Before
+  public void setup() throws SQLException {
+    PGConnection pgConnection = mock(PGConnection.class);
+    CopyManager copyManager = mock(CopyManager.class);
+    when(connection.getAutoCommit()).thenReturn(true);
+    when(connection.createStatement()).thenReturn(statement);
+    when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+    when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+    when(copyManager.copyIn(any())).thenReturn(copyIn);
+    when(copyIn.isActive()).thenReturn(true);
+    doAnswer(invocation -> {
+      copied.write(invocation.<byte[]>getArgument(0), invocation.<Integer>getArgument(1),
+          invocation.<Integer>getArgument(2));
+      return null;
+    })
+        .when(copyIn)
+        .writeToCopy(any(byte[].class), anyInt(), anyInt());
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCsvRowEncoding() throws IOException {
+    StringWriter writer = new StringWriter();
+    TimescaleCopyWriter.CsvRow csvRow = new TimescaleCopyWriter.CsvRow(writer);
+    csvRow.addTimestamp(1546281000000L)
+        .add("say \"hi\", bye")
+        .add("")
+        .add((String) null)
+        .add(new BigDecimal("12.50"))
+        .add((BigDecimal) null)
+        .add(0.5D);
+    csvRow.end();
+    csvRow.add("second");
+    csvRow.end();
+
+    assertThat(writer.toString())
+        .isEqualTo("2018-12-31T18:30:00Z,\"say \"\"hi\"\", bye\",\"\",,12.50,,0.5\n\"second\"\n");
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCopyIn() throws Exception {
+    when(statement.executeUpdate(any())).thenReturn(2);
+    List<String> rows = Arrays.asList("i-1", "i-2");
+
+    int inserted = TimescaleCopyWriter.copyIn(connection, "billing_data", COLUMNS, rows,
+        (row, csvRow) -> csvRow.addTimestamp(0L).add(row).add(1.0D));
+
+    assertThat(inserted).isEqualTo(2);
+    assertThat(new String(copied.toByteArray(), StandardCharsets.UTF_8))
+        .isEqualTo("1970-01-01T00:00:00Z,\"i-1\",1.0\n1970-01-01T00:00:00Z,\"i-2\",1.0\n");
+    InOrder inOrder = inOrder(connection, statement, copyIn);
+    inOrder.verify(connection).setAutoCommit(false);
+    inOrder.verify(statement).execute(
+        "CREATE TEMP TABLE staging_billing_data (LIKE billing_data INCLUDING DEFAULTS) ON COMMIT DROP");
+    inOrder.verify(copyIn).endCopy();
+    inOrder.verify(statement).executeUpdate("INSERT INTO billing_data (" + COLUMNS + ") SELECT " + COLUMNS
+        + " FROM staging_billing_data ON CONFLICT DO NOTHING");
+    inOrder.verify(connection).commit();
+    inOrder.verify(connection).setAutoCommit(true);
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCopyInRollsBackOnFailure() throws Exception {
+    when(statement.executeUpdate(any())).thenThrow(new SQLException("conflict"));
+
+    assertThatThrownBy(()
+                           -> TimescaleCopyWriter.copyIn(connection, "billing_data", COLUMNS, Arrays.asList("i-1"),
+                               (row, csvRow) -> csvRow.addTimestamp(0L).add(row).add(1.0D)))
+        .isInstanceOf(SQLException.class);
+    verify(connection).rollback();
+    verify(connection, never()).commit();
+    verify(connection).setAutoCommit(true);
+  }
+}
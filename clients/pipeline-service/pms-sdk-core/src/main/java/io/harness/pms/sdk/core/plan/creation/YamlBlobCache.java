@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk.core.plan.creation;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.data.structure.EmptyPredicate;
+import io.harness.pms.contracts.plan.Dependencies;
+import io.harness.pms.plan.creation.YamlBlobUtils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the pipeline yaml of plan and filter creation requests by its hash. The pipeline service sends the yaml once
+ * per service and only its hash afterwards, as long as the yaml does not change.
+ */
+@OwnedBy(PIPELINE)
+@Singleton
+public class YamlBlobCache {
+  // Weighed in chars, about 40MB of yaml in total
+  private static final long MAX_WEIGHT = 20L * 1024 * 1024;
+
+  private final Cache<String, String> yamlByHash = CacheBuilder.newBuilder()
+                                                       .maximumWeight(MAX_WEIGHT)
+                                                       .weigher((String hash, String yaml) -> yaml.length())
+                                                       .expireAfterAccess(10, TimeUnit.MINUTES)
+                                                       .build();
+
+  /**
+   * Returns the dependencies with their yaml, or null if the request referred to a yaml by hash which is not known
+   * here. The pipeline service then sends the request again with the yaml.
+   */
+  public Dependencies resolve(Dependencies dependencies) {
+    if (!YamlBlobUtils.isReferencedByHash(dependencies)) {
+      return dependencies;
+    }
+    if (EmptyPredicate.isNotEmpty(dependencies.getYaml())) {
+      yamlByHash.put(dependencies.getYamlHash(), dependencies.getYaml());
+      return dependencies;
+    }
+    String yaml = yamlByHash.getIfPresent(dependencies.getYamlHash());
+    return yaml == null ? null : dependencies.toBuilder().setYaml(yaml).build();
+  }
+}
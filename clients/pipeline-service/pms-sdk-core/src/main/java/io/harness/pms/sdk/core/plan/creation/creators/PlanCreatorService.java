@@ -30,6 +30,7 @@ import io.harness.pms.contracts.plan.FilterCreationBlobRequest;
 import io.harness.pms.contracts.plan.FilterCreationBlobResponse;
 import io.harness.pms.contracts.plan.FilterCreationResponse;
 import io.harness.pms.contracts.plan.PlanCreationBlobRequest;
+import io.harness.pms.contracts.plan.PlanCreationBlobResponse;
 import io.harness.pms.contracts.plan.PlanCreationContextValue;
 import io.harness.pms.contracts.plan.PlanCreationServiceGrpc.PlanCreationServiceImplBase;
 import io.harness.pms.contracts.plan.VariablesCreationBlobRequest;
@@ -38,9 +39,11 @@ import io.harness.pms.contracts.plan.VariablesCreationResponse;
 import io.harness.pms.gitsync.PmsGitSyncBranchContextGuard;
 import io.harness.pms.gitsync.PmsGitSyncHelper;
 import io.harness.pms.plan.creation.PlanCreatorUtils;
+import io.harness.pms.plan.creation.YamlBlobUtils;
 import io.harness.pms.sdk.PmsSdkModuleUtils;
 import io.harness.pms.sdk.core.pipeline.filters.FilterCreatorService;
 import io.harness.pms.sdk.core.plan.creation.PlanCreationResponseBlobHelper;
+import io.harness.pms.sdk.core.plan.creation.YamlBlobCache;
 import io.harness.pms.sdk.core.plan.creation.beans.MergePlanCreationResponse;
 import io.harness.pms.sdk.core.plan.creation.beans.PlanCreationContext;
 import io.harness.pms.sdk.core.plan.creation.beans.PlanCreationResponse;
@@ -72,6 +75,7 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
   @Inject @Named(PLAN_CREATOR_SERVICE_EXECUTOR) private Executor executor;
   @Inject ExceptionManager exceptionManager;
   @Inject @Named(PmsSdkModuleUtils.SDK_SERVICE_NAME) String serviceName;
+  @Inject YamlBlobCache yamlBlobCache;
 
   private final FilterCreatorService filterCreatorService;
   private final VariableCreatorService variableCreatorService;
@@ -108,9 +112,18 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
       try (AutoLogContext ignore = PlanCreatorUtils.autoLogContextWithRandomRequestId(metadata.getMetadata(),
                metadata.getAccountIdentifier(), metadata.getOrgIdentifier(), metadata.getProjectIdentifier())) {
         try {
-          MergePlanCreationResponse finalResponse = createPlanForDependenciesRecursive(
-              request.getDeps(), request.getContextMap(), request.getServiceAffinityMap());
-          planCreationResponse = getPlanCreationResponseFromFinalResponse(finalResponse);
+          Dependencies dependencies = yamlBlobCache.resolve(request.getDeps());
+          if (dependencies == null) {
+            log.info("Yaml with hash {} is not cached, asking for the yaml", request.getDeps().getYamlHash());
+            planCreationResponse = io.harness.pms.contracts.plan.PlanCreationResponse.newBuilder()
+                                       .setMissingYamlHash(request.getDeps().getYamlHash())
+                                       .build();
+          } else {
+            MergePlanCreationResponse finalResponse = createPlanForDependenciesRecursive(
+                dependencies, request.getContextMap(), request.getServiceAffinityMap());
+            planCreationResponse = getPlanCreationResponseFromFinalResponse(
+                finalResponse, YamlBlobUtils.isReferencedByHash(request.getDeps()));
+          }
         } catch (Exception ex) {
           log.error(ExceptionUtils.getMessage(ex), ex);
           WingsException processedException = exceptionManager.processException(ex);
@@ -207,8 +220,20 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
              PlanCreatorServiceHelper.autoLogContextFromSetupMetadata(request.getSetupMetadata())) {
       FilterCreationResponse filterCreationResponse;
       try {
-        FilterCreationBlobResponse response = filterCreatorService.createFilterBlobResponse(request);
-        filterCreationResponse = FilterCreationResponse.newBuilder().setBlobResponse(response).build();
+        Dependencies dependencies = yamlBlobCache.resolve(request.getDeps());
+        if (dependencies == null) {
+          log.info("Yaml with hash {} is not cached, asking for the yaml", request.getDeps().getYamlHash());
+          filterCreationResponse =
+              FilterCreationResponse.newBuilder().setMissingYamlHash(request.getDeps().getYamlHash()).build();
+        } else {
+          FilterCreationBlobResponse response =
+              filterCreatorService.createFilterBlobResponse(request.toBuilder().setDeps(dependencies).build());
+          if (YamlBlobUtils.isReferencedByHash(request.getDeps())) {
+            // the pipeline service has the yaml already
+            response = response.toBuilder().setDeps(response.getDeps().toBuilder().clearYaml()).build();
+          }
+          filterCreationResponse = FilterCreationResponse.newBuilder().setBlobResponse(response).build();
+        }
       } catch (Exception ex) {
         log.error(ExceptionUtils.getMessage(ex), ex);
         WingsException processedException = exceptionManager.processException(ex);
@@ -254,15 +279,18 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
   }
 
   private io.harness.pms.contracts.plan.PlanCreationResponse getPlanCreationResponseFromFinalResponse(
-      MergePlanCreationResponse finalResponse) {
+      MergePlanCreationResponse finalResponse, boolean withoutYaml) {
     if (EmptyPredicate.isNotEmpty(finalResponse.getErrorMessages())) {
       return io.harness.pms.contracts.plan.PlanCreationResponse.newBuilder()
           .setErrorResponse(ErrorResponse.newBuilder().addAllMessages(finalResponse.getErrorMessages()).build())
           .build();
     }
-    return io.harness.pms.contracts.plan.PlanCreationResponse.newBuilder()
-        .setBlobResponse(planCreationResponseBlobHelper.toBlobResponse(finalResponse))
-        .build();
+    PlanCreationBlobResponse blobResponse = planCreationResponseBlobHelper.toBlobResponse(finalResponse);
+    if (withoutYaml) {
+      // the pipeline service has the yaml already and applies the yaml updates itself
+      blobResponse = blobResponse.toBuilder().setDeps(blobResponse.getDeps().toBuilder().clearYaml()).build();
+    }
+    return io.harness.pms.contracts.plan.PlanCreationResponse.newBuilder().setBlobResponse(blobResponse).build();
   }
 
   // Method to create plan for single dependency.
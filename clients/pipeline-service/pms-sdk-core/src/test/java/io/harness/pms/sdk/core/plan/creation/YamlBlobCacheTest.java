@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk.core.plan.creation;
+
+import static io.harness.rule.OwnerRule.SAHIL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.plan.Dependencies;
+import io.harness.pms.plan.creation.YamlBlobUtils;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class YamlBlobCacheTest extends CategoryTest {
+  private static final String YAML = "pipeline:\n  identifier: p1\n";
+
+  private final YamlBlobCache yamlBlobCache = new YamlBlobCache();
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveWithoutHash() {
+    Dependencies dependencies = Dependencies.newBuilder().setYaml(YAML).putDependencies("p1", "pipeline").build();
+    assertThat(yamlBlobCache.resolve(dependencies)).isSameAs(dependencies);
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveByHash() {
+    String yamlHash = YamlBlobUtils.hash(YAML);
+    Dependencies withoutYaml = YamlBlobUtils.withoutYaml(
+        Dependencies.newBuilder().setYaml(YAML).putDependencies("p1", "pipeline").build(), yamlHash);
+    assertThat(yamlBlobCache.resolve(withoutYaml)).isNull();
+
+    Dependencies withYaml = withoutYaml.toBuilder().setYaml(YAML).build();
+    assertThat(yamlBlobCache.resolve(withYaml)).isSameAs(withYaml);
+
+    Dependencies resolved = yamlBlobCache.resolve(withoutYaml);
+    assertThat(resolved.getYaml()).isEqualTo(YAML);
+    assertThat(resolved.getDependenciesMap()).containsEntry("p1", "pipeline");
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk.core.plan.creation.creators;
+
+import static io.harness.rule.OwnerRule.SAHIL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.plan.Dependencies;
+import io.harness.pms.contracts.plan.FilterCreationBlobRequest;
+import io.harness.pms.contracts.plan.FilterCreationBlobResponse;
+import io.harness.pms.contracts.plan.FilterCreationResponse;
+import io.harness.pms.contracts.plan.PlanCreationBlobRequest;
+import io.harness.pms.contracts.plan.PlanCreationBlobResponse;
+import io.harness.pms.contracts.plan.PlanCreationContextValue;
+import io.harness.pms.contracts.plan.PlanCreationResponse;
+import io.harness.pms.gitsync.PmsGitSyncHelper;
+import io.harness.pms.plan.creation.YamlBlobUtils;
+import io.harness.pms.sdk.core.pipeline.filters.FilterCreatorService;
+import io.harness.pms.sdk.core.plan.creation.PlanCreationResponseBlobHelper;
+import io.harness.pms.sdk.core.plan.creation.YamlBlobCache;
+import io.harness.pms.sdk.core.plan.creation.beans.MergePlanCreationResponse;
+import io.harness.pms.sdk.core.variables.VariableCreatorService;
+import io.harness.rule.Owner;
+
+import io.grpc.stub.StreamObserver;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class PlanCreatorServiceTest extends CategoryTest {
+  private static final String YAML = "pipeline:\n  identifier: p1\n";
+  private static final String YAML_HASH = YamlBlobUtils.hash(YAML);
+
+  private FilterCreatorService filterCreatorService;
+  private PlanCreationResponseBlobHelper planCreationResponseBlobHelper;
+  private PlanCreatorService planCreatorService;
+
+  @Before
+  public void setUp() {
+    filterCreatorService = mock(FilterCreatorService.class);
+    planCreationResponseBlobHelper = mock(PlanCreationResponseBlobHelper.class);
+    planCreatorService = new PlanCreatorService(mock(PipelineServiceInfoDecorator.class), filterCreatorService,
+        mock(VariableCreatorService.class), planCreationResponseBlobHelper, mock(PmsGitSyncHelper.class));
+    planCreatorService.yamlBlobCache = new YamlBlobCache();
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testCreatePlanAsksForYamlOfUnknownHash() {
+    PlanCreationResponse response = createPlan(YamlBlobUtils.withoutYaml(dependencies(), YAML_HASH));
+
+    assertThat(response.getMissingYamlHash()).isEqualTo(YAML_HASH);
+    assertThat(response.hasBlobResponse()).isFalse();
+    verify(planCreationResponseBlobHelper, never()).toBlobResponse(any());
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testCreatePlanClearsYamlOfDependenciesReferencedByHash() {
+    when(planCreationResponseBlobHelper.toBlobResponse(any(MergePlanCreationResponse.class)))
+        .thenReturn(PlanCreationBlobResponse.newBuilder().setDeps(dependencies()).build());
+
+    PlanCreationResponse response = createPlan(YamlBlobUtils.withYamlHash(dependencies(), YAML_HASH));
+    assertThat(response.getBlobResponse().getDeps().getYaml()).isEmpty();
+    assertThat(response.getBlobResponse().getDeps().getDependenciesMap()).containsEntry("p1", "pipeline");
+
+    // the yaml is cached by now, so the next request needs only the hash
+    response = createPlan(YamlBlobUtils.withoutYaml(dependencies(), YAML_HASH));
+    assertThat(response.getMissingYamlHash()).isEmpty();
+    assertThat(response.getBlobResponse().getDeps().getYaml()).isEmpty();
+
+    // without a hash the pipeline service expects the yaml back
+    response = createPlan(dependencies());
+    assertThat(response.getBlobResponse().getDeps().getYaml()).isEqualTo(YAML);
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testCreateFilterAsksForYamlOfUnknownHash() {
+    FilterCreationResponse response = createFilter(YamlBlobUtils.withoutYaml(dependencies(), YAML_HASH));
+
+    assertThat(response.getMissingYamlHash()).isEqualTo(YAML_HASH);
+    assertThat(response.hasBlobResponse()).isFalse();
+    verify(filterCreatorService, never()).createFilterBlobResponse(any());
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testCreateFilterClearsYamlOfDependenciesReferencedByHash() {
+    when(filterCreatorService.createFilterBlobResponse(any(FilterCreationBlobRequest.class)))
+        .thenReturn(FilterCreationBlobResponse.newBuilder().setDeps(dependencies()).build());
+
+    FilterCreationResponse response = createFilter(YamlBlobUtils.withYamlHash(dependencies(), YAML_HASH));
+    assertThat(response.getBlobResponse().getDeps().getYaml()).isEmpty();
+    assertThat(response.getBlobResponse().getDeps().getDependenciesMap()).containsEntry("p1", "pipeline");
+
+    response = createFilter(YamlBlobUtils.withoutYaml(dependencies(), YAML_HASH));
+    assertThat(response.getMissingYamlHash()).isEmpty();
+    assertThat(response.getBlobResponse().getDeps().getYaml()).isEmpty();
+
+    response = createFilter(dependencies());
+    assertThat(response.getBlobResponse().getDeps().getYaml()).isEqualTo(YAML);
+  }
+
+  private static Dependencies dependencies() {
+    return Dependencies.newBuilder().setYaml(YAML).putDependencies("p1", "pipeline").build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private PlanCreationResponse createPlan(Dependencies dependencies) {
+    StreamObserver<PlanCreationResponse> responseObserver = mock(StreamObserver.class);
+    planCreatorService.createPlan(PlanCreationBlobRequest.newBuilder()
+                                      .setDeps(dependencies)
+                                      .putContext("metadata", PlanCreationContextValue.newBuilder().build())
+                                      .build(),
+        responseObserver);
+    ArgumentCaptor<PlanCreationResponse> captor = ArgumentCaptor.forClass(PlanCreationResponse.class);
+    verify(responseObserver).onNext(captor.capture());
+    verify(responseObserver).onCompleted();
+    return captor.getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private FilterCreationResponse createFilter(Dependencies dependencies) {
+    StreamObserver<FilterCreationResponse> responseObserver = mock(StreamObserver.class);
+    planCreatorService.createFilter(
+        FilterCreationBlobRequest.newBuilder().setDeps(dependencies).build(), responseObserver);
+    ArgumentCaptor<FilterCreationResponse> captor = ArgumentCaptor.forClass(FilterCreationResponse.class);
+    verify(responseObserver).onNext(captor.capture());
+    verify(responseObserver).onCompleted();
+    return captor.getValue();
+  }
+}
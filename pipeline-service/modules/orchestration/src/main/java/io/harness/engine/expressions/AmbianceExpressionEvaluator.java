@@ -89,6 +89,7 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
   @Inject private NodeExecutionService nodeExecutionService;
   @Inject private PlanExecutionService planExecutionService;
   @Inject private PlanService planService;
+  @Inject private PlanExecutionExpressionCache planExecutionExpressionCache;
   @Inject private InputSetValidatorFactory inputSetValidatorFactory;
 
   @Inject private PlanExpansionService planExpansionService;
@@ -165,7 +166,8 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
       return;
     }
 
-    nodeExecutionsCache = new NodeExecutionsCache(nodeExecutionService, planService, ambiance);
+    nodeExecutionsCache =
+        new NodeExecutionsCache(nodeExecutionService, planService, ambiance, planExecutionExpressionCache);
     // Access StepParameters and Outcomes of self and children.
     addToContext("child",
         NodeExecutionChildFunctor.builder()
@@ -21,11 +21,11 @@ import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.pms.execution.utils.StatusUtils;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Value;
@@ -39,31 +39,46 @@ public class NodeExecutionsCache {
   NodeExecutionService nodeExecutionService;
   PlanService planService;
   Ambiance ambiance;
+  // Optional, shared across the evaluators of the same plan execution
+  PlanExecutionExpressionCache sharedCache;
   Map<String, NodeExecution> map;
   Map<String, List<String>> childrenMap;
   Map<String, Node> nodeMap;
 
-  @Builder
   public NodeExecutionsCache(NodeExecutionService nodeExecutionService, PlanService planService, Ambiance ambiance) {
+    this(nodeExecutionService, planService, ambiance, null);
+  }
+
+  @Builder
+  public NodeExecutionsCache(NodeExecutionService nodeExecutionService, PlanService planService, Ambiance ambiance,
+      PlanExecutionExpressionCache sharedCache) {
     this.nodeExecutionService = nodeExecutionService;
     this.planService = planService;
     this.ambiance = ambiance;
-    this.nodeMap = new HashMap<>();
-    this.map = new HashMap<>();
-    this.childrenMap = new HashMap<>();
+    this.sharedCache = sharedCache;
+    this.nodeMap = new ConcurrentHashMap<>();
+    this.map = new ConcurrentHashMap<>();
+    this.childrenMap = new ConcurrentHashMap<>();
   }
 
-  public synchronized NodeExecution fetch(String nodeExecutionId) {
+  public NodeExecution fetch(String nodeExecutionId) {
     if (nodeExecutionId == null) {
       return null;
     }
-    if (map.containsKey(nodeExecutionId)) {
-      return map.get(nodeExecutionId);
+    NodeExecution nodeExecution = map.get(nodeExecutionId);
+    if (nodeExecution != null) {
+      return nodeExecution;
+    }
+    if (sharedCache != null) {
+      nodeExecution = sharedCache.getNodeExecution(ambiance.getPlanExecutionId(), nodeExecutionId);
+    }
+    if (nodeExecution == null) {
+      nodeExecution =
+          nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.fieldsForExpressionEngine);
+    }
+    if (nodeExecution != null) {
+      map.put(nodeExecutionId, nodeExecution);
     }
-
-    NodeExecution nodeExecution =
-        nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.fieldsForExpressionEngine);
-    map.put(nodeExecutionId, nodeExecution);
     return nodeExecution;
   }
 
@@ -76,18 +91,29 @@ public class NodeExecutionsCache {
    * Adds all the children to the {@link NodeExecutionsCache#map} and populates
    * {@link NodeExecutionsCache#childrenMap} with parentId => List#childIds
    *
+   * If the parent had already reached a final status before the children were read, the children can not change any
+   * more, so they are also published to the {@link PlanExecutionExpressionCache} for the evaluators of the other steps.
    */
-  public synchronized List<NodeExecution> fetchChildren(String parentId) {
+  public List<NodeExecution> fetchChildren(String parentId) {
     String childrenMapKey = parentId == null ? NULL_PARENT_ID : parentId;
-    if (childrenMap.containsKey(childrenMapKey)) {
-      List<String> ids = childrenMap.get(childrenMapKey);
-      if (EmptyPredicate.isEmpty(ids)) {
+    List<String> cachedIds = childrenMap.get(childrenMapKey);
+    if (cachedIds == null && sharedCache != null) {
+      cachedIds = sharedCache.getChildrenIds(ambiance.getPlanExecutionId(), parentId);
+    }
+    if (cachedIds != null) {
+      if (EmptyPredicate.isEmpty(cachedIds)) {
         return Collections.emptyList();
       }
 
-      return ids.stream().map(map::get).filter(Objects::nonNull).collect(Collectors.toList());
+      List<NodeExecution> children =
+          cachedIds.stream().map(this::fetch).filter(Objects::nonNull).collect(Collectors.toList());
+      childrenMap.put(childrenMapKey, cachedIds);
+      return children;
     }
 
+    // The parent status has to be read before the children, otherwise a child added between the two reads would be
+    // missing from the shared entry for the rest of the execution
+    boolean parentCompleted = sharedCache != null && isParentCompleted(parentId);
     List<NodeExecution> childExecutions = new LinkedList<>();
     try (CloseableIterator<NodeExecution> iterator = nodeExecutionService.fetchChildrenNodeExecutionsIterator(
              ambiance.getPlanExecutionId(), parentId, NodeProjectionUtils.fieldsForExpressionEngine)) {
@@ -96,15 +122,30 @@ public class NodeExecutionsCache {
       }
     }
     if (EmptyPredicate.isEmpty(childExecutions)) {
-      childrenMap.put(parentId, Collections.emptyList());
+      childrenMap.put(childrenMapKey, Collections.emptyList());
       return Collections.emptyList();
     }
 
+    List<String> childIds = childExecutions.stream().map(NodeExecution::getUuid).collect(Collectors.toList());
     childExecutions.forEach(childExecution -> map.put(childExecution.getUuid(), childExecution));
-    childrenMap.put(parentId, childExecutions.stream().map(NodeExecution::getUuid).collect(Collectors.toList()));
+    childrenMap.put(childrenMapKey, childIds);
+    if (parentCompleted) {
+      String planExecutionId = ambiance.getPlanExecutionId();
+      childExecutions.forEach(childExecution -> sharedCache.putNodeExecution(planExecutionId, childExecution));
+      sharedCache.putChildrenIds(planExecutionId, parentId, childIds);
+    }
     return childExecutions;
   }
 
+  private boolean isParentCompleted(String parentId) {
+    if (parentId == null) {
+      return false;
+    }
+    // Always read fresh, the cached copies hold the status from when they were first fetched
+    NodeExecution parent = nodeExecutionService.getWithFieldsIncluded(parentId, NodeProjectionUtils.withStatus);
+    return parent != null && StatusUtils.isFinalStatus(parent.getStatus());
+  }
+
   // Should not change the fields to be included as its only used by NodeExecutionMap, if you change it may not use
   // index of NodeExecution collection
   public List<Status> findAllTerminalChildrenStatusOnly(String parentId, boolean includeChildrenOfStrategy) {
@@ -116,16 +157,27 @@ public class NodeExecutionsCache {
         .collect(Collectors.toList());
   }
 
-  public synchronized Node fetchNode(String nodeId) {
+  public Node fetchNode(String nodeId) {
     if (nodeId == null) {
       return null;
     }
-    if (nodeMap.containsKey(nodeId)) {
-      return nodeMap.get(nodeId);
+    Node node = nodeMap.get(nodeId);
+    if (node != null) {
+      return node;
+    }
+    if (sharedCache != null) {
+      node = sharedCache.getNode(ambiance.getPlanId(), nodeId);
+    }
+    if (node == null) {
+      node = planService.fetchNode(ambiance.getPlanId(), nodeId);
+      if (node != null && sharedCache != null) {
+        // Plan nodes never change for a plan
+        sharedCache.putNode(ambiance.getPlanId(), nodeId, node);
+      }
+    }
+    if (node != null) {
+      nodeMap.put(nodeId, node);
     }
-
-    Node node = planService.fetchNode(ambiance.getPlanId(), nodeId);
-    nodeMap.put(nodeId, node);
     return node;
   }
 }
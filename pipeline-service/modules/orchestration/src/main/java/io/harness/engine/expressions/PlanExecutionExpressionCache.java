@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.engine.expressions;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.engine.observers.NodeStatusUpdateObserver;
+import io.harness.engine.observers.NodeUpdateInfo;
+import io.harness.engine.observers.OrchestrationEndObserver;
+import io.harness.execution.NodeExecution;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.plan.Node;
+import io.harness.pms.contracts.ambiance.Ambiance;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process wide cache shared by the {@link NodeExecutionsCache} of every expression evaluator. Entries are keyed by
+ * plan execution id (plan id for plan nodes), so evaluators of different steps of the same execution reuse each other's
+ * reads.
+ *
+ * Only data that can not change any more is kept here: plan nodes, and node executions that are children of a node
+ * execution which already reached a final status. Running node executions are still read once per evaluator because
+ * their status can be updated by any pod. Entries are dropped on status updates observed by this pod and when the
+ * plan execution ends; expireAfterWrite is the safety net for updates made on other pods. The keys of every plan
+ * execution are indexed, so that its end drops them without scanning the whole cache.
+ */
+@OwnedBy(PIPELINE)
+@Singleton
+public class PlanExecutionExpressionCache implements NodeStatusUpdateObserver, OrchestrationEndObserver {
+  private static final String EXPRESSION_CACHE_HIT_COUNT = "expression_node_execution_cache_hit_count";
+  private static final String EXPRESSION_CACHE_MISS_COUNT = "expression_node_execution_cache_miss_count";
+  private static final String EXPRESSION_CACHE_EVICTION_COUNT = "expression_node_execution_cache_eviction_count";
+  private static final String NULL_PARENT_ID = "__NULL_PARENT_ID__";
+  private static final String KEY_SEPARATOR = "/";
+
+  @Inject private MetricService metricService;
+
+  private final Cache<String, NodeExecution> nodeExecutions =
+      CacheBuilder.newBuilder().maximumSize(50000).expireAfterWrite(10, TimeUnit.MINUTES).recordStats().build();
+  private final Cache<String, List<String>> childrenIds =
+      CacheBuilder.newBuilder().maximumSize(20000).expireAfterWrite(10, TimeUnit.MINUTES).recordStats().build();
+  private final Cache<String, Node> nodes =
+      CacheBuilder.newBuilder().maximumSize(20000).expireAfterAccess(30, TimeUnit.MINUTES).recordStats().build();
+  // Keys of nodeExecutions and childrenIds by plan execution id, kept as long as keys are added to them
+  private final Cache<String, Set<String>> keysByPlanExecution =
+      CacheBuilder.newBuilder().maximumSize(10000).expireAfterAccess(10, TimeUnit.MINUTES).build();
+
+  public NodeExecution getNodeExecution(String planExecutionId, String nodeExecutionId) {
+    return nodeExecutions.getIfPresent(key(planExecutionId, nodeExecutionId));
+  }
+
+  public void putNodeExecution(String planExecutionId, NodeExecution nodeExecution) {
+    nodeExecutions.put(indexedKey(planExecutionId, nodeExecution.getUuid()), nodeExecution);
+  }
+
+  public List<String> getChildrenIds(String planExecutionId, String parentId) {
+    return childrenIds.getIfPresent(key(planExecutionId, parentId == null ? NULL_PARENT_ID : parentId));
+  }
+
+  public void putChildrenIds(String planExecutionId, String parentId, List<String> ids) {
+    childrenIds.put(indexedKey(planExecutionId, parentId == null ? NULL_PARENT_ID : parentId), ids);
+  }
+
+  public Node getNode(String planId, String nodeId) {
+    return nodes.getIfPresent(key(planId, nodeId));
+  }
+
+  public void putNode(String planId, String nodeId, Node node) {
+    nodes.put(key(planId, nodeId), node);
+  }
+
+  @Override
+  public void onNodeStatusUpdate(NodeUpdateInfo nodeUpdateInfo) {
+    // A node changing status (e.g. being resumed or retried) invalidates itself and the children list of its parent
+    String planExecutionId = nodeUpdateInfo.getPlanExecutionId();
+    nodeExecutions.invalidate(key(planExecutionId, nodeUpdateInfo.getNodeExecutionId()));
+    String parentId = nodeUpdateInfo.getNodeExecution().getParentId();
+    childrenIds.invalidate(key(planExecutionId, parentId == null ? NULL_PARENT_ID : parentId));
+    childrenIds.invalidate(key(planExecutionId, nodeUpdateInfo.getNodeExecutionId()));
+  }
+
+  @Override
+  public void onEnd(Ambiance ambiance) {
+    Set<String> keys = keysByPlanExecution.asMap().remove(ambiance.getPlanExecutionId());
+    if (keys != null) {
+      nodeExecutions.invalidateAll(keys);
+      childrenIds.invalidateAll(keys);
+    }
+  }
+
+  public void recordMetrics() {
+    CacheStats stats = nodeExecutions.stats().plus(childrenIds.stats()).plus(nodes.stats());
+    metricService.recordMetric(EXPRESSION_CACHE_HIT_COUNT, stats.hitCount());
+    metricService.recordMetric(EXPRESSION_CACHE_MISS_COUNT, stats.missCount());
+    metricService.recordMetric(EXPRESSION_CACHE_EVICTION_COUNT, stats.evictionCount());
+  }
+
+  @VisibleForTesting
+  CacheStats nodeExecutionStats() {
+    return nodeExecutions.stats();
+  }
+
+  private String indexedKey(String planExecutionId, String id) {
+    String key = key(planExecutionId, id);
+    keysByPlanExecution.asMap().computeIfAbsent(planExecutionId, ignored -> ConcurrentHashMap.newKeySet()).add(key);
+    return key;
+  }
+
+  private static String key(String scopeId, String id) {
+    return scopeId + KEY_SEPARATOR + id;
+  }
+}
@@ -11,23 +11,30 @@ import static io.harness.rule.OwnerRule.ARCHIT;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.engine.OrchestrationTestHelper;
 import io.harness.engine.executions.node.NodeExecutionService;
 import io.harness.engine.executions.plan.PlanService;
 import io.harness.execution.NodeExecution;
 import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.execution.Status;
+import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.rule.Owner;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -57,4 +64,107 @@ public class NodeExecutionsCacheTest extends CategoryTest {
     List<Status> allChildren = nodeExecutionsCache.findAllTerminalChildrenStatusOnly("PARENT_ID", false);
     assertThat(allChildren.size()).isEqualTo(1);
   }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testChildrenOfCompletedParentAreSharedAcrossEvaluators() {
+    PlanExecutionExpressionCache sharedCache = new PlanExecutionExpressionCache();
+    Ambiance ambiance = Ambiance.newBuilder().setPlanExecutionId("PLAN_EXECUTION_ID").build();
+    NodeExecution parent = NodeExecution.builder().uuid("PARENT_ID").status(Status.SUCCEEDED).build();
+    NodeExecution child1 =
+        NodeExecution.builder().uuid("CHILD_1").parentId("PARENT_ID").status(Status.SUCCEEDED).build();
+    NodeExecution child2 = NodeExecution.builder().uuid("CHILD_2").parentId("PARENT_ID").status(Status.FAILED).build();
+    doReturn(parent)
+        .when(nodeExecutionService)
+        .getWithFieldsIncluded("PARENT_ID", NodeProjectionUtils.withStatus);
+    doReturn(OrchestrationTestHelper.createCloseableIterator(Arrays.asList(child1, child2).iterator()))
+        .when(nodeExecutionService)
+        .fetchChildrenNodeExecutionsIterator(
+            "PLAN_EXECUTION_ID", "PARENT_ID", NodeProjectionUtils.fieldsForExpressionEngine);
+
+    List<NodeExecution> firstRead =
+        new NodeExecutionsCache(nodeExecutionService, planService, ambiance, sharedCache).fetchChildren("PARENT_ID");
+    List<NodeExecution> secondRead =
+        new NodeExecutionsCache(nodeExecutionService, planService, ambiance, sharedCache).fetchChildren("PARENT_ID");
+
+    assertThat(firstRead).containsExactly(child1, child2);
+    assertThat(secondRead).containsExactly(child1, child2);
+    verify(nodeExecutionService, times(1))
+        .fetchChildrenNodeExecutionsIterator(
+            "PLAN_EXECUTION_ID", "PARENT_ID", NodeProjectionUtils.fieldsForExpressionEngine);
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testChildrenOfRunningParentAreNotShared() {
+    PlanExecutionExpressionCache sharedCache = new PlanExecutionExpressionCache();
+    Ambiance ambiance = Ambiance.newBuilder().setPlanExecutionId("PLAN_EXECUTION_ID").build();
+    NodeExecution parent = NodeExecution.builder().uuid("PARENT_ID").status(Status.RUNNING).build();
+    NodeExecution child = NodeExecution.builder().uuid("CHILD_1").parentId("PARENT_ID").status(Status.RUNNING).build();
+    doReturn(parent)
+        .when(nodeExecutionService)
+        .getWithFieldsIncluded("PARENT_ID", NodeProjectionUtils.withStatus);
+    doReturn(OrchestrationTestHelper.createCloseableIterator(Collections.singletonList(child).iterator()),
+        OrchestrationTestHelper.createCloseableIterator(Collections.singletonList(child).iterator()))
+        .when(nodeExecutionService)
+        .fetchChildrenNodeExecutionsIterator(
+            "PLAN_EXECUTION_ID", "PARENT_ID", NodeProjectionUtils.fieldsForExpressionEngine);
+
+    new NodeExecutionsCache(nodeExecutionService, planService, ambiance, sharedCache).fetchChildren("PARENT_ID");
+    new NodeExecutionsCache(nodeExecutionService, planService, ambiance, sharedCache).fetchChildren("PARENT_ID");
+
+    verify(nodeExecutionService, times(2))
+        .fetchChildrenNodeExecutionsIterator(
+            "PLAN_EXECUTION_ID", "PARENT_ID", NodeProjectionUtils.fieldsForExpressionEngine);
+    assertThat(sharedCache.getNodeExecution("PLAN_EXECUTION_ID", "CHILD_1")).isNull();
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testChildrenAreSharedOnlyIfParentCompletedBeforeTheRead() {
+    PlanExecutionExpressionCache sharedCache = new PlanExecutionExpressionCache();
+    Ambiance ambiance = Ambiance.newBuilder().setPlanExecutionId("PLAN_EXECUTION_ID").build();
+    NodeExecution child =
+        NodeExecution.builder().uuid("CHILD_1").parentId("PARENT_ID").status(Status.SUCCEEDED).build();
+    // Parent is still running when the children are read and finishes right after
+    doReturn(NodeExecution.builder().uuid("PARENT_ID").status(Status.RUNNING).build(),
+        NodeExecution.builder().uuid("PARENT_ID").status(Status.SUCCEEDED).build())
+        .when(nodeExecutionService)
+        .getWithFieldsIncluded("PARENT_ID", NodeProjectionUtils.withStatus);
+    doReturn(OrchestrationTestHelper.createCloseableIterator(Collections.singletonList(child).iterator()))
+        .when(nodeExecutionService)
+        .fetchChildrenNodeExecutionsIterator(
+            "PLAN_EXECUTION_ID", "PARENT_ID", NodeProjectionUtils.fieldsForExpressionEngine);
+
+    new NodeExecutionsCache(nodeExecutionService, planService, ambiance, sharedCache).fetchChildren("PARENT_ID");
+
+    InOrder inOrder = inOrder(nodeExecutionService);
+    inOrder.verify(nodeExecutionService).getWithFieldsIncluded("PARENT_ID", NodeProjectionUtils.withStatus);
+    inOrder.verify(nodeExecutionService)
+        .fetchChildrenNodeExecutionsIterator(
+            "PLAN_EXECUTION_ID", "PARENT_ID", NodeProjectionUtils.fieldsForExpressionEngine);
+    assertThat(sharedCache.getChildrenIds("PLAN_EXECUTION_ID", "PARENT_ID")).isNull();
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testPlanExecutionEndDropsOnlyItsEntries() {
+    PlanExecutionExpressionCache sharedCache = new PlanExecutionExpressionCache();
+    NodeExecution child = NodeExecution.builder().uuid("CHILD_1").parentId("PARENT_ID").build();
+    sharedCache.putNodeExecution("PLAN_EXECUTION_ID", child);
+    sharedCache.putChildrenIds("PLAN_EXECUTION_ID", "PARENT_ID", Collections.singletonList("CHILD_1"));
+    sharedCache.putNodeExecution("OTHER_PLAN_EXECUTION_ID", child);
+    sharedCache.putChildrenIds("OTHER_PLAN_EXECUTION_ID", "PARENT_ID", Collections.singletonList("CHILD_1"));
+
+    sharedCache.onEnd(Ambiance.newBuilder().setPlanExecutionId("PLAN_EXECUTION_ID").build());
+
+    assertThat(sharedCache.getNodeExecution("PLAN_EXECUTION_ID", "CHILD_1")).isNull();
+    assertThat(sharedCache.getChildrenIds("PLAN_EXECUTION_ID", "PARENT_ID")).isNull();
+    assertThat(sharedCache.getNodeExecution("OTHER_PLAN_EXECUTION_ID", "CHILD_1")).isSameAs(child);
+    assertThat(sharedCache.getChildrenIds("OTHER_PLAN_EXECUTION_ID", "PARENT_ID")).containsExactly("CHILD_1");
+  }
 }
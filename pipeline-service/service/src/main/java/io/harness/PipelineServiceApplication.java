@@ -46,6 +46,7 @@ import io.harness.engine.executions.node.NodeExecutionServiceImpl;
 import io.harness.engine.executions.plan.PlanExecutionService;
 import io.harness.engine.executions.plan.PlanExecutionServiceImpl;
 import io.harness.engine.expressions.OrchestrationConstants;
+import io.harness.engine.expressions.PlanExecutionExpressionCache;
 import io.harness.engine.interrupts.InterruptMonitor;
 import io.harness.engine.interrupts.OrchestrationEndInterruptHandler;
 import io.harness.engine.pms.execution.strategy.plan.PlanExecutionStrategy;
@@ -415,6 +416,8 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
                       iteratorsConfig.getTimeoutEngineRedisConfig().getThreadPoolIntervalInSeconds()))
                   .build(),
               Duration.ofSeconds(iteratorsConfig.getTimeoutEngineRedisConfig().getTargetIntervalInSeconds()));
+    } else if (TimeoutEngine.TIMING_WHEEL_MODE.equals(appConfig.getTimeoutIteratorMode())) {
+      injector.getInstance(TimeoutEngine.class).startTimingWheel(iteratorsConfig.getTimeoutEngineTimingWheelConfig());
     } else {
       injector.getInstance(TimeoutEngine.class)
           .createAndStartIterator(PersistenceIteratorFactory.PumpExecutorOptions.builder()
@@ -537,6 +540,8 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
         injector.getInstance(Key.get(NodeExecutionOutboxHandler.class)));
     nodeExecutionService.getNodeStatusUpdateSubject().register(
         injector.getInstance(Key.get(PodCleanupUpdateEventHandler.class)));
+    nodeExecutionService.getNodeStatusUpdateSubject().register(
+        injector.getInstance(Key.get(PlanExecutionExpressionCache.class)));
 
     // NodeExecutionDeleteObserver
     nodeExecutionService.getNodeDeleteObserverSubject().register(
@@ -586,6 +591,8 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
     // End Observers
     planExecutionStrategy.getOrchestrationEndSubject().register(
         injector.getInstance(Key.get(OrchestrationEndGraphHandler.class)));
+    planExecutionStrategy.getOrchestrationEndSubject().register(
+        injector.getInstance(Key.get(PlanExecutionExpressionCache.class)));
     planExecutionStrategy.getOrchestrationEndSubject().register(
         injector.getInstance(Key.get(OrchestrationEndInterruptHandler.class)));
     planExecutionStrategy.getOrchestrationEndSubject().register(
@@ -892,6 +899,7 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
     environment.lifecycle().manage(injector.getInstance(OutboxEventPollService.class));
     environment.lifecycle().manage(injector.getInstance(PipelineEventConsumerController.class));
     environment.lifecycle().manage(injector.getInstance(WebhookEventQueueProcessor.class));
+    environment.lifecycle().manage(injector.getInstance(TimeoutEngine.class));
     // Do not remove as it's used for MaintenanceController for shutdown mode
     environment.lifecycle().manage(injector.getInstance(MaintenanceController.class));
   }
@@ -11,6 +11,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.iterator.IteratorExecutionHandler.DynamicIteratorConfig;
 import io.harness.mongo.iterator.IteratorConfig;
+import io.harness.timeout.TimingWheelConfig;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
@@ -24,6 +25,7 @@ public class PipelineServiceIteratorsConfig {
   @JsonProperty("scheduledTrigger") IteratorConfig scheduleTriggerConfig;
   @JsonProperty("timeoutEngine") IteratorConfig timeoutEngineConfig;
   @JsonProperty("timeoutEngineRedisMode") DynamicIteratorConfig timeoutEngineRedisConfig;
+  @JsonProperty("timeoutEngineTimingWheel") TimingWheelConfig timeoutEngineTimingWheelConfig;
   @JsonProperty("barrier") IteratorConfig barrierConfig;
   @JsonProperty("approvalInstance") IteratorConfig approvalInstanceConfig;
   @JsonProperty("resourceRestraint") IteratorConfig resourceRestraintConfig;
@@ -11,6 +11,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.engine.executions.node.NodeExecutionMonitorService;
 import io.harness.engine.executions.plan.PlanExecutionMonitorService;
+import io.harness.engine.expressions.PlanExecutionExpressionCache;
 import io.harness.metrics.service.api.MetricsPublisher;
 
 import com.google.inject.Inject;
@@ -19,9 +20,11 @@ import com.google.inject.Inject;
 public class PipelineMetricsPublisher implements MetricsPublisher {
   @Inject PlanExecutionMonitorService planExecutionMonitorService;
   @Inject NodeExecutionMonitorService nodeExecutionMonitorService;
+  @Inject PlanExecutionExpressionCache planExecutionExpressionCache;
   @Override
   public void recordMetrics() {
     planExecutionMonitorService.registerActiveExecutionMetrics();
     nodeExecutionMonitorService.registerActiveExecutionMetrics();
+    planExecutionExpressionCache.recordMetrics();
   }
 }
@@ -47,6 +47,7 @@ import io.harness.pms.pipeline.references.FilterCreationParams;
 import io.harness.pms.pipeline.service.PMSPipelineTemplateHelper;
 import io.harness.pms.plan.creation.PlanCreatorServiceInfo;
 import io.harness.pms.sdk.PmsSdkHelper;
+import io.harness.pms.sdk.PmsSdkYamlBlobHelper;
 import io.harness.pms.sdk.core.plan.creation.creators.PlanCreatorServiceHelper;
 import io.harness.pms.utils.CompletableFutures;
 import io.harness.pms.yaml.YamlField;
@@ -82,6 +83,7 @@ public class FilterCreatorMergeService {
   private final GitSyncSdkService gitSyncSdkService;
   private final PrincipalInfoHelper principalInfoHelper;
   private final TriggeredByHelper triggeredByHelper;
+  private final PmsSdkYamlBlobHelper pmsSdkYamlBlobHelper;
 
   public static final int MAX_DEPTH = 10;
   private final Executor executor = Executors.newFixedThreadPool(5);
@@ -90,7 +92,7 @@ public class FilterCreatorMergeService {
   public FilterCreatorMergeService(PmsSdkHelper pmsSdkHelper, PipelineSetupUsageHelper pipelineSetupUsageHelper,
       PmsGitSyncHelper pmsGitSyncHelper, PMSPipelineTemplateHelper pmsPipelineTemplateHelper,
       GitSyncSdkService gitSyncSdkService, PrincipalInfoHelper principalInfoHelper,
-      TriggeredByHelper triggeredByHelper) {
+      TriggeredByHelper triggeredByHelper, PmsSdkYamlBlobHelper pmsSdkYamlBlobHelper) {
     this.pmsSdkHelper = pmsSdkHelper;
     this.pipelineSetupUsageHelper = pipelineSetupUsageHelper;
     this.pmsGitSyncHelper = pmsGitSyncHelper;
@@ -98,6 +100,7 @@ public class FilterCreatorMergeService {
     this.gitSyncSdkService = gitSyncSdkService;
     this.principalInfoHelper = principalInfoHelper;
     this.triggeredByHelper = triggeredByHelper;
+    this.pmsSdkYamlBlobHelper = pmsSdkYamlBlobHelper;
   }
 
   public FilterCreatorMergeServiceResponse getPipelineInfo(FilterCreationParams filterCreationParams)
@@ -234,11 +237,12 @@ public class FilterCreatorMergeService {
         FilterCreationResponseWrapperBuilder builder =
             FilterCreationResponseWrapper.builder().serviceName(serviceEntry.getKey());
         try {
-          FilterCreationResponse filterCreationResponse =
-              serviceEntry.getValue().getPlanCreationClient().createFilter(FilterCreationBlobRequest.newBuilder()
-                                                                               .setDeps(responseBuilder.getDeps())
-                                                                               .setSetupMetadata(setupMetadata)
-                                                                               .build());
+          FilterCreationResponse filterCreationResponse = pmsSdkYamlBlobHelper.call(setupMetadata.getAccountId(),
+              serviceEntry.getKey(), responseBuilder.getDeps(),
+              dependencies
+              -> serviceEntry.getValue().getPlanCreationClient().createFilter(
+                  FilterCreationBlobRequest.newBuilder().setDeps(dependencies).setSetupMetadata(setupMetadata).build()),
+              response -> response.getResponseCase() == FilterCreationResponse.ResponseCase.MISSINGYAMLHASH);
           if (filterCreationResponse.getResponseCase() == FilterCreationResponse.ResponseCase.ERRORRESPONSE) {
             builder.errorResponse(filterCreationResponse.getErrorResponse());
           } else if (filterCreationResponse.getResponseCase() == FilterCreationResponse.ResponseCase.ERRORRESPONSEV2) {
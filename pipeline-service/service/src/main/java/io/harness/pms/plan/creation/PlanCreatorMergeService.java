@@ -12,6 +12,7 @@ import static io.harness.pms.async.plan.PlanNotifyEventConsumer.PMS_PLAN_CREATIO
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.engine.pms.commons.events.PmsEventSender;
 import io.harness.exception.InvalidRequestException;
@@ -35,6 +36,7 @@ import io.harness.pms.events.base.PmsEventCategory;
 import io.harness.pms.exception.PmsExceptionUtils;
 import io.harness.pms.plan.creation.validator.PlanCreationValidator;
 import io.harness.pms.sdk.PmsSdkHelper;
+import io.harness.pms.sdk.PmsSdkYamlBlobHelper;
 import io.harness.pms.utils.CompletableFutures;
 import io.harness.pms.utils.PmsGrpcClientUtils;
 import io.harness.pms.yaml.PipelineVersion;
@@ -51,14 +53,22 @@ import com.google.inject.name.Named;
 import io.grpc.StatusRuntimeException;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -66,6 +76,7 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.PIPELINE)
 public class PlanCreatorMergeService {
   private static final int MAX_DEPTH = 10;
+  private static final int MAX_IN_FLIGHT_REQUESTS_PER_SERVICE = 8;
 
   private final Executor executor;
 
@@ -76,13 +87,15 @@ public class PlanCreatorMergeService {
   private final Integer planCreatorMergeServiceDependencyBatch;
   private final PmsFeatureFlagService pmsFeatureFlagService;
   private final KryoSerializer kryoSerializer;
+  private final PmsSdkYamlBlobHelper pmsSdkYamlBlobHelper;
 
   @Inject
   public PlanCreatorMergeService(PmsSdkHelper pmsSdkHelper, PmsEventSender pmsEventSender,
       WaitNotifyEngine waitNotifyEngine, PlanCreationValidator planCreationValidator,
       @Named("PlanCreatorMergeExecutorService") Executor executor,
       @Named("planCreatorMergeServiceDependencyBatch") Integer planCreatorMergeServiceDependencyBatch,
-      PmsFeatureFlagService pmsFeatureFlagService, KryoSerializer kryoSerializer) {
+      PmsFeatureFlagService pmsFeatureFlagService, KryoSerializer kryoSerializer,
+      PmsSdkYamlBlobHelper pmsSdkYamlBlobHelper) {
     this.pmsSdkHelper = pmsSdkHelper;
     this.pmsEventSender = pmsEventSender;
     this.waitNotifyEngine = waitNotifyEngine;
@@ -91,6 +104,7 @@ public class PlanCreatorMergeService {
     this.planCreatorMergeServiceDependencyBatch = planCreatorMergeServiceDependencyBatch;
     this.pmsFeatureFlagService = pmsFeatureFlagService;
     this.kryoSerializer = kryoSerializer;
+    this.pmsSdkYamlBlobHelper = pmsSdkYamlBlobHelper;
   }
 
   public String getPublisher() {
@@ -208,6 +222,17 @@ public class PlanCreatorMergeService {
     finalResponseBuilder.putAllContext(
         createInitialPlanCreationContext(accountId, orgIdentifier, projectIdentifier, metadata, planExecutionMetadata));
 
+    if (pmsFeatureFlagService.isEnabled(accountId, FeatureName.PIE_STREAMING_PLAN_CREATION)) {
+      try {
+        new StreamingPlanCreation(services, finalResponseBuilder, metadata.getHarnessVersion()).run();
+      } catch (IOException e) {
+        throw new UnexpectedException(e.getMessage(), e);
+      }
+      return finalResponseBuilder.build();
+    }
+
+    long start = System.currentTimeMillis();
+    int levels = 0;
     try {
       for (int i = 0; i < MAX_DEPTH && EmptyPredicate.isNotEmpty(finalResponseBuilder.getDeps().getDependenciesMap());
            i++) {
@@ -215,6 +240,7 @@ public class PlanCreatorMergeService {
         YamlField fullYamlField = YamlUtils.readTree(finalResponseBuilder.getDeps().getYaml());
         PlanCreationBlobResponse currIterationResponse =
             createPlanForDependencies(services, finalResponseBuilder, fullYamlField, version);
+        levels++;
         PlanCreationBlobResponseUtils.addNodes(finalResponseBuilder, currIterationResponse.getNodesMap());
         PlanCreationBlobResponseUtils.mergeStartingNodeId(
             finalResponseBuilder, currIterationResponse.getStartingNodeId());
@@ -230,6 +256,9 @@ public class PlanCreatorMergeService {
       }
     } catch (IOException e) {
       throw new UnexpectedException(e.getMessage(), e);
+    } finally {
+      log.info("[PMS_PlanCreatorMergeService_Time] Plan creation took {}ms over {} levels",
+          System.currentTimeMillis() - start, levels);
     }
 
     return finalResponseBuilder.build();
@@ -325,72 +354,303 @@ public class PlanCreatorMergeService {
       Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap,
       String harnessVersion) {
     for (Map.Entry<String, String> dependencyEntry : responseBuilder.getDeps().getDependenciesMap().entrySet()) {
-      // Always first check  -
-      // 1. Affinity service
-      // 2. pipeline-service dependencies
-      Map.Entry<String, PlanCreatorServiceInfo> pmsPlanCreatorService =
-          services.entrySet()
-              .stream()
-              .filter(PmsSdkHelper::isPipelineService)
-              .findFirst()
-              .orElseThrow(
-                  () -> new InvalidRequestException("Pipeline Service service provider information is missing."));
-
-      String affinityService =
-          PmsSdkHelper.getServiceAffinityForGivenDependency(responseBuilder.getServiceAffinityMap(), dependencyEntry);
-      Map.Entry<String, PlanCreatorServiceInfo> affinityServicePlanCreatorService =
-          services.entrySet()
-              .stream()
-              .filter(s -> PmsSdkHelper.getServiceForGivenAffinity(s, affinityService))
-              .findFirst()
-              .orElse(null);
+      for (Map.Entry<String, PlanCreatorServiceInfo> serviceInfo : getServicesForDependency(
+               services, responseBuilder.getServiceAffinityMap(), dependencyEntry, fullYamlField, harnessVersion)) {
+        serviceToDependencyMap.get(serviceInfo).add(dependencyEntry);
+      }
+    }
+  }
 
+  // Services which should create the plan for the given dependency, empty if no service supports it.
+  private List<Map.Entry<String, PlanCreatorServiceInfo>> getServicesForDependency(
+      Map<String, PlanCreatorServiceInfo> services, Map<String, String> serviceAffinityMap,
+      Map.Entry<String, String> dependencyEntry, YamlField fullYamlField, String harnessVersion) {
+    // Always first check  -
+    // 1. Affinity service
+    // 2. pipeline-service dependencies
+    Map.Entry<String, PlanCreatorServiceInfo> pmsPlanCreatorService =
+        services.entrySet()
+            .stream()
+            .filter(PmsSdkHelper::isPipelineService)
+            .findFirst()
+            .orElseThrow(
+                () -> new InvalidRequestException("Pipeline Service service provider information is missing."));
+
+    String affinityService = PmsSdkHelper.getServiceAffinityForGivenDependency(serviceAffinityMap, dependencyEntry);
+    Map.Entry<String, PlanCreatorServiceInfo> affinityServicePlanCreatorService =
+        services.entrySet()
+            .stream()
+            .filter(s -> PmsSdkHelper.getServiceForGivenAffinity(s, affinityService))
+            .findFirst()
+            .orElse(null);
+
+    if (PmsSdkHelper.checkIfGivenServiceSupportsPath(
+            affinityServicePlanCreatorService, dependencyEntry, fullYamlField, harnessVersion)) {
+      return Collections.singletonList(affinityServicePlanCreatorService);
+    } else if (PmsSdkHelper.checkIfGivenServiceSupportsPath(
+                   pmsPlanCreatorService, dependencyEntry, fullYamlField, harnessVersion)) {
+      return Collections.singletonList(pmsPlanCreatorService);
+    }
+    List<Map.Entry<String, PlanCreatorServiceInfo>> supportingServices = new ArrayList<>();
+    for (Map.Entry<String, PlanCreatorServiceInfo> serviceInfoEntry : services.entrySet()) {
+      if (PmsSdkHelper.isPipelineService(serviceInfoEntry)) {
+        continue;
+      }
       if (PmsSdkHelper.checkIfGivenServiceSupportsPath(
-              affinityServicePlanCreatorService, dependencyEntry, fullYamlField, harnessVersion)) {
-        serviceToDependencyMap.get(affinityServicePlanCreatorService).add(dependencyEntry);
-      } else if (PmsSdkHelper.checkIfGivenServiceSupportsPath(
-                     pmsPlanCreatorService, dependencyEntry, fullYamlField, harnessVersion)) {
-        serviceToDependencyMap.get(pmsPlanCreatorService).add(dependencyEntry);
-      } else {
-        for (Map.Entry<String, PlanCreatorServiceInfo> serviceInfoEntry : services.entrySet()) {
-          if (PmsSdkHelper.isPipelineService(serviceInfoEntry)) {
-            continue;
-          }
-          if (PmsSdkHelper.checkIfGivenServiceSupportsPath(
-                  serviceInfoEntry, dependencyEntry, fullYamlField, harnessVersion)) {
-            serviceToDependencyMap.get(serviceInfoEntry).add(dependencyEntry);
-          }
-        }
+              serviceInfoEntry, dependencyEntry, fullYamlField, harnessVersion)) {
+        supportingServices.add(serviceInfoEntry);
       }
     }
+    return supportingServices;
   }
 
   // Sending batch dependency requests for a single service in a async fashion.
   private void executeDependenciesAsync(CompletableFutures<PlanCreationResponse> completableFutures,
       Map.Entry<String, PlanCreatorServiceInfo> serviceInfo, Dependencies batchDependency,
       Map<String, String> batchServiceAffinityMap, Map<String, PlanCreationContextValue> contextMap) {
-    PlanCreationContextValue metadata = contextMap.get("metadata");
-    completableFutures.supplyAsync(() -> {
+    completableFutures.supplyAsync(()
+                                       -> createPlan(serviceInfo.getKey(), serviceInfo.getValue(),
+                                           PlanCreationBlobRequest.newBuilder()
+                                               .setDeps(batchDependency)
+                                               .putAllContext(contextMap)
+                                               .putAllServiceAffinity(batchServiceAffinityMap)
+                                               .build()));
+  }
+
+  private PlanCreationResponse createPlan(
+      String serviceName, PlanCreatorServiceInfo serviceInfo, PlanCreationBlobRequest request) {
+    PlanCreationContextValue metadata = request.getContextMap().get("metadata");
+    try (AutoLogContext ignore = PlanCreatorUtils.autoLogContext(metadata.getMetadata(),
+             metadata.getAccountIdentifier(), metadata.getOrgIdentifier(), metadata.getProjectIdentifier())) {
+      try {
+        return pmsSdkYamlBlobHelper.call(metadata.getAccountIdentifier(), serviceName, request.getDeps(),
+            dependencies -> createPlan(serviceInfo, request.toBuilder().setDeps(dependencies).build()),
+            response -> response.getResponseCase() == PlanCreationResponse.ResponseCase.MISSINGYAMLHASH);
+      } catch (StatusRuntimeException ex) {
+        log.error(String.format("Error connecting with service: [%s]. Is this service Running?", serviceName), ex);
+        return PlanCreationResponse.newBuilder()
+            .setErrorResponse(ErrorResponse.newBuilder()
+                                  .addMessages(String.format("Error connecting with service: [%s]", serviceName))
+                                  .build())
+            .build();
+      }
+    }
+  }
+
+  @VisibleForTesting
+  PlanCreationResponse createPlan(PlanCreatorServiceInfo serviceInfo, PlanCreationBlobRequest request) {
+    return PmsGrpcClientUtils.retryAndProcessException(serviceInfo.getPlanCreationClient()::createPlan, request);
+  }
+
+  /**
+   * Plan creation which sends dependencies to the sdk services as soon as the response which discovered them arrives,
+   * instead of waiting for all dependencies of the same depth. A slow plan creator then only holds back its own
+   * branch. Responses are merged one at a time on the calling thread, the same way a whole level is merged in
+   * createPlanForDependenciesRecursive, and at most MAX_IN_FLIGHT_REQUESTS_PER_SERVICE requests are outstanding per
+   * service.
+   */
+  private class StreamingPlanCreation {
+    private final Map<String, PlanCreatorServiceInfo> services;
+    private final PlanCreationBlobResponse.Builder finalResponseBuilder;
+    private final String harnessVersion;
+
+    private final BlockingQueue<BatchResult> completedBatches = new LinkedBlockingQueue<>();
+    private final Map<String, Deque<PendingDependency>> pendingByService = new HashMap<>();
+    private final Map<String, Integer> inFlightByService = new HashMap<>();
+    // Requests not answered yet per dependency id, a dependency may be sent to more than one service
+    private final Map<String, Integer> outstandingRequests = new HashMap<>();
+    private final Map<String, String> unsupportedDependencies = new HashMap<>();
+    private YamlField fullYamlField;
+    private int inFlight;
+    private int requests;
+    private long criticalPathMs;
+    private int criticalPathLength;
+
+    StreamingPlanCreation(Map<String, PlanCreatorServiceInfo> services,
+        PlanCreationBlobResponse.Builder finalResponseBuilder, String harnessVersion) {
+      this.services = services;
+      this.finalResponseBuilder = finalResponseBuilder;
+      this.harnessVersion = harnessVersion;
+    }
+
+    void run() throws IOException {
+      PlanCreationContextValue metadata = finalResponseBuilder.getContextMap().get("metadata");
       try (AutoLogContext ignore = PlanCreatorUtils.autoLogContext(metadata.getMetadata(),
                metadata.getAccountIdentifier(), metadata.getOrgIdentifier(), metadata.getProjectIdentifier())) {
+        long start = System.currentTimeMillis();
         try {
-          return PmsGrpcClientUtils.retryAndProcessException(serviceInfo.getValue().getPlanCreationClient()::createPlan,
-              PlanCreationBlobRequest.newBuilder()
-                  .setDeps(batchDependency)
-                  .putAllContext(contextMap)
-                  .putAllServiceAffinity(batchServiceAffinityMap)
-                  .build());
-        } catch (StatusRuntimeException ex) {
-          log.error(
-              String.format("Error connecting with service: [%s]. Is this service Running?", serviceInfo.getKey()), ex);
-          return PlanCreationResponse.newBuilder()
-              .setErrorResponse(
-                  ErrorResponse.newBuilder()
-                      .addMessages(String.format("Error connecting with service: [%s]", serviceInfo.getKey()))
-                      .build())
+          fullYamlField = YamlUtils.readTree(finalResponseBuilder.getDeps().getYaml());
+          route(finalResponseBuilder.getDeps().getDependenciesMap(), 0, 0);
+          dispatch();
+          while (inFlight > 0) {
+            BatchResult result = completedBatches.poll(5, TimeUnit.MINUTES);
+            if (result == null) {
+              throw new UnexpectedException("Timed out fetching plan creation response from service");
+            }
+            inFlight--;
+            inFlightByService.merge(result.getServiceName(), -1, Integer::sum);
+            merge(result);
+            dispatch();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new UnexpectedException("Interrupted while fetching plan creation response from service", e);
+        } finally {
+          log.info("[PMS_PlanCreatorMergeService_Time] Streaming plan creation took {}ms for {} sdk requests, "
+                  + "critical path took {}ms over {} requests",
+              System.currentTimeMillis() - start, requests, criticalPathMs, criticalPathLength);
+        }
+
+        Map<String, String> unresolved = new HashMap<>();
+        unsupportedDependencies.forEach((dependencyId, path) -> {
+          if (finalResponseBuilder.getDeps().containsDependencies(dependencyId)) {
+            unresolved.put(dependencyId, path);
+          }
+        });
+        checkResolved(unresolved);
+      }
+    }
+
+    private void route(Map<String, String> dependencies, int depth, long parentPathMs) {
+      for (Map.Entry<String, String> dependency : dependencies.entrySet()) {
+        List<Map.Entry<String, PlanCreatorServiceInfo>> targets = getServicesForDependency(
+            services, finalResponseBuilder.getServiceAffinityMap(), dependency, fullYamlField, harnessVersion);
+        if (targets.isEmpty()) {
+          // another response may still create the node, it is only an error if nothing does
+          unsupportedDependencies.put(dependency.getKey(), dependency.getValue());
+          continue;
+        }
+        outstandingRequests.put(dependency.getKey(), targets.size());
+        for (Map.Entry<String, PlanCreatorServiceInfo> target : targets) {
+          pendingByService.computeIfAbsent(target.getKey(), key -> new ArrayDeque<>())
+              .add(new PendingDependency(dependency.getKey(), dependency.getValue(), depth, parentPathMs));
+        }
+      }
+    }
+
+    private void dispatch() {
+      for (Map.Entry<String, Deque<PendingDependency>> entry : pendingByService.entrySet()) {
+        String serviceName = entry.getKey();
+        Deque<PendingDependency> pending = entry.getValue();
+        while (!pending.isEmpty()
+            && inFlightByService.getOrDefault(serviceName, 0) < MAX_IN_FLIGHT_REQUESTS_PER_SERVICE) {
+          Map<String, String> dependencyBatch = new HashMap<>();
+          int depth = 0;
+          long parentPathMs = 0;
+          while (!pending.isEmpty() && dependencyBatch.size() < planCreatorMergeServiceDependencyBatch) {
+            PendingDependency dependency = pending.poll();
+            dependencyBatch.put(dependency.getId(), dependency.getPath());
+            depth = Math.max(depth, dependency.getDepth());
+            parentPathMs = Math.max(parentPathMs, dependency.getParentPathMs());
+          }
+          send(serviceName, dependencyBatch, depth, parentPathMs);
+        }
+      }
+    }
+
+    private void send(String serviceName, Map<String, String> dependencyBatch, int depth, long parentPathMs) {
+      // Built here, the final response keeps changing while the request is in flight
+      PlanCreationBlobRequest request =
+          PlanCreationBlobRequest.newBuilder()
+              .setDeps(PmsSdkHelper.createBatchDependency(finalResponseBuilder.getDeps(), dependencyBatch))
+              .putAllContext(finalResponseBuilder.getContextMap())
+              .putAllServiceAffinity(PmsSdkHelper.createBatchServiceAffinityMap(
+                  dependencyBatch.keySet(), finalResponseBuilder.getServiceAffinityMap()))
               .build();
+      PlanCreatorServiceInfo serviceInfo = services.get(serviceName);
+      inFlight++;
+      requests++;
+      inFlightByService.merge(serviceName, 1, Integer::sum);
+      long sentAt = System.currentTimeMillis();
+      CompletableFuture.supplyAsync(() -> createPlan(serviceName, serviceInfo, request), executor)
+          .whenComplete((response, failure)
+                            -> completedBatches.add(new BatchResult(serviceName, dependencyBatch.keySet(), depth,
+                                parentPathMs + System.currentTimeMillis() - sentAt, response, failure)));
+    }
+
+    private void merge(BatchResult result) throws IOException {
+      if (result.getFailure() != null) {
+        throw new UnexpectedException("Error fetching plan creation response from service", result.getFailure());
+      }
+      PlanCreationResponse response = result.getResponse();
+      if (response.getResponseCase() == PlanCreationResponse.ResponseCase.ERRORRESPONSE) {
+        PmsExceptionUtils.checkAndThrowPlanCreatorException(Collections.singletonList(response.getErrorResponse()));
+      }
+      PlanCreationBlobResponse blobResponse = response.getBlobResponse();
+      PlanCreationBlobResponseUtils.addNodes(finalResponseBuilder, blobResponse.getNodesMap());
+      PlanCreationBlobResponseUtils.mergeStartingNodeId(finalResponseBuilder, blobResponse.getStartingNodeId());
+      PlanCreationBlobResponseUtils.mergeLayoutNodeInfo(finalResponseBuilder, blobResponse);
+      PlanCreationBlobResponseUtils.mergePreservedNodesInRollbackMode(finalResponseBuilder, blobResponse);
+      PlanCreationBlobResponseUtils.mergeServiceAffinityMap(finalResponseBuilder, blobResponse);
+
+      Map<String, String> unresolved = new HashMap<>();
+      for (String dependencyId : result.getDependencyIds()) {
+        if (outstandingRequests.merge(dependencyId, -1, Integer::sum) <= 0
+            && finalResponseBuilder.getDeps().containsDependencies(dependencyId)) {
+          unresolved.put(dependencyId, finalResponseBuilder.getDeps().getDependenciesOrThrow(dependencyId));
         }
       }
-    });
+      checkResolved(unresolved);
+
+      PlanCreationBlobResponseUtils.mergeContext(finalResponseBuilder, blobResponse.getContextMap());
+      Map<String, String> yamlUpdates = blobResponse.getYamlUpdates().getFqnToYamlMap();
+      if (EmptyPredicate.isEmpty(blobResponse.getDeps().getDependenciesMap())) {
+        // addDependenciesV2 only applies the yaml updates of responses bringing new dependencies
+        if (EmptyPredicate.isNotEmpty(yamlUpdates)) {
+          finalResponseBuilder.setDeps(finalResponseBuilder.getDeps()
+                                           .toBuilder()
+                                           .setYaml(PlanCreationBlobResponseUtils.mergeYamlUpdates(
+                                               finalResponseBuilder.getDeps().getYaml(), yamlUpdates))
+                                           .build());
+        }
+      } else {
+        PlanCreationBlobResponseUtils.addDependenciesV2(finalResponseBuilder, blobResponse);
+      }
+      if (EmptyPredicate.isNotEmpty(yamlUpdates)) {
+        fullYamlField = YamlUtils.readTree(finalResponseBuilder.getDeps().getYaml());
+      }
+
+      if (result.getPathMs() > criticalPathMs) {
+        criticalPathMs = result.getPathMs();
+        criticalPathLength = result.getDepth() + 1;
+      }
+      if (result.getDepth() + 1 >= MAX_DEPTH) {
+        return;
+      }
+      Map<String, String> discovered = new HashMap<>();
+      blobResponse.getDeps().getDependenciesMap().forEach((dependencyId, path) -> {
+        if (finalResponseBuilder.getDeps().containsDependencies(dependencyId)
+            && !outstandingRequests.containsKey(dependencyId)) {
+          discovered.put(dependencyId, path);
+        }
+      });
+      route(discovered, result.getDepth() + 1, result.getPathMs());
+    }
+
+    private void checkResolved(Map<String, String> unresolved) {
+      if (EmptyPredicate.isNotEmpty(unresolved)) {
+        throw new InvalidRequestException(PmsExceptionUtils.getUnresolvedDependencyPathsErrorMessage(
+            Dependencies.newBuilder().putAllDependencies(unresolved).build()));
+      }
+    }
+  }
+
+  @Value
+  private static class PendingDependency {
+    String id;
+    String path;
+    int depth;
+    // Time spent on the chain of sdk requests which discovered this dependency
+    long parentPathMs;
+  }
+
+  @Value
+  private static class BatchResult {
+    String serviceName;
+    Set<String> dependencyIds;
+    int depth;
+    long pathMs;
+    PlanCreationResponse response;
+    Throwable failure;
   }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
+import io.harness.data.structure.EmptyPredicate;
+import io.harness.pms.contracts.plan.Dependencies;
+import io.harness.pms.plan.creation.YamlBlobUtils;
+import io.harness.utils.PmsFeatureFlagService;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends the yaml of plan and filter creation requests only once to every sdk service, and just its hash after that.
+ * The sdk keeps the yaml by hash in its YamlBlobCache. If a request referring to a hash lands on an instance which
+ * does not have the yaml, it answers with the missing hash and the request is sent again with the yaml.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+@Slf4j
+public class PmsSdkYamlBlobHelper {
+  private final PmsFeatureFlagService pmsFeatureFlagService;
+
+  // Services which got a yaml recently, keyed by service name and yaml hash. Expires before the sdk cache does.
+  private final Cache<String, Boolean> sentYamls =
+      CacheBuilder.newBuilder().maximumSize(10000).expireAfterWrite(5, TimeUnit.MINUTES).build();
+  // Hash of the yaml instances in use, the same yaml is sent with every batch of dependencies of a pipeline
+  private final Cache<String, String> yamlHashes = CacheBuilder.newBuilder().weakKeys().maximumSize(100).build();
+
+  @Inject
+  public PmsSdkYamlBlobHelper(PmsFeatureFlagService pmsFeatureFlagService) {
+    this.pmsFeatureFlagService = pmsFeatureFlagService;
+  }
+
+  /**
+   * Calls the service with the given dependencies, leaving out the yaml if the service got it already.
+   *
+   * @param call sends the request with the given dependencies
+   * @param isYamlMissing tells if the service answered that it does not have the yaml
+   */
+  public <T> T call(String accountId, String serviceName, Dependencies dependencies, Function<Dependencies, T> call,
+      Predicate<T> isYamlMissing) {
+    if (EmptyPredicate.isEmpty(dependencies.getYaml())
+        || !pmsFeatureFlagService.isEnabled(accountId, FeatureName.PIE_PLAN_CREATION_YAML_BLOB_CACHE)) {
+      return call.apply(dependencies);
+    }
+    String yamlHash = getYamlHash(dependencies.getYaml());
+    String key = serviceName + "/" + yamlHash;
+    if (sentYamls.getIfPresent(key) != null) {
+      T response = call.apply(YamlBlobUtils.withoutYaml(dependencies, yamlHash));
+      if (!isYamlMissing.test(response)) {
+        return response;
+      }
+      log.info("Service {} does not have the yaml with hash {}, sending it again", serviceName, yamlHash);
+      sentYamls.invalidate(key);
+    }
+    T response = call.apply(YamlBlobUtils.withYamlHash(dependencies, yamlHash));
+    sentYamls.put(key, Boolean.TRUE);
+    return response;
+  }
+
+  @VisibleForTesting
+  String getYamlHash(String yaml) {
+    // weak keys are compared by identity, an equal yaml in another string is hashed again
+    String yamlHash = yamlHashes.getIfPresent(yaml);
+    if (yamlHash == null) {
+      yamlHash = YamlBlobUtils.hash(yaml);
+      yamlHashes.put(yaml, yamlHash);
+    }
+    return yamlHash;
+  }
+}
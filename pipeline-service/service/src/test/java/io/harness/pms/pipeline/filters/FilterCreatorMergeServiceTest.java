@@ -53,6 +53,7 @@ import io.harness.pms.pipeline.references.FilterCreationParams;
 import io.harness.pms.pipeline.service.PMSPipelineTemplateHelper;
 import io.harness.pms.plan.creation.PlanCreatorServiceInfo;
 import io.harness.pms.sdk.PmsSdkHelper;
+import io.harness.pms.sdk.PmsSdkYamlBlobHelper;
 import io.harness.pms.yaml.DependenciesUtils;
 import io.harness.pms.yaml.YamlField;
 import io.harness.pms.yaml.YamlUtils;
@@ -138,13 +139,15 @@ public class FilterCreatorMergeServiceTest extends PipelineServiceTestBase {
   @Mock PMSPipelineTemplateHelper pmsPipelineTemplateHelper;
   @Mock PrincipalInfoHelper principalInfoHelper;
   @Mock TriggeredByHelper triggeredByHelper;
+  @Mock PmsSdkYamlBlobHelper pmsSdkYamlBlobHelper;
   @Mock GitSyncSdkService gitSyncSdkService;
   FilterCreatorMergeService filterCreatorMergeService;
 
   @Before
   public void init() {
     filterCreatorMergeService = spy(new FilterCreatorMergeService(pmsSdkHelper, pipelineSetupUsageHelper,
-        pmsGitSyncHelper, pmsPipelineTemplateHelper, gitSyncSdkService, principalInfoHelper, triggeredByHelper));
+        pmsGitSyncHelper, pmsPipelineTemplateHelper, gitSyncSdkService, principalInfoHelper, triggeredByHelper,
+        pmsSdkYamlBlobHelper));
     when(
         pmsPipelineTemplateHelper.getTemplateReferencesForGivenYaml(anyString(), anyString(), anyString(), anyString()))
         .thenReturn(new ArrayList<>());
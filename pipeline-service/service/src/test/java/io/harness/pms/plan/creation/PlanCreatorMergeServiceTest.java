@@ -16,8 +16,11 @@ import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -28,15 +31,20 @@ import io.harness.category.element.UnitTests;
 import io.harness.engine.pms.commons.events.PmsEventSender;
 import io.harness.exception.InvalidRequestException;
 import io.harness.execution.PlanExecutionMetadata;
+import io.harness.pms.contracts.plan.Dependencies;
 import io.harness.pms.contracts.plan.Dependency;
 import io.harness.pms.contracts.plan.ExecutionMetadata;
+import io.harness.pms.contracts.plan.PlanCreationBlobRequest;
 import io.harness.pms.contracts.plan.PlanCreationBlobResponse;
 import io.harness.pms.contracts.plan.PlanCreationContextValue;
+import io.harness.pms.contracts.plan.PlanCreationResponse;
+import io.harness.pms.contracts.plan.PlanNodeProto;
 import io.harness.pms.contracts.triggers.ParsedPayload;
 import io.harness.pms.contracts.triggers.SourceType;
 import io.harness.pms.contracts.triggers.TriggerPayload;
 import io.harness.pms.plan.creation.validator.PlanCreationValidator;
 import io.harness.pms.sdk.PmsSdkHelper;
+import io.harness.pms.sdk.PmsSdkYamlBlobHelper;
 import io.harness.pms.yaml.PipelineVersion;
 import io.harness.pms.yaml.YAMLFieldNameConstants;
 import io.harness.rule.Owner;
@@ -62,7 +70,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -128,7 +139,7 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
   @Category(UnitTests.class)
   public void testCreateInitialPlanCreationContext() {
     PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(
-        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, null);
+        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, null, null);
     Map<String, PlanCreationContextValue> initialPlanCreationContext =
         planCreatorMergeService.createInitialPlanCreationContext(accountId, orgId, projId, executionMetadata, null);
     assertThat(initialPlanCreationContext).hasSize(1);
@@ -168,7 +179,7 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
         executionMetadata.toBuilder().setHarnessVersion(PipelineVersion.V1).build();
     PlanExecutionMetadata planExecutionMetadata = PlanExecutionMetadata.builder().processedYaml(pipelineYamlV1).build();
     PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(
-        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, kryoSerializer);
+        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, kryoSerializer, null);
     Map<String, PlanCreationContextValue> initialPlanCreationContext =
         planCreatorMergeService.createInitialPlanCreationContext(
             accountId, orgId, projId, executionMetadataLocal, planExecutionMetadata);
@@ -216,7 +227,7 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
     String pipelineYaml = readFile("pipeline-v1-with-static-reference.yaml");
     PlanExecutionMetadata planExecutionMetadata = PlanExecutionMetadata.builder().processedYaml(pipelineYaml).build();
     PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(
-        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, kryoSerializer);
+        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, kryoSerializer, null);
     Map<String, PlanCreationContextValue> initialPlanCreationContext =
         planCreatorMergeService.createInitialPlanCreationContext(
             accountId, orgId, projId, executionMetadataLocal, planExecutionMetadata);
@@ -315,6 +326,75 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
         .hasMessageContaining("Following yaml paths could not be parsed: ");
   }
 
+  @Test
+  @Owner(developers = VIVEK_DIXIT)
+  @Category(UnitTests.class)
+  public void testCreatePlanForDependenciesStreaming() throws Exception {
+    String yaml = "{\"pipeline\":{\"__uuid\":\"pipeline\",\"stages\":["
+        + "{\"stage\":{\"__uuid\":\"slowStage\",\"type\":\"Slow\",\"spec\":{\"__uuid\":\"slowSpec\"}}},"
+        + "{\"stage\":{\"__uuid\":\"fastStage\",\"type\":\"Fast\",\"spec\":{\"__uuid\":\"fastSpec\"}}}]}}";
+    Map<String, String> children = new HashMap<>();
+    children.put("pipeline", "slowStage:pipeline/stages/[0]/stage,fastStage:pipeline/stages/[1]/stage");
+    children.put("fastStage", "fastSpec:pipeline/stages/[1]/stage/spec");
+
+    Map<String, Set<String>> pmsSupportedTypes = new HashMap<>();
+    pmsSupportedTypes.put("pipeline", Collections.singleton("__any__"));
+    pmsSupportedTypes.put("stage", Collections.singleton("Fast"));
+    pmsSupportedTypes.put("spec", Collections.singleton("__any__"));
+    PlanCreatorServiceInfo pmsServiceInfo = new PlanCreatorServiceInfo(pmsSupportedTypes, null);
+    PlanCreatorServiceInfo cdServiceInfo =
+        new PlanCreatorServiceInfo(Collections.singletonMap("stage", Collections.singleton("Slow")), null);
+    Map<String, PlanCreatorServiceInfo> services = new HashMap<>();
+    services.put("pms", pmsServiceInfo);
+    services.put("cd", cdServiceInfo);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    PlanCreatorMergeService planCreatorMergeService =
+        spy(new PlanCreatorMergeService(pmsSdkHelper, pmsEventSender, waitNotifyEngine, planCreationValidator, executor,
+            20, pmsFeatureFlagServiceMock, kryoSerializer, new PmsSdkYamlBlobHelper(pmsFeatureFlagServiceMock)));
+    doReturn(true).when(pmsFeatureFlagServiceMock).isEnabled(accountId, FeatureName.PIE_STREAMING_PLAN_CREATION);
+    // The slow stage only finishes once the spec of the fast stage is created, which waits for the slow stage when
+    // plan creation goes level by level
+    CountDownLatch fastSpecCreated = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      PlanCreationBlobRequest request = invocation.getArgument(1);
+      PlanCreationBlobResponse.Builder response = PlanCreationBlobResponse.newBuilder();
+      for (String dependencyId : request.getDeps().getDependenciesMap().keySet()) {
+        if (dependencyId.equals("slowStage")) {
+          assertTrue(fastSpecCreated.await(10, TimeUnit.SECONDS));
+        } else if (dependencyId.equals("fastSpec")) {
+          fastSpecCreated.countDown();
+        }
+        response.putNodes(dependencyId, PlanNodeProto.newBuilder().setUuid(dependencyId).build());
+        if (children.containsKey(dependencyId)) {
+          Dependencies.Builder dependencies = Dependencies.newBuilder().setYaml(request.getDeps().getYaml());
+          for (String child : children.get(dependencyId).split(",")) {
+            dependencies.putDependencies(child.split(":")[0], child.split(":")[1]);
+          }
+          response.setDeps(dependencies);
+        }
+      }
+      return PlanCreationResponse.newBuilder().setBlobResponse(response).build();
+    })
+        .when(planCreatorMergeService)
+        .createPlan(any(PlanCreatorServiceInfo.class), any(PlanCreationBlobRequest.class));
+
+    try {
+      PlanCreationBlobResponse response = planCreatorMergeService.createPlanForDependenciesRecursive(accountId, orgId,
+          projId, services,
+          Dependencies.newBuilder().setYaml(yaml).putDependencies("pipeline", "pipeline").build(), executionMetadata,
+          null);
+
+      assertThat(response.getNodesMap().keySet()).containsExactlyInAnyOrder(
+          "pipeline", "slowStage", "fastStage", "fastSpec");
+      assertThat(response.getDeps().getDependenciesMap()).isEmpty();
+      verify(planCreatorMergeService).createPlan(eq(cdServiceInfo), any(PlanCreationBlobRequest.class));
+      verify(planCreatorMergeService, times(3)).createPlan(eq(pmsServiceInfo), any(PlanCreationBlobRequest.class));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private class NoOpPmsFeatureFlagService implements PmsFeatureFlagService {
     @Override
     public boolean isEnabled(String accountId, FeatureName featureName) {
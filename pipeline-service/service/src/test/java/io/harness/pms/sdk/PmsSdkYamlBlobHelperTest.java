@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk;
+
+import static io.harness.rule.OwnerRule.SAHIL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.plan.Dependencies;
+import io.harness.pms.plan.creation.YamlBlobUtils;
+import io.harness.rule.Owner;
+import io.harness.utils.PmsFeatureFlagService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class PmsSdkYamlBlobHelperTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final String YAML = "pipeline:\n  identifier: p1\n";
+
+  private final PmsFeatureFlagService pmsFeatureFlagService = mock(PmsFeatureFlagService.class);
+  private final PmsSdkYamlBlobHelper pmsSdkYamlBlobHelper = new PmsSdkYamlBlobHelper(pmsFeatureFlagService);
+  private final Dependencies dependencies =
+      Dependencies.newBuilder().setYaml(YAML).putDependencies("p1", "pipeline").build();
+  private final List<Dependencies> sent = new ArrayList<>();
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testCallWithFeatureFlagOff() {
+    pmsSdkYamlBlobHelper.call(ACCOUNT_ID, "cd", dependencies, send(false), missing -> missing);
+    pmsSdkYamlBlobHelper.call(ACCOUNT_ID, "cd", dependencies, send(false), missing -> missing);
+
+    assertThat(sent).containsExactly(dependencies, dependencies);
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testCallSendsYamlOncePerService() {
+    when(pmsFeatureFlagService.isEnabled(ACCOUNT_ID, FeatureName.PIE_PLAN_CREATION_YAML_BLOB_CACHE)).thenReturn(true);
+    String yamlHash = YamlBlobUtils.hash(YAML);
+
+    pmsSdkYamlBlobHelper.call(ACCOUNT_ID, "cd", dependencies, send(false), missing -> missing);
+    pmsSdkYamlBlobHelper.call(ACCOUNT_ID, "cd", dependencies, send(false), missing -> missing);
+    pmsSdkYamlBlobHelper.call(ACCOUNT_ID, "ci", dependencies, send(false), missing -> missing);
+
+    assertThat(sent).containsExactly(YamlBlobUtils.withYamlHash(dependencies, yamlHash),
+        YamlBlobUtils.withoutYaml(dependencies, yamlHash), YamlBlobUtils.withYamlHash(dependencies, yamlHash));
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testCallSendsYamlAgainWhenMissing() {
+    when(pmsFeatureFlagService.isEnabled(ACCOUNT_ID, FeatureName.PIE_PLAN_CREATION_YAML_BLOB_CACHE)).thenReturn(true);
+    String yamlHash = YamlBlobUtils.hash(YAML);
+    pmsSdkYamlBlobHelper.call(ACCOUNT_ID, "cd", dependencies, send(false), missing -> missing);
+    sent.clear();
+
+    // another instance of the service, which did not get the yaml yet
+    boolean missing = pmsSdkYamlBlobHelper.call(ACCOUNT_ID, "cd", dependencies,
+        deps -> send(YamlBlobUtils.withoutYaml(dependencies, yamlHash).equals(deps)).apply(deps), m -> m);
+
+    assertThat(missing).isFalse();
+    assertThat(sent).containsExactly(
+        YamlBlobUtils.withoutYaml(dependencies, yamlHash), YamlBlobUtils.withYamlHash(dependencies, yamlHash));
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testGetYamlHash() {
+    String yamlHash = pmsSdkYamlBlobHelper.getYamlHash(YAML);
+    assertThat(yamlHash).isEqualTo(YamlBlobUtils.hash(YAML));
+    assertThat(pmsSdkYamlBlobHelper.getYamlHash(YAML)).isSameAs(yamlHash);
+  }
+
+  private Function<Dependencies, Boolean> send(boolean yamlMissing) {
+    return deps -> {
+      sent.add(deps);
+      return yamlMissing;
+    };
+  }
+}
@@ -33,6 +33,7 @@ import io.harness.pms.pipeline.PipelineSetupUsageHelper;
 import io.harness.pms.pipeline.service.PMSPipelineTemplateHelper;
 import io.harness.pms.plan.creation.PlanCreatorServiceInfo;
 import io.harness.pms.sdk.PmsSdkHelper;
+import io.harness.pms.sdk.PmsSdkYamlBlobHelper;
 import io.harness.rule.Owner;
 
 import java.io.IOException;
@@ -67,11 +68,13 @@ public class EntityReferenceServiceTest extends PipelineServiceTestBase {
   @Mock GitSyncSdkService gitSyncSdkService;
   @Mock PrincipalInfoHelper infoHelper;
   @Mock TriggeredByHelper triggeredByHelper;
+  @Mock PmsSdkYamlBlobHelper pmsSdkYamlBlobHelper;
 
   @Before
   public void setup() {
     filterCreatorMergeService = spy(new FilterCreatorMergeService(pmsSdkHelper, pipelineSetupUsageHelper,
-        pmsGitSyncHelper, pmsPipelineTemplateHelper, gitSyncSdkService, infoHelper, triggeredByHelper));
+        pmsGitSyncHelper, pmsPipelineTemplateHelper, gitSyncSdkService, infoHelper, triggeredByHelper,
+        pmsSdkYamlBlobHelper));
     entityReferenceService = new EntityReferenceService(filterCreatorMergeService);
     services.put("cd", new PlanCreatorServiceInfo(new HashMap<>(), null));
     when(filterCreatorMergeService.getServices()).thenReturn(services);
@@ -23,4 +23,6 @@ public class FeatureFlagNames {
 
   public static final String SRM_INTERNAL_CHANGE_SOURCE_CE = "SRM_INTERNAL_CHANGE_SOURCE_CE";
   public static final String SRM_LOG_FEEDBACK_ENABLE_UI = "SRM_LOG_FEEDBACK_ENABLE_UI";
+
+  public static final String SRM_SLI_RECORD_ROLLUP_READ = "SRM_SLI_RECORD_ROLLUP_READ";
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.entities;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.cvng.analysis.entities.VerificationTaskBase;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UuidAware;
+
+import com.google.common.collect.ImmutableList;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.FieldNameConstants;
+
+/**
+ * The SLI record of the last minute written in a 15 minute, hour or day bucket. Since SLI records carry running
+ * counts, this is all it takes to draw the SLI and error budget over long time ranges without loading minutes.
+ */
+@Data
+@Builder
+@FieldNameConstants(innerTypeName = "SLIRecordRollupKeys")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@StoreIn(DbAliases.CVNG)
+@Entity(value = "sliRecordRollups", noClassnameStored = true)
+@HarnessEntity(exportable = true)
+@OwnedBy(HarnessTeam.CV)
+public class SLIRecordRollup extends VerificationTaskBase implements PersistentEntity, UuidAware {
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("unique_sli_resolution_bucket")
+                 .unique(true)
+                 .field(SLIRecordRollupKeys.sliId)
+                 .field(SLIRecordRollupKeys.resolution)
+                 .field(SLIRecordRollupKeys.bucketStartTime)
+                 .build())
+        .build();
+  }
+
+  @Id private String uuid;
+  private String sliId;
+  private Resolution resolution;
+  private Instant bucketStartTime;
+  private Instant lastMinute; // latest minute written in the bucket, the rollup holds its record
+  private SLIState lastSliState;
+  private long runningBadCount;
+  private long runningGoodCount;
+  private int sliVersion;
+
+  @Builder.Default @FdTtlIndex private Date validUntil = Date.from(OffsetDateTime.now().plusDays(90).toInstant());
+
+  public SLIRecord toSLIRecord() {
+    SLIRecord sliRecord = SLIRecord.builder()
+                              .sliId(sliId)
+                              .timestamp(lastMinute)
+                              .sliState(lastSliState)
+                              .runningBadCount(runningBadCount)
+                              .runningGoodCount(runningGoodCount)
+                              .sliVersion(sliVersion)
+                              .build();
+    sliRecord.setLastUpdatedAt(getLastUpdatedAt());
+    return sliRecord;
+  }
+
+  public enum Resolution {
+    FIFTEEN_MINUTES(Duration.ofMinutes(15)),
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1));
+
+    private final Duration duration;
+
+    Resolution(Duration duration) {
+      this.duration = duration;
+    }
+
+    public long getMinutes() {
+      return duration.toMinutes();
+    }
+
+    public Instant getBucketStartTime(Instant timestamp) {
+      long millis = duration.toMillis();
+      return Instant.ofEpochMilli(Math.floorDiv(timestamp.toEpochMilli(), millis) * millis);
+    }
+  }
+}
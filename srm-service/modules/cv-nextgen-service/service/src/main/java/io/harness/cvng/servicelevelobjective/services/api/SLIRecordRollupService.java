@@ -0,0 +1,25 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.services.api;
+
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface SLIRecordRollupService {
+  void update(String sliId, List<SLIRecordBucket> sliRecordBuckets);
+
+  /**
+   * SLI records strictly between the start and end time, about the given number of minutes apart. Returns an empty
+   * list if no rollup is coarse enough or the rollups don't go back to the start time, the minute records have to be
+   * used in that case.
+   */
+  List<SLIRecord> getSLIRecords(String sliId, Instant startTime, Instant endTime, long minutesBetweenRecords);
+}
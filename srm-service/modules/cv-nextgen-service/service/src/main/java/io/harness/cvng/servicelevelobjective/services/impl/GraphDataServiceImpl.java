@@ -13,8 +13,10 @@ import io.harness.cvng.core.beans.params.TimeRangeParams;
 import io.harness.cvng.core.entities.EntityDisableTime;
 import io.harness.cvng.core.entities.MonitoredService;
 import io.harness.cvng.core.services.api.EntityDisabledTimeService;
+import io.harness.cvng.core.services.api.FeatureFlagService;
 import io.harness.cvng.core.services.api.monitoredService.MonitoredServiceService;
 import io.harness.cvng.core.utils.DateTimeUtils;
+import io.harness.cvng.core.utils.FeatureFlagNames;
 import io.harness.cvng.servicelevelobjective.beans.SLIEvaluationType;
 import io.harness.cvng.servicelevelobjective.beans.SLIMissingDataType;
 import io.harness.cvng.servicelevelobjective.beans.SLIValue;
@@ -30,6 +32,7 @@ import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
 import io.harness.cvng.servicelevelobjective.entities.SimpleServiceLevelObjective;
 import io.harness.cvng.servicelevelobjective.services.api.CompositeSLORecordService;
 import io.harness.cvng.servicelevelobjective.services.api.GraphDataService;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelIndicatorService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelObjectiveV2Service;
@@ -51,12 +54,14 @@ import org.apache.commons.lang3.tuple.Pair;
 
 public class GraphDataServiceImpl implements GraphDataService {
   @Inject SLIRecordService sliRecordService;
+  @Inject SLIRecordRollupService sliRecordRollupService;
   @Inject CompositeSLORecordService compositeSLORecordService;
   @Inject ServiceLevelIndicatorService serviceLevelIndicatorService;
 
   @Inject ServiceLevelObjectiveV2Service serviceLevelObjectiveV2Service;
   @Inject MonitoredServiceService monitoredServiceService;
   @Inject EntityDisabledTimeService entityDisabledTimeService;
+  @Inject FeatureFlagService featureFlagService;
   @Inject private Clock clock;
   @VisibleForTesting static int MAX_NUMBER_OF_POINTS = 2000;
 
@@ -238,7 +243,7 @@ public class GraphDataServiceImpl implements GraphDataService {
       filter = TimeRangeParams.builder().startTime(startTime).endTime(endTime).build();
     }
     List<SLIRecord> sliRecords =
-        getSLIRecords(serviceLevelIndicator.getUuid(), startTime, endTime, filter, numOfDataPointsInBetween);
+        getSLIRecords(serviceLevelIndicator, startTime, endTime, filter, numOfDataPointsInBetween);
     MonitoredServiceParams monitoredServiceParams =
         MonitoredServiceParams.builder()
             .accountIdentifier(serviceLevelIndicator.getAccountId())
@@ -503,8 +508,9 @@ public class GraphDataServiceImpl implements GraphDataService {
         .collect(Collectors.toList());
   }
 
-  private List<SLIRecord> getSLIRecords(
-      String sliId, Instant startTime, Instant endTime, TimeRangeParams filter, long numOfPoints) {
+  private List<SLIRecord> getSLIRecords(ServiceLevelIndicator serviceLevelIndicator, Instant startTime,
+      Instant endTime, TimeRangeParams filter, long numOfPoints) {
+    String sliId = serviceLevelIndicator.getUuid();
     SLIRecord firstRecord = sliRecordService.getFirstSLIRecord(sliId, startTime);
     SLIRecord lastRecord = sliRecordService.getLastSLIRecord(sliId, endTime);
     SLIRecord firstRecordInRange = firstRecord;
@@ -521,14 +527,25 @@ public class GraphDataServiceImpl implements GraphDataService {
       startTime = firstRecordInRange.getTimestamp();
       endTime = lastRecordInRange.getTimestamp();
     }
-    List<Instant> minutes = getMinutesExclusiveOfStartAndEndTime(startTime, endTime, numOfPoints);
     List<SLIRecord> sliRecords = new ArrayList<>();
     sliRecords.add(firstRecord);
     if (!firstRecordInRange.getTimestamp().equals(firstRecord.getTimestamp())) {
       sliRecords.add(firstRecordInRange);
     }
-    if (!minutes.isEmpty()) {
-      sliRecords.addAll(sliRecordService.getSLIRecordsOfMinutes(sliId, minutes));
+    // long ranges are served from the rollups, the points then land on bucket ends instead of exact minutes
+    List<SLIRecord> rolledUpSLIRecords = Collections.emptyList();
+    if (featureFlagService.isFeatureFlagEnabled(
+            serviceLevelIndicator.getAccountId(), FeatureFlagNames.SRM_SLI_RECORD_ROLLUP_READ)) {
+      rolledUpSLIRecords = sliRecordRollupService.getSLIRecords(
+          sliId, startTime, endTime, getMinutesBetweenPoints(startTime, endTime, numOfPoints));
+    }
+    if (!rolledUpSLIRecords.isEmpty()) {
+      sliRecords.addAll(rolledUpSLIRecords);
+    } else {
+      List<Instant> minutes = getMinutesExclusiveOfStartAndEndTime(startTime, endTime, numOfPoints);
+      if (!minutes.isEmpty()) {
+        sliRecords.addAll(sliRecordService.getSLIRecordsOfMinutes(sliId, minutes));
+      }
     }
     if (!lastRecordInRange.getTimestamp().equals(lastRecord.getTimestamp())) {
       sliRecords.add(lastRecordInRange);
@@ -547,6 +564,15 @@ public class GraphDataServiceImpl implements GraphDataService {
   @VisibleForTesting
   List<Instant> getMinutesExclusiveOfStartAndEndTime(Instant startTime, Instant endTime, long numOfPointsInBetween) {
     List<Instant> minutes = new ArrayList<>();
+    Duration diffDuration = Duration.ofMinutes(getMinutesBetweenPoints(startTime, endTime, numOfPointsInBetween));
+    for (Instant current = startTime.plus(diffDuration); current.isBefore(endTime);
+         current = current.plus(diffDuration)) {
+      minutes.add(current);
+    }
+    return minutes;
+  }
+
+  private long getMinutesBetweenPoints(Instant startTime, Instant endTime, long numOfPointsInBetween) {
     long totalMinutes = Duration.between(startTime, endTime).toMinutes();
     long diff = totalMinutes;
     if (numOfPointsInBetween > 0) {
@@ -556,11 +582,6 @@ public class GraphDataServiceImpl implements GraphDataService {
       diff = 1L;
     }
     // long reminder = totalMinutes % maxNumberOfPoints;
-    Duration diffDuration = Duration.ofMinutes(diff);
-    for (Instant current = startTime.plus(diffDuration); current.isBefore(endTime);
-         current = current.plus(diffDuration)) {
-      minutes.add(current);
-    }
-    return minutes;
+    return diff;
   }
 }
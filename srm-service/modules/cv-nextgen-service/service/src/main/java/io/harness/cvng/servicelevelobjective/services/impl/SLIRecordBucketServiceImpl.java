@@ -17,6 +17,7 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket.SLIRecordB
 import io.harness.cvng.servicelevelobjective.entities.SLIRecordParam;
 import io.harness.cvng.servicelevelobjective.entities.SLIState;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordBucketService;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
 
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
@@ -40,6 +41,7 @@ public class SLIRecordBucketServiceImpl implements SLIRecordBucketService {
   private static final int RETRY_COUNT = 3;
 
   @Inject SRMPersistence hPersistence;
+  @Inject SLIRecordRollupService sliRecordRollupService;
   @Override
   public void create(List<SLIRecordParam> sliRecordParamList, String sliId, int sliVersion) {
     if (isEmpty(sliRecordParamList)) {
@@ -93,6 +95,7 @@ public class SLIRecordBucketServiceImpl implements SLIRecordBucketService {
                                .build());
     }
     hPersistence.saveBatch(sliRecordBuckets);
+    sliRecordRollupService.update(sliId, sliRecordBuckets);
   }
 
   @RetryOnException(retryCount = RETRY_COUNT, retryOn = ConcurrentModificationException.class)
@@ -138,6 +141,7 @@ public class SLIRecordBucketServiceImpl implements SLIRecordBucketService {
           exception.getLocalizedMessage());
       hPersistence.save(updateOrCreateSLIRecords);
     }
+    sliRecordRollupService.update(sliId, updateOrCreateSLIRecords);
   }
 
   @Override
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.services.impl;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.persistence.HQuery.excludeAuthorityCount;
+
+import static com.mongodb.ErrorCategory.DUPLICATE_KEY;
+
+import io.harness.SRMPersistence;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.Resolution;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.SLIRecordRollupKeys;
+import io.harness.cvng.servicelevelobjective.entities.SLIState;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
+
+import com.google.inject.Inject;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoCommandException;
+import com.mongodb.ReadPreference;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Query;
+import dev.morphia.query.Sort;
+import dev.morphia.query.UpdateOperations;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SLIRecordRollupServiceImpl implements SLIRecordRollupService {
+  @Inject SRMPersistence hPersistence;
+
+  @Override
+  public void update(String sliId, List<SLIRecordBucket> sliRecordBuckets) {
+    if (isEmpty(sliRecordBuckets)) {
+      return;
+    }
+    for (Resolution resolution : Resolution.values()) {
+      Map<Instant, SLIRecordBucket> lastBuckets = new HashMap<>();
+      for (SLIRecordBucket sliRecordBucket : sliRecordBuckets) {
+        lastBuckets.merge(resolution.getBucketStartTime(sliRecordBucket.getBucketStartTime()), sliRecordBucket,
+            (bucket1, bucket2)
+                -> bucket1.getBucketStartTime().isAfter(bucket2.getBucketStartTime()) ? bucket1 : bucket2);
+      }
+      lastBuckets.forEach(
+          (bucketStartTime, sliRecordBucket) -> upsert(sliId, resolution, bucketStartTime, sliRecordBucket));
+    }
+  }
+
+  private void upsert(String sliId, Resolution resolution, Instant bucketStartTime, SLIRecordBucket sliRecordBucket) {
+    List<SLIState> sliStates = sliRecordBucket.getSliStates();
+    Instant lastMinute = sliRecordBucket.getBucketStartTime().plus(sliStates.size() - 1, ChronoUnit.MINUTES);
+    // running counts are totals up to the last minute, so the newest minute wins instead of being added up
+    Query<SLIRecordRollup> query = hPersistence.createQuery(SLIRecordRollup.class, excludeAuthorityCount)
+                                       .filter(SLIRecordRollupKeys.sliId, sliId)
+                                       .filter(SLIRecordRollupKeys.resolution, resolution)
+                                       .filter(SLIRecordRollupKeys.bucketStartTime, bucketStartTime)
+                                       .field(SLIRecordRollupKeys.lastMinute)
+                                       .lessThanOrEq(lastMinute);
+    UpdateOperations<SLIRecordRollup> updateOperations =
+        hPersistence.createUpdateOperations(SLIRecordRollup.class)
+            .setOnInsert(SLIRecordRollupKeys.uuid, generateUuid())
+            .setOnInsert(SLIRecordRollupKeys.validUntil, Date.from(OffsetDateTime.now().plusDays(90).toInstant()))
+            .set(SLIRecordRollupKeys.lastMinute, lastMinute)
+            .set(SLIRecordRollupKeys.lastSliState, sliStates.get(sliStates.size() - 1))
+            .set(SLIRecordRollupKeys.runningGoodCount, sliRecordBucket.getRunningGoodCount())
+            .set(SLIRecordRollupKeys.runningBadCount, sliRecordBucket.getRunningBadCount())
+            .set(SLIRecordRollupKeys.sliVersion, sliRecordBucket.getSliVersion());
+    try {
+      hPersistence.upsert(query, updateOperations);
+    } catch (MongoCommandException e) {
+      if (ErrorCategory.fromErrorCode(e.getErrorCode()) != DUPLICATE_KEY) {
+        throw e;
+      }
+      // the rollup either holds a later minute already, which stays, or was inserted concurrently and now matches
+      try {
+        hPersistence.upsert(query, updateOperations);
+      } catch (MongoCommandException retryException) {
+        if (ErrorCategory.fromErrorCode(retryException.getErrorCode()) != DUPLICATE_KEY) {
+          throw retryException;
+        }
+      }
+    }
+  }
+
+  @Override
+  public List<SLIRecord> getSLIRecords(String sliId, Instant startTime, Instant endTime, long minutesBetweenRecords) {
+    Resolution resolution = null;
+    for (Resolution candidate : Resolution.values()) {
+      if (candidate.getMinutes() <= minutesBetweenRecords) {
+        resolution = candidate;
+      }
+    }
+    if (resolution == null) {
+      return Collections.emptyList();
+    }
+    Instant firstBucketStartTime = resolution.getBucketStartTime(startTime);
+    List<SLIRecordRollup> rollups = hPersistence.createQuery(SLIRecordRollup.class, excludeAuthorityCount)
+                                        .filter(SLIRecordRollupKeys.sliId, sliId)
+                                        .filter(SLIRecordRollupKeys.resolution, resolution)
+                                        .field(SLIRecordRollupKeys.bucketStartTime)
+                                        .greaterThanOrEq(firstBucketStartTime)
+                                        .field(SLIRecordRollupKeys.bucketStartTime)
+                                        .lessThan(endTime)
+                                        .order(Sort.ascending(SLIRecordRollupKeys.bucketStartTime))
+                                        .asList(new FindOptions().readPreference(ReadPreference.secondaryPreferred()));
+    // rollups only exist for what was written since they were introduced, and a missing bucket anywhere in the
+    // range means the minutes have to be read instead
+    if (rollups.isEmpty() || !rollups.get(0).getBucketStartTime().equals(firstBucketStartTime)
+        || !rollups.get(rollups.size() - 1)
+                .getBucketStartTime()
+                .equals(resolution.getBucketStartTime(endTime.minus(1, ChronoUnit.MINUTES)))) {
+      return Collections.emptyList();
+    }
+    for (int i = 1; i < rollups.size(); i++) {
+      if (!rollups.get(i).getBucketStartTime().equals(
+              rollups.get(i - 1).getBucketStartTime().plus(resolution.getMinutes(), ChronoUnit.MINUTES))) {
+        return Collections.emptyList();
+      }
+    }
+    long step = Math.max(1, minutesBetweenRecords / resolution.getMinutes());
+    List<SLIRecord> sliRecords = new ArrayList<>();
+    for (int i = 0; i < rollups.size(); i += step) {
+      SLIRecordRollup rollup = rollups.get(i);
+      if (rollup.getLastMinute().isAfter(startTime) && rollup.getLastMinute().isBefore(endTime)) {
+        sliRecords.add(rollup.toSLIRecord());
+      }
+    }
+    return sliRecords;
+  }
+}
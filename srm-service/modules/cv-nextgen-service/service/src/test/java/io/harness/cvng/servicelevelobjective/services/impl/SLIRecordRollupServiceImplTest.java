@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.services.impl;
+
+import static io.harness.cvng.servicelevelobjective.entities.SLIState.BAD;
+import static io.harness.cvng.servicelevelobjective.entities.SLIState.GOOD;
+import static io.harness.persistence.HQuery.excludeAuthorityCount;
+import static io.harness.rule.OwnerRule.VARSHA_LALWANI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CvNextGenTestBase;
+import io.harness.category.element.UnitTests;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.Resolution;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.SLIRecordRollupKeys;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.Owner;
+
+import com.google.inject.Inject;
+import dev.morphia.query.Sort;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class SLIRecordRollupServiceImplTest extends CvNextGenTestBase {
+  private static final String SLI_ID = "sliId";
+  private static final Instant START_TIME = Instant.parse("2020-07-27T10:00:00Z");
+
+  @Inject private SLIRecordRollupService sliRecordRollupService;
+  @Inject private HPersistence hPersistence;
+
+  @Test
+  @Owner(developers = VARSHA_LALWANI)
+  @Category(UnitTests.class)
+  public void testUpdate_keepsLastMinuteOfEachBucket() {
+    sliRecordRollupService.update(SLI_ID, createBuckets(START_TIME, 6, 0));
+
+    List<SLIRecordRollup> rollups = getRollups(Resolution.FIFTEEN_MINUTES);
+    assertThat(rollups).hasSize(2);
+    assertThat(rollups.get(0).getBucketStartTime()).isEqualTo(START_TIME);
+    assertThat(rollups.get(0).getLastMinute()).isEqualTo(START_TIME.plus(14, ChronoUnit.MINUTES));
+    assertThat(rollups.get(0).getRunningGoodCount()).isEqualTo(12);
+    assertThat(rollups.get(0).getRunningBadCount()).isEqualTo(3);
+    assertThat(rollups.get(0).getLastSliState()).isEqualTo(BAD);
+    assertThat(rollups.get(1).getLastMinute()).isEqualTo(START_TIME.plus(29, ChronoUnit.MINUTES));
+    assertThat(rollups.get(1).getRunningGoodCount()).isEqualTo(24);
+
+    rollups = getRollups(Resolution.HOUR);
+    assertThat(rollups).hasSize(1);
+    assertThat(rollups.get(0).getLastMinute()).isEqualTo(START_TIME.plus(29, ChronoUnit.MINUTES));
+    assertThat(getRollups(Resolution.DAY)).hasSize(1);
+  }
+
+  @Test
+  @Owner(developers = VARSHA_LALWANI)
+  @Category(UnitTests.class)
+  public void testUpdate_rewriteOfEarlierMinutes() {
+    sliRecordRollupService.update(SLI_ID, createBuckets(START_TIME, 6, 0));
+    // a recalculation of the second bucket does not move the rollup back, a later one updates it
+    sliRecordRollupService.update(SLI_ID, createBuckets(START_TIME.plus(5, ChronoUnit.MINUTES), 1, 100));
+    sliRecordRollupService.update(SLI_ID, createBuckets(START_TIME.plus(25, ChronoUnit.MINUTES), 1, 100));
+
+    List<SLIRecordRollup> rollups = getRollups(Resolution.FIFTEEN_MINUTES);
+    assertThat(rollups).hasSize(2);
+    assertThat(rollups.get(0).getLastMinute()).isEqualTo(START_TIME.plus(14, ChronoUnit.MINUTES));
+    assertThat(rollups.get(0).getRunningGoodCount()).isEqualTo(12);
+    assertThat(rollups.get(1).getLastMinute()).isEqualTo(START_TIME.plus(29, ChronoUnit.MINUTES));
+    assertThat(rollups.get(1).getRunningGoodCount()).isEqualTo(104);
+  }
+
+  @Test
+  @Owner(developers = VARSHA_LALWANI)
+  @Category(UnitTests.class)
+  public void testGetSLIRecords() {
+    sliRecordRollupService.update(SLI_ID, createBuckets(START_TIME, 12, 0));
+    Instant endTime = START_TIME.plus(1, ChronoUnit.HOURS);
+
+    List<SLIRecord> sliRecords = sliRecordRollupService.getSLIRecords(SLI_ID, START_TIME, endTime, 15);
+    assertThat(sliRecords.stream().map(SLIRecord::getTimestamp).collect(Collectors.toList()))
+        .containsExactly(START_TIME.plus(14, ChronoUnit.MINUTES), START_TIME.plus(29, ChronoUnit.MINUTES),
+            START_TIME.plus(44, ChronoUnit.MINUTES), START_TIME.plus(59, ChronoUnit.MINUTES));
+    assertThat(sliRecords.get(3).getRunningGoodCount()).isEqualTo(48);
+    assertThat(sliRecords.get(3).getRunningBadCount()).isEqualTo(12);
+
+    sliRecords = sliRecordRollupService.getSLIRecords(SLI_ID, START_TIME, endTime, 30);
+    assertThat(sliRecords.stream().map(SLIRecord::getTimestamp).collect(Collectors.toList()))
+        .containsExactly(START_TIME.plus(14, ChronoUnit.MINUTES), START_TIME.plus(44, ChronoUnit.MINUTES));
+  }
+
+  @Test
+  @Owner(developers = VARSHA_LALWANI)
+  @Category(UnitTests.class)
+  public void testGetSLIRecords_fallsBackToMinutes() {
+    sliRecordRollupService.update(SLI_ID, createBuckets(START_TIME, 12, 0));
+    Instant endTime = START_TIME.plus(1, ChronoUnit.HOURS);
+
+    // too fine for the rollups
+    assertThat(sliRecordRollupService.getSLIRecords(SLI_ID, START_TIME, endTime, 10)).isEmpty();
+    // rollups don't go back to the start time
+    assertThat(sliRecordRollupService.getSLIRecords(SLI_ID, START_TIME.minus(1, ChronoUnit.HOURS), endTime, 15))
+        .isEmpty();
+    // rollups don't reach the end time
+    assertThat(sliRecordRollupService.getSLIRecords(SLI_ID, START_TIME, endTime.plus(1, ChronoUnit.HOURS), 15))
+        .isEmpty();
+  }
+
+  @Test
+  @Owner(developers = VARSHA_LALWANI)
+  @Category(UnitTests.class)
+  public void testGetSLIRecords_fallsBackToMinutesOnGap() {
+    sliRecordRollupService.update(SLI_ID, createBuckets(START_TIME, 3, 0));
+    sliRecordRollupService.update(SLI_ID, createBuckets(START_TIME.plus(30, ChronoUnit.MINUTES), 6, 12));
+
+    assertThat(sliRecordRollupService.getSLIRecords(SLI_ID, START_TIME, START_TIME.plus(1, ChronoUnit.HOURS), 15))
+        .isEmpty();
+    assertThat(sliRecordRollupService.getSLIRecords(
+                   SLI_ID, START_TIME.plus(30, ChronoUnit.MINUTES), START_TIME.plus(1, ChronoUnit.HOURS), 15))
+        .hasSize(2);
+  }
+
+  private List<SLIRecordBucket> createBuckets(Instant startTime, int numOfBuckets, long initialGoodCount) {
+    List<SLIRecordBucket> sliRecordBuckets = new ArrayList<>();
+    long runningGoodCount = initialGoodCount;
+    long runningBadCount = 0;
+    for (int i = 0; i < numOfBuckets; i++) {
+      runningGoodCount += 4;
+      runningBadCount += 1;
+      sliRecordBuckets.add(SLIRecordBucket.builder()
+                               .sliId(SLI_ID)
+                               .bucketStartTime(startTime.plus(5L * i, ChronoUnit.MINUTES))
+                               .sliVersion(0)
+                               .runningGoodCount(runningGoodCount)
+                               .runningBadCount(runningBadCount)
+                               .sliStates(Arrays.asList(GOOD, GOOD, GOOD, GOOD, BAD))
+                               .build());
+    }
+    return sliRecordBuckets;
+  }
+
+  private List<SLIRecordRollup> getRollups(Resolution resolution) {
+    return hPersistence.createQuery(SLIRecordRollup.class, excludeAuthorityCount)
+        .filter(SLIRecordRollupKeys.sliId, SLI_ID)
+        .filter(SLIRecordRollupKeys.resolution, resolution)
+        .order(Sort.ascending(SLIRecordRollupKeys.bucketStartTime))
+        .asList();
+  }
+}
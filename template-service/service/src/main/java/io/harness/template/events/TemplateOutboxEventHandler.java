@@ -36,6 +36,7 @@ import io.harness.security.PrincipalContextData;
 import io.harness.security.dto.Principal;
 import io.harness.security.dto.ServicePrincipal;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateSpecCache;
 import io.harness.template.helpers.TemplateReferenceHelper;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -54,12 +55,14 @@ public class TemplateOutboxEventHandler implements OutboxEventHandler {
   private final AuditClientService auditClientService;
   private final Producer eventProducer;
   private final TemplateReferenceHelper templateReferenceHelper;
+  private final ResolvedTemplateSpecCache resolvedTemplateSpecCache;
 
   @Inject
   public TemplateOutboxEventHandler(AuditClientService auditClientService,
       @Named(EventsFrameworkConstants.ENTITY_CRUD) Producer eventProducer,
-      TemplateReferenceHelper templateReferenceHelper) {
+      TemplateReferenceHelper templateReferenceHelper, ResolvedTemplateSpecCache resolvedTemplateSpecCache) {
     this.templateReferenceHelper = templateReferenceHelper;
+    this.resolvedTemplateSpecCache = resolvedTemplateSpecCache;
     this.objectMapper = HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
     this.auditClientService = auditClientService;
     this.eventProducer = eventProducer;
@@ -88,6 +91,7 @@ public class TemplateOutboxEventHandler implements OutboxEventHandler {
   private boolean handleTemplateUpdateEvent(OutboxEvent outboxEvent) throws IOException {
     TemplateUpdateEvent templateUpdateEvent =
         objectMapper.readValue(outboxEvent.getEventData(), TemplateUpdateEvent.class);
+    invalidateResolvedTemplateSpecs(templateUpdateEvent.getOldTemplateEntity());
 
     boolean publishedToRedis = false;
     if (templateUpdateEvent.getTemplateUpdateEventType() == TemplateUpdateEventType.TEMPLATE_CHANGE_SCOPE_EVENT) {
@@ -138,6 +142,7 @@ public class TemplateOutboxEventHandler implements OutboxEventHandler {
     boolean publishedToRedis = publishEvent(
         outboxEvent, EventsFrameworkMetadataConstants.DELETE_ACTION, templateDeleteEvent.getTemplateEntity());
     templateReferenceHelper.deleteTemplateReferences(templateDeleteEvent.getTemplateEntity());
+    invalidateResolvedTemplateSpecs(templateDeleteEvent.getTemplateEntity());
     TemplateEventData templateEventData = new TemplateEventData(templateDeleteEvent.getComments(), null);
     AuditEntry auditEntry = AuditEntry.builder()
                                 .action(Action.DELETE)
@@ -157,6 +162,7 @@ public class TemplateOutboxEventHandler implements OutboxEventHandler {
     boolean publishedToRedis = publishEvent(
         outboxEvent, EventsFrameworkMetadataConstants.DELETE_ACTION, templateForceDeleteEvent.getTemplateEntity());
     templateReferenceHelper.deleteTemplateReferences(templateForceDeleteEvent.getTemplateEntity());
+    invalidateResolvedTemplateSpecs(templateForceDeleteEvent.getTemplateEntity());
     TemplateEventData templateEventData = new TemplateEventData(templateForceDeleteEvent.getComments(), null);
     AuditEntry auditEntry = AuditEntry.builder()
                                 .action(Action.FORCE_DELETE)
@@ -171,6 +177,13 @@ public class TemplateOutboxEventHandler implements OutboxEventHandler {
     return publishedToRedis && publishAudit(auditEntry, outboxEvent);
   }
 
+  private void invalidateResolvedTemplateSpecs(TemplateEntity templateEntity) {
+    if (templateEntity != null) {
+      resolvedTemplateSpecCache.invalidate(templateEntity.getAccountId(), templateEntity.getOrgIdentifier(),
+          templateEntity.getProjectIdentifier(), templateEntity.getIdentifier());
+    }
+  }
+
   private boolean publishAudit(AuditEntry auditEntry, OutboxEvent outboxEvent) {
     GlobalContext globalContext = outboxEvent.getGlobalContext();
     Principal principal = null;
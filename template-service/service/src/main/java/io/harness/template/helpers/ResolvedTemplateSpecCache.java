@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.template.helpers;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.template.entity.TemplateEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.inject.Singleton;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the template specs of linked templates, and the specs with the template inputs of a pipeline merged into them,
+ * so that a template referenced again and again is not parsed and merged each time.
+ *
+ * Entries are keyed by template scope, identifier and version label, plus a hash of the template yaml. The yaml hash
+ * stands for the git commit of remote templates and for the stored version of inline ones, so an updated template
+ * never gets a stale spec, even when the update happened on another pod. Invalidation only frees the memory early.
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Singleton
+public class ResolvedTemplateSpecCache {
+  private static final long MAX_TEMPLATE_SPECS = 5000;
+  private static final long MAX_MERGED_TEMPLATE_SPECS = 20000;
+  private static final long EXPIRY_MINUTES = 30;
+  private static final String SEPARATOR = "/";
+
+  private final Cache<String, JsonNode> templateSpecs = CacheBuilder.newBuilder()
+                                                            .maximumSize(MAX_TEMPLATE_SPECS)
+                                                            .expireAfterAccess(EXPIRY_MINUTES, TimeUnit.MINUTES)
+                                                            .build();
+  private final Cache<String, JsonNode> mergedTemplateSpecs = CacheBuilder.newBuilder()
+                                                                  .maximumSize(MAX_MERGED_TEMPLATE_SPECS)
+                                                                  .expireAfterAccess(EXPIRY_MINUTES, TimeUnit.MINUTES)
+                                                                  .build();
+
+  /**
+   * Returns the spec of the template, reading it with the given reader only if it is not known yet. The returned node
+   * is shared and must not be modified. A template without spec is not cached.
+   */
+  public JsonNode getTemplateSpec(TemplateEntity templateEntity, Supplier<JsonNode> reader) {
+    String key = getKey(templateEntity);
+    JsonNode templateSpec = templateSpecs.getIfPresent(key);
+    if (templateSpec == null) {
+      templateSpec = reader.get();
+      if (templateSpec == null) {
+        return null;
+      }
+      templateSpecs.put(key, templateSpec);
+    }
+    return templateSpec;
+  }
+
+  /**
+   * Returns the spec of the template with the template inputs merged into it, merging them with the given merger only
+   * if this combination is not known yet. Each call gets its own copy of the merged spec.
+   */
+  public JsonNode getMergedTemplateSpec(TemplateEntity templateEntity, JsonNode templateInputs,
+      boolean appendInputSetValidator, Supplier<JsonNode> merger) {
+    String key = getKey(templateEntity) + SEPARATOR + appendInputSetValidator + SEPARATOR
+        + (templateInputs == null ? "" : hash(templateInputs.toString()));
+    JsonNode mergedTemplateSpec = mergedTemplateSpecs.getIfPresent(key);
+    if (mergedTemplateSpec == null) {
+      mergedTemplateSpec = merger.get();
+      if (mergedTemplateSpec == null) {
+        return null;
+      }
+      mergedTemplateSpecs.put(key, mergedTemplateSpec);
+    }
+    return mergedTemplateSpec.deepCopy();
+  }
+
+  /**
+   * Drops every version of the template from the cache.
+   */
+  public void invalidate(String accountId, String orgIdentifier, String projectIdentifier, String identifier) {
+    String prefix = getTemplatePrefix(accountId, orgIdentifier, projectIdentifier, identifier);
+    templateSpecs.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    mergedTemplateSpecs.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+  }
+
+  @VisibleForTesting
+  long size() {
+    return templateSpecs.size() + mergedTemplateSpecs.size();
+  }
+
+  private static String getKey(TemplateEntity templateEntity) {
+    return getTemplatePrefix(templateEntity.getAccountId(), templateEntity.getOrgIdentifier(),
+               templateEntity.getProjectIdentifier(), templateEntity.getIdentifier())
+        + templateEntity.getVersionLabel() + SEPARATOR + hash(templateEntity.getYaml());
+  }
+
+  private static String getTemplatePrefix(
+      String accountId, String orgIdentifier, String projectIdentifier, String identifier) {
+    return String.join(SEPARATOR, accountId, String.valueOf(orgIdentifier), String.valueOf(projectIdentifier),
+               identifier)
+        + SEPARATOR;
+  }
+
+  private static String hash(String value) {
+    return Hashing.murmur3_128().hashString(value, StandardCharsets.UTF_8).toString();
+  }
+}
@@ -91,6 +91,7 @@ public class TemplateMergeServiceHelper {
   private NGTemplateServiceHelper templateServiceHelper;
   private GitAwareEntityHelper gitAwareEntityHelper;
   private TemplateGitXService templateGitXService;
+  private ResolvedTemplateSpecCache resolvedTemplateSpecCache;
 
   // Gets the Template Entity linked to a YAML
   public TemplateEntityGetResponse getLinkedTemplateEntity(String accountId, String orgId, String projectId,
@@ -604,18 +605,23 @@ public class TemplateMergeServiceHelper {
     TemplateEntityGetResponse templateEntityGetResponse =
         getLinkedTemplateEntity(accountId, orgId, projectId, template, templateCacheMap, loadFromCache);
     TemplateEntity templateEntity = templateEntityGetResponse.getTemplateEntity();
-    String templateYaml = templateEntity.getYaml();
 
-    JsonNode templateSpec;
-    try {
-      NGTemplateConfig templateConfig = YamlUtils.read(templateYaml, NGTemplateConfig.class);
-      templateSpec = templateConfig.getTemplateInfoConfig().getSpec();
-    } catch (IOException e) {
-      log.error("Could not read template yaml", e);
-      throw new NGTemplateException("Could not read template yaml: " + e.getMessage());
-    }
+    return resolvedTemplateSpecCache.getMergedTemplateSpec(templateEntity, templateInputs, appendInputSetValidator,
+        ()
+            -> mergeTemplateInputsToTemplateSpecInTemplateYaml(
+                templateInputs, getTemplateSpec(templateEntity), appendInputSetValidator));
+  }
 
-    return mergeTemplateInputsToTemplateSpecInTemplateYaml(templateInputs, templateSpec, appendInputSetValidator);
+  private JsonNode getTemplateSpec(TemplateEntity templateEntity) {
+    return resolvedTemplateSpecCache.getTemplateSpec(templateEntity, () -> {
+      try {
+        NGTemplateConfig templateConfig = YamlUtils.read(templateEntity.getYaml(), NGTemplateConfig.class);
+        return templateConfig.getTemplateInfoConfig().getSpec();
+      } catch (IOException e) {
+        log.error("Could not read template yaml", e);
+        throw new NGTemplateException("Could not read template yaml: " + e.getMessage());
+      }
+    });
   }
 
   /**
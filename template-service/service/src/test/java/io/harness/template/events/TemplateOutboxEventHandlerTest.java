@@ -48,6 +48,7 @@ import io.harness.security.SourcePrincipalContextData;
 import io.harness.security.dto.Principal;
 import io.harness.security.dto.UserPrincipal;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateSpecCache;
 import io.harness.template.helpers.TemplateReferenceHelper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -68,6 +69,7 @@ public class TemplateOutboxEventHandlerTest extends CategoryTest {
   private Producer eventProducer;
   private TemplateOutboxEventHandler templateOutboxEventHandler;
   private TemplateReferenceHelper templateReferenceHelper;
+  private ResolvedTemplateSpecCache resolvedTemplateSpecCache;
   String newYaml;
   String oldYaml;
 
@@ -77,8 +79,9 @@ public class TemplateOutboxEventHandlerTest extends CategoryTest {
     auditClientService = mock(AuditClientService.class);
     eventProducer = mock(Producer.class);
     templateReferenceHelper = mock(TemplateReferenceHelper.class);
-    templateOutboxEventHandler =
-        spy(new TemplateOutboxEventHandler(auditClientService, eventProducer, templateReferenceHelper));
+    resolvedTemplateSpecCache = mock(ResolvedTemplateSpecCache.class);
+    templateOutboxEventHandler = spy(new TemplateOutboxEventHandler(
+        auditClientService, eventProducer, templateReferenceHelper, resolvedTemplateSpecCache));
     newYaml = Resources.toString(this.getClass().getClassLoader().getResource("template.yaml"), Charsets.UTF_8);
     oldYaml = Resources.toString(this.getClass().getClassLoader().getResource("template_updated.yaml"), Charsets.UTF_8);
   }
@@ -247,6 +250,9 @@ public class TemplateOutboxEventHandlerTest extends CategoryTest {
     templateOutboxEventHandler.handle(outboxEvent);
     verify(auditClientService, times(1)).publishAudit(auditEntryArgumentCaptor.capture(), any(), any());
     verify(templateReferenceHelper, times(1)).deleteTemplateReferences(templateEntity);
+    verify(resolvedTemplateSpecCache, times(1))
+        .invalidate(templateEntity.getAccountId(), templateEntity.getOrgIdentifier(),
+            templateEntity.getProjectIdentifier(), identifier);
 
     final ArgumentCaptor<Message> messageArgumentCaptor = ArgumentCaptor.forClass(Message.class);
     verify(eventProducer, times(1)).send(messageArgumentCaptor.capture());
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.template.helpers;
+
+import static io.harness.rule.OwnerRule.INDER;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.template.entity.TemplateEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ResolvedTemplateSpecCacheTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final String ORG_ID = "orgId";
+  private static final String PROJECT_ID = "projectId";
+  private static final String IDENTIFIER = "template1";
+
+  private final ResolvedTemplateSpecCache resolvedTemplateSpecCache = new ResolvedTemplateSpecCache();
+
+  @Test
+  @Owner(developers = INDER)
+  @Category(UnitTests.class)
+  public void testGetTemplateSpecReadsYamlOnlyOnce() {
+    AtomicInteger reads = new AtomicInteger();
+    Supplier<JsonNode> reader = () -> spec("v" + reads.incrementAndGet());
+
+    JsonNode first = resolvedTemplateSpecCache.getTemplateSpec(template("v1", "yaml1"), reader);
+    JsonNode second = resolvedTemplateSpecCache.getTemplateSpec(template("v1", "yaml1"), reader);
+
+    assertThat(reads.get()).isEqualTo(1);
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  @Owner(developers = INDER)
+  @Category(UnitTests.class)
+  public void testGetTemplateSpecReadsAgainWhenYamlChanges() {
+    AtomicInteger reads = new AtomicInteger();
+    Supplier<JsonNode> reader = () -> spec("v" + reads.incrementAndGet());
+
+    resolvedTemplateSpecCache.getTemplateSpec(template("v1", "yaml1"), reader);
+    JsonNode updated = resolvedTemplateSpecCache.getTemplateSpec(template("v1", "yaml2"), reader);
+    resolvedTemplateSpecCache.getTemplateSpec(template("v2", "yaml1"), reader);
+
+    assertThat(reads.get()).isEqualTo(3);
+    assertThat(updated.get("value").asText()).isEqualTo("v2");
+  }
+
+  @Test
+  @Owner(developers = INDER)
+  @Category(UnitTests.class)
+  public void testGetTemplateSpecDoesNotCacheMissingSpec() {
+    AtomicInteger reads = new AtomicInteger();
+    Supplier<JsonNode> reader = () -> {
+      reads.incrementAndGet();
+      return null;
+    };
+
+    assertThat(resolvedTemplateSpecCache.getTemplateSpec(template("v1", "yaml1"), reader)).isNull();
+    assertThat(resolvedTemplateSpecCache.getTemplateSpec(template("v1", "yaml1"), reader)).isNull();
+
+    assertThat(reads.get()).isEqualTo(2);
+    assertThat(resolvedTemplateSpecCache.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = INDER)
+  @Category(UnitTests.class)
+  public void testGetMergedTemplateSpec() {
+    AtomicInteger merges = new AtomicInteger();
+    Supplier<JsonNode> merger = () -> spec("merged" + merges.incrementAndGet());
+    TemplateEntity templateEntity = template("v1", "yaml1");
+
+    JsonNode first = resolvedTemplateSpecCache.getMergedTemplateSpec(templateEntity, spec("inputs1"), false, merger);
+    JsonNode second = resolvedTemplateSpecCache.getMergedTemplateSpec(templateEntity, spec("inputs1"), false, merger);
+    assertThat(merges.get()).isEqualTo(1);
+    assertThat(second).isEqualTo(first).isNotSameAs(first);
+
+    ((ObjectNode) first).put("value", "changed");
+    assertThat(resolvedTemplateSpecCache.getMergedTemplateSpec(templateEntity, spec("inputs1"), false, merger)
+                   .get("value")
+                   .asText())
+        .isEqualTo("merged1");
+
+    resolvedTemplateSpecCache.getMergedTemplateSpec(templateEntity, spec("inputs2"), false, merger);
+    resolvedTemplateSpecCache.getMergedTemplateSpec(templateEntity, spec("inputs1"), true, merger);
+    resolvedTemplateSpecCache.getMergedTemplateSpec(templateEntity, null, false, merger);
+    assertThat(merges.get()).isEqualTo(4);
+  }
+
+  @Test
+  @Owner(developers = INDER)
+  @Category(UnitTests.class)
+  public void testInvalidate() {
+    resolvedTemplateSpecCache.getTemplateSpec(template("v1", "yaml1"), () -> spec("v1"));
+    resolvedTemplateSpecCache.getTemplateSpec(template("v2", "yaml2"), () -> spec("v2"));
+    resolvedTemplateSpecCache.getMergedTemplateSpec(template("v1", "yaml1"), null, false, () -> spec("merged"));
+    resolvedTemplateSpecCache.getTemplateSpec(
+        TemplateEntity.builder().accountId(ACCOUNT_ID).identifier(IDENTIFIER).versionLabel("v1").yaml("yaml1").build(),
+        () -> spec("account level"));
+    assertThat(resolvedTemplateSpecCache.size()).isEqualTo(4);
+
+    resolvedTemplateSpecCache.invalidate(ACCOUNT_ID, ORG_ID, PROJECT_ID, IDENTIFIER);
+
+    assertThat(resolvedTemplateSpecCache.size()).isEqualTo(1);
+  }
+
+  private static TemplateEntity template(String versionLabel, String yaml) {
+    return TemplateEntity.builder()
+        .accountId(ACCOUNT_ID)
+        .orgIdentifier(ORG_ID)
+        .projectIdentifier(PROJECT_ID)
+        .identifier(IDENTIFIER)
+        .versionLabel(versionLabel)
+        .yaml(yaml)
+        .build();
+  }
+
+  private static JsonNode spec(String value) {
+    return JsonNodeFactory.instance.objectNode().put("value", value);
+  }
+}
@@ -52,6 +52,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -64,6 +65,7 @@ public class TemplateInputsValidatorTest extends TemplateServiceTestBase {
   @InjectMocks InputsValidator inputsValidator;
   @InjectMocks TemplateInputsValidator templateInputsValidator;
   @InjectMocks TemplateMergeServiceHelper templateMergeServiceHelper;
+  @Spy ResolvedTemplateSpecCache resolvedTemplateSpecCache;
   @Mock NGTemplateServiceHelper templateServiceHelper;
   @Mock NgManagerReconcileClient ngManagerReconcileClient;
   @Before
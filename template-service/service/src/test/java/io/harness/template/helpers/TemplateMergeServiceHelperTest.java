@@ -48,10 +48,12 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 @OwnedBy(HarnessTeam.CDC)
 public class TemplateMergeServiceHelperTest extends TemplateServiceTestBase {
   @InjectMocks TemplateMergeServiceHelper templateMergeServiceHelper;
+  @Spy ResolvedTemplateSpecCache resolvedTemplateSpecCache;
 
   @Mock NGTemplateServiceHelper templateServiceHelper;
 